@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.h2.backend;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.Column;
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
@@ -40,14 +41,12 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.AssetLinkDoesNotExistExcept
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingAssetLinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -85,7 +84,6 @@ public class H2CrudAasDiscovery implements AasDiscoveryService {
 	@Override
 	public CursorResult<List<String>> getAllAssetAdministrationShellIdsByAssetLink(PaginationInfo pInfo, List<AssetLink> assetIds) {
 		QAasDiscoveryDocumentEntity qDoc = QAasDiscoveryDocumentEntity.aasDiscoveryDocumentEntity;
-		QSpecificAssetIdEntity specificAssetId = QSpecificAssetIdEntity.specificAssetIdEntity; // Alias for join
 
 		BooleanExpression predicate = Expressions.FALSE;
 
@@ -96,14 +94,21 @@ public class H2CrudAasDiscovery implements AasDiscoveryService {
 			);
 		}
 
-		List<AasDiscoveryDocumentEntity> aasDiscoveryDocuments = findAllWithJoin(predicate);
+		if (pInfo.hasCursor())
+			predicate = predicate.and(qDoc.shellIdentifier.gt(pInfo.getCursor()));
 
-		Set<String> shellIds = aasDiscoveryDocuments.stream()
-				.map(AasDiscoveryDocumentEntity::getShellIdentifier)
-				.collect(Collectors.toSet());
+		JPAQuery<String> query = queryFactory
+				.select(qDoc.shellIdentifier)
+				.from(qDoc)
+				.where(predicate)
+				.orderBy(qDoc.shellIdentifier.asc());
+
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
 
+		List<String> shellIds = query.fetch();
 
-		return paginateList(pInfo, new ArrayList<>(shellIds));
+		return new CursorResult<>(computeNextCursor(pInfo, shellIds), shellIds);
 	}
 
 
@@ -198,13 +203,11 @@ public class H2CrudAasDiscovery implements AasDiscoveryService {
 				.orElseThrow(() -> new AssetLinkDoesNotExistException(shellIdentifier));
 	}
 
-	private CursorResult<List<String>> paginateList(PaginationInfo pInfo, List<String> shellIdentifiers) {
-		TreeMap<String, String> shellIdentifierMap = shellIdentifiers.stream()
-				.collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<String> paginationSupport = new PaginationSupport<>(shellIdentifierMap, Function.identity());
+	private static String computeNextCursor(PaginationInfo pInfo, List<String> shellIds) {
+		if (!pInfo.hasLimit() || shellIds.size() < pInfo.getLimit())
+			return null;
 
-		return paginationSupport.getPaged(pInfo);
+		return shellIds.get(shellIds.size() - 1);
 	}
 
 	private static List<AasDiscoveryDocument> convertIterableToList(Iterable<AasDiscoveryDocument> result) {
@@ -34,12 +34,11 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.AssetLinkDoesNotExistExcept
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingAssetLinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryUtils.deriveAssetLinksFromSpecificAssetIds;
@@ -52,6 +51,7 @@ import static org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscover
  *
  */
 public class MongoDBCrudAasDiscovery implements AasDiscoveryService {
+	private static final String SHELL_IDENTIFIER_KEY = "shellIdentifier";
 
 	private final AasDiscoveryDocumentBackend backend;
 	private final String aasDiscoveryServiceName;
@@ -75,12 +75,15 @@ public class MongoDBCrudAasDiscovery implements AasDiscoveryService {
 	public CursorResult<List<String>> getAllAssetAdministrationShellIdsByAssetLink(PaginationInfo pInfo, List<AssetLink> assetIds) {
 		QAasDiscoveryDocumentEntity qDoc = QAasDiscoveryDocumentEntity.aasDiscoveryDocumentEntity;
 		BooleanExpression predicate = qDoc.assetLinks.any().in(assetIds);
-		Iterable<AasDiscoveryDocument> result = backend.findAll(predicate);
 
-		List<AasDiscoveryDocument> aasDiscoveryDocuments = convertIterableToList(result);
+		if (pInfo.hasCursor())
+			predicate = predicate.and(qDoc.shellIdentifier.gt(pInfo.getCursor()));
+
+		Sort sort = Sort.by(Sort.Direction.ASC, SHELL_IDENTIFIER_KEY);
+		Iterable<AasDiscoveryDocument> result = pInfo.hasLimit() ? backend.findAll(predicate, PageRequest.of(0, pInfo.getLimit(), sort)) : backend.findAll(predicate, sort);
 
-		Set<String> shellIds = new HashSet<>(aasDiscoveryDocuments.stream().map(AasDiscoveryDocument::getShellIdentifier).toList());
-		return paginateList(pInfo, new ArrayList<>(shellIds));
+		List<String> shellIds = StreamSupport.stream(result.spliterator(), false).map(AasDiscoveryDocument::getShellIdentifier).toList();
+		return new CursorResult<>(computeNextCursor(pInfo, shellIds), shellIds);
 	}
 
 	/**
@@ -159,18 +162,10 @@ public class MongoDBCrudAasDiscovery implements AasDiscoveryService {
 				.orElseThrow(() -> new AssetLinkDoesNotExistException(shellIdentifier));
 	}
 
-	private CursorResult<List<String>> paginateList(PaginationInfo pInfo, List<String> shellIdentifiers) {
-		TreeMap<String, String> shellIdentifierMap = shellIdentifiers.stream()
-				.collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<String> paginationSupport = new PaginationSupport<>(shellIdentifierMap, Function.identity());
-
-		return paginationSupport.getPaged(pInfo);
-	}
+	private static String computeNextCursor(PaginationInfo pInfo, List<String> shellIds) {
+		if (!pInfo.hasLimit() || shellIds.size() < pInfo.getLimit())
+			return null;
 
-	private static List<AasDiscoveryDocument> convertIterableToList(Iterable<AasDiscoveryDocument> result) {
-		List<AasDiscoveryDocument> aasDiscoveryDocuments = StreamSupport.stream(result.spliterator(), false)
-				.collect(Collectors.toList());
-		return aasDiscoveryDocuments;
+		return shellIds.get(shellIds.size() - 1);
 	}
 }
@@ -27,6 +27,8 @@ package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.mongodb.config
 
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AasDiscoveryDocument;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AasDiscoveryDocumentBackend;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.mongodb.backend.AasDiscoveryDocumentEntity;
+import org.eclipse.digitaltwin.basyx.common.mongocore.IndexEntry;
 import org.eclipse.digitaltwin.basyx.common.mongocore.MappingEntry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -56,4 +58,9 @@ public class MongoDBAasDiscoveryDocumentBackendConfiguration {
 		return MappingEntry.of(collectionName, AasDiscoveryDocument.class);
 	}
 
+	@Bean
+	IndexEntry aasDiscoveryAssetLinksIndexEntry() {
+		return IndexEntry.ascending(AasDiscoveryDocumentEntity.class, "assetLinks", "assetLinks");
+	}
+
 }
@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.feature;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryService;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryServiceFactory;
@@ -43,6 +44,10 @@ public class DecoratedAasDiscoveryServiceFactory extends DecoratedFactory<AasDis
 		super(toDecorate, features);
 	}
 
+	public DecoratedAasDiscoveryServiceFactory(AasDiscoveryServiceFactory toDecorate, List<AasDiscoveryServiceFeature> features, UnaryOperator<AasDiscoveryServiceFactory> layerDecorator) {
+		super(toDecorate, features, layerDecorator);
+	}
+
 	@Override
 	public AasDiscoveryService create() {
 		return getDecorated().create();
@@ -72,6 +72,11 @@ public class AasDiscoveryServiceTargetInformation implements TargetInformation {
 		return aasIds;
 	}
 
+	@Override
+	public int hashCode() {
+		return Objects.hash(aasIds, assetLinks);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -26,11 +26,13 @@
 package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.component;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryService;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryServiceFactory;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.feature.AasDiscoveryServiceFeature;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.feature.DecoratedAasDiscoveryServiceFactory;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -44,11 +46,19 @@ import org.springframework.context.annotation.Primary;
  */
 @Configuration
 public class AasDiscoveryServiceConfiguration {
+	private static final String METRICS_COMPONENT_NAME = "aas-discovery-service";
+
 
 	@Bean
 	@Primary
-	public static AasDiscoveryService getAasDiscoveryService(AasDiscoveryServiceFactory aasDiscoveryServiceFactory, List<AasDiscoveryServiceFeature> features) {
-		return new DecoratedAasDiscoveryServiceFactory(aasDiscoveryServiceFactory, features).create();
+	public static AasDiscoveryService getAasDiscoveryService(AasDiscoveryServiceFactory aasDiscoveryServiceFactory, List<AasDiscoveryServiceFeature> features, Optional<LayerMetrics> layerMetrics) {
+		if (layerMetrics.isEmpty())
+			return new DecoratedAasDiscoveryServiceFactory(aasDiscoveryServiceFactory, features).create();
+
+		return new DecoratedAasDiscoveryServiceFactory(aasDiscoveryServiceFactory, features, factory -> instrument(factory, layerMetrics.get())).create();
 	}
 
+	private static AasDiscoveryServiceFactory instrument(AasDiscoveryServiceFactory factory, LayerMetrics layerMetrics) {
+		return () -> layerMetrics.instrument(METRICS_COMPONENT_NAME, AasDiscoveryService.class, factory.create());
+	}
 }
@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.aasregistry.feature.hierarchy;
 
+import java.time.Duration;
+
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.common.hierarchy.CommonHierarchyProperties;
@@ -52,6 +54,12 @@ public class HierarchicalAasRegistryFeature implements AasRegistryStorageFeature
 	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_ENABLED + "}")
 	private boolean enabled;
 
+	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_CACHE_TTL_MS + ":30000}")
+	private long cacheTtlMs;
+
+	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_CACHE_NEGATIVE_TTL_MS + ":5000}")
+	private long negativeCacheTtlMs;
+
 	private DelegationStrategy delegationStrategy;
 	
 	public HierarchicalAasRegistryFeature(DelegationStrategy delegationStrategy) {
@@ -60,7 +68,7 @@ public class HierarchicalAasRegistryFeature implements AasRegistryStorageFeature
 
 	@Override
 	public AasRegistryStorage decorate(AasRegistryStorage storage) {
-		return new HierarchicalAasRegistryStorage(storage, delegationStrategy);
+		return new HierarchicalAasRegistryStorage(storage, delegationStrategy, Duration.ofMillis(cacheTtlMs), Duration.ofMillis(negativeCacheTtlMs));
 	}
 
 	@Override
@@ -25,6 +25,7 @@
 
 package org.eclipse.digitaltwin.basyx.aasregistry.feature.hierarchy;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -40,12 +41,19 @@ import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelAlreadyE
 import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelNotFoundException;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegatedClientPool;
+import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegationCache;
 import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegationStrategy;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
 /**
  * Decorator for Hierarchical {@link AasRegistryStorage}
+ * 
+ * The delegated registries are accessed with one pooled client per
+ * delegation URL. Delegated lookups of descriptors are cached in a
+ * {@link DelegationCache}, which is invalidated by local writes of the
+ * respective AAS descriptor.
  *
  * @author mateusmolina
  */
@@ -55,9 +63,21 @@ public class HierarchicalAasRegistryStorage implements AasRegistryStorage {
 	
 	private final DelegationStrategy delegationStrategy;
 
+	private final DelegatedClientPool<RegistryAndDiscoveryInterfaceApi> clientPool = new DelegatedClientPool<>(RegistryAndDiscoveryInterfaceApi::new);
+
+	private final DelegationCache<String, AssetAdministrationShellDescriptor> aasDescriptorCache;
+
+	private final DelegationCache<SubmodelKey, SubmodelDescriptor> submodelCache;
+
 	public HierarchicalAasRegistryStorage(AasRegistryStorage decorated, DelegationStrategy delegationStrategy) {
+		this(decorated, delegationStrategy, Duration.ZERO, Duration.ZERO);
+	}
+
+	public HierarchicalAasRegistryStorage(AasRegistryStorage decorated, DelegationStrategy delegationStrategy, Duration cacheTtl, Duration negativeCacheTtl) {
 		this.decorated = decorated;
 		this.delegationStrategy = delegationStrategy;
+		this.aasDescriptorCache = new DelegationCache<>(cacheTtl, negativeCacheTtl, AasDescriptorNotFoundException.class::isInstance);
+		this.submodelCache = new DelegationCache<>(cacheTtl, negativeCacheTtl, e -> e instanceof AasDescriptorNotFoundException || e instanceof SubmodelNotFoundException);
 	}
 
 	@Override
@@ -70,27 +90,35 @@ public class HierarchicalAasRegistryStorage implements AasRegistryStorage {
 		try {
 			return decorated.getAasDescriptor(aasDescriptorId);
 		} catch (AasDescriptorNotFoundException e) {
-			try {
-				return AasRegistryModelMapper.mapEqModel(getDelegatedRegistryApi(aasDescriptorId).getAssetAdministrationShellDescriptorById(aasDescriptorId));
-			} catch (ApiException e1) {
-				throw AasRegistryModelMapper.mapApiException(e1, aasDescriptorId);
-			}
+			return aasDescriptorCache.get(aasDescriptorId, () -> getDelegatedAasDescriptor(aasDescriptorId));
+		}
+	}
+
+	private AssetAdministrationShellDescriptor getDelegatedAasDescriptor(String aasDescriptorId) {
+		try {
+			return AasRegistryModelMapper.mapEqModel(getDelegatedRegistryApi(aasDescriptorId).getAssetAdministrationShellDescriptorById(aasDescriptorId));
+		} catch (ApiException e) {
+			throw AasRegistryModelMapper.mapApiException(e, aasDescriptorId);
 		}
 	}
 
 	@Override
 	public void insertAasDescriptor(AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
 		decorated.insertAasDescriptor(descr);
+		invalidate(descr.getId());
 	}
 
 	@Override
 	public void replaceAasDescriptor(String aasDescriptorId, AssetAdministrationShellDescriptor descriptor) throws AasDescriptorNotFoundException {
 		decorated.replaceAasDescriptor(aasDescriptorId, descriptor);
+		invalidate(aasDescriptorId);
+		invalidate(descriptor.getId());
 	}
 
 	@Override
 	public void removeAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
 		decorated.removeAasDescriptor(aasDescriptorId);
+		invalidate(aasDescriptorId);
 	}
 
 	@Override
@@ -111,32 +139,42 @@ public class HierarchicalAasRegistryStorage implements AasRegistryStorage {
 		try {
 			return decorated.getSubmodel(aasDescriptorId, submodelId);
 		} catch (AasDescriptorNotFoundException e) {
-			try {
-				return AasRegistryModelMapper.mapEqModel(getDelegatedRegistryApi(aasDescriptorId).getSubmodelDescriptorByIdThroughSuperpath(aasDescriptorId, submodelId));
-			} catch (ApiException e1) {
-				throw AasRegistryModelMapper.mapApiException(e1, aasDescriptorId, submodelId);
-			}
+			return submodelCache.get(new SubmodelKey(aasDescriptorId, submodelId), () -> getDelegatedSubmodel(aasDescriptorId, submodelId));
+		}
+	}
+
+	private SubmodelDescriptor getDelegatedSubmodel(String aasDescriptorId, String submodelId) {
+		try {
+			return AasRegistryModelMapper.mapEqModel(getDelegatedRegistryApi(aasDescriptorId).getSubmodelDescriptorByIdThroughSuperpath(aasDescriptorId, submodelId));
+		} catch (ApiException e) {
+			throw AasRegistryModelMapper.mapApiException(e, aasDescriptorId, submodelId);
 		}
 	}
 
 	@Override
 	public void insertSubmodel(String aasDescriptorId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelAlreadyExistsException {
 		decorated.insertSubmodel(aasDescriptorId, submodel);
+		invalidate(aasDescriptorId);
 	}
 
 	@Override
 	public void replaceSubmodel(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
 		decorated.replaceSubmodel(aasDescriptorId, submodelId, submodel);
+		invalidate(aasDescriptorId);
 	}
 
 	@Override
 	public void removeSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
 		decorated.removeSubmodel(aasDescriptorId, submodelId);
+		invalidate(aasDescriptorId);
 	}
 
 	@Override
 	public Set<String> clear() {
-		return decorated.clear();
+		Set<String> removed = decorated.clear();
+		aasDescriptorCache.invalidateAll();
+		submodelCache.invalidateAll();
+		return removed;
 	}
 
 	@Override
@@ -146,6 +184,14 @@ public class HierarchicalAasRegistryStorage implements AasRegistryStorage {
 	
 	private RegistryAndDiscoveryInterfaceApi getDelegatedRegistryApi(String aasId) {
 		String delegationUrl = delegationStrategy.buildDelegatedRegistryUrl(aasId).orElseThrow(() -> new AasDescriptorNotFoundException(aasId));
-		return new RegistryAndDiscoveryInterfaceApi(delegationUrl);
+		return clientPool.getClient(delegationUrl);
+	}
+
+	private void invalidate(String aasDescriptorId) {
+		aasDescriptorCache.invalidate(aasDescriptorId);
+		submodelCache.invalidateIf(key -> key.aasDescriptorId().equals(aasDescriptorId));
+	}
+
+	private record SubmodelKey(String aasDescriptorId, String submodelId) {
 	}
 }
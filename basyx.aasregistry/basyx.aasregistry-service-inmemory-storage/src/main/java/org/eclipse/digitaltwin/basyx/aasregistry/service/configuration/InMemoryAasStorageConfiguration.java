@@ -25,12 +25,13 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service.configuration;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage;
-import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ThreadSafeAasRegistryStorageDecorator;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,21 +42,31 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class InMemoryAasStorageConfiguration {
 
-	
-	
+	private static final String METRICS_COMPONENT_NAME = "aas-registry";
+
 	@Bean
 	@ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "inMemory")
-	public AasRegistryStorage storage(List<AasRegistryStorageFeature> features) {
+	public AasRegistryStorage storage(List<AasRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
 		log.info("Creating in-memory storage");
-		AasRegistryStorage storage = new ThreadSafeAasRegistryStorageDecorator(new CursorEncodingRegistryStorage(new InMemoryAasRegistryStorage()));
-		return applyFeatures(storage, features);
+		AasRegistryStorage storage = new CursorEncodingRegistryStorage(new InMemoryAasRegistryStorage());
+		return applyFeatures(storage, features, layerMetrics);
+	}
+
+	public AasRegistryStorage storage(List<AasRegistryStorageFeature> features) {
+		return storage(features, Optional.empty());
 	}
 
-	private AasRegistryStorage applyFeatures(AasRegistryStorage storage, List<AasRegistryStorageFeature> features) {
+	private AasRegistryStorage applyFeatures(AasRegistryStorage storage, List<AasRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
+		storage = instrument(storage, layerMetrics);
+
 		for (AasRegistryStorageFeature eachFeature : features) {
 			log.info("Activating feature " + eachFeature.getName());
-			storage = eachFeature.decorate(storage);
+			storage = instrument(eachFeature.decorate(storage), layerMetrics);
 		}
 		return storage;
 	}
+
+	private AasRegistryStorage instrument(AasRegistryStorage storage, Optional<LayerMetrics> layerMetrics) {
+		return layerMetrics.map(metrics -> metrics.instrument(METRICS_COMPONENT_NAME, AasRegistryStorage.class, storage)).orElse(storage);
+	}
 }
\ No newline at end of file
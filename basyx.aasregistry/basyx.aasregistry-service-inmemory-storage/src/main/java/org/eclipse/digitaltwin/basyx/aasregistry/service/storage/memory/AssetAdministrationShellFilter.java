@@ -25,7 +25,6 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -36,7 +35,7 @@ import java.util.function.BiPredicate;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
@@ -46,38 +45,64 @@ import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptor
 
 import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+/**
+ * Filter of a search query compiled once and applied to each descriptor
+ * 
+ * The matchers, including the patterns of regex queries, are created when the
+ * filter is compiled. Applying the filter only walks the query paths of the
+ * descriptor.
+ */
 public class AssetAdministrationShellFilter {
 
-	private final Collection<AssetAdministrationShellDescriptor> aasDescriptors;
+	private final List<CompiledQuery> rootQueries = new ArrayList<>();
+	private final Map<String, List<BiPredicate<Object[], String>>> submodelMatchers;
+	private final List<ShellDescriptorQuery> exactQueries = new ArrayList<>();
+
+	public AssetAdministrationShellFilter(ShellDescriptorQuery query) {
+		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(query);
+		for (ShellDescriptorQuery eachQuery : grouped.getQueriesOutsideSubmodel()) {
+			rootQueries.add(new CompiledQuery(eachQuery.getPath(), SearchMatchers.createMatcher(eachQuery)));
+		}
+		submodelMatchers = SearchMatchers.createMatchers(grouped.getQueriesInsideSubmodel());
+		for (ShellDescriptorQuery eachQuery = query; eachQuery != null; eachQuery = eachQuery.getCombinedWith()) {
+			if (eachQuery.getQueryType() != QueryTypeEnum.REGEX && eachQuery.getExtensionName() == null) {
+				exactQueries.add(eachQuery);
+			}
+		}
+	}
 
-	public List<AssetAdministrationShellDescriptor> filterByRequest(ShellDescriptorSearchRequest request) {
-		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(request.getQuery());
-		List<AssetAdministrationShellDescriptor> result = filterShellsByRootQuery(aasDescriptors, grouped.getQueriesOutsideSubmodel());
-		return filterShellsBySubmodelQueries(result, grouped.getQueriesInsideSubmodel());
+	/**
+	 * Queries that match values by equality, i.e., that could be answered by a
+	 * secondary index. Each matching descriptor has the queried value at the
+	 * query path.
+	 */
+	public List<ShellDescriptorQuery> getExactQueries() {
+		return exactQueries;
 	}
 
-	private List<AssetAdministrationShellDescriptor> filterShellsByRootQuery(Collection<AssetAdministrationShellDescriptor> descriptors, List<ShellDescriptorQuery> queries) {
-		List<AssetAdministrationShellDescriptor> toReturn = new ArrayList<>();
-		if (queries.isEmpty()) {
-			toReturn.addAll(descriptors);
-			return toReturn;
+	/**
+	 * Returns the descriptor if it matches, a copy of it reduced to the matching
+	 * submodels if only some submodels match or null if it does not match
+	 */
+	public AssetAdministrationShellDescriptor apply(AssetAdministrationShellDescriptor descriptor) {
+		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(descriptor);
+		if (!rootPathElementsMatchValues(processor)) {
+			return null;
 		}
-		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
-			if (rootPathElementMatchesValue(eachDescriptor, queries)) {
-				toReturn.add(eachDescriptor);
-			}
+		if (submodelMatchers.isEmpty()) { // no filtering
+			return descriptor;
+		}
+		List<SubmodelDescriptor> smList = descriptor.getSubmodelDescriptors();
+		if (smList == null || smList.isEmpty()) {
+			return null; // not matching submodels
 		}
-		return toReturn;
+		return submodelPathElementMatchesValue(processor, descriptor, smList);
 	}
 
-	private boolean rootPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<ShellDescriptorQuery> queries) {
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		for (ShellDescriptorQuery eachQuery : queries) {
-			BiPredicate<Object[], String> matcher = SearchMatchers.createMatcher(eachQuery);
-			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(matcher);
-			String path = eachQuery.getPath();
-			processor.visitValuesAtPath(path, visitor);
+	private boolean rootPathElementsMatchValues(AasRegistryPathProcessor processor) {
+		for (CompiledQuery eachQuery : rootQueries) {
+			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(eachQuery.matcher);
+			processor.visitValuesAtPath(eachQuery.path, visitor);
 			if (!visitor.wasMatching()) {
 				return false;
 			}
@@ -85,32 +110,10 @@ public class AssetAdministrationShellFilter {
 		return true;
 	}
 
-	private List<AssetAdministrationShellDescriptor> filterShellsBySubmodelQueries(List<AssetAdministrationShellDescriptor> descriptors, List<ShellDescriptorQuery> queries) {
-		if (queries.isEmpty()) { // no filtering
-			return descriptors;
-		}
-		List<AssetAdministrationShellDescriptor> toReturn = new ArrayList<>();
-		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
-			List<SubmodelDescriptor> smList = eachDescriptor.getSubmodelDescriptors();
-			if (smList == null || smList.isEmpty()) {
-				continue; // not matching submodels
-			}
-			AssetAdministrationShellDescriptor matching = submodelPathElementMatchesValue(eachDescriptor, smList, queries);
-			if (matching != null) {
-				toReturn.add(matching);
-			}
-		}
-		return toReturn;
-	}
-
-	private AssetAdministrationShellDescriptor submodelPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<SubmodelDescriptor> smList, List<ShellDescriptorQuery> queries) {
-
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		Map<String, List<BiPredicate<Object[], String>>> pathToPredicate = SearchMatchers.createMatchers(queries);
-
-		SubmodelFilterVisitor visitor = new SubmodelFilterVisitor(smList, pathToPredicate);
-		for (Entry<String, List<BiPredicate<Object[], String>>> eachEntry : pathToPredicate.entrySet()) {
-			processor.visitValuesAtPath(eachEntry.getKey(), visitor);	
+	private AssetAdministrationShellDescriptor submodelPathElementMatchesValue(AasRegistryPathProcessor processor, AssetAdministrationShellDescriptor eachDescriptor, List<SubmodelDescriptor> smList) {
+		SubmodelFilterVisitor visitor = new SubmodelFilterVisitor(smList, submodelMatchers);
+		for (String eachPath : submodelMatchers.keySet()) {
+			processor.visitValuesAtPath(eachPath, visitor);
 		}
 		List<SubmodelDescriptor> matchingSubmodels = visitor.getMatchingSubmodels();
 		if (matchingSubmodels.isEmpty()) {
@@ -123,7 +126,13 @@ public class AssetAdministrationShellFilter {
 			clone.getSubmodelDescriptors().retainAll(matchingSubmodels);
 			return clone;
 		}
+	}
 
+	@RequiredArgsConstructor
+	private static final class CompiledQuery {
+
+		private final String path;
+		private final BiPredicate<Object[], String> matcher;
 	}
 
 	@RequiredArgsConstructor
@@ -134,7 +143,7 @@ public class AssetAdministrationShellFilter {
 
 		@Override
 		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
-			if (matcher.test(objectPathToValue, value)) {
+			if (!wasMatching && matcher.test(objectPathToValue, value)) {
 				wasMatching = true;
 			}
 		}
@@ -181,4 +190,4 @@ public class AssetAdministrationShellFilter {
 			return retValue;
 		}
 	}
-}
\ No newline at end of file
+}
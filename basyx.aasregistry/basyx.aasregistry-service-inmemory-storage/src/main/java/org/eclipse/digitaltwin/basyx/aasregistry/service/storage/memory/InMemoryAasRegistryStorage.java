@@ -24,27 +24,33 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SpecificAssetId;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorAlreadyExistsException;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorNotFoundException;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelAlreadyExistsException;
@@ -54,33 +60,71 @@ import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilte
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * In-memory storage of the AAS registry based on concurrent sorted maps
+ * 
+ * Reads do not lock. Writes are serialized per descriptor id by
+ * {@link LockStripes}, so that writes to different descriptors run
+ * concurrently. Descriptors are never modified while they are visible to
+ * readers, i.e., a submodel change stores a shallow copy of the descriptor
+ * with the new submodel list.
+ * 
+ * The secondary indexes on the asset kind, asset type, specific asset ids and
+ * submodel semantic ids are maintained on every write. They are used to
+ * answer filtered listings and exact search queries without scanning all
+ * descriptors.
+ */
 public class InMemoryAasRegistryStorage implements AasRegistryStorage {
 
-	private final TreeMap<String, AssetAdministrationShellDescriptor> aasDescriptorLookupMap = new TreeMap<>();
-	private final HashMap<String, TreeMap<String, SubmodelDescriptor>> submodelLookupMap = new HashMap<>();
+	private static final int LOCK_STRIPES = 64;
+
+	private static final String ID_PATH = AasRegistryPaths.id();
+	private static final String ASSET_TYPE_PATH = AasRegistryPaths.assetType();
+	private static final String SUBMODEL_SEMANTIC_ID_PATH = AasRegistryPaths.submodelDescriptors().semanticId().keys().value();
+
+	private final ConcurrentSkipListMap<String, AssetAdministrationShellDescriptor> aasDescriptorLookupMap = new ConcurrentSkipListMap<>();
+	private final ConcurrentHashMap<String, ConcurrentSkipListMap<String, SubmodelDescriptor>> submodelLookupMap = new ConcurrentHashMap<>();
+
+	private final DescriptorIndex<AssetAdministrationShellDescriptor, Optional<AssetKind>> assetKindIndex = new DescriptorIndex<>(InMemoryAasRegistryStorage::getAssetKindKey);
+	private final DescriptorIndex<AssetAdministrationShellDescriptor, String> assetTypeIndex = new DescriptorIndex<>(descr -> toKeys(descr.getAssetType()));
+	private final DescriptorIndex<AssetAdministrationShellDescriptor, SpecificAssetIdKey> specificAssetIdIndex = new DescriptorIndex<>(InMemoryAasRegistryStorage::getSpecificAssetIdKeys);
+	private final DescriptorIndex<AssetAdministrationShellDescriptor, String> submodelSemanticIdIndex = new DescriptorIndex<>(InMemoryAasRegistryStorage::getSubmodelSemanticIdKeys);
+
+	private final LockStripes locks = new LockStripes(LOCK_STRIPES);
 
 	private boolean containsSubmodel(String aasDescriptorId, String submodelId) {
-		Map<String, SubmodelDescriptor> submodels = submodelLookupMap.get(aasDescriptorId);
+		ConcurrentSkipListMap<String, SubmodelDescriptor> submodels = submodelLookupMap.get(aasDescriptorId);
 		return submodels != null && submodels.containsKey(submodelId);
 	}
 
 	@Override
 	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(PaginationInfo pRequest, DescriptorFilter filter) {
-		PaginationSupport<AssetAdministrationShellDescriptor> paginationSupport = new PaginationSupport<>(aasDescriptorLookupMap, AssetAdministrationShellDescriptor::getId);
-
-		DescriptorFilterFunction function = new DescriptorFilterFunction(filter);
-		return paginationSupport.getDescriptorsPagedAndFiltered(pRequest, filter, function::matches);
+		PaginationSupport<AssetAdministrationShellDescriptor> paginationSupport = new PaginationSupport<>(aasDescriptorLookupMap);
+		if (filter == null || !filter.isFiltered()) {
+			return paginationSupport.getDescriptorsPaged(pRequest);
+		}
+		List<NavigableSet<String>> candidates = new ArrayList<>(2);
+		if (filter.getKind() != null) {
+			candidates.add(getIdsByAssetKind(filter.getKind()));
+		}
+		if (filter.getAssetType() != null) {
+			candidates.add(getIdsByAssetType(filter.getAssetType()));
+		}
+		// page over the smallest index and check the membership in the others
+		candidates.sort((c1, c2) -> Integer.compare(c1.size(), c2.size()));
+		NavigableSet<String> smallest = candidates.get(0);
+		List<NavigableSet<String>> others = candidates.subList(1, candidates.size());
+		Predicate<String> inOthers = id -> others.stream().allMatch(ids -> ids.contains(id));
+		return paginationSupport.getDescriptorsPaged(pRequest, smallest, inOthers);
 	}
 
 	@Override
 	public CursorResult<List<SubmodelDescriptor>> getAllSubmodels(String aasDescriptorId, PaginationInfo pInfo) throws AasDescriptorNotFoundException {
-		TreeMap<String, SubmodelDescriptor> submodels = submodelLookupMap.get(aasDescriptorId);
+		ConcurrentSkipListMap<String, SubmodelDescriptor> submodels = submodelLookupMap.get(aasDescriptorId);
 		if (submodels == null) {
 			throw new AasDescriptorNotFoundException(aasDescriptorId);
 		}
-		PaginationSupport<SubmodelDescriptor> paginationSupport = new PaginationSupport<>(submodels, SubmodelDescriptor::getId);
+		PaginationSupport<SubmodelDescriptor> paginationSupport = new PaginationSupport<>(submodels);
 		return paginationSupport.getDescriptorsPaged(pInfo);
 	}
 
@@ -95,30 +139,33 @@ public class InMemoryAasRegistryStorage implements AasRegistryStorage {
 
 	@Override
 	public void replaceAasDescriptor(String aasId, AssetAdministrationShellDescriptor descriptor) {
-		if (!aasDescriptorLookupMap.containsKey(aasId)) {
-			throw new AasDescriptorNotFoundException(aasId);
-		}
-		TreeMap<String, SubmodelDescriptor> newSubmodelMap = toSubmodelLookupMap(descriptor.getSubmodelDescriptors());
 		String newAasDescrId = descriptor.getId();
-		aasDescriptorLookupMap.remove(aasId);
-		aasDescriptorLookupMap.put(newAasDescrId, descriptor);
-		submodelLookupMap.remove(aasId);
-		submodelLookupMap.put(newAasDescrId, newSubmodelMap);
+		locks.withLocks(aasId, newAasDescrId, () -> {
+			AssetAdministrationShellDescriptor oldDescriptor = getAasDescriptor(aasId);
+			ConcurrentSkipListMap<String, SubmodelDescriptor> newSubmodelMap = toSubmodelLookupMap(descriptor.getSubmodelDescriptors());
+			unstore(aasId, oldDescriptor);
+			AssetAdministrationShellDescriptor overwritten = aasDescriptorLookupMap.get(newAasDescrId);
+			if (overwritten != null) {
+				unstore(newAasDescrId, overwritten);
+			}
+			store(newAasDescrId, descriptor, newSubmodelMap);
+		});
 	}
 
 	@Override
-	public void insertAasDescriptor( AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
+	public void insertAasDescriptor(AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
 		String aasId = descr.getId();
-		if (aasDescriptorLookupMap.containsKey(aasId)) {
-			throw new AasDescriptorAlreadyExistsException(aasId);
-		}
-		TreeMap<String, SubmodelDescriptor> newSubmodelMap = toSubmodelLookupMap(descr.getSubmodelDescriptors());
-		aasDescriptorLookupMap.put(aasId, descr);
-		submodelLookupMap.put(aasId, newSubmodelMap);
+		locks.withLock(aasId, () -> {
+			if (aasDescriptorLookupMap.containsKey(aasId)) {
+				throw new AasDescriptorAlreadyExistsException(aasId);
+			}
+			ConcurrentSkipListMap<String, SubmodelDescriptor> newSubmodelMap = toSubmodelLookupMap(descr.getSubmodelDescriptors());
+			store(aasId, descr, newSubmodelMap);
+		});
 	}
-	
-	private TreeMap<String, SubmodelDescriptor> toSubmodelLookupMap(List<SubmodelDescriptor> submodelDescriptors) {
-		return Optional.ofNullable(submodelDescriptors).orElseGet(LinkedList::new).stream().collect(Collectors.toMap(SubmodelDescriptor::getId, Function.identity(), this::mergeSubmodels, TreeMap::new));
+
+	private ConcurrentSkipListMap<String, SubmodelDescriptor> toSubmodelLookupMap(List<SubmodelDescriptor> submodelDescriptors) {
+		return Optional.ofNullable(submodelDescriptors).orElseGet(LinkedList::new).stream().collect(Collectors.toMap(SubmodelDescriptor::getId, Function.identity(), this::mergeSubmodels, ConcurrentSkipListMap::new));
 	}
 
 	private SubmodelDescriptor mergeSubmodels(SubmodelDescriptor descr1, SubmodelDescriptor descr2) {
@@ -127,15 +174,15 @@ public class InMemoryAasRegistryStorage implements AasRegistryStorage {
 
 	@Override
 	public void removeAasDescriptor(String aasDescriptorId) {
-		boolean success = aasDescriptorLookupMap.remove(aasDescriptorId) != null && submodelLookupMap.remove(aasDescriptorId) != null;
-		if (!success) {
-			throw new AasDescriptorNotFoundException(aasDescriptorId);
-		}
+		locks.withLock(aasDescriptorId, () -> {
+			AssetAdministrationShellDescriptor descriptor = getAasDescriptor(aasDescriptorId);
+			unstore(aasDescriptorId, descriptor);
+		});
 	}
 
 	@Override
-	public SubmodelDescriptor getSubmodel( String aasDescriptorId, String submodelId) {
-		Map<String, SubmodelDescriptor> descriptorModels = submodelLookupMap.get(aasDescriptorId);
+	public SubmodelDescriptor getSubmodel(String aasDescriptorId, String submodelId) {
+		ConcurrentSkipListMap<String, SubmodelDescriptor> descriptorModels = submodelLookupMap.get(aasDescriptorId);
 		if (descriptorModels == null) {
 			throw new AasDescriptorNotFoundException(aasDescriptorId);
 		}
@@ -148,128 +195,188 @@ public class InMemoryAasRegistryStorage implements AasRegistryStorage {
 
 	@Override
 	public void insertSubmodel(String aasDescriptorId, SubmodelDescriptor submodel) {
-		AssetAdministrationShellDescriptor aasDescriptor = getAasDescriptor(aasDescriptorId);
-		String submodelId = submodel.getId();
-		if (containsSubmodel(aasDescriptorId, submodelId)) {
-			throw new SubmodelAlreadyExistsException(aasDescriptorId, submodelId);
-		} else { // just append
-			aasDescriptor.addSubmodelDescriptorsItem(submodel);
-		}
-		// update map
-		submodelLookupMap.get(aasDescriptorId).put(submodelId, submodel);
+		locks.withLock(aasDescriptorId, () -> {
+			AssetAdministrationShellDescriptor aasDescriptor = getAasDescriptor(aasDescriptorId);
+			String submodelId = submodel.getId();
+			if (containsSubmodel(aasDescriptorId, submodelId)) {
+				throw new SubmodelAlreadyExistsException(aasDescriptorId, submodelId);
+			}
+			List<SubmodelDescriptor> submodels = copySubmodels(aasDescriptor);
+			submodels.add(submodel);
+			updateSubmodels(aasDescriptorId, aasDescriptor, submodels);
+			submodelLookupMap.get(aasDescriptorId).put(submodelId, submodel);
+		});
 	}
 
 	@Override
 	public void replaceSubmodel(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
-		if (!aasDescriptorLookupMap.containsKey(aasDescriptorId)) {
-			throw new AasDescriptorNotFoundException(submodelId);
-		} else if (!containsSubmodel(aasDescriptorId, submodelId)) {
-			throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
-		} else {
-			replaceSubmodelInAasDescriptor(aasDescriptorId, submodelId, submodel);
-		}
-		TreeMap<String, SubmodelDescriptor> modelMap = submodelLookupMap.get(aasDescriptorId);
-		modelMap.remove(submodelId);
-		// could be a different id
-		modelMap.put(submodel.getId(), submodel);
-
-	}
-
-	private void replaceSubmodelInAasDescriptor(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) {
-		AssetAdministrationShellDescriptor aasDescriptor = aasDescriptorLookupMap.get(aasDescriptorId);		
-		ListIterator<SubmodelDescriptor> submodels = Optional.ofNullable(aasDescriptor.getSubmodelDescriptors())
-							.orElse(Collections.emptyList()).listIterator();	
-		while (submodels.hasNext()) {
-			SubmodelDescriptor eachItem = submodels.next();
-			if (Objects.equals(eachItem.getId(), submodelId)) {
-				submodels.set(submodel);
-				return;
+		locks.withLock(aasDescriptorId, () -> {
+			AssetAdministrationShellDescriptor aasDescriptor = aasDescriptorLookupMap.get(aasDescriptorId);
+			if (aasDescriptor == null) {
+				throw new AasDescriptorNotFoundException(submodelId);
+			} else if (!containsSubmodel(aasDescriptorId, submodelId)) {
+				throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
 			}
-		}
+			List<SubmodelDescriptor> submodels = copySubmodels(aasDescriptor);
+			submodels.replaceAll(eachItem -> Objects.equals(eachItem.getId(), submodelId) ? submodel : eachItem);
+			updateSubmodels(aasDescriptorId, aasDescriptor, submodels);
+
+			ConcurrentSkipListMap<String, SubmodelDescriptor> modelMap = submodelLookupMap.get(aasDescriptorId);
+			modelMap.remove(submodelId);
+			// could be a different id
+			modelMap.put(submodel.getId(), submodel);
+		});
 	}
 
 	@Override
 	public void removeSubmodel(String aasDescrId, String submodelId) {
-		AssetAdministrationShellDescriptor descriptor = aasDescriptorLookupMap.get(aasDescrId);
-		if (descriptor == null) {
-			throw new AasDescriptorNotFoundException(aasDescrId);
-		}
-		boolean success = removeStoredSubmodel(aasDescrId, descriptor, submodelId);
-		if (!success) {
-			throw new SubmodelNotFoundException(aasDescrId, submodelId);
-		}
-	}
-
-	private boolean removeStoredSubmodel(String aasDescriptorId, AssetAdministrationShellDescriptor aasDescriptor, String submodelId) {
-		if (submodelLookupMap.get(aasDescriptorId).remove(submodelId) == null) {
-			return false;
-		} else { // found submodel so also remove it from the aasDescriptor object
-			removeSubmodelFromDescriptor(aasDescriptor, submodelId);
-			return true;
-		}
-	}
-
-	private void removeSubmodelFromDescriptor(AssetAdministrationShellDescriptor aasDescriptor, String submodelId) {
-		Iterator<SubmodelDescriptor> submodelIter = aasDescriptor.getSubmodelDescriptors().iterator();
-		while (submodelIter.hasNext()) {
-			SubmodelDescriptor eachItem = submodelIter.next();
-			if (Objects.equals(eachItem.getId(), submodelId)) {
-				submodelIter.remove();
-				break;
+		locks.withLock(aasDescrId, () -> {
+			AssetAdministrationShellDescriptor descriptor = getAasDescriptor(aasDescrId);
+			if (submodelLookupMap.get(aasDescrId).remove(submodelId) == null) {
+				throw new SubmodelNotFoundException(aasDescrId, submodelId);
 			}
-		}
+			// found submodel so also remove it from the aasDescriptor object
+			List<SubmodelDescriptor> submodels = copySubmodels(descriptor);
+			submodels.removeIf(eachItem -> Objects.equals(eachItem.getId(), submodelId));
+			updateSubmodels(aasDescrId, descriptor, submodels);
+		});
 	}
 
 	@Override
 	public Set<String> clear() {
-		Set<String> keys = new HashSet<>(aasDescriptorLookupMap.keySet());
-		aasDescriptorLookupMap.clear();
-		submodelLookupMap.clear();
-		return keys;
+		return locks.withAllLocks(() -> {
+			Set<String> keys = new HashSet<>(aasDescriptorLookupMap.keySet());
+			aasDescriptorLookupMap.clear();
+			submodelLookupMap.clear();
+			assetKindIndex.clear();
+			assetTypeIndex.clear();
+			specificAssetIdIndex.clear();
+			submodelSemanticIdIndex.clear();
+			return keys;
+		});
 	}
 
 	@Override
 	public ShellDescriptorSearchResponse searchAasDescriptors(ShellDescriptorSearchRequest request) {
-		Collection<AssetAdministrationShellDescriptor> descriptors = aasDescriptorLookupMap.values();
-		InMemoryStorageSearch search = new InMemoryStorageSearch(descriptors);
+		InMemoryStorageSearch search = new InMemoryStorageSearch(aasDescriptorLookupMap, this::getIdsByPathValue);
 		return search.performSearch(request);
 	}
 
-	public static final class DuplicateSubmodelIds extends RuntimeException {
+	/**
+	 * Resolves the ids of the descriptors with the value at the search path, or
+	 * null if the path is not indexed
+	 */
+	NavigableSet<String> getIdsByPathValue(String path, String value) {
+		if (value == null) {
+			return null;
+		} else if (ID_PATH.equals(path)) {
+			return aasDescriptorLookupMap.containsKey(value) ? new TreeSet<>(List.of(value)) : Collections.emptyNavigableSet();
+		} else if (ASSET_TYPE_PATH.equals(path)) {
+			return getIdsByAssetType(value);
+		} else if (SUBMODEL_SEMANTIC_ID_PATH.equals(path)) {
+			return getIdsBySubmodelSemanticId(value);
+		}
+		return null;
+	}
 
-		private static final long serialVersionUID = 1L;
+	NavigableSet<String> getIdsByAssetKind(AssetKind kind) {
+		// descriptors without asset kind are listed as not applicable
+		return assetKindIndex.get(kind == AssetKind.NOTAPPLICABLE ? Optional.empty() : Optional.of(kind));
+	}
 
-		public DuplicateSubmodelIds(String id) {
-			super("The submodel id '" + id + "' is stored mulitple times in the descriptor");
-		}
+	NavigableSet<String> getIdsByAssetType(String assetType) {
+		return assetTypeIndex.get(assetType);
 	}
 
-	@RequiredArgsConstructor
-	private static class DescriptorFilterFunction {
+	NavigableSet<String> getIdsBySpecificAssetId(String name, String value) {
+		return specificAssetIdIndex.get(new SpecificAssetIdKey(name, value));
+	}
 
-		private final DescriptorFilter filter;
+	NavigableSet<String> getIdsBySubmodelSemanticId(String semanticIdKeyValue) {
+		return submodelSemanticIdIndex.get(semanticIdKeyValue);
+	}
 
-		public boolean matches(AssetAdministrationShellDescriptor descr) {
+	private void store(String aasId, AssetAdministrationShellDescriptor descriptor, ConcurrentSkipListMap<String, SubmodelDescriptor> submodels) {
+		submodelLookupMap.put(aasId, submodels);
+		aasDescriptorLookupMap.put(aasId, descriptor);
+		index(aasId, descriptor);
+	}
 
-			return matchesKind(filter.getKind(), descr.getAssetKind()) && matchesType(filter.getAssetType(), descr.getAssetType());
-		}
+	private void unstore(String aasId, AssetAdministrationShellDescriptor descriptor) {
+		unindex(aasId, descriptor);
+		aasDescriptorLookupMap.remove(aasId);
+		submodelLookupMap.remove(aasId);
+	}
 
-		private boolean matchesKind(AssetKind filterKind, AssetKind descrKind) {
-			if (filterKind == null) {
-				return true;
-			}
-			if (filterKind == AssetKind.NOTAPPLICABLE) {
-				return descrKind == null;
-			}
-			return filterKind == descrKind;
+	private void updateSubmodels(String aasId, AssetAdministrationShellDescriptor descriptor, List<SubmodelDescriptor> submodels) {
+		AssetAdministrationShellDescriptor updated = withSubmodels(descriptor, submodels);
+		// publish the new keys before the swap and drop the stale ones after it,
+		// so that index lookups never miss the descriptor
+		submodelSemanticIdIndex.add(aasId, updated);
+		aasDescriptorLookupMap.put(aasId, updated);
+		submodelSemanticIdIndex.removeStale(aasId, descriptor, updated);
+	}
+
+	private void index(String aasId, AssetAdministrationShellDescriptor descriptor) {
+		assetKindIndex.add(aasId, descriptor);
+		assetTypeIndex.add(aasId, descriptor);
+		specificAssetIdIndex.add(aasId, descriptor);
+		submodelSemanticIdIndex.add(aasId, descriptor);
+	}
+
+	private void unindex(String aasId, AssetAdministrationShellDescriptor descriptor) {
+		assetKindIndex.remove(aasId, descriptor);
+		assetTypeIndex.remove(aasId, descriptor);
+		specificAssetIdIndex.remove(aasId, descriptor);
+		submodelSemanticIdIndex.remove(aasId, descriptor);
+	}
+
+	private static AssetAdministrationShellDescriptor withSubmodels(AssetAdministrationShellDescriptor descriptor, List<SubmodelDescriptor> submodels) {
+		return new AssetAdministrationShellDescriptor(descriptor.getId()).description(descriptor.getDescription()).displayName(descriptor.getDisplayName()).extensions(descriptor.getExtensions()).administration(descriptor.getAdministration())
+				.assetKind(descriptor.getAssetKind()).assetType(descriptor.getAssetType()).endpoints(descriptor.getEndpoints()).globalAssetId(descriptor.getGlobalAssetId()).idShort(descriptor.getIdShort())
+				.specificAssetIds(descriptor.getSpecificAssetIds()).submodelDescriptors(submodels);
+	}
+
+	private static List<SubmodelDescriptor> copySubmodels(AssetAdministrationShellDescriptor descriptor) {
+		return new ArrayList<>(Optional.ofNullable(descriptor.getSubmodelDescriptors()).orElse(Collections.emptyList()));
+	}
+
+	private static Collection<Optional<AssetKind>> getAssetKindKey(AssetAdministrationShellDescriptor descriptor) {
+		return Collections.singletonList(Optional.ofNullable(descriptor.getAssetKind()));
+	}
+
+	private static Collection<SpecificAssetIdKey> getSpecificAssetIdKeys(AssetAdministrationShellDescriptor descriptor) {
+		return Optional.ofNullable(descriptor.getSpecificAssetIds()).orElse(Collections.emptyList()).stream().filter(Objects::nonNull).map(SpecificAssetIdKey::of).collect(Collectors.toSet());
+	}
+
+	private static Collection<String> getSubmodelSemanticIdKeys(AssetAdministrationShellDescriptor descriptor) {
+		return Optional.ofNullable(descriptor.getSubmodelDescriptors()).orElse(Collections.emptyList()).stream().map(SubmodelDescriptor::getSemanticId).flatMap(InMemoryAasRegistryStorage::getKeyValues).collect(Collectors.toSet());
+	}
+
+	private static Stream<String> getKeyValues(Reference reference) {
+		if (reference == null || reference.getKeys() == null) {
+			return Stream.empty();
 		}
+		return reference.getKeys().stream().map(Key::getValue).filter(Objects::nonNull);
+	}
 
-		private boolean matchesType(String filterType, String descrType) {
-			if (filterType == null) {
-				return true;
-			}
-			return filterType.equals(descrType);
+	private static <K> Collection<K> toKeys(K key) {
+		return key == null ? Collections.emptyList() : Collections.singletonList(key);
+	}
+
+	record SpecificAssetIdKey(String name, String value) {
+
+		static SpecificAssetIdKey of(SpecificAssetId specificAssetId) {
+			return new SpecificAssetIdKey(specificAssetId.getName(), specificAssetId.getValue());
 		}
 	}
 
-}
\ No newline at end of file
+	public static final class DuplicateSubmodelIds extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public DuplicateSubmodelIds(String id) {
+			super("The submodel id '" + id + "' is stored mulitple times in the descriptor");
+		}
+	}
+}
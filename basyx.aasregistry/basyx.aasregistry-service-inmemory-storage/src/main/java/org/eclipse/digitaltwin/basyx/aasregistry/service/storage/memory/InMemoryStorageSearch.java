@@ -24,14 +24,14 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
@@ -46,108 +46,220 @@ import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Evaluates a search request against the descriptors of the in-memory storage
+ * 
+ * The query is compiled once into an {@link AssetAdministrationShellFilter}.
+ * Exact queries on indexed paths restrict the candidates to the smallest index
+ * entry, other queries are evaluated on all descriptors.
+ * 
+ * The candidates are visited in id order. If the results are sorted by id,
+ * only the descriptors of the requested page are kept. Otherwise, only the
+ * descriptors up to the requested page are kept sorted in a bounded heap, so
+ * that the matches do not need to be sorted as a whole. Equal sort values are
+ * ordered by id in the sort direction, like the MongoDB storage does.
+ */
 @RequiredArgsConstructor
 class InMemoryStorageSearch {
 
-	private final Collection<AssetAdministrationShellDescriptor> aasDescriptors;
+	private final NavigableMap<String, AssetAdministrationShellDescriptor> aasDescriptors;
+
+	/**
+	 * Resolves the ids of the descriptors with the value at the path from a
+	 * secondary index, or null if the path is not indexed
+	 */
+	private final BiFunction<String, String, NavigableSet<String>> indexLookup;
 
 	public ShellDescriptorSearchResponse performSearch(ShellDescriptorSearchRequest request) {
+		ShellDescriptorQuery query = request == null ? null : request.getQuery();
+		AssetAdministrationShellFilter filter = query == null ? null : new AssetAdministrationShellFilter(query);
+		Sorting sortBy = request == null || request.getSortBy() == null ? getDefaultSorting() : request.getSortBy();
+		Page page = request == null ? null : request.getPage();
+		if (isSortedById(sortBy)) {
+			return searchInIdOrder(filter, sortBy.getDirection() == SortDirection.DESC, page);
+		}
 
-		Stream<AssetAdministrationShellDescriptor> matchingDescriptors = resolveMatchingDescriptors(request).stream();
+		TopDescriptors top = new TopDescriptors(createComparator(sortBy), getRequiredCount(page));
+		long totalSizeOverAllPages = 0;
+		for (AssetAdministrationShellDescriptor eachCandidate : resolveCandidates(filter, false)) {
+			AssetAdministrationShellDescriptor matching = filter == null ? eachCandidate : filter.apply(eachCandidate);
+			if (matching != null) {
+				totalSizeOverAllPages++;
+				top.offer(new RankedDescriptor(matching, resolveSortKeys(matching, sortBy), totalSizeOverAllPages));
+			}
+		}
+		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, applyPagination(top.toSortedList(), page));
+	}
 
-		Stream<AssetAdministrationShellDescriptor> sorted = applySorting(matchingDescriptors, request.getSortBy());
-		List<AssetAdministrationShellDescriptor> items = sorted.collect(Collectors.toList());
-		long totalSizeOverAllPages = items.size();
-		List<AssetAdministrationShellDescriptor> result = applyPagination(items, request.getPage());
-		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, result);
+	private ShellDescriptorSearchResponse searchInIdOrder(AssetAdministrationShellFilter filter, boolean descending, Page page) {
+		long startIndex = page == null ? 0 : page.getIndex() * (long) page.getSize();
+		long endIndex = page == null ? Long.MAX_VALUE : startIndex + page.getSize();
+		List<AssetAdministrationShellDescriptor> hits = new ArrayList<>();
+		long totalSizeOverAllPages = 0;
+		for (AssetAdministrationShellDescriptor eachCandidate : resolveCandidates(filter, descending)) {
+			AssetAdministrationShellDescriptor matching = filter == null ? eachCandidate : filter.apply(eachCandidate);
+			if (matching != null) {
+				if (totalSizeOverAllPages >= startIndex && totalSizeOverAllPages < endIndex) {
+					hits.add(matching);
+				}
+				totalSizeOverAllPages++;
+			}
+		}
+		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, hits);
 	}
 
-	private Stream<AssetAdministrationShellDescriptor> applySorting(Stream<AssetAdministrationShellDescriptor> matchingDescriptors, Sorting sortBy) {
-		if (sortBy == null) {
-			sortBy = getDefaultSorting();
+	private static boolean isSortedById(Sorting sortBy) {
+		List<SortingPath> paths = sortBy.getPath();
+		// ids are unique, so any further sorting path is irrelevant
+		return paths.isEmpty() || paths.get(0) == SortingPath.ID;
+	}
+
+	private Iterable<AssetAdministrationShellDescriptor> resolveCandidates(AssetAdministrationShellFilter filter, boolean descending) {
+		NavigableSet<String> smallest = null;
+		if (filter != null) {
+			for (ShellDescriptorQuery eachQuery : filter.getExactQueries()) {
+				NavigableSet<String> ids = indexLookup.apply(eachQuery.getPath(), eachQuery.getValue());
+				if (ids != null && (smallest == null || ids.size() < smallest.size())) {
+					smallest = ids;
+				}
+			}
+		}
+		if (smallest == null) {
+			return descending ? aasDescriptors.descendingMap().values() : aasDescriptors.values();
+		}
+		List<AssetAdministrationShellDescriptor> candidates = new ArrayList<>(smallest.size());
+		for (String eachId : descending ? smallest.descendingSet() : smallest) {
+			AssetAdministrationShellDescriptor descriptor = aasDescriptors.get(eachId);
+			if (descriptor != null) { // could have been removed concurrently
+				candidates.add(descriptor);
+			}
+		}
+		return candidates;
+	}
+
+	private Comparator<RankedDescriptor> createComparator(Sorting sortBy) {
+		int pathCount = sortBy.getPath().size();
+		Comparator<RankedDescriptor> comparator = (d1, d2) -> {
+			for (int i = 0; i < pathCount; i++) {
+				int result = d1.sortKeys[i].compareTo(d2.sortKeys[i]);
+				if (result != 0) {
+					return result;
+				}
+			}
+			return 0;
+		};
+		// the candidates are visited in id order, so the sequence orders equal descriptors by id
+		comparator = comparator.thenComparingLong(RankedDescriptor::getSequence);
+		if (sortBy.getDirection() == SortDirection.DESC) {
+			return comparator.reversed();
 		}
+		return comparator;
+	}
+
+	private String[] resolveSortKeys(AssetAdministrationShellDescriptor descriptor, Sorting sortBy) {
 		List<SortingPath> sortingPath = sortBy.getPath();
-		Comparator<AssetAdministrationShellDescriptor> comparator = null;
-		for (SortingPath eachPath : sortingPath) {
-			String sortPathAsString = eachPath.toString(); // toString returns the path
-			ValueExtractor extractor = new CachingValueExtractor(sortPathAsString);
-			Comparator<AssetAdministrationShellDescriptor> sortPathComparator = Comparator.comparing(extractor::resolveValue);
-			comparator = comparator == null ? sortPathComparator : comparator.thenComparing(sortPathComparator);
-		}
-		if (comparator != null) {
-			if (sortBy.getDirection() == SortDirection.DESC) {
-				comparator = comparator.reversed();
+		String[] keys = new String[sortingPath.size()];
+		AasRegistryPathProcessor processor = null;
+		for (int i = 0; i < keys.length; i++) {
+			SortingPath eachPath = sortingPath.get(i);
+			if (eachPath == SortingPath.ID) {
+				keys[i] = descriptor.getId() == null ? "" : descriptor.getId();
+				continue;
 			}
-			return matchingDescriptors.sorted(comparator);
-		} else {
-			return matchingDescriptors;
+			if (processor == null) {
+				processor = new AasRegistryPathProcessor(descriptor);
+			}
+			ValueExtractionVisitor visitor = new ValueExtractionVisitor();
+			processor.visitValuesAtPath(eachPath.toString(), visitor); // toString returns the path
+			keys[i] = visitor.value;
 		}
+		return keys;
 	}
 
 	private Sorting getDefaultSorting() {
 		 return new Sorting(List.of(SortingPath.ID)).direction(SortDirection.ASC);
 	}
 
-	private List<AssetAdministrationShellDescriptor> applyPagination(List<AssetAdministrationShellDescriptor> descriptors, Page page) {
+	private static long getRequiredCount(Page page) {
 		if (page == null) {
-			return descriptors;
+			return Long.MAX_VALUE;
 		}
-		int pageIndex = page.getIndex();
-		int size = page.getSize();
-		long startIndex = pageIndex * (long) size;
-		return descriptors.stream().skip(startIndex).limit(size).collect(Collectors.toList());
+		return (page.getIndex() + 1L) * page.getSize();
 	}
 
-	private Collection<AssetAdministrationShellDescriptor> resolveMatchingDescriptors(ShellDescriptorSearchRequest request) {
-		Collection<AssetAdministrationShellDescriptor> toFilter = new LinkedList<>(aasDescriptors);
-		if (request == null) { // match all
-			return toFilter;
+	private List<AssetAdministrationShellDescriptor> applyPagination(List<AssetAdministrationShellDescriptor> descriptors, Page page) {
+		if (page == null) {
+			return descriptors;
 		}
-		ShellDescriptorQuery query = request.getQuery();
-		if (query == null) {
-			return toFilter;
+		long startIndex = page.getIndex() * (long) page.getSize();
+		if (startIndex >= descriptors.size()) {
+			return new ArrayList<>();
 		}
-		AssetAdministrationShellFilter filter = new AssetAdministrationShellFilter(aasDescriptors);
-		return filter.filterByRequest(request);
+		return new ArrayList<>(descriptors.subList((int) startIndex, descriptors.size()));
 	}
 
 	@RequiredArgsConstructor
-	private static class ValueExtractor {
+	private static final class RankedDescriptor {
 
-		protected final String path;
+		private final AssetAdministrationShellDescriptor descriptor;
+		private final String[] sortKeys;
+		private final long sequence;
 
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			AasRegistryPathProcessor processor = new AasRegistryPathProcessor(descriptor);
-			ValueExtractionVisitor visitor = new ValueExtractionVisitor();
-			processor.visitValuesAtPath(path, visitor);
-			return visitor.value;
+		private long getSequence() {
+			return sequence;
 		}
+	}
 
-		private static final class ValueExtractionVisitor implements AssetAdministrationShellDescriptorVisitor {
+	/**
+	 * Keeps the first descriptors in sort order, bounded by the required count
+	 */
+	private static final class TopDescriptors {
 
-			private String value = ""; // for comparing we need non-null values so use an empty string
+		private final Comparator<RankedDescriptor> comparator;
+		private final long requiredCount;
+		private final PriorityQueue<RankedDescriptor> bounded;
+		private final List<RankedDescriptor> unbounded;
 
-			@Override
-			public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
-				if (this.value == null || this.value.isEmpty()) {
-					this.value = value;
-				}
+		private TopDescriptors(Comparator<RankedDescriptor> comparator, long requiredCount) {
+			this.comparator = comparator;
+			this.requiredCount = requiredCount;
+			boolean isBounded = requiredCount < Integer.MAX_VALUE;
+			// the head of the heap is the last descriptor in sort order, i.e., the next to be dropped
+			this.bounded = isBounded ? new PriorityQueue<>(comparator.reversed()) : null;
+			this.unbounded = isBounded ? null : new ArrayList<>();
+		}
+
+		private void offer(RankedDescriptor descriptor) {
+			if (unbounded != null) {
+				unbounded.add(descriptor);
+			} else if (bounded.size() < requiredCount) {
+				bounded.add(descriptor);
+			} else if (requiredCount > 0 && comparator.compare(descriptor, bounded.peek()) < 0) {
+				bounded.poll();
+				bounded.add(descriptor);
 			}
 		}
-	}
 
-	public static class CachingValueExtractor extends ValueExtractor {
+		private List<AssetAdministrationShellDescriptor> toSortedList() {
+			List<RankedDescriptor> ranked = unbounded != null ? unbounded : new ArrayList<>(bounded);
+			Collections.sort(ranked, comparator);
+			List<AssetAdministrationShellDescriptor> result = new ArrayList<>(ranked.size());
+			for (RankedDescriptor eachRanked : ranked) {
+				result.add(eachRanked.descriptor);
+			}
+			return result;
+		}
+	}
 
-		private final Map<AssetAdministrationShellDescriptor, Map<String, String>> cachedValues = new HashMap<>();
+	private static final class ValueExtractionVisitor implements AssetAdministrationShellDescriptorVisitor {
 
-		public CachingValueExtractor(String path) {
-			super(path);
-		}
+		private String value = ""; // for comparing we need non-null values so use an empty string
 
 		@Override
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			Map<String, String> result = cachedValues.computeIfAbsent(descriptor, k -> new HashMap<>());
-			return result.computeIfAbsent(path, k -> super.resolveValue(descriptor));
+		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
+			if (this.value == null || this.value.isEmpty()) {
+				this.value = value;
+			}
 		}
 	}
-}
\ No newline at end of file
+}
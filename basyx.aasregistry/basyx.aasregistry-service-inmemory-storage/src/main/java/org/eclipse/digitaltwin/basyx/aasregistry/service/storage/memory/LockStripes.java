@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks that serializes the writes to the same descriptor id
+ * while writes to different ids run concurrently
+ * 
+ * @author agent
+ *
+ */
+class LockStripes {
+
+	private final ReentrantLock[] locks;
+
+	LockStripes(int stripeCount) {
+		locks = new ReentrantLock[stripeCount];
+		Arrays.setAll(locks, i -> new ReentrantLock());
+	}
+
+	<T> T withLock(String id, Supplier<T> supplier) {
+		return withLocks(supplier, indexOf(id));
+	}
+
+	void withLock(String id, Runnable runnable) {
+		withLocks(toSupplier(runnable), indexOf(id));
+	}
+
+	/**
+	 * Locks the stripes of both ids, e.g., if a descriptor is replaced by one
+	 * with a different id
+	 */
+	void withLocks(String id1, String id2, Runnable runnable) {
+		int index1 = indexOf(id1);
+		int index2 = indexOf(id2);
+		// always lock in the same order to prevent deadlocks
+		withLocks(toSupplier(runnable), Math.min(index1, index2), Math.max(index1, index2));
+	}
+
+	<T> T withAllLocks(Supplier<T> supplier) {
+		int[] all = new int[locks.length];
+		Arrays.setAll(all, i -> i);
+		return withLocks(supplier, all);
+	}
+
+	private <T> T withLocks(Supplier<T> supplier, int... indices) {
+		int locked = 0;
+		try {
+			for (int i = 0; i < indices.length; i++) {
+				if (i == 0 || indices[i] != indices[i - 1]) {
+					locks[indices[i]].lock();
+				}
+				locked = i + 1;
+			}
+			return supplier.get();
+		} finally {
+			for (int i = locked - 1; i >= 0; i--) {
+				if (i == 0 || indices[i] != indices[i - 1]) {
+					locks[indices[i]].unlock();
+				}
+			}
+		}
+	}
+
+	private int indexOf(String id) {
+		return Math.floorMod(id.hashCode(), locks.length);
+	}
+
+	private static Supplier<Void> toSupplier(Runnable runnable) {
+		return () -> {
+			runnable.run();
+			return null;
+		};
+	}
+}
@@ -24,17 +24,13 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-import java.util.function.Function;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -43,58 +39,42 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedDescriptorMap;
-	
-	private final Function<T, String> idResolver; 
+	private final NavigableMap<String, T> sortedDescriptorMap;
 
 	public CursorResult<List<T>> getDescriptorsPaged(PaginationInfo pInfo) {
-		return getDescriptorsPagedAndFiltered(pInfo, null, null);
+		return getDescriptorsPaged(pInfo, sortedDescriptorMap.navigableKeySet(), id -> true);
 	}
-	
-	public CursorResult<List<T>> getDescriptorsPagedAndFiltered(PaginationInfo pInfo, DescriptorFilter filter, Predicate<T> filterMethod) {
-				
-		Map<String, T> cursorView = getCursorView(pInfo);
-		Stream<Entry<String, T>> eStream = cursorView.entrySet().stream();
-		
-		eStream = applyFilter(filter, e -> filterMethod.test(e.getValue()), eStream);
-		Stream<T> tStream = eStream.map(Entry::getValue);
-		tStream = applyLimit(pInfo, tStream);
-		
-		List<T> descriptorList = tStream.collect(Collectors.toList());
-		
-		String cursor = computeNextCursor(descriptorList);
-		return new CursorResult<>(cursor, Collections.unmodifiableList(descriptorList));
-	}
-
 
-	private Stream<Entry<String, T>> applyFilter(DescriptorFilter filter, Predicate<Entry<String, T>> filterMethod, Stream<Entry<String, T>> aStream) {
-		if (filter != null && filter.isFiltered()) {
-			return aStream.filter(filterMethod);
-		}
-		return aStream;
-	}
-
-	private Stream<T> applyLimit(PaginationInfo info, Stream<T> aStream) {
-		if (info.hasLimit()) {
-			return aStream.limit(info.getLimit());
-		}
-		return aStream;
-	}
+	/**
+	 * Pages over a sorted subset of the descriptor ids, e.g., taken from a
+	 * secondary index. The cursor is the id of the first descriptor of the next
+	 * page.
+	 */
+	public CursorResult<List<T>> getDescriptorsPaged(PaginationInfo pInfo, NavigableSet<String> sortedIds, Predicate<String> idFilter) {
+		NavigableSet<String> cursorView = getCursorView(pInfo, sortedIds);
 
-	private String computeNextCursor(List<T> descriptorList) {
-		if (!descriptorList.isEmpty()) {
-			T last = descriptorList.get(descriptorList.size()-1);
-			String lastId = idResolver.apply(last);
-			return sortedDescriptorMap.higherKey(lastId);
+		List<T> descriptorList = new ArrayList<>();
+		for (String eachId : cursorView) {
+			if (!idFilter.test(eachId)) {
+				continue;
+			}
+			T descriptor = sortedDescriptorMap.get(eachId);
+			if (descriptor == null) { // removed concurrently
+				continue;
+			}
+			if (pInfo.hasLimit() && descriptorList.size() == pInfo.getLimit()) {
+				return new CursorResult<>(eachId, Collections.unmodifiableList(descriptorList));
+			}
+			descriptorList.add(descriptor);
 		}
-		return null;
+		return new CursorResult<>(null, Collections.unmodifiableList(descriptorList));
 	}
 
-	private Map<String, T> getCursorView(PaginationInfo info) {
+	private NavigableSet<String> getCursorView(PaginationInfo info, NavigableSet<String> sortedIds) {
 		if (info.hasCursor()) {
-			return sortedDescriptorMap.tailMap(info.getCursor());
+			return sortedIds.tailSet(info.getCursor(), true);
 		} else {
-			return sortedDescriptorMap;
+			return sortedIds;
 		}
 	}
 }
\ No newline at end of file
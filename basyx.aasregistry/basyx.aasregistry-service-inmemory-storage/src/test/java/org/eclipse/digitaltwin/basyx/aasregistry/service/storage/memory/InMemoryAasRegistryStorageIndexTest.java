@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.KeyTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ReferenceTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SpecificAssetId;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.Test;
+
+/**
+ * Tests the secondary indexes and the concurrent writes of the
+ * {@link InMemoryAasRegistryStorage}
+ * 
+ * @author agent
+ *
+ */
+public class InMemoryAasRegistryStorageIndexTest {
+
+	private final InMemoryAasRegistryStorage storage = new InMemoryAasRegistryStorage();
+
+	@Test
+	public void filteredDescriptorsArePagedInIdOrder() {
+		IntStream.range(0, 10).forEach(i -> storage.insertAasDescriptor(new AssetAdministrationShellDescriptor("aas" + i).assetKind(i % 2 == 0 ? AssetKind.INSTANCE : AssetKind.TYPE).assetType(i < 6 ? "motor" : "pump")));
+
+		CursorResult<List<AssetAdministrationShellDescriptor>> firstPage = storage.getAllAasDescriptors(new PaginationInfo(2, null), new DescriptorFilter(AssetKind.INSTANCE, "motor"));
+		assertEquals(List.of("aas0", "aas2"), getIds(firstPage));
+		assertEquals("aas4", firstPage.getCursor());
+
+		CursorResult<List<AssetAdministrationShellDescriptor>> lastPage = storage.getAllAasDescriptors(new PaginationInfo(2, firstPage.getCursor()), new DescriptorFilter(AssetKind.INSTANCE, "motor"));
+		assertEquals(List.of("aas4"), getIds(lastPage));
+		assertNull(lastPage.getCursor());
+	}
+
+	@Test
+	public void descriptorsWithoutKindMatchNotApplicable() {
+		storage.insertAasDescriptor(new AssetAdministrationShellDescriptor("noKind"));
+		storage.insertAasDescriptor(new AssetAdministrationShellDescriptor("instance").assetKind(AssetKind.INSTANCE));
+
+		CursorResult<List<AssetAdministrationShellDescriptor>> result = storage.getAllAasDescriptors(PaginationInfo.NO_LIMIT, new DescriptorFilter(AssetKind.NOTAPPLICABLE, null));
+		assertEquals(List.of("noKind"), getIds(result));
+	}
+
+	@Test
+	public void indexesFollowWrites() {
+		AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor("aas").assetType("motor").addSpecificAssetIdsItem(new SpecificAssetId("serial", "4711"));
+		storage.insertAasDescriptor(descriptor);
+		storage.insertSubmodel("aas", createSubmodel("sm", "urn:nameplate"));
+
+		assertEquals(Set.of("aas"), storage.getIdsBySpecificAssetId("serial", "4711"));
+		assertEquals(Set.of("aas"), storage.getIdsBySubmodelSemanticId("urn:nameplate"));
+
+		storage.replaceSubmodel("aas", "sm", createSubmodel("sm", "urn:technicalData"));
+		assertTrue(storage.getIdsBySubmodelSemanticId("urn:nameplate").isEmpty());
+		assertEquals(Set.of("aas"), storage.getIdsBySubmodelSemanticId("urn:technicalData"));
+
+		storage.replaceAasDescriptor("aas", new AssetAdministrationShellDescriptor("aas2").assetType("pump"));
+		assertTrue(storage.getIdsByAssetType("motor").isEmpty());
+		assertTrue(storage.getIdsBySpecificAssetId("serial", "4711").isEmpty());
+		assertTrue(storage.getIdsBySubmodelSemanticId("urn:technicalData").isEmpty());
+		assertEquals(Set.of("aas2"), storage.getIdsByAssetType("pump"));
+
+		storage.removeAasDescriptor("aas2");
+		assertTrue(storage.getIdsByAssetType("pump").isEmpty());
+	}
+
+	@Test
+	public void submodelWritesDoNotModifyPublishedDescriptors() {
+		storage.insertAasDescriptor(new AssetAdministrationShellDescriptor("aas").assetType("motor"));
+		storage.insertSubmodel("aas", createSubmodel("sm1", "urn:nameplate"));
+		AssetAdministrationShellDescriptor published = storage.getAasDescriptor("aas");
+
+		storage.insertSubmodel("aas", createSubmodel("sm2", "urn:nameplate"));
+		storage.removeSubmodel("aas", "sm1");
+
+		assertEquals(List.of("sm1"), published.getSubmodelDescriptors().stream().map(SubmodelDescriptor::getId).collect(Collectors.toList()));
+		assertEquals(List.of("sm2"), storage.getAasDescriptor("aas").getSubmodelDescriptors().stream().map(SubmodelDescriptor::getId).collect(Collectors.toList()));
+		assertEquals("motor", storage.getAasDescriptor("aas").getAssetType());
+		assertEquals(Set.of("aas"), storage.getIdsBySubmodelSemanticId("urn:nameplate"));
+	}
+
+	@Test
+	public void concurrentWritesAreNotLost() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = IntStream.range(0, 8).mapToObj(thread -> executor.submit(() -> {
+				for (int i = 0; i < 250; i++) {
+					String id = "aas-" + thread + "-" + i;
+					storage.insertAasDescriptor(new AssetAdministrationShellDescriptor(id).assetType("motor"));
+					storage.insertSubmodel(id, createSubmodel("sm", "urn:nameplate"));
+				}
+			})).collect(Collectors.toList());
+			for (Future<?> eachFuture : futures) {
+				eachFuture.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(2000, storage.getAllAasDescriptors(PaginationInfo.NO_LIMIT, new DescriptorFilter(null, "motor")).getResult().size());
+		assertEquals(2000, storage.getIdsBySubmodelSemanticId("urn:nameplate").size());
+	}
+
+	private static SubmodelDescriptor createSubmodel(String id, String semanticId) {
+		Reference reference = new Reference(ReferenceTypes.EXTERNALREFERENCE, List.of(new Key(KeyTypes.GLOBALREFERENCE, semanticId)));
+		return new SubmodelDescriptor().id(id).semanticId(reference);
+	}
+
+	private static List<String> getIds(CursorResult<List<AssetAdministrationShellDescriptor>> page) {
+		return page.getResult().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.KeyTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ReferenceTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the evaluation of compiled search requests by the
+ * {@link InMemoryStorageSearch}
+ * 
+ * @author agent
+ *
+ */
+public class InMemoryStorageSearchTest {
+
+	private final InMemoryAasRegistryStorage storage = new InMemoryAasRegistryStorage();
+
+	@Before
+	public void fillStorage() {
+		IntStream.range(0, 20).forEach(i -> {
+			AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor("aas" + (char) ('a' + i)).idShort("shell" + i % 4).assetType(i % 2 == 0 ? "motor" : "pump");
+			descriptor.addSubmodelDescriptorsItem(createSubmodel("sm" + i, i % 5 == 0 ? "urn:nameplate" : "urn:other"));
+			storage.insertAasDescriptor(descriptor);
+		});
+	}
+
+	@Test
+	public void pagesOfSortedResultsAreConsistentWithFullSort() {
+		Sorting sorting = new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.DESC);
+		List<String> all = getIds(storage.searchAasDescriptors(new ShellDescriptorSearchRequest().sortBy(sorting)));
+
+		ShellDescriptorSearchResponse secondPage = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(1, 6)));
+
+		assertEquals(20, secondPage.getTotal().intValue());
+		assertEquals(all.subList(6, 12), getIds(secondPage));
+		// equal sort keys are ordered by id in the sort direction
+		assertEquals(List.of("aast", "aasp", "aasl", "aash", "aasd"), all.subList(0, 5));
+	}
+
+	@Test
+	public void pagesSortedByIdAreReadInKeyOrder() {
+		Sorting sorting = new Sorting(List.of(SortingPath.ID)).direction(SortDirection.DESC);
+		ShellDescriptorQuery byType = new ShellDescriptorQuery(AasRegistryPaths.assetType(), "motor");
+
+		ShellDescriptorSearchResponse secondPage = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().query(byType).sortBy(sorting).page(new Page(1, 3)));
+		ShellDescriptorSearchResponse lastPage = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().query(byType).sortBy(sorting).page(new Page(3, 3)));
+
+		assertEquals(List.of("aasm", "aask", "aasi"), getIds(secondPage));
+		assertEquals(List.of("aasa"), getIds(lastPage));
+		assertEquals(10, lastPage.getTotal().intValue());
+	}
+
+	@Test
+	public void exactQueriesOnIndexedPathsAreEvaluated() {
+		ShellDescriptorQuery byType = new ShellDescriptorQuery(AasRegistryPaths.assetType(), "pump");
+		ShellDescriptorQuery bySemanticId = new ShellDescriptorQuery(AasRegistryPaths.submodelDescriptors().semanticId().keys().value(), "urn:nameplate");
+
+		ShellDescriptorSearchResponse response = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().query(byType.combinedWith(bySemanticId)));
+
+		assertEquals(List.of("aasf", "aasp"), getIds(response));
+		assertEquals(2, response.getTotal().intValue());
+	}
+
+	@Test
+	public void regexQueriesAreCombinedWithIndexedQueries() {
+		ShellDescriptorQuery byIdShort = new ShellDescriptorQuery(AasRegistryPaths.idShort(), "shell[12]").queryType(QueryTypeEnum.REGEX);
+		ShellDescriptorQuery byType = new ShellDescriptorQuery(AasRegistryPaths.assetType(), "motor");
+
+		ShellDescriptorSearchResponse response = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().query(byIdShort.combinedWith(byType)).page(new Page(0, 3)));
+
+		assertEquals(List.of("aasc", "aasg", "aask"), getIds(response));
+		assertEquals(5, response.getTotal().intValue());
+	}
+
+	@Test
+	public void unknownIdMatchesNothing() {
+		ShellDescriptorSearchResponse response = storage.searchAasDescriptors(new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery(AasRegistryPaths.id(), "unknown")));
+
+		assertEquals(0, response.getTotal().intValue());
+	}
+
+	private static SubmodelDescriptor createSubmodel(String id, String semanticId) {
+		Reference reference = new Reference(ReferenceTypes.EXTERNALREFERENCE, List.of(new Key(KeyTypes.GLOBALREFERENCE, semanticId)));
+		return new SubmodelDescriptor().id(id).semanticId(reference);
+	}
+
+	private static List<String> getIds(ShellDescriptorSearchResponse response) {
+		return response.getHits().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList());
+	}
+}
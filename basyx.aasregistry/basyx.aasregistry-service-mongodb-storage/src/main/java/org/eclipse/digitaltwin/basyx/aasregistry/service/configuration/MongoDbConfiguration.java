@@ -25,13 +25,16 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service.configuration;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.MongoDbAasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -52,36 +55,58 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MongoDbConfiguration {
 
+	private static final String METRICS_COMPONENT_NAME = "aas-registry";
+	// mongodb maps all id fields internally to _id
+	private static final String ID = "_id";
+
 	@Value("${basyx.aasregistry.mongodb.collectionName:assetAdministrationShellDescriptor}")
 	private String collectionName;
 	
 	@Bean
-	public AasRegistryStorage createStorage(MongoTemplate template, List<AasRegistryStorageFeature> features) {
+	public AasRegistryStorage createStorage(MongoTemplate template, List<AasRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
 		log.info("Creating mongodb storage");
 		log.info("Creating mongodb indices");
 		initializeIndices(template);
 		AasRegistryStorage storage = new CursorEncodingRegistryStorage(new MongoDbAasRegistryStorage(template, collectionName));
-		return applyFeatures(storage, features);
+		return applyFeatures(storage, features, layerMetrics);
 
 	}
 	
-	private AasRegistryStorage applyFeatures(AasRegistryStorage storage, List<AasRegistryStorageFeature> features) {
+	private AasRegistryStorage applyFeatures(AasRegistryStorage storage, List<AasRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
+		storage = instrument(storage, layerMetrics);
+
 		for (AasRegistryStorageFeature eachFeature : features) {
 			log.info("Activating feature " + eachFeature.getName());
-			storage = eachFeature.decorate(storage);
+			storage = instrument(eachFeature.decorate(storage), layerMetrics);
 		}
 		return storage;
 	}
 
+	private AasRegistryStorage instrument(AasRegistryStorage storage, Optional<LayerMetrics> layerMetrics) {
+		return layerMetrics.map(metrics -> metrics.instrument(METRICS_COMPONENT_NAME, AasRegistryStorage.class, storage)).orElse(storage);
+	}
+
 	private void initializeIndices(MongoTemplate template) {
 		IndexOperations ops = template.indexOps(collectionName);
 		initializeGetShellDescriptorsIndices(ops);
+		initializeSearchSortingIndices(ops);
 		initializeExtensionIndices(ops);
 	}
 
+	// shell descriptors are listed by ascending id, so that the filtered pages
+	// are read from these indices in order starting at the cursor
 	private void initializeGetShellDescriptorsIndices(IndexOperations ops) {
-		initializeSingleAscIndex(ops, AasRegistryPaths.assetKind());
-		initializeSingleAscIndex(ops, AasRegistryPaths.assetType());
+		initializeAscIndexWithId(ops, AasRegistryPaths.assetKind());
+		initializeAscIndexWithId(ops, AasRegistryPaths.assetType());
+	}
+
+	// search results are sorted by the sorting path with the id as tie-breaker
+	private void initializeSearchSortingIndices(IndexOperations ops) {
+		for (SortingPath eachPath : SortingPath.values()) {
+			if (eachPath != SortingPath.ID) {
+				initializeAscIndexWithId(ops, eachPath.toString());
+			}
+		}
 	}
 
 	private void initializeExtensionIndices(IndexOperations ops) {
@@ -104,6 +129,11 @@ public class MongoDbConfiguration {
 		ops.ensureIndex(smValueIndex);
 	}
 
+	private void initializeAscIndexWithId(IndexOperations ops, String path) {
+		Index index = new Index(path, Direction.ASC).on(ID, Direction.ASC);
+		ops.ensureIndex(index);
+	}
+
 	@Bean
 	public MongoTransactionManager mongoDbTransactionManager(MongoDatabaseFactory dbFactory) {
 		return new MongoTransactionManager(dbFactory);
@@ -92,12 +92,12 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(@NonNull PaginationInfo pRequest, @NonNull DescriptorFilter filter) {
 		List<AggregationOperation> allAggregations = new LinkedList<>();
 		applyFilter(filter, allAggregations);
+		applyCursor(pRequest, allAggregations);
 		applySorting(allAggregations);
-		applyPagination(pRequest, allAggregations);
+		applyLimit(pRequest, allAggregations);
 		AggregationResults<Document> results = template.aggregate(Aggregation.newAggregation(allAggregations), collectionName, Document.class);
 		List<AssetAdministrationShellDescriptor> foundDescriptors = results.getMappedResults().stream().map(this::toAasDescriptor).collect(Collectors.toList());
-		String cursor = resolveCursor(pRequest, foundDescriptors, AssetAdministrationShellDescriptor::getId);
-		return new CursorResult<>(cursor, foundDescriptors);
+		return toCursorResult(pRequest, foundDescriptors, AssetAdministrationShellDescriptor::getId);
 	}
 
 	private void applySorting(List<AggregationOperation> allAggregations) {
@@ -105,21 +105,28 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 		allAggregations.add(sortOp);
 	}
 
-	private <T> String resolveCursor(@NonNull PaginationInfo pRequest, List<T> foundDescriptors, Function<T, String> idResolver) {
-		if (foundDescriptors.isEmpty() || !pRequest.isPaged()) {
-			return null;
+	// the cursor is the id of the last descriptor of the previous page, so that
+	// the next page is a range seek on the (filter, _id) indices
+	private void applyCursor(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
+		if (pRequest.hasCursor()) {
+			allAggregations.add(Aggregation.match(Criteria.where(ID).gt(pRequest.getCursor())));
 		}
-		T last = foundDescriptors.get(foundDescriptors.size() - 1);
-		return idResolver.apply(last);
 	}
 
-	private void applyPagination(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
-		if (pRequest.getCursor() != null) {
-			allAggregations.add(Aggregation.match(Criteria.where(ID).gt(pRequest.getCursor())));
+	// one more element is requested to know whether there is a next page
+	private void applyLimit(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
+		if (pRequest.hasLimit()) {
+			allAggregations.add(Aggregation.limit(pRequest.getLimit() + 1L));
 		}
-		if (pRequest.getLimit() != null) {
-			allAggregations.add(Aggregation.limit(pRequest.getLimit()));
+	}
+
+	private <T> CursorResult<List<T>> toCursorResult(PaginationInfo pRequest, List<T> foundDescriptors, Function<T, String> idResolver) {
+		if (!pRequest.hasLimit() || foundDescriptors.size() <= pRequest.getLimit()) {
+			return new CursorResult<>(null, foundDescriptors);
 		}
+		List<T> page = foundDescriptors.subList(0, pRequest.getLimit());
+		String cursor = idResolver.apply(page.get(page.size() - 1));
+		return new CursorResult<>(cursor, page);
 	}
 
 	private void applyFilter(DescriptorFilter filter, List<AggregationOperation> allAggregations) {
@@ -213,12 +220,12 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 		allAggregations.add(Aggregation.match(Criteria.where(ID).is(aasDescriptorId)));
 		allAggregations.add(Aggregation.unwind(SUBMODEL_DESCRIPTORS));
 		allAggregations.add(Aggregation.replaceRoot(SUBMODEL_DESCRIPTORS));
+		this.applyCursor(pRequest, allAggregations);
 		this.applySorting(allAggregations);
-		this.applyPagination(pRequest, allAggregations);
+		this.applyLimit(pRequest, allAggregations);
 		AggregationResults<Document> results = template.aggregate(Aggregation.newAggregation(allAggregations), collectionName, Document.class);
 		List<SubmodelDescriptor> submodels = results.getMappedResults().stream().map(this::toSubmodelDescriptor).collect(Collectors.toList());
-		String cursor = resolveCursor(pRequest, submodels, SubmodelDescriptor::getId);
-		return new CursorResult<>(cursor, submodels);
+		return toCursorResult(pRequest, submodels, SubmodelDescriptor::getId);
 	}
 
 	@Override
@@ -88,29 +88,24 @@ public class SearchQueryBuilder {
 	}
 
 	private void withSorting(List<SortingPath> paths, @Valid SortDirection direction, List<AggregationOperation> aggregationOps) {
-		Direction mongoDirection = mapDirection(direction);
-		List<Order> orderList = new ArrayList<>();
-		if (paths.isEmpty()) {
-			String path = pathMappings.getOrDefault(AasRegistryPaths.id(), AasRegistryPaths.id());
-			aggregationOps.add(Aggregation.sort(mongoDirection, path));
-		} else {
-			for (SortingPath eachPath : paths) {
-				String path = eachPath.toString();
-				path = pathMappings.getOrDefault(path, path);
-				orderList.add(new Order(mongoDirection, path));
-			}
-			aggregationOps.add(Aggregation.sort(Sort.by(orderList)));
-		}
+		aggregationOps.add(getSort(paths, direction));
 	}
 
 	private SortOperation getSort(List<SortingPath> paths, @Valid SortDirection direction) {
 		Direction mongoDirection = mapDirection(direction);
+		String idPath = pathMappings.getOrDefault(AasRegistryPaths.id(), AasRegistryPaths.id());
 		List<Order> orderList = new ArrayList<>();
 		for (SortingPath eachPath : paths) {
 			String path = eachPath.toString();
 			path = pathMappings.getOrDefault(path, path);
 			orderList.add(new Order(mongoDirection, path));
 		}
+		// the id makes the order total so that pages neither overlap nor miss
+		// descriptors with equal sort values. Using the same direction, the
+		// (path, _id) indices can be traversed in both directions.
+		if (orderList.stream().noneMatch(order -> order.getProperty().equals(idPath))) {
+			orderList.add(new Order(mongoDirection, idPath));
+		}
 		return Aggregation.sort(Sort.by(orderList));
 	}
 
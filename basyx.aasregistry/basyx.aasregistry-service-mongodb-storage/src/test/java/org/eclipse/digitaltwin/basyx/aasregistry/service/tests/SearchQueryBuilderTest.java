@@ -24,14 +24,23 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorPathVisitor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.UnknownLeafPathException;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.SearchQueryBuilder;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 
 public class SearchQueryBuilderTest {
 
@@ -85,6 +94,15 @@ public class SearchQueryBuilderTest {
 		Mockito.verify(mvisitor, Mockito.times(1)).endObjectSegment(targetPath, EMPTY_STRING, EMPTY_STRING);
 		Mockito.verifyNoMoreInteractions(mvisitor);	
 	}
-	
-	
+
+	@Test
+	public void testSortingIsMadeTotalById() {
+		SearchQueryBuilder builder = new SearchQueryBuilder();
+
+		Document byIdShort = builder.getSort(new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.DESC)).toDocument(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(new Document("$sort", new Document("idShort", -1).append("_id", -1)), byIdShort);
+
+		Document byId = builder.getSort(new Sorting(List.of(SortingPath.ID, SortingPath.IDSHORT))).toDocument(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(new Document("$sort", new Document("_id", 1).append("idShort", 1)), byId);
+	}
 }
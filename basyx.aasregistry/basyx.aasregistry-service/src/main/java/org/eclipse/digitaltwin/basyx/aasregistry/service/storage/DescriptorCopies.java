@@ -24,15 +24,11 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.digitaltwin.basyx.core.copy.DeepCopier;
+
 import lombok.NonNull;
 
 
@@ -42,35 +38,11 @@ public class DescriptorCopies {
 		
 	}
 
-	@SuppressWarnings("unchecked")
 	public static <T> T deepClone(@NonNull T toClone) {
-		try {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			ObjectOutputStream oos = new ObjectOutputStream(baos);
-			oos.writeObject(toClone);
-			ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-			ObjectInputStream ois = new ObjectInputStream(bais);
-			return (T) ois.readObject();
-		} catch (IOException | ClassNotFoundException e) {
-			throw new DeepCopyException("This exception should never occur!", e);
-		}
+		return DeepCopier.copy(toClone);
 	}
 
 	public static <T> List<T> deepCloneCollection(@NonNull Collection<T> values) {
-		List<T> clonedValues = new ArrayList<>(values.size());
-		for (T eachItem : values) {
-			T clone = deepClone(eachItem);
-			clonedValues.add(clone);
-		}
-		return clonedValues;
-	}
-
-	private static class DeepCopyException extends RuntimeException {
-
-		private static final long serialVersionUID = 1L;
-
-		public DeepCopyException(String msg, Exception e) {
-			super(msg, e);
-		}
+		return DeepCopier.copyAll(values);
 	}
 }
\ No newline at end of file
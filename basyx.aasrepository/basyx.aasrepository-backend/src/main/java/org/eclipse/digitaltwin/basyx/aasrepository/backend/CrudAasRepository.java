@@ -39,10 +39,12 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.springframework.data.repository.CrudRepository;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
@@ -73,6 +75,16 @@ public class CrudAasRepository implements AasRepository {
 		return aasBackend.getShells(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return aasBackend.findAllById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return aasBackend.query(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		return aasBackend.findById(aasId).orElseThrow(() -> new ElementDoesNotExistException(aasId));
@@ -28,6 +28,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -40,6 +42,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 
 /**
  * Specifies the overall AasRepository API
@@ -56,6 +60,60 @@ public interface AasRepository {
 	 */
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(List<SpecificAssetId> assetIds, String idShort, PaginationInfo pInfo);
 
+	/**
+	 * Retrieves the Asset Administration Shells with the passed ids, sorted
+	 * ascending by their id. Ids without an AAS are skipped, i.e., they do not
+	 * count towards the limit.
+	 *
+	 * The default implementation retrieves the AAS of the requested page one by
+	 * one. Implementations should let their backend retrieve them at once.
+	 *
+	 * @param aasIds
+	 * @param pInfo
+	 * @return the Asset Administration Shells of the requested page
+	 */
+	public default CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return PaginationSupport.getPaged(pInfo, aasIds, aasId -> {
+			try {
+				return getAas(aasId);
+			} catch (ElementDoesNotExistException e) {
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Retrieves the Asset Administration Shells matching the passed filter,
+	 * sorted ascending by their id. AAS not matching the filter do not count
+	 * towards the limit.
+	 *
+	 * The default implementation pages through all AAS and tests each of them.
+	 * Implementations should let their backend evaluate the filter.
+	 *
+	 * @param filter
+	 * @param pInfo
+	 * @return the matching Asset Administration Shells of the requested page
+	 */
+	public default CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		List<AssetAdministrationShell> matches = new ArrayList<>();
+		String cursor = pInfo.getCursor();
+
+		do {
+			CursorResult<List<AssetAdministrationShell>> page = getAllAas(null, null, new PaginationInfo(pInfo.getLimit(), cursor));
+			for (AssetAdministrationShell aas : page.getResult()) {
+				if (!filter.test(aas))
+					continue;
+
+				matches.add(aas);
+				if (pInfo.hasLimit() && matches.size() == pInfo.getLimit())
+					return new CursorResult<>(aas.getId(), matches);
+			}
+			cursor = page.getCursor();
+		} while (cursor != null);
+
+		return new CursorResult<>(null, matches);
+	}
+
 	/**
 	 * Retrieves a specific AAS
 	 *
@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.feature;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
@@ -43,6 +44,10 @@ public class DecoratedAasRepositoryFactory extends DecoratedFactory<AasRepositor
 		super(toDecorate, features);
 	}
 
+	public DecoratedAasRepositoryFactory(AasRepositoryFactory toDecorate, List<AasRepositoryFeature> features, UnaryOperator<AasRepositoryFactory> layerDecorator) {
+		super(toDecorate, features, layerDecorator);
+	}
+
 	@Override
 	public AasRepository create() {
 		return getDecorated().create();
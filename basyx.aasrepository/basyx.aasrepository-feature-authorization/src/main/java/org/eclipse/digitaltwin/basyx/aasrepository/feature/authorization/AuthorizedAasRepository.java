@@ -29,9 +29,9 @@ import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
-import java.util.TreeMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -47,9 +47,6 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Decorator for authorized {@link AasRepository}
@@ -59,7 +56,6 @@ import org.slf4j.LoggerFactory;
  */
 public class AuthorizedAasRepository implements AasRepository {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizedAasRepository.class);
 	private AasRepository decorated;
 	private RbacPermissionResolver<AasTargetInformation> permissionResolver;
 
@@ -78,26 +74,22 @@ public class AuthorizedAasRepository implements AasRepository {
 
 		List<TargetInformation> targetInformations = permissionResolver.getMatchingTargetInformationInRules(Action.READ, new AasTargetInformation(getIdAsList("*")));
 
-		List<String> allIds = targetInformations.stream().map(AasTargetInformation.class::cast)
-				.map(AasTargetInformation::getAasIds).flatMap(List::stream).collect(Collectors.toList());
+		Set<String> allIds = targetInformations.stream().map(AasTargetInformation.class::cast)
+				.map(AasTargetInformation::getAasIds).flatMap(List::stream).collect(Collectors.toSet());
 
-		List<AssetAdministrationShell> shells = allIds.stream().map(id -> {
-			try {
-				return getAas(id);
-			} catch (ElementDoesNotExistException e) {
-				LOGGER.error("AAS: '{}' not found, Error: {}", id, e.getMessage());
-				return null;
-			} catch (Exception e) {
-				LOGGER.error("Exception occurred while retrieving the AAS: {}, Error: {}", id, e.getMessage());
-				return null;
-			}
-		}).filter(Objects::nonNull).collect(Collectors.toList());
+		return getAllAasById(allIds, pInfo);
+	}
 
-		TreeMap<String, AssetAdministrationShell> aasMap = shells.stream().collect(Collectors.toMap(AssetAdministrationShell::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasTargetInformation(getIdAsList("*")));
+
+		if (isAuthorized)
+			return decorated.getAllAasById(aasIds, pInfo);
 
-		PaginationSupport<AssetAdministrationShell> paginationSupport = new PaginationSupport<>(aasMap, AssetAdministrationShell::getId);
+		List<String> permittedIds = aasIds.stream().filter(id -> permissionResolver.hasPermission(Action.READ, new AasTargetInformation(getIdAsList(id)))).collect(Collectors.toList());
 
-		return paginationSupport.getPaged(pInfo);
+		return decorated.getAllAasById(permittedIds, pInfo);
 	}
 
 	@Override
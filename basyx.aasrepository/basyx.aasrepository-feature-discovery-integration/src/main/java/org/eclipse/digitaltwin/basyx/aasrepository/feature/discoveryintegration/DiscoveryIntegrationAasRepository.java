@@ -38,12 +38,14 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryDiscoveryLinkExce
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryDiscoveryUnlinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -69,6 +71,16 @@ public class DiscoveryIntegrationAasRepository implements AasRepository {
 		return decorated.getAllAas(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return decorated.getAllAasById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return decorated.queryAas(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String shellId) throws ElementDoesNotExistException {
 		return decorated.getAas(shellId);
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -39,6 +40,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -47,10 +50,21 @@ public class KafkaAasRepository implements AasRepository {
 
 	private AasRepository decorated;
 	private AasEventHandler eventHandler;
+	private TransactionOperations transactions;
 
 	public KafkaAasRepository(AasRepository decorated, AasEventHandler handler) {
+		this(decorated, handler, TransactionOperations.withoutTransaction());
+	}
+
+	/**
+	 * @param transactions
+	 *            runs each write together with the handling of its event, so
+	 *            that an event stored in an outbox is committed with the write
+	 */
+	public KafkaAasRepository(AasRepository decorated, AasEventHandler handler, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.eventHandler = handler;
+		this.transactions = transactions;
 	}
 
 	@Override
@@ -58,6 +72,16 @@ public class KafkaAasRepository implements AasRepository {
 		return decorated.getAllAas(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return decorated.getAllAasById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return decorated.queryAas(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		return decorated.getAas(aasId);
@@ -65,20 +89,26 @@ public class KafkaAasRepository implements AasRepository {
 
 	@Override
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException {
-		decorated.createAas(aas);
-		eventHandler.onAasCreated(aas);
+		transactions.executeWithoutResult(status -> {
+			decorated.createAas(aas);
+			eventHandler.onAasCreated(aas);
+		});
 	}
 
 	@Override
 	public void updateAas(String aasId, AssetAdministrationShell aas) {
-		decorated.updateAas(aasId, aas);
-		eventHandler.onAasUpdated(aasId, aas);
+		transactions.executeWithoutResult(status -> {
+			decorated.updateAas(aasId, aas);
+			eventHandler.onAasUpdated(aasId, aas);
+		});
 	}
 
 	@Override
 	public void deleteAas(String aasId) {
-		decorated.deleteAas(aasId);
-		eventHandler.onAasDeleted(aasId);
+		transactions.executeWithoutResult(status -> {
+			decorated.deleteAas(aasId);
+			eventHandler.onAasDeleted(aasId);
+		});
 	}
 
 	@Override
@@ -93,20 +123,26 @@ public class KafkaAasRepository implements AasRepository {
 
 	@Override
 	public void addSubmodelReference(String aasId, Reference submodelReference) {
-		decorated.addSubmodelReference(aasId, submodelReference);
-		eventHandler.onSubmodelRefAdded(aasId, submodelReference);
+		transactions.executeWithoutResult(status -> {
+			decorated.addSubmodelReference(aasId, submodelReference);
+			eventHandler.onSubmodelRefAdded(aasId, submodelReference);
+		});
 	}
 
 	@Override
 	public void removeSubmodelReference(String aasId, String submodelId) {
-		decorated.removeSubmodelReference(aasId, submodelId);
-		eventHandler.onSubmodelRefDeleted(aasId, submodelId);
+		transactions.executeWithoutResult(status -> {
+			decorated.removeSubmodelReference(aasId, submodelId);
+			eventHandler.onSubmodelRefDeleted(aasId, submodelId);
+		});
 	}
 
 	@Override
 	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
-		decorated.setAssetInformation(aasId, aasInfo);
-		eventHandler.onAssetInformationSet(aasId, aasInfo);
+		transactions.executeWithoutResult(status -> {
+			decorated.setAssetInformation(aasId, aasInfo);
+			eventHandler.onAssetInformationSet(aasId, aasInfo);
+		});
 	}
 
 	@Override
@@ -26,23 +26,46 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka;
 
+import java.time.Duration;
+
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.AasEventDistributer;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.AasEventHandler;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.DistributingAasEventHandler;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.KafkaAasEventDistributer;
+import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.OutboxAasEventDistributer;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutboxRelay;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
+import org.eclipse.digitaltwin.basyx.kafka.BackpressurePolicy;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaOutboxSink;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
  */
 @ConditionalOnExpression(KafkaAasRepositoryFeature.FEATURE_ENABLED_EXPRESSION)
 @Configuration
 public class KafkaAasRepositoryConfiguration {
+
+	public static final String AAS_EVENT_PUBLISHER = "aasEventPublisher";
+	public static final String AAS_EVENT_OUTBOX = "aasEventOutbox";
+	public static final String AAS_EVENT_TRANSACTIONS = "aasEventTransactions";
 	
 	@ConditionalOnMissingBean
 	@Bean
@@ -50,12 +73,60 @@ public class KafkaAasRepositoryConfiguration {
 		return new JsonSerializer();
 	}
 	
+	@Bean
+	@ConditionalOnMissingBean(name = AAS_EVENT_PUBLISHER)
+	@ConditionalOnProperty(name = KafkaAasRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "async")
+	public AsyncKafkaPublisher<String> aasEventPublisher(KafkaTemplate<String, String> template,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".topic.name:aas-events}") String topicName,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.queuecapacity:10000}") int queueCapacity,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.lingerms:0}") long lingerMs,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		AsyncKafkaPublisher<String> publisher = AsyncKafkaPublisher.<String>builder(topicName, (key, payload) -> template.send(topicName, key, payload)).queueCapacity(queueCapacity).batchSize(batchSize)
+				.linger(Duration.ofMillis(lingerMs)).backpressurePolicy(backpressurePolicy).build();
+		meterRegistry.ifAvailable(publisher::bindTo);
+		return publisher;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = AAS_EVENT_OUTBOX)
+	@ConditionalOnProperty(name = KafkaAasRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutbox aasEventOutbox(MongoOperations mongoOperations,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.outbox.collection:aas-events-outbox}") String collectionName) {
+		return new MongoOutbox(mongoOperations, collectionName);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = AAS_EVENT_TRANSACTIONS)
+	@ConditionalOnProperty(name = KafkaAasRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public TransactionOperations aasEventTransactions(MongoTemplate mongoTemplate) {
+		return new TransactionTemplate(new MongoTransactionManager(mongoTemplate.getMongoDatabaseFactory()));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = KafkaAasRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutboxRelay aasEventOutboxRelay(@Qualifier(AAS_EVENT_OUTBOX) MongoOutbox outbox, KafkaTemplate<String, String> template,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".publishing.outbox.intervalms:500}") long intervalMs) {
+		outbox.initializeIndex();
+		MongoOutboxRelay relay = new MongoOutboxRelay(outbox.getCollectionName(), outbox, new KafkaOutboxSink(template::send), batchSize, Duration.ofMillis(intervalMs));
+		relay.start();
+		return relay;
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public AasEventDistributer aasEventDistributer(JsonSerializer serializer,
 			KafkaTemplate<String, String> template,
-			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".topic.name:aas-events}") String topicName) {
-		return new KafkaAasEventDistributer(serializer, template, topicName);
+			@Value("${" + KafkaAasRepositoryFeature.FEATURENAME + ".topic.name:aas-events}") String topicName,
+			@Qualifier(AAS_EVENT_PUBLISHER) ObjectProvider<AsyncKafkaPublisher<String>> publisher,
+			@Qualifier(AAS_EVENT_OUTBOX) ObjectProvider<MongoOutbox> outbox) {
+		MongoOutbox eventOutbox = outbox.getIfAvailable();
+		if (eventOutbox != null)
+			return new OutboxAasEventDistributer(serializer, eventOutbox, topicName);
+
+		return new KafkaAasEventDistributer(serializer, template, topicName, publisher.getIfAvailable());
 	}
 	
 	@Bean
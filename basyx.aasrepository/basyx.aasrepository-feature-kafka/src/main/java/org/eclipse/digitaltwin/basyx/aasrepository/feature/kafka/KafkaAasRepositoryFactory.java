@@ -28,6 +28,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.AasEventHandler;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -36,15 +37,21 @@ public class KafkaAasRepositoryFactory implements AasRepositoryFactory {
 
 	private final AasRepositoryFactory decorated;
 	private final AasEventHandler evtHandler;
+	private final TransactionOperations transactions;
 
 	public KafkaAasRepositoryFactory(AasRepositoryFactory decorated, AasEventHandler evtHandler) {
+		this(decorated, evtHandler, TransactionOperations.withoutTransaction());
+	}
+
+	public KafkaAasRepositoryFactory(AasRepositoryFactory decorated, AasEventHandler evtHandler, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.evtHandler = evtHandler;
+		this.transactions = transactions;
 	}
 
 	@Override
 	public AasRepository create() {
-		return new KafkaAasRepository(decorated.create(), evtHandler);
+		return new KafkaAasRepository(decorated.create(), evtHandler, transactions);
 	}
 
 }
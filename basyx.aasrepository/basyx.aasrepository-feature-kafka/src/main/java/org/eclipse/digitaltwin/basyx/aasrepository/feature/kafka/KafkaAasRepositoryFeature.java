@@ -28,9 +28,12 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.AasRepositoryFeature;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.kafka.events.AasEventHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
  */
@@ -43,15 +46,17 @@ public class KafkaAasRepositoryFeature implements AasRepositoryFeature {
 	public final static String FEATURE_ENABLED_EXPRESSION = "#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.kafka.enabled:false}}"; 
 	
 	private final AasEventHandler evtHandler; 
+	private final TransactionOperations transactions;
 	
 	@Autowired
-	public KafkaAasRepositoryFeature(AasEventHandler evtHandler) {
+	public KafkaAasRepositoryFeature(AasEventHandler evtHandler, @Qualifier(KafkaAasRepositoryConfiguration.AAS_EVENT_TRANSACTIONS) ObjectProvider<TransactionOperations> transactions) {
 		this.evtHandler = evtHandler;
+		this.transactions = transactions.getIfAvailable(TransactionOperations::withoutTransaction);
 	}
 
 	@Override
 	public AasRepositoryFactory decorate(AasRepositoryFactory aasServiceFactory) {
-		return new KafkaAasRepositoryFactory(aasServiceFactory, evtHandler);
+		return new KafkaAasRepositoryFactory(aasServiceFactory, evtHandler, transactions);
 	}
 
 	@Override
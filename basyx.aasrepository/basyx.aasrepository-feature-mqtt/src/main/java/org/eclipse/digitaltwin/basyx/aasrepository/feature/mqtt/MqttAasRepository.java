@@ -26,6 +26,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
@@ -40,9 +41,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Observer for the AASAggregator that triggers MQTT events for different
@@ -52,17 +52,20 @@ import org.slf4j.LoggerFactory;
  *
  */
 public class MqttAasRepository implements AasRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttAasRepository.class);
 	private MqttAasRepositoryTopicFactory topicFactory;
 
 	private AasRepository decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 
 	public MqttAasRepository(AasRepository decorated, IMqttClient mqttClient, MqttAasRepositoryTopicFactory topicFactory) {
+		this(decorated, MqttEventPublisher.of(mqttClient), topicFactory);
+	}
+
+	public MqttAasRepository(AasRepository decorated, MqttEventPublisher mqttEventPublisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.mqttEventPublisher = mqttEventPublisher;
 	}
 
 	@Override
@@ -70,6 +73,16 @@ public class MqttAasRepository implements AasRepository {
 		return decorated.getAllAas(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return decorated.getAllAasById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return decorated.queryAas(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		return decorated.getAas(aasId);
@@ -168,7 +181,7 @@ public class MqttAasRepository implements AasRepository {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttEventPublisher.publish(mqttClient, topic, payload, logger);
+		mqttEventPublisher.publish(topic, payload);
 	}
 
 	@Override
@@ -28,23 +28,28 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 
 public class MqttAasRepositoryFactory implements AasRepositoryFactory {
 
 	private AasRepositoryFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher mqttEventPublisher;
 	private MqttAasRepositoryTopicFactory topicFactory;
 
 	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, IMqttClient client, MqttAasRepositoryTopicFactory topicFactory) {
+		this(decorated, MqttEventPublisher.of(client), topicFactory);
+	}
+
+	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, MqttEventPublisher mqttEventPublisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public AasRepository create() {
-		return new MqttAasRepository(decorated.create(), client, topicFactory);
+		return new MqttAasRepository(decorated.create(), mqttEventPublisher, topicFactory);
 	}
 
 }
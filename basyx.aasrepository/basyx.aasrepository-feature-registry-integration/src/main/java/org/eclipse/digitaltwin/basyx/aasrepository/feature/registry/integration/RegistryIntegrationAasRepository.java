@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration
 import java.io.File;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -46,6 +47,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkExcep
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +79,16 @@ public class RegistryIntegrationAasRepository implements AasRepository {
 		return decorated.getAllAas(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return decorated.getAllAasById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return decorated.queryAas(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String shellId) throws ElementDoesNotExistException {
 		return decorated.getAas(shellId);
@@ -25,6 +25,9 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.search;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ScriptLanguage;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+import co.elastic.clients.json.JsonData;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
@@ -34,25 +37,34 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexer;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SearchAasRepository implements AasRepository {
 	private static final Logger logger = LoggerFactory.getLogger(SearchAasRepository.class);
-	private final ElasticsearchClient esclient;
-	private final String indexName;
+	private static final String ASSET_INFORMATION = "assetInformation";
+	private static final String REPLACE_FIELDS_SCRIPT = "for (def entry : params.updates.entrySet()) { ctx._source[entry.getKey()] = entry.getValue(); }";
+	private final DocumentIndexer indexer;
 
 	private AasRepository decorated;
 
 	public SearchAasRepository(AasRepository decorated, ElasticsearchClient esclient, String indexName) {
+		this(decorated, new DocumentIndexerFactory(esclient), indexName);
+	}
+
+	public SearchAasRepository(AasRepository decorated, DocumentIndexerFactory indexerFactory, String indexName) {
 		this.decorated = decorated;
-		this.esclient = esclient;
-		this.indexName = indexName;
+		this.indexer = indexerFactory.create(indexName, decorated::getAas, SearchAasRepository::renderTopLevelUpdate);
 	}
 
 	@Override
@@ -60,6 +72,16 @@ public class SearchAasRepository implements AasRepository {
 		return decorated.getAllAas(assetIds, idShort, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAasById(Collection<String> aasIds, PaginationInfo pInfo) {
+		return decorated.getAllAasById(aasIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> queryAas(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return decorated.queryAas(filter, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		return decorated.getAas(aasId);
@@ -74,7 +96,7 @@ public class SearchAasRepository implements AasRepository {
 	@Override
 	public void updateAas(String aasId, AssetAdministrationShell aas) {
 		decorated.updateAas(aasId, aas);
-		updateAASIndex(aas);
+		indexAAS(aas);
 	}
 
 	@Override
@@ -108,7 +130,7 @@ public class SearchAasRepository implements AasRepository {
 	@Override
 	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
 		decorated.setAssetInformation(aasId, aasInfo);
-		reindexAAS(aasId);
+		indexer.update(aasId, ASSET_INFORMATION, aasInfo);
 	}
 
 	@Override
@@ -139,45 +161,25 @@ public class SearchAasRepository implements AasRepository {
 	}
 
 	private void indexAAS(AssetAdministrationShell aas) {
-		try {
-			esclient.create(
-					c -> c.index(indexName)
-							.id(aas.getId())
-							.document(aas)
-			);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	private void updateAASIndex(AssetAdministrationShell aas) {
-		try {
-			esclient.update(
-					u -> u.index(indexName)
-							.id(aas.getId())
-							.doc(aas),
-					AssetAdministrationShell.class
-			);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		indexer.index(aas.getId(), aas);
 	}
 
 	private void deindexAAS(String aasId) {
-		try {
-			esclient.delete(
-					d -> d.index(indexName)
-							.id(aasId)
-			);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		indexer.delete(aasId);
 	}
 
 	private void reindexAAS(String aasId) {
-		AssetAdministrationShell shell = getAas(aasId);
-		deindexAAS(aasId);
-		indexAAS(shell);
+		indexer.index(aasId);
+	}
+
+	/**
+	 * Replaces the updated top-level fields of the indexed shell. Contrary to a
+	 * partial document, which would be merged with the indexed fields, this
+	 * removes attributes that are not present anymore.
+	 */
+	private static UpdateAction<Object, Object> renderTopLevelUpdate(Map<String, Object> updates) {
+		JsonData params = JsonData.of(new HashMap<>(updates));
+		return UpdateAction.of(u -> u.script(s -> s.source(src -> src.scriptString(REPLACE_FIELDS_SCRIPT)).lang(ScriptLanguage.Painless).params("updates", params)));
 	}
 
 }
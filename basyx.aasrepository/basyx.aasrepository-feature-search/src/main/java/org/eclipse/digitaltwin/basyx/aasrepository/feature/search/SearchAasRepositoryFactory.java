@@ -26,24 +26,29 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.search;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
 
 public class SearchAasRepositoryFactory implements AasRepositoryFactory {
 
-	private final ElasticsearchClient esclient;
+	private final DocumentIndexerFactory indexerFactory;
 	private final String indexName;
 	private AasRepositoryFactory decorated;
 
 	public SearchAasRepositoryFactory(AasRepositoryFactory decorated, ElasticsearchClient client, String indexName) {
+		this(decorated, new DocumentIndexerFactory(client), indexName);
+	}
+
+	public SearchAasRepositoryFactory(AasRepositoryFactory decorated, DocumentIndexerFactory indexerFactory, String indexName) {
 		this.decorated = decorated;
-		this.esclient = client;
+		this.indexerFactory = indexerFactory;
 		this.indexName = indexName;
 	}
 
 	@Override
 	public AasRepository create() {
-		return new SearchAasRepository(decorated.create(), esclient, indexName);
+		return new SearchAasRepository(decorated.create(), indexerFactory, indexName);
 	}
 
 }
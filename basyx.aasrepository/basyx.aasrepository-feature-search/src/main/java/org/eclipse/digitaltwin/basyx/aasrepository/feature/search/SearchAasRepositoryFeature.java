@@ -25,14 +25,20 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.search;
 
+import java.time.Duration;
+
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.AasRepositoryFeature;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 
 /**
  * Feature for AAS Repository search functionality
@@ -44,7 +50,7 @@ public class SearchAasRepositoryFeature implements AasRepositoryFeature {
 	
 	public static final String FEATURENAME = "basyx.aasrepository.feature.experimental.search";
 	public static final String DEFAULT_INDEX = "aas-index";
-	private final ElasticsearchClient esclient;
+	private final DocumentIndexerFactory indexerFactory;
 
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.experimental.search.enabled:false}}")
 	private boolean enabled;
@@ -53,13 +59,15 @@ public class SearchAasRepositoryFeature implements AasRepositoryFeature {
 	private String indexName;
 
 	@Autowired
-	public SearchAasRepositoryFeature(ElasticsearchClient client) {
-		this.esclient = client;
+	public SearchAasRepositoryFeature(ElasticsearchClient client, @Value("${" + FEATURENAME + ".indexing.mode:" + DocumentIndexerFactory.MODE_SYNC + "}") String indexingMode,
+			@Value("${" + FEATURENAME + ".indexing.flushintervalms:500}") long flushIntervalMs, @Value("${" + FEATURENAME + ".indexing.batchsize:500}") int batchSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.indexerFactory = new DocumentIndexerFactory(client, indexingMode, Duration.ofMillis(flushIntervalMs), batchSize, meterRegistry.getIfAvailable());
 	}
 	
 	@Override
 	public AasRepositoryFactory decorate(AasRepositoryFactory aasRepositoryFactory) {
-		return new SearchAasRepositoryFactory(aasRepositoryFactory, esclient, indexName);
+		return new SearchAasRepositoryFactory(aasRepositoryFactory, indexerFactory, indexName);
 	}
 
 	@Override
@@ -72,9 +80,10 @@ public class SearchAasRepositoryFeature implements AasRepositoryFeature {
 		// No initialization needed
 	}
 
+	@PreDestroy
 	@Override
 	public void cleanUp() {
-		// No cleanup needed
+		indexerFactory.close();
 	}
 
 	@Override
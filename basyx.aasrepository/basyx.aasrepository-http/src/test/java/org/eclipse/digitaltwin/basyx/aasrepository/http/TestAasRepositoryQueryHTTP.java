@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.aasrepository.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ParseException;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the query endpoint of the AasRepository HTTP/REST API evaluated by the
+ * repository backend
+ *
+ * @author agent
+ *
+ */
+public class TestAasRepositoryQueryHTTP {
+	private static final String QUERY_URL = "http://localhost:8080/query/shells";
+	private static final String ID_SHORT_QUERY = "{\"$condition\":{\"$eq\":[{\"$field\":\"$aas#idShort\"},{\"$strVal\":\"%s\"}]}}";
+	private static final List<AssetAdministrationShell> SHELLS = List.of(createAas("aas1", "Motor"), createAas("aas2", "Pump"), createAas("aas3", "Valve"));
+
+	private static ConfigurableApplicationContext appContext;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@BeforeClass
+	public static void startAasRepo() {
+		appContext = new SpringApplicationBuilder(DummyAasRepositoryComponent.class).profiles("httptests").run(new String[] {});
+	}
+
+	@AfterClass
+	public static void shutdownAasRepo() {
+		appContext.close();
+	}
+
+	@Before
+	public void populateRepository() {
+		SHELLS.forEach(getRepository()::createAas);
+	}
+
+	@After
+	public void resetRepository() {
+		AasRepository repo = getRepository();
+		repo.getAllAas(null, null, PaginationInfo.NO_LIMIT).getResult().stream().map(a -> a.getId()).forEach(repo::deleteAas);
+	}
+
+	@Test
+	public void matchingShellsAreReturned() throws IOException, ParseException {
+		JsonNode response = query(String.format(ID_SHORT_QUERY, "Pump"), "");
+
+		assertEquals("AssetAdministrationShell", response.at("/paging_metadata/resulType").asText());
+		assertEquals(1, response.get("result").size());
+		assertEquals("aas2", response.at("/result/0/id").asText());
+	}
+
+	@Test
+	public void resultsArePaged() throws IOException, ParseException {
+		String allQuery = "{\"$select\":\"id\",\"$condition\":{\"$ne\":[{\"$field\":\"$aas#id\"},{\"$strVal\":\"\"}]}}";
+
+		JsonNode firstPage = query(allQuery, "?limit=1");
+		assertEquals(1, firstPage.get("result").size());
+
+		JsonNode secondPage = query(allQuery, "?limit=" + SHELLS.size() + "&cursor=" + firstPage.at("/paging_metadata/cursor").asText());
+		assertEquals(SHELLS.size() - 1, secondPage.get("result").size());
+		assertEquals("Identifier", secondPage.at("/paging_metadata/resulType").asText());
+	}
+
+	@Test
+	public void invalidQueryIsRejected() throws IOException {
+		String invalidQuery = "{\"$condition\":{\"$eq\":[{\"$field\":\"aas#idShort\"},{\"$strVal\":\"x\"}]}}";
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL, invalidQuery);
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
+	private JsonNode query(String query, String parameters) throws IOException, ParseException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL + parameters, query);
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		return mapper.readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	private static AssetAdministrationShell createAas(String id, String idShort) {
+		return new DefaultAssetAdministrationShell.Builder().id(id).idShort(idShort).build();
+	}
+
+	private static AasRepository getRepository() {
+		return appContext.getBean(AasRepository.class);
+	}
+}
@@ -33,12 +33,14 @@ import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.aasservice.feature.AasServiceFeature;
 import org.eclipse.digitaltwin.basyx.aasservice.feature.DecoratedAasServiceFactory;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Provides the spring bean configuration for the {@link AasRepository} and
@@ -49,10 +51,15 @@ import java.util.List;
  */
 @Configuration
 public class AasRepositoryConfiguration {
+	private static final String METRICS_COMPONENT_NAME = "aas-repository";
+
 	@Bean
 	@ConditionalOnMissingBean
-	public static AasRepository getAasRepository(AasRepositoryFactory aasRepositoryFactory, List<AasRepositoryFeature> features) {
-		return new DecoratedAasRepositoryFactory(aasRepositoryFactory, features).create();
+	public static AasRepository getAasRepository(AasRepositoryFactory aasRepositoryFactory, List<AasRepositoryFeature> features, Optional<LayerMetrics> layerMetrics) {
+		if (layerMetrics.isEmpty())
+			return new DecoratedAasRepositoryFactory(aasRepositoryFactory, features).create();
+
+		return new DecoratedAasRepositoryFactory(aasRepositoryFactory, features, factory -> instrument(factory, layerMetrics.get())).create();
 	}
 
 	@Primary
@@ -60,4 +67,8 @@ public class AasRepositoryConfiguration {
 	public AasServiceFactory getAasServiceFactory(AasServiceFactory aasServiceFactory, List<AasServiceFeature> features) {
 		return new DecoratedAasServiceFactory(aasServiceFactory, features);
 	}
+
+	private static AasRepositoryFactory instrument(AasRepositoryFactory factory, LayerMetrics layerMetrics) {
+		return () -> layerMetrics.instrument(METRICS_COMPONENT_NAME, AasRepository.class, factory.create());
+	}
 }
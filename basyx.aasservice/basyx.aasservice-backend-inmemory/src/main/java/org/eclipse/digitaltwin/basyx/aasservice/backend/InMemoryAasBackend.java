@@ -32,6 +32,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.MissingKeyTypeException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
@@ -59,6 +60,9 @@ public class InMemoryAasBackend extends InMemoryCrudRepository<AssetAdministrati
 
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getShells(List<SpecificAssetId> assetIds, String idShort, PaginationInfo pInfo) {
+		if ((assetIds == null || assetIds.isEmpty()) && idShort == null)
+			return findAll(pInfo);
+
 		Iterable<AssetAdministrationShell> iterable = getAllAas(assetIds, idShort);
 		List<AssetAdministrationShell> allAas = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
 
@@ -69,6 +73,11 @@ public class InMemoryAasBackend extends InMemoryCrudRepository<AssetAdministrati
 		return paginationSupport.getPaged(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> query(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+		return findAll(pInfo, filter);
+	}
+
 	@Override
 	public CursorResult<List<Reference>> getSubmodelReferences(String aasId, PaginationInfo pInfo) {
 		List<Reference> submodelReferences = getAas(aasId).getSubmodels();
@@ -30,10 +30,12 @@ import org.bson.Document;
 import org.eclipse.digitaltwin.aas4j.v3.model.*;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoPaginationSupport;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingSubmodelReferenceException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -46,6 +48,7 @@ import org.springframework.lang.NonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,13 +62,34 @@ public class MongoDBAasOperations implements AasOperations {
     private static final String KEY_SMREF = "submodels";
     private static final String KEY_ASSETINFORMATION = "assetInformation";
     private static final String KEY_SMREF_KEY_VALUE = KEY_SMREF + ".keys.value";
+    static final String KEY_ID_SHORT = "idShort";
+    static final String KEY_GLOBAL_ASSET_ID = KEY_ASSETINFORMATION + ".globalAssetId";
+    static final String KEY_SPECIFIC_ASSET_ID_NAME = KEY_ASSETINFORMATION + ".specificAssetIds.name";
+    static final String KEY_SPECIFIC_ASSET_ID_VALUE = KEY_ASSETINFORMATION + ".specificAssetIds.value";
 
     private final MongoOperations mongoOperations;
     private final String collectionName;
+    private final MongoPaginationSupport<AssetAdministrationShell> paginationSupport;
 
     public MongoDBAasOperations(MongoOperations mongoOperations) {
         this.mongoOperations = mongoOperations;
         collectionName = mongoOperations.getCollectionName(AssetAdministrationShell.class);
+        paginationSupport = new MongoPaginationSupport<>(mongoOperations, AssetAdministrationShell.class, AssetAdministrationShell::getId);
+    }
+
+    @Override
+    public CursorResult<List<AssetAdministrationShell>> findAll(PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo);
+    }
+
+    @Override
+    public CursorResult<List<AssetAdministrationShell>> findAllById(Collection<String> ids, PaginationInfo pInfo) {
+        return paginationSupport.getPagedById(pInfo, ids);
+    }
+
+    @Override
+    public CursorResult<List<AssetAdministrationShell>> query(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo, filter.getMongoPreFilter(), filter);
     }
 
     @Override
@@ -254,19 +278,19 @@ public class MongoDBAasOperations implements AasOperations {
         // Match specific assetIds (name + value pair inside array)
         if (assetIds != null && !assetIds.isEmpty()) {
             for (SpecificAssetId assetId : assetIds) {
-                criteriaList.add(Criteria.where("assetInformation.specificAssetIds.name").is(assetId.getName()));
-                criteriaList.add(Criteria.where("assetInformation.specificAssetIds.value").is(assetId.getValue()));
+                criteriaList.add(Criteria.where(KEY_SPECIFIC_ASSET_ID_NAME).is(assetId.getName()));
+                criteriaList.add(Criteria.where(KEY_SPECIFIC_ASSET_ID_VALUE).is(assetId.getValue()));
             }
         }
 
         // Match idShort if present
         if (idShort != null && !idShort.isEmpty()) {
-            criteriaList.add(Criteria.where("idShort").is(idShort));
+            criteriaList.add(Criteria.where(KEY_ID_SHORT).is(idShort));
         }
 
         // Match globalAssetId if present
         for (SpecificAssetId globalAssetId : globalAssetIds) {
-            criteriaList.add(Criteria.where("assetInformation.globalAssetId").is(globalAssetId.getValue()));
+            criteriaList.add(Criteria.where(KEY_GLOBAL_ASSET_ID).is(globalAssetId.getValue()));
         }
 
         return criteriaList;
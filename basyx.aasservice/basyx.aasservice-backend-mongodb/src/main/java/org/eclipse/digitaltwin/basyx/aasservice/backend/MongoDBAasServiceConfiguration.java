@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.aasservice.backend;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.basyx.common.mongocore.IndexEntry;
 import org.eclipse.digitaltwin.basyx.common.mongocore.MappingEntry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -55,4 +56,19 @@ public class MongoDBAasServiceConfiguration {
 		return MappingEntry.of(collectionName, AssetAdministrationShell.class);
 	}
 
+	@Bean
+	IndexEntry aasIdShortIndexEntry() {
+		return IndexEntry.ascending(AssetAdministrationShell.class, "idShort", MongoDBAasOperations.KEY_ID_SHORT);
+	}
+
+	@Bean
+	IndexEntry aasGlobalAssetIdIndexEntry() {
+		return IndexEntry.ascending(AssetAdministrationShell.class, "globalAssetId", MongoDBAasOperations.KEY_GLOBAL_ASSET_ID);
+	}
+
+	@Bean
+	IndexEntry aasSpecificAssetIdsIndexEntry() {
+		return IndexEntry.ascending(AssetAdministrationShell.class, "specificAssetIds", MongoDBAasOperations.KEY_SPECIFIC_ASSET_ID_NAME, MongoDBAasOperations.KEY_SPECIFIC_ASSET_ID_VALUE);
+	}
+
 }
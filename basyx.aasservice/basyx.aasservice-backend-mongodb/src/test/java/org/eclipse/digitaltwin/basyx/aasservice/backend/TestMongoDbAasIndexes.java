@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasservice.backend;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Verifies via explain() that the filters of the AAS queries are served by the
+ * indexes created at startup
+ * 
+ * @author agent
+ */
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class TestMongoDbAasIndexes {
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Test
+	public void idShortFilterUsesIndex() {
+		assertIndexScan(Filters.eq(MongoDBAasOperations.KEY_ID_SHORT, "shell"));
+	}
+
+	@Test
+	public void globalAssetIdFilterUsesIndex() {
+		assertIndexScan(Filters.eq(MongoDBAasOperations.KEY_GLOBAL_ASSET_ID, "globalAssetId"));
+	}
+
+	@Test
+	public void specificAssetIdFilterUsesIndex() {
+		assertIndexScan(Filters.and(Filters.eq(MongoDBAasOperations.KEY_SPECIFIC_ASSET_ID_NAME, "serialNumber"), Filters.eq(MongoDBAasOperations.KEY_SPECIFIC_ASSET_ID_VALUE, "1234")));
+	}
+
+	private void assertIndexScan(Bson filter) {
+		String collectionName = mongoTemplate.getCollectionName(AssetAdministrationShell.class);
+		Document explanation = mongoTemplate.getCollection(collectionName).find(filter).explain();
+		String winningPlan = explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+		assertTrue(winningPlan, winningPlan.contains("IXSCAN"));
+		assertFalse(winningPlan, winningPlan.contains("COLLSCAN"));
+	}
+}
@@ -32,7 +32,9 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingSubmodelReferenceException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginatedRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryableRepository;
 
 import java.util.List;
 
@@ -42,7 +44,7 @@ import java.util.List;
  *
  * @author mateusmolina
  */
-public interface AasOperations {
+public interface AasOperations extends PaginatedRepository<AssetAdministrationShell>, QueryableRepository<AssetAdministrationShell> {
 
     /**
      * Retrieves all Asset Administration Shells
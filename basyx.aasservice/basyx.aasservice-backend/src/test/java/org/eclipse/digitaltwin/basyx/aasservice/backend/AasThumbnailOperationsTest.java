@@ -38,6 +38,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +56,7 @@ import org.eclipse.digitaltwin.basyx.core.filerepository.FileMetadata;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.junit.Test;
 
 public class AasThumbnailOperationsTest {
@@ -199,6 +201,21 @@ public class AasThumbnailOperationsTest {
 		public Iterable<AssetAdministrationShell> getAllAas(List<SpecificAssetId> assetIds, String idShort) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public CursorResult<List<AssetAdministrationShell>> findAll(PaginationInfo pInfo) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CursorResult<List<AssetAdministrationShell>> findAllById(Collection<String> ids, PaginationInfo pInfo) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CursorResult<List<AssetAdministrationShell>> query(QueryFilter<? super AssetAdministrationShell> filter, PaginationInfo pInfo) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	private static class FailingAasOperations extends InMemoryAasOperations {
@@ -38,8 +38,6 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,19 +50,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *
  */
 public class MqttAasService implements AasService {
-	private static Logger logger = LoggerFactory.getLogger(MqttAasService.class);
 	private MqttAasServiceTopicFactory topicFactory;
 
 	private AasService decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 	private String repoId;
 	private ObjectMapper objectMapper;
 
 	public MqttAasService(AasService decorated, IMqttClient mqttClient, MqttAasServiceTopicFactory topicFactory, String repoId, ObjectMapper objectMapper) {
+		this(decorated, MqttEventPublisher.of(mqttClient), topicFactory, repoId, objectMapper);
+	}
+
+	public MqttAasService(AasService decorated, MqttEventPublisher mqttEventPublisher, MqttAasServiceTopicFactory topicFactory, String repoId, ObjectMapper objectMapper) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.repoId = repoId;
 		this.objectMapper = objectMapper;
 	}
@@ -86,7 +87,7 @@ public class MqttAasService implements AasService {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttEventPublisher.publish(mqttClient, topic, payload, logger);
+		mqttEventPublisher.publish(topic, payload);
 	}
 
 	@Override
@@ -28,19 +28,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 
 public class MqttAasServiceFactory implements AasServiceFactory {
 
 	private AasServiceFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher mqttEventPublisher;
 	private MqttAasServiceTopicFactory topicFactory;
 	private String repoId;
 	private ObjectMapper objectMapper;
 
 	public MqttAasServiceFactory(AasServiceFactory decorated, IMqttClient client, MqttAasServiceTopicFactory topicFactory, String repoId, ObjectMapper objectMapper) {
+		this(decorated, MqttEventPublisher.of(client), topicFactory, repoId, objectMapper);
+	}
+
+	public MqttAasServiceFactory(AasServiceFactory decorated, MqttEventPublisher mqttEventPublisher, MqttAasServiceTopicFactory topicFactory, String repoId, ObjectMapper objectMapper) {
 		this.decorated = decorated;
-		this.client = client;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.topicFactory = topicFactory;
 		this.repoId = repoId;
 		this.objectMapper = objectMapper;
@@ -48,12 +53,12 @@ public class MqttAasServiceFactory implements AasServiceFactory {
 
 	@Override
 	public AasService create(AssetAdministrationShell aas) {
-		return new MqttAasService(decorated.create(aas), client, topicFactory, repoId, objectMapper);
+		return new MqttAasService(decorated.create(aas), mqttEventPublisher, topicFactory, repoId, objectMapper);
 	}
 
 	@Override
 	public AasService create(String aasId) {
-		return new MqttAasService(decorated.create(aasId), client, topicFactory, repoId, objectMapper);
+		return new MqttAasService(decorated.create(aasId), mqttEventPublisher, topicFactory, repoId, objectMapper);
 	}
 
 }
@@ -27,8 +27,8 @@ package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.aasservice.feature.AasServiceFeature;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -44,20 +44,20 @@ public class MqttAasServiceFeature implements AasServiceFeature {
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 	private boolean enabled;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 	private String repoId;
 	private ObjectMapper objectMapper;
 
 	@Autowired
-	public MqttAasServiceFeature(IMqttClient mqttClient, AasRepository repo, ObjectMapper objectMapper) {
-		this.mqttClient = mqttClient;
+	public MqttAasServiceFeature(MqttEventPublisher mqttEventPublisher, AasRepository repo, ObjectMapper objectMapper) {
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.repoId = repo.getName();
 		this.objectMapper = objectMapper;
 	}
 
 	@Override
 	public AasServiceFactory decorate(AasServiceFactory aasServiceFactory) {
-		return new MqttAasServiceFactory(aasServiceFactory, mqttClient, new MqttAasServiceTopicFactory(new Base64URLEncoder()), repoId, objectMapper);
+		return new MqttAasServiceFactory(aasServiceFactory, mqttEventPublisher, new MqttAasServiceTopicFactory(new Base64URLEncoder()), repoId, objectMapper);
 	}
 
 	@Override
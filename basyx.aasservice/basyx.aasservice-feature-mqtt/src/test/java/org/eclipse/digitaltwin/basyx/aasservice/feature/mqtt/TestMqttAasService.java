@@ -40,6 +40,7 @@ import org.eclipse.digitaltwin.basyx.aasservice.DummyAssetAdministrationShellFac
 import org.eclipse.digitaltwin.basyx.aasservice.backend.CrudAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasBackend;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttBrokerTestSupport;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener.MqttEvent;
@@ -115,7 +116,7 @@ public class TestMqttAasService extends AasServiceSuite {
 	private static AasServiceFactory createMqttAasServiceFactory(MqttClient client) {
 		fileRepository = new InMemoryFileRepository();
 		AasServiceFactory serviceFactory = new CrudAasServiceFactory(new InMemoryAasBackend(), fileRepository);
-		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(client, aasRepository, objectMapper);
+		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(MqttEventPublisher.of(client), aasRepository, objectMapper);
 		
 		return mqttFeature.decorate(serviceFactory);
 	}
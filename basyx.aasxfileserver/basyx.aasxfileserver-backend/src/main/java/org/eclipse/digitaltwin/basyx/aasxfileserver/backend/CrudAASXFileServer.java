@@ -77,10 +77,10 @@ public class CrudAASXFileServer implements AASXFileServer {
 
 	@Override
 	public CursorResult<List<PackageDescription>> getAllAASXPackageIds(String shellId, PaginationInfo pInfo) {
-		List<PackageDescription> packageDescriptions = getPackages().map(Package::getPackageDescription).toList();
+		if (shellId == null || shellId.isBlank())
+			return getAllAASXPackageIds(pInfo);
 
-		if (!(shellId == null || shellId.isBlank()))
-			packageDescriptions = packageDescriptions.stream().filter(packageDesc -> containsShellId(packageDesc, shellId)).toList();
+		List<PackageDescription> packageDescriptions = getPackages().map(Package::getPackageDescription).filter(packageDesc -> containsShellId(packageDesc, shellId)).toList();
 
 		TreeMap<String, PackageDescription> packageDescriptionMap = packageDescriptions.stream().collect(Collectors.toMap(PackageDescription::getPackageId, submodel -> submodel, (a, b) -> a, TreeMap::new));
 
@@ -126,6 +126,12 @@ public class CrudAASXFileServer implements AASXFileServer {
 		return aasxFileServerName == null ? AASXFileServer.super.getName() : aasxFileServerName;
 	}
 
+	private CursorResult<List<PackageDescription>> getAllAASXPackageIds(PaginationInfo pInfo) {
+		CursorResult<List<Package>> packages = packageBackend.findAll(pInfo);
+
+		return new CursorResult<>(packages.getCursor(), packages.getResult().stream().map(Package::getPackageDescription).toList());
+	}
+
 	private InputStream getISFromPackage(Package pkg) {
 		return fileRepository.find(pkg.getPackagesBody().getFilePath());
 	}
@@ -35,6 +35,6 @@ import org.springframework.stereotype.Repository;
  * @author mateusmolina
  */
 @Repository
-public interface PackageBackend extends CrudRepository<Package, String> {
+public interface PackageBackend extends CrudRepository<Package, String>, PackageOperations {
 
 }
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AasSubmodelElements;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+
+/**
+ * Generates synthetic submodels of configurable size and depth for the
+ * benchmarks
+ *
+ * <pre>
+ * property0 ... property{n-1}
+ * collection0
+ *   property0 ... property{n-1}
+ *   collection1
+ *     ...
+ *       collection{depth-1}
+ *         property0 ... property{n-1}
+ *         list
+ *           [0] ... [n-1]
+ * </pre>
+ *
+ * The nested chain is appended after the root properties so that linear
+ * lookups hit their worst case.
+ *
+ * @author agent
+ *
+ */
+public final class SubmodelGenerator {
+
+	public static final String SEMANTIC_ID = "https://basyx.eclipse.org/benchmarks/semanticId";
+
+	private static final String PROPERTY_PREFIX = "property";
+	private static final String COLLECTION_PREFIX = "collection";
+	private static final String LIST_ID_SHORT = "list";
+
+	private SubmodelGenerator() {
+	}
+
+	/**
+	 * Creates a submodel with {@code elementCount} properties on every level and
+	 * a nested chain of {@code depth} collections
+	 *
+	 * @param id
+	 * @param elementCount
+	 * @param depth
+	 * @return the generated submodel
+	 */
+	public static Submodel create(String id, int elementCount, int depth) {
+		List<SubmodelElement> rootElements = createProperties(elementCount);
+
+		if (depth > 0)
+			rootElements.add(createCollection(0, elementCount, depth));
+
+		return new DefaultSubmodel.Builder().id(id).idShort("benchmark")
+				.description(new DefaultLangStringTextType.Builder().language("en").text("Generated benchmark submodel").build())
+				.semanticId(new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE).keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(SEMANTIC_ID).build()).build())
+				.submodelElements(rootElements).build();
+	}
+
+	/**
+	 * Returns the idShortPath of the last property in the deepest collection
+	 *
+	 * @param elementCount
+	 * @param depth
+	 * @return
+	 */
+	public static String getDeepestPropertyPath(int elementCount, int depth) {
+		return getDeepestCollectionPath(depth) + "." + PROPERTY_PREFIX + (elementCount - 1);
+	}
+
+	/**
+	 * Returns the idShortPath of the last item of the list in the deepest
+	 * collection
+	 *
+	 * @param elementCount
+	 * @param depth
+	 * @return
+	 */
+	public static String getDeepestListItemPath(int elementCount, int depth) {
+		return getDeepestCollectionPath(depth) + "." + LIST_ID_SHORT + "[" + (elementCount - 1) + "]";
+	}
+
+	/**
+	 * Returns the idShortPath of the deepest collection
+	 *
+	 * @param depth
+	 * @return
+	 */
+	public static String getDeepestCollectionPath(int depth) {
+		StringBuilder builder = new StringBuilder(COLLECTION_PREFIX).append(0);
+
+		for (int i = 1; i < depth; i++)
+			builder.append('.').append(COLLECTION_PREFIX).append(i);
+
+		return builder.toString();
+	}
+
+	private static SubmodelElement createCollection(int level, int elementCount, int depth) {
+		List<SubmodelElement> children = createProperties(elementCount);
+
+		if (level + 1 < depth) {
+			children.add(createCollection(level + 1, elementCount, depth));
+		} else {
+			children.add(new DefaultSubmodelElementList.Builder().idShort(LIST_ID_SHORT).typeValueListElement(AasSubmodelElements.PROPERTY)
+					.valueTypeListElement(DataTypeDefXsd.INT).value(createListItems(elementCount)).build());
+		}
+
+		return new DefaultSubmodelElementCollection.Builder().idShort(COLLECTION_PREFIX + level).value(children).build();
+	}
+
+	private static List<SubmodelElement> createProperties(int elementCount) {
+		List<SubmodelElement> properties = new ArrayList<>(elementCount + 1);
+
+		for (int i = 0; i < elementCount; i++)
+			properties.add(new DefaultProperty.Builder().idShort(PROPERTY_PREFIX + i).valueType(DataTypeDefXsd.INT).value(String.valueOf(i)).build());
+
+		return properties;
+	}
+
+	private static List<SubmodelElement> createListItems(int elementCount) {
+		List<SubmodelElement> items = new ArrayList<>(elementCount);
+
+		for (int i = 0; i < elementCount; i++)
+			items.add(new DefaultProperty.Builder().valueType(DataTypeDefXsd.INT).value(String.valueOf(i)).build());
+
+		return items;
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PaginationSupport} paging, both on a prepared sorted map and
+ * including the list-to-TreeMap materialization the backends perform on every
+ * request
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationSupportBenchmark {
+
+	private static final int PAGE_SIZE = 100;
+
+	@Param({ "1000", "100000" })
+	public int entryCount;
+
+	private List<String> entries;
+	private TreeMap<String, String> sortedEntries;
+	private PaginationInfo firstPage;
+	private PaginationInfo middlePage;
+
+	@Setup
+	public void setup() {
+		entries = new ArrayList<>(entryCount);
+
+		for (int i = 0; i < entryCount; i++)
+			entries.add(String.format("http://basyx.eclipse.org/benchmarks/entry/%09d", i));
+
+		sortedEntries = toSortedMap(entries);
+		firstPage = new PaginationInfo(PAGE_SIZE, null);
+		middlePage = new PaginationInfo(PAGE_SIZE, entries.get(entryCount / 2));
+	}
+
+	@Benchmark
+	public CursorResult<List<String>> firstPage() {
+		return new PaginationSupport<>(sortedEntries, Function.identity()).getPaged(firstPage);
+	}
+
+	@Benchmark
+	public CursorResult<List<String>> middlePage() {
+		return new PaginationSupport<>(sortedEntries, Function.identity()).getPaged(middlePage);
+	}
+
+	@Benchmark
+	public CursorResult<List<String>> firstPageIncludingMaterialization() {
+		return new PaginationSupport<>(toSortedMap(entries), Function.identity()).getPaged(firstPage);
+	}
+
+	private static TreeMap<String, String> toSortedMap(List<String> entries) {
+		return entries.stream().collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, TreeMap::new));
+	}
+}
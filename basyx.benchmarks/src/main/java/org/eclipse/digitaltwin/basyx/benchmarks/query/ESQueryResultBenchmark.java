@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.query;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.querycore.query.executor.DenormalizedSource;
+import org.eclipse.digitaltwin.basyx.querycore.query.executor.ESQueryExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonpDeserializer;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+/**
+ * Measures the processing of a search response by the {@link ESQueryExecutor},
+ * from parsing the response body to the JSON nodes of the query result
+ *
+ * The hits are denormalized while they are parsed by the
+ * {@link DenormalizedSource}. As reference, the former pipeline is measured,
+ * which parsed the hits into maps, filtered empty arrays, converted the maps
+ * into a tree and renamed the children fields in a second traversal.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ESQueryResultBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int hitCount;
+
+	@Param({ "10", "100" })
+	public int elementCount;
+
+	private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+	private final JsonpDeserializer<SearchResponse<DenormalizedSource>> denormalizingDeserializer = SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.<DenormalizedSource>of(DenormalizedSource.class));
+	private final JsonpDeserializer<SearchResponse<Object>> mapDeserializer = SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.<Object>of(Object.class));
+
+	private String responseBody;
+
+	@Setup
+	public void setup() throws SerializationException {
+		JsonSerializer serializer = new JsonSerializer();
+		StringBuilder body = new StringBuilder("{\"took\":1,\"timed_out\":false,\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"hits\":{\"total\":{\"value\":").append(hitCount).append(",\"relation\":\"eq\"},\"hits\":[");
+
+		for (int i = 0; i < hitCount; i++) {
+			String id = "http://basyx.eclipse.org/benchmarks/submodel/" + i;
+			String source = toIndexedDocument(serializer.write(SubmodelGenerator.create(id, elementCount, 2)));
+
+			if (i > 0)
+				body.append(',');
+			body.append("{\"_index\":\"submodels\",\"_id\":\"").append(id).append("\",\"_source\":").append(source).append('}');
+		}
+
+		responseBody = body.append("]}}").toString();
+	}
+
+	@Benchmark
+	public List<Object> denormalizedSource() {
+		SearchResponse<DenormalizedSource> response = denormalizingDeserializer.deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(responseBody)), jsonpMapper);
+
+		List<Object> result = new ArrayList<>(response.hits().hits().size());
+		for (Hit<DenormalizedSource> hit : response.hits().hits())
+			result.add(hit.source().getNode());
+
+		return result;
+	}
+
+	@Benchmark
+	public List<Object> mapsWithTreeRewrite() {
+		SearchResponse<Object> response = mapDeserializer.deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(responseBody)), jsonpMapper);
+
+		ObjectMapper mapper = new ObjectMapper();
+		List<Object> result = response.hits().hits().stream().map(Hit::source).map(ESQueryResultBenchmark::filterEmptyArrays).map(mapper::valueToTree).toList();
+		result.forEach(node -> rewriteIterative((JsonNode) node));
+
+		return result;
+	}
+
+	/**
+	 * Mimics the indexed documents by renaming the collection children and
+	 * adding empty arrays
+	 */
+	private static String toIndexedDocument(String submodelJson) {
+		return submodelJson.replaceAll("(\"idShort\":\"collection\\d+\"),\"value\":", "$1,\"smcChildren\":").replace("\"idShort\":", "\"supplementalSemanticIds\":[],\"idShort\":");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object filterEmptyArrays(Object obj) {
+		if (obj instanceof Map) {
+			Map<String, Object> filteredMap = new LinkedHashMap<>();
+			for (Map.Entry<String, Object> entry : ((Map<String, Object>) obj).entrySet()) {
+				Object value = filterEmptyArrays(entry.getValue());
+				if (!(value instanceof List && ((List<?>) value).isEmpty()))
+					filteredMap.put(entry.getKey(), value);
+			}
+			return filteredMap;
+		}
+
+		if (obj instanceof List<?> list && !list.isEmpty())
+			return list.stream().map(ESQueryResultBenchmark::filterEmptyArrays).toList();
+
+		return obj;
+	}
+
+	private static void rewriteIterative(JsonNode node) {
+		Deque<JsonNode> nodeStack = new ArrayDeque<>();
+		nodeStack.push(node);
+
+		while (!nodeStack.isEmpty()) {
+			JsonNode currentNode = nodeStack.pop();
+			if (!currentNode.isObject())
+				continue;
+
+			ObjectNode obj = (ObjectNode) currentNode;
+			for (String renamed : List.of("smcChildren", "smlChildren", "referenceChildren", "langContent")) {
+				JsonNode value = obj.remove(renamed);
+				if (value != null)
+					obj.set("value", value);
+			}
+
+			List<String> names = new ArrayList<>();
+			obj.fieldNames().forEachRemaining(names::add);
+			for (String name : names) {
+				JsonNode child = obj.get(name);
+				if (child.isArray())
+					child.forEach(arrayChild -> {
+						if (arrayChild.isObject())
+							nodeStack.push(arrayChild);
+					});
+				else if (child.isObject())
+					nodeStack.push(child);
+			}
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.registry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the search API and the filtered listing of the
+ * {@link InMemoryAasRegistryStorage}
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryRegistrySearchBenchmark {
+
+	private static final String ID_PREFIX = "http://basyx.eclipse.org/benchmarks/aas/";
+	private static final int SUBMODELS_PER_DESCRIPTOR = 5;
+	private static final int PAGE_SIZE = 100;
+
+	@Param({ "1000", "10000" })
+	public int descriptorCount;
+
+	private InMemoryAasRegistryStorage storage;
+	private ShellDescriptorSearchRequest matchRequest;
+	private ShellDescriptorSearchRequest regexRequest;
+	private ShellDescriptorSearchRequest submodelRequest;
+	private ShellDescriptorSearchRequest deepPageRequest;
+	private DescriptorFilter assetTypeFilter;
+	private PaginationInfo firstPage;
+
+	@Setup
+	public void setup() {
+		storage = new InMemoryAasRegistryStorage();
+
+		for (int i = 0; i < descriptorCount; i++)
+			storage.insertAasDescriptor(createDescriptor(i));
+
+		matchRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery().queryType(QueryTypeEnum.MATCH).path(AasRegistryPaths.idShort()).value("shell" + (descriptorCount / 2)))
+				.page(new Page().index(0).size(PAGE_SIZE));
+		regexRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery().queryType(QueryTypeEnum.REGEX).path(AasRegistryPaths.idShort()).value("shell1.*"))
+				.page(new Page().index(0).size(PAGE_SIZE));
+		submodelRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery().queryType(QueryTypeEnum.MATCH).path(AasRegistryPaths.submodelDescriptors().idShort()).value("submodel0"))
+				.page(new Page().index(0).size(PAGE_SIZE));
+		deepPageRequest = new ShellDescriptorSearchRequest().sortBy(new Sorting().addPathItem(SortingPath.IDSHORT).direction(SortDirection.ASC))
+				.page(new Page().index(descriptorCount / PAGE_SIZE - 1).size(PAGE_SIZE));
+
+		assetTypeFilter = new DescriptorFilter(AssetKind.INSTANCE, "type7");
+		firstPage = new PaginationInfo(PAGE_SIZE, null);
+	}
+
+	@Benchmark
+	public ShellDescriptorSearchResponse searchByMatch() {
+		return storage.searchAasDescriptors(matchRequest);
+	}
+
+	@Benchmark
+	public ShellDescriptorSearchResponse searchByRegex() {
+		return storage.searchAasDescriptors(regexRequest);
+	}
+
+	@Benchmark
+	public ShellDescriptorSearchResponse searchBySubmodel() {
+		return storage.searchAasDescriptors(submodelRequest);
+	}
+
+	@Benchmark
+	public ShellDescriptorSearchResponse searchSortedDeepPage() {
+		return storage.searchAasDescriptors(deepPageRequest);
+	}
+
+	@Benchmark
+	public CursorResult<List<AssetAdministrationShellDescriptor>> listFilteredByAssetType() {
+		return storage.getAllAasDescriptors(firstPage, assetTypeFilter);
+	}
+
+	private static AssetAdministrationShellDescriptor createDescriptor(int index) {
+		AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor(ID_PREFIX + index).idShort("shell" + index).assetKind(AssetKind.INSTANCE).assetType("type" + (index % 10));
+
+		for (int i = 0; i < SUBMODELS_PER_DESCRIPTOR; i++)
+			descriptor.addSubmodelDescriptorsItem(new SubmodelDescriptor().id(ID_PREFIX + index + "/submodel/" + i).idShort("submodel" + i));
+
+		return descriptor;
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the write throughput of the {@link InMemorySubmodelBackend} with
+ * each benchmark thread writing to its own submodel. Run with increasing
+ * thread counts (<code>-t</code>) to see how the throughput scales with the
+ * number of cores.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSubmodelWriteBenchmark {
+
+	private static final String SUBMODEL_ID_PREFIX = "http://basyx.eclipse.org/benchmarks/submodel/";
+
+	@State(Scope.Benchmark)
+	public static class SharedBackend {
+		@Param({ "100" })
+		public int elementCount;
+
+		@Param({ "4" })
+		public int depth;
+
+		final InMemorySubmodelBackend backend = new InMemorySubmodelBackend();
+		final AtomicInteger threadCounter = new AtomicInteger();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadSubmodel {
+		private String submodelId;
+		private String propertyPath;
+		private SubmodelElementValue value;
+
+		@Setup
+		public void setup(SharedBackend shared) {
+			submodelId = SUBMODEL_ID_PREFIX + shared.threadCounter.getAndIncrement();
+			shared.backend.save(SubmodelGenerator.create(submodelId, shared.elementCount, shared.depth));
+
+			propertyPath = SubmodelGenerator.getDeepestPropertyPath(shared.elementCount, shared.depth);
+			value = new PropertyValue("4711");
+		}
+	}
+
+	@Benchmark
+	public void setSubmodelElementValue(SharedBackend shared, ThreadSubmodel submodel) {
+		shared.backend.setSubmodelElementValue(submodel.submodelId, submodel.propertyPath, submodel.value);
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.CrudSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link SubmodelRepository} API as assembled by the
+ * {@link CrudSubmodelRepositoryFactory} on top of the InMemory backend
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudSubmodelRepositoryBenchmark {
+
+	private static final String SUBMODEL_ID_PREFIX = "http://basyx.eclipse.org/benchmarks/submodel/";
+	private static final int PAGE_SIZE = 100;
+
+	@Param({ "10", "1000" })
+	public int elementCount;
+
+	@Param({ "1", "8" })
+	public int depth;
+
+	@Param({ "1000" })
+	public int submodelCount;
+
+	private SubmodelRepository repository;
+	private String submodelId;
+	private String propertyPath;
+	private SubmodelElementValue value;
+	private PaginationInfo firstPage;
+
+	@Setup
+	public void setup() {
+		repository = CrudSubmodelRepositoryFactory.builder().backend(new InMemorySubmodelBackend()).fileRepository(new InMemoryFileRepository()).create();
+
+		for (int i = 0; i < submodelCount; i++)
+			repository.createSubmodel(SubmodelGenerator.create(SUBMODEL_ID_PREFIX + i, i == 0 ? elementCount : 1, i == 0 ? depth : 1));
+
+		submodelId = SUBMODEL_ID_PREFIX + 0;
+		propertyPath = SubmodelGenerator.getDeepestPropertyPath(elementCount, depth);
+		value = new PropertyValue("4711");
+		firstPage = new PaginationInfo(PAGE_SIZE, null);
+	}
+
+	@Benchmark
+	public SubmodelElement getSubmodelElement() {
+		return repository.getSubmodelElement(submodelId, propertyPath);
+	}
+
+	@Benchmark
+	public SubmodelElementValue getSubmodelElementValue() {
+		return repository.getSubmodelElementValue(submodelId, propertyPath);
+	}
+
+	@Benchmark
+	public void setSubmodelElementValue() {
+		repository.setSubmodelElementValue(submodelId, propertyPath, value);
+	}
+
+	@Benchmark
+	public Submodel getSubmodelByIdMetadata() {
+		return repository.getSubmodelByIdMetadata(submodelId);
+	}
+
+	@Benchmark
+	public CursorResult<List<Submodel>> getAllSubmodelsFirstPage() {
+		return repository.getAllSubmodels(firstPage);
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel;
+
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SubmodelElementIdShortPathParser#parsePathTokens(String)}
+ * for paths of increasing depth
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdShortPathParserBenchmark {
+
+	private static final int LIST_SIZE = 10;
+
+	@Param({ "1", "8", "32" })
+	public int depth;
+
+	private SubmodelElementIdShortPathParser parser;
+	private String propertyPath;
+	private String listItemPath;
+
+	@Setup
+	public void setup() {
+		parser = new SubmodelElementIdShortPathParser();
+		propertyPath = SubmodelGenerator.getDeepestPropertyPath(LIST_SIZE, depth);
+		listItemPath = SubmodelGenerator.getDeepestListItemPath(LIST_SIZE, depth);
+	}
+
+	@Benchmark
+	public Stack<PathToken> parsePropertyPath() {
+		return parser.parsePathTokens(propertyPath);
+	}
+
+	@Benchmark
+	public Stack<PathToken> parseListItemPath() {
+		return parser.parsePathTokens(listItemPath);
+	}
+}
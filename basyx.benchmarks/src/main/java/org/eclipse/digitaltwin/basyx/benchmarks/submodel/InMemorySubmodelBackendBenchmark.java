@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures get/set by idShortPath directly on the
+ * {@link InMemorySubmodelBackend}
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemorySubmodelBackendBenchmark {
+
+	private static final String SUBMODEL_ID = "http://basyx.eclipse.org/benchmarks/submodel";
+
+	@Param({ "10", "1000" })
+	public int elementCount;
+
+	@Param({ "1", "8" })
+	public int depth;
+
+	private InMemorySubmodelBackend backend;
+	private String propertyPath;
+	private String listItemPath;
+	private SubmodelElementValue value;
+
+	@Setup
+	public void setup() {
+		backend = new InMemorySubmodelBackend();
+		backend.save(SubmodelGenerator.create(SUBMODEL_ID, elementCount, depth));
+
+		propertyPath = SubmodelGenerator.getDeepestPropertyPath(elementCount, depth);
+		listItemPath = SubmodelGenerator.getDeepestListItemPath(elementCount, depth);
+		value = new PropertyValue("4711");
+	}
+
+	@Benchmark
+	public SubmodelElement getSubmodelElement() {
+		return backend.getSubmodelElement(SUBMODEL_ID, propertyPath);
+	}
+
+	@Benchmark
+	public SubmodelElement getSubmodelElementFromList() {
+		return backend.getSubmodelElement(SUBMODEL_ID, listItemPath);
+	}
+
+	@Benchmark
+	public SubmodelElementValue getSubmodelElementValue() {
+		return backend.getSubmodelElementValue(SUBMODEL_ID, propertyPath);
+	}
+
+	@Benchmark
+	public void setSubmodelElementValue() {
+		backend.setSubmodelElementValue(SUBMODEL_ID, propertyPath, value);
+	}
+}
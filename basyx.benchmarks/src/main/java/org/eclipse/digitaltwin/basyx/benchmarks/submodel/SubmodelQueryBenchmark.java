@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.benchmarks.SubmodelGenerator;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.AASQueryCompiler;
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.CompiledQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.AASQuery;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the evaluation of an AASQuery on the {@link InMemorySubmodelBackend}
+ * matching a single Submodel by the value of its deepest property
+ *
+ * The compiled query is compared to compiling the query on every execution and
+ * to a full scan that filters the JSON serialization of each Submodel, i.e.,
+ * the shape of the documents an external search index would evaluate.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubmodelQueryBenchmark {
+
+	private static final String SUBMODEL_ID_PREFIX = "http://basyx.eclipse.org/benchmarks/submodel/";
+	private static final String MATCHING_VALUE = "-1";
+
+	@Param({ "100", "1000" })
+	public int submodelCount;
+
+	@Param({ "10" })
+	public int elementCount;
+
+	@Param({ "1", "8" })
+	public int depth;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final AASQueryCompiler compiler = new AASQueryCompiler();
+
+	private InMemorySubmodelBackend backend;
+	private JsonSerializer serializer;
+	private AASQuery query;
+	private CompiledQuery compiledQuery;
+	private String[] propertyPath;
+
+	@Setup
+	public void setup() throws JsonProcessingException {
+		backend = new InMemorySubmodelBackend();
+		for (int i = 0; i < submodelCount; i++)
+			backend.save(SubmodelGenerator.create(SUBMODEL_ID_PREFIX + i, elementCount, depth));
+
+		String deepestPropertyPath = SubmodelGenerator.getDeepestPropertyPath(elementCount, depth);
+		backend.setSubmodelElementValue(SUBMODEL_ID_PREFIX + (submodelCount - 1), deepestPropertyPath, new PropertyValue(MATCHING_VALUE));
+
+		query = mapper.readValue("{\"$condition\":{\"$eq\":[{\"$field\":\"$sme." + deepestPropertyPath + "#value\"},{\"$strVal\":\"" + MATCHING_VALUE + "\"}]}}", AASQuery.class);
+		compiledQuery = compiler.compile(query);
+		propertyPath = deepestPropertyPath.split("\\.");
+		serializer = new JsonSerializer();
+	}
+
+	@Benchmark
+	public List<Submodel> compiledQuery() {
+		return backend.query(compiledQuery, PaginationInfo.NO_LIMIT).getResult();
+	}
+
+	@Benchmark
+	public List<Submodel> compileAndQuery() {
+		return backend.query(compiler.compile(query), PaginationInfo.NO_LIMIT).getResult();
+	}
+
+	@Benchmark
+	public List<Submodel> fullScanOnJson() throws SerializationException, JsonProcessingException {
+		List<Submodel> matches = new ArrayList<>();
+
+		for (Submodel submodel : backend.findAll(PaginationInfo.NO_LIMIT).getResult()) {
+			JsonNode value = resolve(mapper.readTree(serializer.write(submodel)));
+			if (value != null && MATCHING_VALUE.equals(value.asText()))
+				matches.add(submodel);
+		}
+
+		return matches;
+	}
+
+	private JsonNode resolve(JsonNode submodel) {
+		JsonNode elements = submodel.get("submodelElements");
+
+		for (String idShort : propertyPath) {
+			JsonNode element = findByIdShort(elements, idShort);
+			if (element == null)
+				return null;
+
+			elements = element.get("value");
+		}
+
+		return elements;
+	}
+
+	private static JsonNode findByIdShort(JsonNode elements, String idShort) {
+		if (elements == null)
+			return null;
+
+		for (JsonNode element : elements) {
+			if (idShort.equals(element.path("idShort").asText()))
+				return element;
+		}
+
+		return null;
+	}
+}
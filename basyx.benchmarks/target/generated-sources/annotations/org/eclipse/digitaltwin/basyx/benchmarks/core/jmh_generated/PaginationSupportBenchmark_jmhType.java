@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.core.jmh_generated;
+public class PaginationSupportBenchmark_jmhType extends PaginationSupportBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.query.jmh_generated;
+public class ESQueryResultBenchmark_jmhType extends ESQueryResultBenchmark_jmhType_B3 {
+}
+
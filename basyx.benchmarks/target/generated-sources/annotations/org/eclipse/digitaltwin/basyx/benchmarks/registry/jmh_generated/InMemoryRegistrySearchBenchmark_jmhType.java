@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.registry.jmh_generated;
+public class InMemoryRegistrySearchBenchmark_jmhType extends InMemoryRegistrySearchBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class ConcurrentSubmodelWriteBenchmark_ThreadSubmodel_jmhType extends ConcurrentSubmodelWriteBenchmark_ThreadSubmodel_jmhType_B3 {
+}
+
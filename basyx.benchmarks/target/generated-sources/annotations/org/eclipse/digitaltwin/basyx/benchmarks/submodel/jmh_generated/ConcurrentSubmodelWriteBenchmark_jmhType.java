@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class ConcurrentSubmodelWriteBenchmark_jmhType extends ConcurrentSubmodelWriteBenchmark_jmhType_B3 {
+}
+
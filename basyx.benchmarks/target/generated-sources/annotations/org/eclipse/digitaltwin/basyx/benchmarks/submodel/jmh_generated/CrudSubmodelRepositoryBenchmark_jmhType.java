@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class CrudSubmodelRepositoryBenchmark_jmhType extends CrudSubmodelRepositoryBenchmark_jmhType_B3 {
+}
+
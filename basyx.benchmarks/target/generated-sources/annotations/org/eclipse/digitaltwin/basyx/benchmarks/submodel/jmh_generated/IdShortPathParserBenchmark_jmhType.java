@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class IdShortPathParserBenchmark_jmhType extends IdShortPathParserBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class InMemorySubmodelBackendBenchmark_jmhType extends InMemorySubmodelBackendBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class SubmodelCopyBenchmark_jmhType extends SubmodelCopyBenchmark_jmhType_B3 {
+}
+
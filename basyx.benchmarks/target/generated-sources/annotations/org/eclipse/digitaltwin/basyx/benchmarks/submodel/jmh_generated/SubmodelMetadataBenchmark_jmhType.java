@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class SubmodelMetadataBenchmark_jmhType extends SubmodelMetadataBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class SubmodelQueryBenchmark_jmhType extends SubmodelQueryBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.digitaltwin.basyx.benchmarks.submodel.jmh_generated;
+public class ValueMapperBenchmark_jmhType extends ValueMapperBenchmark_jmhType_B3 {
+}
+
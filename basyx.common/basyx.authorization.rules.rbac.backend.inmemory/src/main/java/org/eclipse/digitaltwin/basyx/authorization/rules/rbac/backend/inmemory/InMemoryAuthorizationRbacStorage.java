@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.authorization.rules.rbac.backend.inmemory;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRule;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRuleKeyGenerator;
@@ -38,6 +39,7 @@ import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacStorage;
  */
 public class InMemoryAuthorizationRbacStorage implements RbacStorage {
     private final Map<String, RbacRule> rbacRules;
+    private final AtomicLong rulesVersion = new AtomicLong();
 
     public InMemoryAuthorizationRbacStorage(Map<String, RbacRule> rbacRules) {
         this.rbacRules = rbacRules;
@@ -52,6 +54,8 @@ public class InMemoryAuthorizationRbacStorage implements RbacStorage {
     public void addRule(RbacRule rbacRule) {
     	
     	rbacRule.getAction().stream().map(action -> RbacRuleKeyGenerator.generateKey(rbacRule.getRole(), action.toString(), rbacRule.getTargetInformation().getClass().getName())).filter(key -> !rbacRules.containsKey(key)).forEach(key -> rbacRules.put(key, rbacRule));
+    	
+    	rulesVersion.incrementAndGet();
     }
 
     @Override
@@ -61,6 +65,8 @@ public class InMemoryAuthorizationRbacStorage implements RbacStorage {
 			throw new RuntimeException("Rule doesn't exist in policy store");
 		
 		rbacRules.remove(key);
+		
+		rulesVersion.incrementAndGet();
     }
 	
 	@Override
@@ -77,4 +83,9 @@ public class InMemoryAuthorizationRbacStorage implements RbacStorage {
 		return rbacRules.containsKey(key);
 	}
 
+	@Override
+	public long getRulesVersion() {
+		return rulesVersion.get();
+	}
+
 }
@@ -25,11 +25,17 @@
 
 package org.eclipse.digitaltwin.basyx.authorization.rules.rbac.backend.inmemory;
 
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.digitaltwin.basyx.authorization.RbacStorageTestSuite;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.Action;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRule;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRuleKeyGenerator;
+import org.junit.Test;
 
 /**
  * Tests {@link InMemoryAuthorizationRbacStorage}
@@ -43,5 +49,20 @@ public class InMemoryRbacStorageTest extends RbacStorageTestSuite {
         Map<String, RbacRule> initialRules = new HashMap<>();
         rbacStorage = new InMemoryAuthorizationRbacStorage(initialRules);
     }
+
+    @Test
+    public void rulesVersionChangesWithRules() {
+        long initialVersion = rbacStorage.getRulesVersion();
+
+        RbacRule rule = createRbacRule("Engineer", Arrays.asList(Action.READ), targetInformation);
+        rbacStorage.addRule(rule);
+
+        long versionAfterAdd = rbacStorage.getRulesVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        rbacStorage.removeRule(RbacRuleKeyGenerator.generateKey(rule.getRole(), Action.READ.toString(), targetInformation.getClass().getName()));
+
+        assertNotEquals(versionAfterAdd, rbacStorage.getRulesVersion());
+    }
     
 }
@@ -25,6 +25,7 @@
 
 package org.eclipse.digitaltwin.basyx.authorization.rules.rbac.backend.submodel;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,7 +42,11 @@ import org.eclipse.digitaltwin.basyx.client.internal.authorization.grant.AccessT
 import org.eclipse.digitaltwin.basyx.client.internal.authorization.grant.GrantType;
 import org.eclipse.digitaltwin.basyx.submodelservice.client.AuthorizedConnectedSubmodelService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 
@@ -83,6 +88,12 @@ public class RbacRuleConfiguration {
 	@Value("${" + CommonAuthorizationProperties.RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_SCOPES + ":}")
 	private List<String> scopes;
 	
+	@Value("${" + CommonAuthorizationProperties.RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_REFRESH_INTERVAL_MS + ":10000}")
+	private long refreshIntervalMs;
+	
+	@Value("${" + CommonAuthorizationProperties.RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_MAX_STALENESS_MS + ":60000}")
+	private long maxStalenessMs;
+	
 	private ObjectMapper objectMapper;
 	private ResourceLoader resourceLoader;
 	private TargetInformationAdapter targetInformationAdapter;
@@ -94,7 +105,20 @@ public class RbacRuleConfiguration {
 	}
 
 	@Bean
-	public RbacStorage createInMemoryRbacStorage() throws IOException {
+	public RbacStorage createInMemoryRbacStorage(ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+		
+		RbacStorage submodelStorage = createSubmodelRbacStorage();
+		
+		if (refreshIntervalMs <= 0)
+			return submodelStorage;
+		
+		SnapshotRbacStorage snapshotStorage = new SnapshotRbacStorage(submodelStorage, Duration.ofMillis(refreshIntervalMs), Duration.ofMillis(maxStalenessMs));
+		meterRegistry.ifAvailable(snapshotStorage::bindTo);
+		
+		return snapshotStorage;
+	}
+	
+	private SubmodelAuthorizationRbacStorage createSubmodelRbacStorage() throws IOException {
 		
 		TokenManager tokenManager = new TokenManager(tokenEndpoint, getTokenProvider());
 		
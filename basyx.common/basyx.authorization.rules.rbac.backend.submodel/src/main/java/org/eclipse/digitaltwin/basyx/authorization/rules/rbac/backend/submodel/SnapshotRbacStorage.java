@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.authorization.rules.rbac.backend.submodel;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRule;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link RbacStorage} that answers from a local snapshot of the rules of
+ * another, usually remote, {@link RbacStorage}
+ * 
+ * The snapshot holds the rules under the keys of
+ * {@link RbacStorage#getRbacRules()} of the decorated storage, which have to
+ * be the keys accepted by its {@link RbacStorage#getRbacRule(String)}. It is
+ * loaded on creation and reloaded periodically as well as
+ * after each rule added or removed through this storage. The
+ * {@link #getRulesVersion() rules version} only changes if a reload yields
+ * different rules, so that cached permission decisions stay valid in between.
+ * 
+ * If the snapshot gets older than <code>maxStaleness</code>, e.g., as the
+ * decorated storage is not reachable, it is reloaded on access. If that fails
+ * too, no rule is considered to exist, i.e., all permissions are denied until
+ * a reload succeeds. The snapshot age and the failed reloads can be exposed via
+ * Micrometer by {@link #bindTo(MeterRegistry)}.
+ * 
+ * @author agent
+ */
+public class SnapshotRbacStorage implements RbacStorage, MeterBinder, AutoCloseable {
+	public static final String METER_PREFIX = "basyx.authorization.rules.snapshot.";
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(10);
+	public static final Duration DEFAULT_MAX_STALENESS = Duration.ofSeconds(60);
+
+	private static final Logger logger = LoggerFactory.getLogger(SnapshotRbacStorage.class);
+
+	private final RbacStorage decorated;
+	private final long maxStalenessNanos;
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicLong rulesVersion = new AtomicLong();
+	private final LongAdder failedRefreshes = new LongAdder();
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * @param decorated
+	 *            the storage the rules are loaded from and written to
+	 * @param refreshInterval
+	 *            the time between periodic reloads
+	 * @param maxStaleness
+	 *            the maximum age of the snapshot permission checks are answered
+	 *            from
+	 */
+	public SnapshotRbacStorage(RbacStorage decorated, Duration refreshInterval, Duration maxStaleness) {
+		if (refreshInterval.isNegative() || refreshInterval.isZero())
+			throw new IllegalArgumentException("The refresh interval has to be positive, but was " + refreshInterval);
+
+		if (maxStaleness.compareTo(refreshInterval) < 0)
+			throw new IllegalArgumentException("The max staleness has to be at least the refresh interval " + refreshInterval + ", but was " + maxStaleness);
+
+		this.decorated = decorated;
+		this.maxStalenessNanos = maxStaleness.toNanos();
+
+		refresh();
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "basyx-rbac-rules-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.scheduler.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Reloads the snapshot from the decorated storage
+	 * 
+	 * @return true, if the snapshot was reloaded
+	 */
+	public synchronized boolean refresh() {
+		Map<String, RbacRule> rules;
+		try {
+			rules = Map.copyOf(decorated.getRbacRules());
+		} catch (RuntimeException e) {
+			failedRefreshes.increment();
+			logger.error("Could not reload the RBAC rules, the snapshot is {} old", getSnapshotAge(), e);
+			return false;
+		}
+
+		Snapshot previous = snapshot;
+		snapshot = new Snapshot(rules, System.nanoTime());
+
+		// Changed only after the new rules are visible, so that no decision based on
+		// the previous rules is cached for the new version
+		if (previous == null || !previous.rules().equals(rules))
+			rulesVersion.incrementAndGet();
+
+		return true;
+	}
+
+	@Override
+	public Map<String, RbacRule> getRbacRules() {
+		return getFreshSnapshot().rules();
+	}
+
+	/**
+	 * Returns the rule of the given key in the snapshot
+	 * 
+	 * As the snapshot may be reloaded after {@link #exist(String)}, a missing rule
+	 * is not an error but has to be treated as deny.
+	 * 
+	 * @return the rule or null, if it does not exist or the snapshot is stale
+	 */
+	@Override
+	public RbacRule getRbacRule(String key) {
+		try {
+			return getFreshSnapshot().rules().get(key);
+		} catch (IllegalStateException e) {
+			logger.warn(e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void addRule(RbacRule rbacRule) {
+		decorated.addRule(rbacRule);
+		refresh();
+	}
+
+	@Override
+	public void removeRule(String key) {
+		decorated.removeRule(key);
+		refresh();
+	}
+
+	@Override
+	public boolean exist(String key) {
+		try {
+			return getFreshSnapshot().rules().containsKey(key);
+		} catch (IllegalStateException e) {
+			logger.warn(e.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public long getRulesVersion() {
+		return isFresh(snapshot) ? rulesVersion.get() : UNVERSIONED;
+	}
+
+	/**
+	 * @return the time since the snapshot was loaded or null, if it was never
+	 *         loaded
+	 */
+	public Duration getSnapshotAge() {
+		Snapshot current = snapshot;
+
+		return current == null ? null : Duration.ofNanos(System.nanoTime() - current.loadedAtNanos());
+	}
+
+	public long getFailedRefreshCount() {
+		return failedRefreshes.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(METER_PREFIX + "age", this, SnapshotRbacStorage::getSnapshotAgeSeconds).description("Time since the RBAC rules were loaded").baseUnit("seconds").register(registry);
+		Gauge.builder(METER_PREFIX + "rules", this, storage -> storage.snapshot == null ? Double.NaN : storage.snapshot.rules().size()).description("RBAC rules in the snapshot").register(registry);
+		FunctionCounter.builder(METER_PREFIX + "refresh.failed", failedRefreshes, LongAdder::sum).description("Reloads of the RBAC rules that failed").register(registry);
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private Snapshot getFreshSnapshot() {
+		Snapshot current = snapshot;
+		if (isFresh(current))
+			return current;
+
+		current = refreshIfStale();
+		if (isFresh(current))
+			return current;
+
+		throw new IllegalStateException("The RBAC rules could not be loaded within the max staleness of " + Duration.ofNanos(maxStalenessNanos));
+	}
+
+	private synchronized Snapshot refreshIfStale() {
+		// Another thread may have reloaded the snapshot in the meantime
+		if (!isFresh(snapshot))
+			refresh();
+
+		return snapshot;
+	}
+
+	private boolean isFresh(Snapshot current) {
+		return current != null && System.nanoTime() - current.loadedAtNanos() <= maxStalenessNanos;
+	}
+
+	private double getSnapshotAgeSeconds() {
+		Duration age = getSnapshotAge();
+
+		return age == null ? Double.NaN : age.toNanos() / 1e9;
+	}
+
+	private record Snapshot(Map<String, RbacRule> rules, long loadedAtNanos) {
+	}
+}
@@ -107,7 +107,14 @@ public class SubmodelAuthorizationRbacStorage implements RbacStorage {
 	@Override
 	public Map<String, RbacRule> getRbacRules() {
 
-		return smService.getSubmodelElements(PaginationInfo.NO_LIMIT).getResult().stream().map(SubmodelElementCollection.class::cast).map(ruleAdapter::adapt).collect(Collectors.toMap(rbacRule -> createKey(rbacRule), rbacRule -> rbacRule));
+		// Keyed like getRbacRule and exist, i.e., by the idShort of the rule SMC
+		return smService.getSubmodelElements(PaginationInfo.NO_LIMIT).getResult().stream().map(SubmodelElementCollection.class::cast).collect(Collectors.toMap(SubmodelElementCollection::getIdShort, ruleAdapter::adapt, this::keepFirstRule));
+	}
+
+	private RbacRule keepFirstRule(RbacRule first, RbacRule duplicate) {
+		LOGGER.warn("Rule for role " + duplicate.getRole() + " is stored more than once. Ignoring the duplicate.");
+
+		return first;
 	}
 
 	private String createKey(RbacRule rbacRule) {
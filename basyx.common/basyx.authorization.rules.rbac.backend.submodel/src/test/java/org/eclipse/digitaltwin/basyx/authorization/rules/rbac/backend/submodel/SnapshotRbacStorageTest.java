@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.authorization.rules.rbac.backend.submodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.authorization.rbac.Action;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRule;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacRuleKeyGenerator;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacStorage;
+import org.eclipse.digitaltwin.basyx.authorization.rbac.TargetInformation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link SnapshotRbacStorage}
+ * 
+ * @author agent
+ */
+public class SnapshotRbacStorageTest {
+
+	private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+	private final TargetInformation targetInformation = mock(TargetInformation.class);
+	private final RbacRule rule = new RbacRule("Engineer", Arrays.asList(Action.READ), targetInformation);
+	private final String key = RbacRuleKeyGenerator.generateKey(rule.getRole(), Action.READ.toString(), targetInformation.getClass().getName());
+
+	private RbacStorage remoteStorage;
+	private SnapshotRbacStorage snapshotStorage;
+
+	@Before
+	public void setUp() {
+		remoteStorage = mock(RbacStorage.class);
+		when(remoteStorage.getRbacRules()).thenReturn(Map.of(key, rule));
+	}
+
+	@After
+	public void tearDown() {
+		if (snapshotStorage != null)
+			snapshotStorage.close();
+	}
+
+	@Test
+	public void checksAreAnsweredFromSnapshot() {
+		snapshotStorage = new SnapshotRbacStorage(remoteStorage, LONG_INTERVAL, LONG_INTERVAL);
+
+		assertTrue(snapshotStorage.exist(key));
+		assertEquals(rule, snapshotStorage.getRbacRule(key));
+		assertFalse(snapshotStorage.exist("nonexistentKey"));
+
+		verify(remoteStorage, times(1)).getRbacRules();
+		verify(remoteStorage, times(0)).exist(key);
+	}
+
+	@Test
+	public void missingRuleIsReturnedAsNull() {
+		snapshotStorage = new SnapshotRbacStorage(remoteStorage, LONG_INTERVAL, LONG_INTERVAL);
+
+		assertTrue(snapshotStorage.exist(key));
+
+		when(remoteStorage.getRbacRules()).thenReturn(Map.of());
+		snapshotStorage.refresh();
+
+		assertNull(snapshotStorage.getRbacRule(key));
+	}
+
+	@Test
+	public void rulesVersionChangesOnlyWithRules() {
+		snapshotStorage = new SnapshotRbacStorage(remoteStorage, LONG_INTERVAL, LONG_INTERVAL);
+		long initialVersion = snapshotStorage.getRulesVersion();
+
+		snapshotStorage.refresh();
+		assertEquals(initialVersion, snapshotStorage.getRulesVersion());
+
+		when(remoteStorage.getRbacRules()).thenReturn(Map.of());
+		snapshotStorage.removeRule(key);
+
+		verify(remoteStorage).removeRule(key);
+		assertFalse(snapshotStorage.exist(key));
+		assertNotEquals(initialVersion, snapshotStorage.getRulesVersion());
+	}
+
+	@Test
+	public void snapshotIsRefreshedPeriodically() throws InterruptedException {
+		snapshotStorage = new SnapshotRbacStorage(remoteStorage, Duration.ofMillis(10), LONG_INTERVAL);
+
+		when(remoteStorage.getRbacRules()).thenReturn(Map.of());
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (snapshotStorage.exist(key) && System.currentTimeMillis() < deadline)
+			Thread.sleep(10);
+
+		assertFalse(snapshotStorage.exist(key));
+	}
+
+	@Test
+	public void staleSnapshotDeniesAllRules() throws InterruptedException {
+		snapshotStorage = new SnapshotRbacStorage(remoteStorage, Duration.ofMillis(10), Duration.ofMillis(10));
+
+		when(remoteStorage.getRbacRules()).thenThrow(new IllegalStateException("Unreachable"));
+		Thread.sleep(50);
+
+		assertFalse(snapshotStorage.exist(key));
+		assertNull(snapshotStorage.getRbacRule(key));
+		assertEquals(RbacStorage.UNVERSIONED, snapshotStorage.getRulesVersion());
+		assertTrue(snapshotStorage.getFailedRefreshCount() > 0);
+	}
+}
@@ -44,6 +44,7 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -53,6 +54,8 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Tests {@link SubmodelAuthorizationRbacStorage}
@@ -109,6 +112,17 @@ public class SubmodelRbacStorageTest extends RbacStorageTestSuite {
 		assertFalse(rbacStorage.exist(key));
 	}
 
+	@Test
+	public void rulesAreKeyedByIdShort() {
+		String engineerKey = createDummyKey(ROLE_DUMMY_ENGINEER, Arrays.asList(Action.READ), mock(TargetInformation.class).getClass().getName());
+		String developerKey = createDummyKey(ROLE_DUMMY_DEVELOPER, Arrays.asList(Action.READ), mock(TargetInformation.class).getClass().getName());
+
+		Map<String, RbacRule> rules = rbacStorage.getRbacRules();
+
+		assertEquals(Set.of(engineerKey, developerKey), rules.keySet());
+		assertEquals(ROLE_DUMMY_ENGINEER, rules.get(engineerKey).getRole());
+	}
+
 	private String createDummyKey(String role, List<Action> actions, String clazz) {
 		return RbacRuleKeyGenerator.generateKey(role, actions.get(0).toString(), clazz);
 	}
@@ -51,4 +51,6 @@ public class CommonAuthorizationProperties {
 	public static final String RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_USERNAME = RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION + ".username";
 	public static final String RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_PASSWORD = RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION + ".password";
 	public static final String RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_SCOPES = RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION + ".scopes";
+	public static final String RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_REFRESH_INTERVAL_MS = RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION + ".refresh-interval-ms";
+	public static final String RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION_MAX_STALENESS_MS = RULES_BACKEND_TYPE_SUBMODEL_AUTHORIZATION + ".max-staleness-ms";
 }
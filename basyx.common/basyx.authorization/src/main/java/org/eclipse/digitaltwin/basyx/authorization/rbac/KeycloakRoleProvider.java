@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.authorization.rbac;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,11 @@ import org.springframework.stereotype.Service;
 /**
  * Implementation of the {@link RoleProvider} for Keycloak based identity providers
  * 
+ * <p>
+ * The roles are extracted once per token, i.e., once per request, and reused for
+ * all further permission checks of the request.
+ * </p>
+ * 
  * @author danish
  */
 @Service
@@ -56,6 +62,8 @@ public class KeycloakRoleProvider implements RoleProvider {
 
 	private SubjectInformationProvider<Object> subjectInformationProvider;
 
+	private final ThreadLocal<ExtractedRoles> lastExtractedRoles = new ThreadLocal<>();
+
 	public KeycloakRoleProvider(SubjectInformationProvider<Object> subjectInformationProvider) {
 		this.subjectInformationProvider = subjectInformationProvider;
 	}
@@ -67,7 +75,18 @@ public class KeycloakRoleProvider implements RoleProvider {
 		Jwt jwt = (Jwt) subjectInfo.get();
 
 		validateJwt(jwt);
-		
+
+		ExtractedRoles extractedRoles = lastExtractedRoles.get();
+		if (extractedRoles != null && extractedRoles.jwt() == jwt)
+			return extractedRoles.roles();
+
+		List<String> roles = Collections.unmodifiableList(extractRoles(jwt));
+		lastExtractedRoles.set(new ExtractedRoles(jwt, roles));
+
+		return roles;
+	}
+
+	private List<String> extractRoles(Jwt jwt) {
 		Map<String, Collection<String>> realmAccess = new HashMap<>();
 		Map<String, Map<String, Collection<String>>> resourceAccess = new HashMap<>();
 		
@@ -116,4 +135,7 @@ public class KeycloakRoleProvider implements RoleProvider {
 		return subjectInfo;
 	}
 
-}
\ No newline at end of file
+	private record ExtractedRoles(Jwt jwt, List<String> roles) {
+	}
+
+}
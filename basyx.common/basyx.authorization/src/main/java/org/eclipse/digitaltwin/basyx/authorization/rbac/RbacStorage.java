@@ -33,10 +33,27 @@ import java.util.Map;
  * @author danish
  */
 public interface RbacStorage {
+
+	/**
+	 * Version returned by storages that cannot detect changes of their rules
+	 */
+	public static final long UNVERSIONED = -1;
 	
     public Map<String, RbacRule> getRbacRules();
     public RbacRule getRbacRule(String key);
     public void addRule(RbacRule rbacRule);
     public void removeRule(String key);
     public boolean exist(String key);
+
+	/**
+	 * Returns the version of the stored rules, which changes whenever a rule is
+	 * added or removed. Permission decisions derived from the rules may be reused
+	 * as long as the version does not change.
+	 * 
+	 * @return the version of the rules or {@link #UNVERSIONED}, if decisions must
+	 *         not be reused
+	 */
+	public default long getRulesVersion() {
+		return UNVERSIONED;
+	}
 }
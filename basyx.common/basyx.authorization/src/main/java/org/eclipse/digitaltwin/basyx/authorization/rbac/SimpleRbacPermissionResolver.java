@@ -26,8 +26,11 @@
 package org.eclipse.digitaltwin.basyx.authorization.rbac;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,18 +40,29 @@ import org.slf4j.LoggerFactory;
 /**
  * An abstract permission resolver for {@link TargetInformation}
  * 
+ * <p>
+ * Decisions are cached per role set, {@link Action} and
+ * {@link TargetInformation} as long as the {@link RbacStorage#getRulesVersion()
+ * rules version} does not change. Storages without a version are evaluated on
+ * every check.
+ * </p>
+ * 
  * @param <T>
  * 
  * @author danish
  */
 public class SimpleRbacPermissionResolver<T extends TargetInformation> implements RbacPermissionResolver<T> {
 
+	static final int MAX_CACHED_DECISIONS = 10_000;
+
 	private Logger logger = LoggerFactory.getLogger(SimpleRbacPermissionResolver.class);
 
 	private RbacStorage rbacStorage;
 	private RoleProvider roleAuthenticator;
 	private TargetPermissionVerifier<T> targetPermissionVerifier;
 
+	private volatile DecisionCache decisionCache = new DecisionCache(RbacStorage.UNVERSIONED);
+
 	public SimpleRbacPermissionResolver(RbacStorage rbacStorage, RoleProvider roleAuthenticator, TargetPermissionVerifier<T> targetPermissionVerifier) {
 		super();
 		this.rbacStorage = rbacStorage;
@@ -74,11 +88,23 @@ public class SimpleRbacPermissionResolver<T extends TargetInformation> implement
 	 * @return 
 	 */
 	public boolean hasPermission(final Action action, final T targetInformation) {
-		final Optional<RbacRule> matchingRule = getMatchingRules(roleAuthenticator.getRoles(), action, targetInformation).findAny();
-		
-		logger.info("roles: {}, action: {}, targetInfo: {} - matching-rule?: {}", roleAuthenticator.getRoles(), action, targetInformation, matchingRule);
-		
-		return matchingRule.isPresent();
+		final List<String> roles = roleAuthenticator.getRoles();
+		final long rulesVersion = rbacStorage.getRulesVersion();
+
+		if (rulesVersion == RbacStorage.UNVERSIONED)
+			return resolvePermission(roles, action, targetInformation);
+
+		DecisionCache cache = getDecisionCache(rulesVersion);
+		DecisionKey key = new DecisionKey(Set.copyOf(roles), action, targetInformation.getClass(), targetInformation);
+
+		Boolean decision = cache.decisions.get(key);
+		if (decision != null)
+			return decision;
+
+		boolean permitted = resolvePermission(roles, action, targetInformation);
+		cache.put(key, permitted);
+
+		return permitted;
 	}
 	
 	public List<TargetInformation> getMatchingTargetInformationInRules(final Action action, final T targetInformation) {
@@ -91,9 +117,33 @@ public class SimpleRbacPermissionResolver<T extends TargetInformation> implement
 		return filteredRbacRulesForTargetInfos.stream().map(rbacRule -> rbacRule.getTargetInformation()).collect(Collectors.toList());
 	}
 
+	private boolean resolvePermission(final List<String> roles, final Action action, final T targetInformation) {
+		final Optional<RbacRule> matchingRule = getMatchingRules(roles, action, targetInformation).findAny();
+
+		logger.debug("roles: {}, action: {}, targetInfo: {} - matching-rule?: {}", roles, action, targetInformation, matchingRule);
+
+		return matchingRule.isPresent();
+	}
+
+	/**
+	 * Returns the cache for the given rules version. A cache of another version is
+	 * replaced, so that decisions based on outdated rules are discarded.
+	 */
+	private DecisionCache getDecisionCache(long rulesVersion) {
+		DecisionCache cache = decisionCache;
+
+		if (cache.rulesVersion == rulesVersion)
+			return cache;
+
+		cache = new DecisionCache(rulesVersion);
+		decisionCache = cache;
+
+		return cache;
+	}
+
 	private Stream<RbacRule> getMatchingRules(final List<String> roles, final Action action, final T targetInformation) {
 		
-		List<RbacRule> filteredRbacRulesForTargetInfos = roles.stream().map(role -> RbacRuleKeyGenerator.generateKey(role, action.toString(), targetInformation.getClass().getName())).filter(rbacStorage::exist).map(rbacStorage::getRbacRule).collect(Collectors.toList());
+		List<RbacRule> filteredRbacRulesForTargetInfos = roles.stream().map(role -> RbacRuleKeyGenerator.generateKey(role, action.toString(), targetInformation.getClass().getName())).filter(rbacStorage::exist).map(rbacStorage::getRbacRule).filter(Objects::nonNull).collect(Collectors.toList());
 		
 		return filteredRbacRulesForTargetInfos.stream().filter(rbacRule -> checkRbacRuleMatchesTargetInfo(rbacRule, targetInformation));
 	}
@@ -129,5 +179,25 @@ public class SimpleRbacPermissionResolver<T extends TargetInformation> implement
 			return null;
 		}
 	}
-	
+
+	private record DecisionKey(Set<String> roles, Action action, Class<?> targetClass, TargetInformation targetInformation) {
+	}
+
+	private static final class DecisionCache {
+		private final long rulesVersion;
+		private final Map<DecisionKey, Boolean> decisions = new ConcurrentHashMap<>();
+
+		private DecisionCache(long rulesVersion) {
+			this.rulesVersion = rulesVersion;
+		}
+
+		private void put(DecisionKey key, boolean permitted) {
+			// Bounds the cache, e.g., for checks on many distinct identifiers
+			if (decisions.size() >= MAX_CACHED_DECISIONS)
+				decisions.clear();
+
+			decisions.put(key, permitted);
+		}
+	}
+
 }
@@ -185,4 +185,24 @@ public class TestKeycloakRoleProvider {
 
         assertTrue(roles.isEmpty());
     }
+
+	@Test
+    public void getRoles_areExtractedOncePerToken() {
+        Map<String, Collection<String>> realmAccess = new HashMap<>();
+        realmAccess.put("roles", Arrays.asList("ROLE_USER"));
+
+        when(jwt.hasClaim("realm_access")).thenReturn(true);
+        when(jwt.hasClaim("resource_access")).thenReturn(false);
+        when(jwt.getClaim("realm_access")).thenReturn(realmAccess);
+
+        List<String> roles = keycloakRoleProvider.getRoles();
+
+        assertSame(roles, keycloakRoleProvider.getRoles());
+        verify(jwt, times(1)).getClaim("realm_access");
+
+        Jwt otherJwt = mock(Jwt.class);
+        when(subjectInformationProvider.get()).thenReturn(() -> otherJwt);
+
+        assertTrue(keycloakRoleProvider.getRoles().isEmpty());
+    }
 }
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.authorization.rbac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the decision caching of {@link SimpleRbacPermissionResolver}
+ * 
+ * @author agent
+ */
+public class TestSimpleRbacPermissionResolver {
+
+	private static final String ROLE = "Engineer";
+
+	private final AtomicInteger verifications = new AtomicInteger();
+	private final TargetPermissionVerifier<IdTargetInformation> verifier = (rule, target) -> {
+		verifications.incrementAndGet();
+		return ((IdTargetInformation) rule.getTargetInformation()).id.equals("*") || rule.getTargetInformation().equals(target);
+	};
+
+	private VersionedRbacStorage storage;
+	private List<String> roles;
+	private SimpleRbacPermissionResolver<IdTargetInformation> resolver;
+
+	@Before
+	public void setUp() {
+		storage = new VersionedRbacStorage();
+		roles = new ArrayList<>(List.of(ROLE));
+		resolver = new SimpleRbacPermissionResolver<>(storage, () -> roles, verifier);
+	}
+
+	@Test
+	public void decisionIsReusedForSameRulesVersion() {
+		storage.addRule(new RbacRule(ROLE, List.of(Action.READ), new IdTargetInformation("a")));
+
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+		assertFalse(resolver.hasPermission(Action.READ, new IdTargetInformation("b")));
+		assertFalse(resolver.hasPermission(Action.READ, new IdTargetInformation("b")));
+
+		assertEquals(2, verifications.get());
+	}
+
+	@Test
+	public void decisionsAreDiscardedWhenRulesChange() {
+		assertFalse(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+
+		storage.addRule(new RbacRule(ROLE, List.of(Action.READ), new IdTargetInformation("*")));
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+
+		storage.removeRule(RbacRuleKeyGenerator.generateKey(ROLE, Action.READ.toString(), IdTargetInformation.class.getName()));
+		assertFalse(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+	}
+
+	@Test
+	public void decisionsAreCachedPerRoleSet() {
+		storage.addRule(new RbacRule(ROLE, List.of(Action.READ), new IdTargetInformation("*")));
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+
+		roles = List.of("Guest");
+		assertFalse(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+	}
+
+	@Test
+	public void unversionedStorageIsEvaluatedOnEveryCheck() {
+		storage.versioned = false;
+		storage.addRule(new RbacRule(ROLE, List.of(Action.READ), new IdTargetInformation("a")));
+
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+		assertTrue(resolver.hasPermission(Action.READ, new IdTargetInformation("a")));
+
+		assertEquals(2, verifications.get());
+	}
+
+	private static class VersionedRbacStorage implements RbacStorage {
+		private final Map<String, RbacRule> rules = new HashMap<>();
+		private long version;
+		private boolean versioned = true;
+
+		@Override
+		public Map<String, RbacRule> getRbacRules() {
+			return rules;
+		}
+
+		@Override
+		public RbacRule getRbacRule(String key) {
+			return rules.get(key);
+		}
+
+		@Override
+		public void addRule(RbacRule rbacRule) {
+			rbacRule.getAction().forEach(action -> rules.put(RbacRuleKeyGenerator.generateKey(rbacRule.getRole(), action.toString(), rbacRule.getTargetInformation().getClass().getName()), rbacRule));
+			version++;
+		}
+
+		@Override
+		public void removeRule(String key) {
+			rules.remove(key);
+			version++;
+		}
+
+		@Override
+		public boolean exist(String key) {
+			return rules.containsKey(key);
+		}
+
+		@Override
+		public long getRulesVersion() {
+			return versioned ? version : UNVERSIONED;
+		}
+	}
+
+	private record IdTargetInformation(String id) implements TargetInformation {
+		@Override
+		public Map<String, Object> toMap() {
+			return Map.of("id", id);
+		}
+	}
+}
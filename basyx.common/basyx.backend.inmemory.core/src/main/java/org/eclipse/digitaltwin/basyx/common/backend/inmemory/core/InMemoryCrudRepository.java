@@ -25,29 +25,41 @@
 
 package org.eclipse.digitaltwin.basyx.common.backend.inmemory.core;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginatedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.lang.NonNull;
 
 /**
  * CrudRepository implementation for InMemory backends
  * 
+ * The entities are kept sorted by their id, so that pages can be served
+ * directly from the store without sorting all entities for each request.
+ * 
  * @author danish
  */
-public class InMemoryCrudRepository<T> implements CrudRepository<T, String> {
+public class InMemoryCrudRepository<T> implements CrudRepository<T, String>, PaginatedRepository<T> {
 	
-	private final ConcurrentMap<String, T> inMemoryStore = new ConcurrentHashMap<>();
+	private final ConcurrentNavigableMap<String, T> inMemoryStore = new ConcurrentSkipListMap<>();
+	private final PaginationSupport<T> paginationSupport;
 	private Function<T, String> idGetter;
 	
 	public InMemoryCrudRepository(Function<T, String> idGetter) {
 		this.idGetter = idGetter;
+		this.paginationSupport = new PaginationSupport<>(inMemoryStore, idGetter);
 	}
 
 	@Override
@@ -81,6 +93,29 @@ public class InMemoryCrudRepository<T> implements CrudRepository<T, String> {
 		return inMemoryStore.values();
 	}
 
+	@Override
+	public CursorResult<List<T>> findAll(PaginationInfo pInfo) {
+		return paginationSupport.getPaged(pInfo);
+	}
+
+	/**
+	 * Retrieves a page of the entities matching the passed filter, sorted
+	 * ascending by their id
+	 * 
+	 * @param pInfo
+	 * @param filter
+	 * @return the entities of the requested page and the cursor of the next
+	 *         page
+	 */
+	public CursorResult<List<T>> findAll(PaginationInfo pInfo, Predicate<? super T> filter) {
+		return paginationSupport.getPaged(pInfo, filter);
+	}
+
+	@Override
+	public CursorResult<List<T>> findAllById(Collection<String> ids, PaginationInfo pInfo) {
+		return paginationSupport.getPaged(pInfo, ids);
+	}
+
 	@Override
 	public @NonNull Iterable<T> findAllById(@NonNull Iterable<String> ids) {
 		return StreamSupport.stream(ids.spliterator(), false).map(inMemoryStore::get).filter(Objects::nonNull).collect(Collectors.toList());
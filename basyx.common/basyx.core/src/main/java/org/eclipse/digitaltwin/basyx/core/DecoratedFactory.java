@@ -27,6 +27,7 @@
 package org.eclipse.digitaltwin.basyx.core;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Base factory class for all component feature decoration.
@@ -50,19 +51,33 @@ public class DecoratedFactory<FactoryToDecorate, Feature extends BaSyxFeature<Fa
 	 * @param features
 	 */
 	public DecoratedFactory(FactoryToDecorate toDecorate, List<Feature> features) {
-		decorated = toDecorate;
+		this(toDecorate, features, UnaryOperator.identity());
+	}
+
+	/**
+	 * Initializes the factory like
+	 * {@link #DecoratedFactory(Object, List)}. Additionally, the passed component
+	 * and the result of each enabled feature are passed to the layerDecorator,
+	 * e.g., for instrumenting each layer of the resulting decorator chain
+	 * 
+	 * @param toDecorate
+	 * @param features
+	 * @param layerDecorator
+	 */
+	public DecoratedFactory(FactoryToDecorate toDecorate, List<Feature> features, UnaryOperator<FactoryToDecorate> layerDecorator) {
+		decorated = layerDecorator.apply(toDecorate);
 
 		for (Feature feature : features) {
-			decorated = handleFeature(decorated, feature);
+			decorated = handleFeature(decorated, feature, layerDecorator);
 		}
 	}
 
-	private FactoryToDecorate handleFeature(FactoryToDecorate toDecorate, Feature feature) {
+	private FactoryToDecorate handleFeature(FactoryToDecorate toDecorate, Feature feature, UnaryOperator<FactoryToDecorate> layerDecorator) {
 		if (!feature.isEnabled())
 			return toDecorate;
 
 		feature.initialize();
-		return feature.decorate(toDecorate);
+		return layerDecorator.apply(feature.decorate(toDecorate));
 	}
 
 	/**
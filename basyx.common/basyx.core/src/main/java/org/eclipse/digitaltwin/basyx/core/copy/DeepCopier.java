@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.copy;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.FailedToDeepCopyException;
+
+/**
+ * Creates deep copies of model objects, e.g., of the aas4j
+ * <code>Default*</code> types or of the registry descriptor model, by copying
+ * their structure instead of serializing and parsing them.
+ * 
+ * Immutable values like Strings, numbers, enums and <code>java.time</code>
+ * types are shared. Collections, maps and arrays are copied element by element.
+ * All other objects are created via their no-arg constructor and their
+ * non-transient instance fields are copied. How a class is copied is determined
+ * once and cached per class. Cyclic object graphs are not supported.
+ * 
+ * @author agent
+ *
+ */
+public final class DeepCopier {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class);
+
+	private static final Copier SHARED = source -> source;
+
+	private static final ClassValue<Copier> COPIERS = new ClassValue<>() {
+		@Override
+		protected Copier computeValue(Class<?> type) {
+			return createCopier(type);
+		}
+	};
+
+	private DeepCopier() {
+	}
+
+	/**
+	 * Creates a deep copy of the passed object
+	 * 
+	 * @param <T>
+	 * @param source
+	 * @return the copy, or null if source is null
+	 * @throws FailedToDeepCopyException
+	 *             if the object graph contains a type that cannot be copied
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(T source) {
+		if (source == null)
+			return null;
+
+		return (T) COPIERS.get(source.getClass()).copy(source);
+	}
+
+	/**
+	 * Creates deep copies of all passed objects
+	 * 
+	 * @param <T>
+	 * @param sources
+	 * @return a new list containing the copies in iteration order
+	 * @throws FailedToDeepCopyException
+	 *             if the object graph contains a type that cannot be copied
+	 */
+	public static <T> List<T> copyAll(Collection<T> sources) {
+		List<T> copies = new ArrayList<>(sources.size());
+		for (T source : sources)
+			copies.add(copy(source));
+
+		return copies;
+	}
+
+	private static Copier createCopier(Class<?> type) {
+		if (isImmutable(type))
+			return SHARED;
+
+		if (type.isArray())
+			return createArrayCopier(type.getComponentType());
+
+		if (SortedMap.class.isAssignableFrom(type))
+			return source -> copyEntries((Map<?, ?>) source, new TreeMap<>(getComparator((SortedMap<?, ?>) source)));
+
+		if (Map.class.isAssignableFrom(type))
+			return source -> copyEntries((Map<?, ?>) source, new LinkedHashMap<>());
+
+		if (SortedSet.class.isAssignableFrom(type))
+			return source -> copyElements((Collection<?>) source, new TreeSet<>(getComparator((SortedSet<?>) source)));
+
+		if (Set.class.isAssignableFrom(type))
+			return source -> copyElements((Collection<?>) source, new LinkedHashSet<>());
+
+		if (Collection.class.isAssignableFrom(type))
+			return source -> copyElements((Collection<?>) source, new ArrayList<>(((Collection<?>) source).size()));
+
+		if (type.getName().startsWith("java.") || type.getName().startsWith("javax."))
+			throw new FailedToDeepCopyException(type, new UnsupportedOperationException("Copying JDK types other than immutable values and collections is not supported"));
+
+		return new FieldCopier(type);
+	}
+
+	private static boolean isImmutable(Class<?> type) {
+		return type.isPrimitive() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type) || type.getPackageName().equals("java.time");
+	}
+
+	private static Copier createArrayCopier(Class<?> componentType) {
+		if (componentType.isPrimitive()) {
+			return source -> {
+				int length = Array.getLength(source);
+				Object copies = Array.newInstance(componentType, length);
+				System.arraycopy(source, 0, copies, 0, length);
+				return copies;
+			};
+		}
+
+		return source -> {
+			Object[] elements = (Object[]) source;
+			Object[] copies = (Object[]) Array.newInstance(componentType, elements.length);
+			for (int i = 0; i < elements.length; i++)
+				copies[i] = copy(elements[i]);
+
+			return copies;
+		};
+	}
+
+	private static Object copyElements(Collection<?> source, Collection<Object> target) {
+		for (Object element : source)
+			target.add(copy(element));
+
+		return target;
+	}
+
+	private static Object copyEntries(Map<?, ?> source, Map<Object, Object> target) {
+		for (Map.Entry<?, ?> entry : source.entrySet())
+			target.put(copy(entry.getKey()), copy(entry.getValue()));
+
+		return target;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Comparator<Object> getComparator(SortedMap<?, ?> map) {
+		return (Comparator<Object>) map.comparator();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Comparator<Object> getComparator(SortedSet<?> set) {
+		return (Comparator<Object>) set.comparator();
+	}
+
+	@FunctionalInterface
+	private interface Copier {
+		Object copy(Object source);
+	}
+
+	/**
+	 * Copies objects by instantiating them via their no-arg constructor and
+	 * copying all of their instance fields, including the inherited ones
+	 */
+	private static final class FieldCopier implements Copier {
+		private final Constructor<?> constructor;
+		private final Field[] fields;
+		private final boolean[] sharedFields;
+
+		FieldCopier(Class<?> type) {
+			try {
+				constructor = type.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			} catch (NoSuchMethodException | RuntimeException e) {
+				throw new FailedToDeepCopyException(type, e);
+			}
+
+			List<Field> copiedFields = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()))
+						continue;
+
+					field.setAccessible(true);
+					copiedFields.add(field);
+				}
+			}
+
+			fields = copiedFields.toArray(new Field[0]);
+			sharedFields = new boolean[fields.length];
+			for (int i = 0; i < fields.length; i++)
+				sharedFields[i] = isImmutable(fields[i].getType());
+		}
+
+		@Override
+		public Object copy(Object source) {
+			try {
+				Object target = constructor.newInstance();
+				for (int i = 0; i < fields.length; i++) {
+					Object value = fields[i].get(source);
+					fields[i].set(target, sharedFields[i] ? value : DeepCopier.copy(value));
+				}
+
+				return target;
+			} catch (ReflectiveOperationException e) {
+				throw new FailedToDeepCopyException(source.getClass(), e);
+			}
+		}
+	}
+}
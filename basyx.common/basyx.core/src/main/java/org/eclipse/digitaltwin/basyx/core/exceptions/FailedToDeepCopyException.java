@@ -31,6 +31,10 @@ public class FailedToDeepCopyException extends RuntimeException {
         super(getMessage(objId), e);
     }
 
+    public FailedToDeepCopyException(Class<?> type, Throwable e) {
+        super("Failed to deep copy object of type " + type.getName(), e);
+    }
+
     private static String getMessage(String objId) {
         return "Failed to deep copy object with id " + objId;
     }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Extension of a repository backend that is able to page over its entities
+ * natively, i.e., without loading all entities for each requested page
+ * 
+ * @author agent
+ *
+ * @param <T>
+ *            the entity type
+ */
+public interface PaginatedRepository<T> {
+
+	/**
+	 * Retrieves a page of the entities, sorted ascending by their id. The
+	 * cursor of the {@link PaginationInfo} is the id of the last entity of the
+	 * previous page.
+	 * 
+	 * @param pInfo
+	 * @return the entities of the requested page and the cursor of the next
+	 *         page
+	 */
+	CursorResult<List<T>> findAll(PaginationInfo pInfo);
+
+	/**
+	 * Retrieves a page of the entities with the passed ids, sorted ascending by
+	 * their id. Ids without an entity are skipped, i.e., they do not count
+	 * towards the limit.
+	 * 
+	 * @param ids
+	 * @param pInfo
+	 * @return the entities of the requested page and the cursor of the next
+	 *         page
+	 */
+	CursorResult<List<T>> findAllById(Collection<String> ids, PaginationInfo pInfo);
+}
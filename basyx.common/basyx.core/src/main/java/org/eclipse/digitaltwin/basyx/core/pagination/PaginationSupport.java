@@ -26,30 +26,56 @@
 
 package org.eclipse.digitaltwin.basyx.core.pagination;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Cursor based pagination over a map sorted by the ids of its values
+ * 
+ * The passed map is not copied. Concurrent maps, e.g.,
+ * {@link java.util.concurrent.ConcurrentSkipListMap}, can thus be paged
+ * directly, so that a page only costs the lookup of the cursor and the
+ * iteration over the requested number of entries.
+ */
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedMap;
+	private final NavigableMap<String, T> sortedMap;
 	private final Function<T, String> idResolver;
 
-	public PaginationSupport(TreeMap<String, T> sortedMap, Function<T, String> idResolver) {
+	public PaginationSupport(NavigableMap<String, T> sortedMap, Function<T, String> idResolver) {
 		this.sortedMap = sortedMap;
 		this.idResolver = idResolver;
 	}
 
 	public CursorResult<List<T>> getPaged(PaginationInfo pInfo) {
+		return getPaged(pInfo, t -> true);
+	}
+
+	/**
+	 * Pages over the values matching the passed filter. Values not matching the
+	 * filter are skipped while iterating, i.e., they do not count towards the
+	 * limit.
+	 * 
+	 * @param pInfo
+	 * @param filter
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Predicate<? super T> filter) {
 		Map<String, T> cursorView = getCursorView(pInfo);
 		Stream<Entry<String, T>> eStream = cursorView.entrySet()
 				.stream();
 
-		Stream<T> tStream = eStream.map(Entry::getValue);
+		Stream<T> tStream = eStream.map(Entry::getValue).filter(filter);
 		tStream = applyLimit(pInfo, tStream);
 
 		List<T> resultList = tStream.collect(Collectors.toList());
@@ -62,6 +88,53 @@ public class PaginationSupport<T extends Object> {
 		return new CursorResult<>(cursor, resultList);
 	}
 
+	/**
+	 * Pages over the values with the passed ids. Ids without a value are
+	 * skipped, i.e., they do not count towards the limit.
+	 * 
+	 * @param pInfo
+	 * @param ids
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Collection<String> ids) {
+		return getPaged(pInfo, ids, sortedMap::get);
+	}
+
+	/**
+	 * Pages over the entities with the passed ids by retrieving them one by one,
+	 * e.g., from a repository without native support for id filters. Only the
+	 * entities of the requested page are retrieved.
+	 * 
+	 * @param pInfo
+	 * @param ids
+	 * @param loader
+	 *            retrieves the entity with the passed id or returns null, if it
+	 *            does not exist
+	 * @return the requested page
+	 */
+	public static <T> CursorResult<List<T>> getPaged(PaginationInfo pInfo, Collection<String> ids, Function<String, ? extends T> loader) {
+		NavigableSet<String> sortedIds = new TreeSet<>(ids);
+		if (pInfo.hasCursor())
+			sortedIds = sortedIds.tailSet(pInfo.getCursor(), false);
+
+		List<T> resultList = new ArrayList<>();
+		String lastId = null;
+		for (String id : sortedIds) {
+			if (pInfo.hasLimit() && resultList.size() == pInfo.getLimit())
+				break;
+
+			T value = loader.apply(id);
+			if (value == null)
+				continue;
+
+			resultList.add(value);
+			lastId = id;
+		}
+
+		String cursor = pInfo.hasLimit() && resultList.size() == pInfo.getLimit() ? lastId : null;
+		return new CursorResult<>(cursor, resultList);
+	}
+
 	private Stream<T> applyLimit(PaginationInfo info, Stream<T> aStream) {
 		if (info.hasLimit()) {
 			return aStream.limit(info.getLimit());
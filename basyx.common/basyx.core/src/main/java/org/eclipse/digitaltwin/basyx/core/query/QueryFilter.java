@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.query;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Filter of a query that is evaluated by the repository backends themselves,
+ * i.e., without an external search index
+ *
+ * Backends that can narrow down the candidates in their storage use the
+ * respective pre-filter and test the remaining candidates by
+ * {@link #test(Object)}. A pre-filter may thus match more entities than the
+ * filter, but never less.
+ *
+ * @author agent
+ *
+ * @param <T>
+ *            the entity type
+ */
+public interface QueryFilter<T> extends Predicate<T> {
+
+	/**
+	 * Returns the part of the filter that can be evaluated by MongoDB as
+	 * <code>$match</code> stage on the stored documents
+	 *
+	 * @return the pre-filter document, empty if the candidates cannot be
+	 *         narrowed down
+	 */
+	public default Map<String, Object> getMongoPreFilter() {
+		return Map.of();
+	}
+}
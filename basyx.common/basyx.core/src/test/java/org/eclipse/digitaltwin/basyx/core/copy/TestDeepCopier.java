@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.copy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.FailedToDeepCopyException;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DeepCopier}
+ * 
+ * @author agent
+ *
+ */
+public class TestDeepCopier {
+
+	@Test
+	public void nestedObjectsAreCopied() {
+		Node root = createTree();
+
+		Node copy = DeepCopier.copy(root);
+
+		assertEquals(root, copy);
+		assertNotSame(root, copy);
+		assertNotSame(root.children, copy.children);
+		assertNotSame(root.children.get(0), copy.children.get(0));
+		assertNotSame(root.attributes, copy.attributes);
+		assertNotSame(root.payload, copy.payload);
+		assertArrayEquals(root.payload, copy.payload);
+	}
+
+	@Test
+	public void copyIsIndependentOfSource() {
+		Node root = createTree();
+		Node copy = DeepCopier.copy(root);
+
+		root.children.get(0).name = "changed";
+		root.children.add(new Node("added"));
+		root.payload[0] = 42;
+
+		assertEquals("child", copy.children.get(0).name);
+		assertEquals(1, copy.children.size());
+		assertEquals(1, copy.payload[0]);
+	}
+
+	@Test
+	public void immutableValuesAreShared() {
+		Node root = createTree();
+
+		Node copy = DeepCopier.copy(root);
+
+		assertSame(root.name, copy.name);
+		assertSame(root.timestamp, copy.timestamp);
+		assertSame(root.kind, copy.kind);
+	}
+
+	@Test
+	public void inheritedFieldsAreCopied() {
+		LabeledNode node = new LabeledNode("node", "label");
+
+		LabeledNode copy = DeepCopier.copy(node);
+
+		assertEquals("node", copy.name);
+		assertEquals("label", copy.label);
+	}
+
+	@Test
+	public void transientFieldsAreNotCopied() {
+		Node node = new Node("node");
+		node.cache = "cached";
+
+		assertNull(DeepCopier.copy(node).cache);
+	}
+
+	@Test
+	public void sortedSetKeepsComparator() {
+		SortedSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+		set.addAll(List.of("a", "b", "c"));
+
+		SortedSet<String> copy = DeepCopier.copy(set);
+
+		assertEquals(List.of("c", "b", "a"), new ArrayList<>(copy));
+		assertEquals(set.comparator(), copy.comparator());
+	}
+
+	@Test
+	public void copyAllCopiesEachElement() {
+		List<Node> nodes = List.of(new Node("a"), new Node("b"));
+
+		List<Node> copies = DeepCopier.copyAll(nodes);
+
+		assertEquals(nodes, copies);
+		assertNotSame(nodes.get(0), copies.get(0));
+	}
+
+	@Test
+	public void nullIsCopiedToNull() {
+		assertNull(DeepCopier.copy(null));
+	}
+
+	@Test(expected = FailedToDeepCopyException.class)
+	public void typeWithoutNoArgConstructorIsRejected() {
+		DeepCopier.copy(new WithoutNoArgConstructor("value"));
+	}
+
+	private static Node createTree() {
+		Node root = new Node("root");
+		root.children.add(new Node("child"));
+		root.attributes.put("key", new Node("value"));
+		root.payload = new byte[] { 1, 2, 3 };
+		root.timestamp = OffsetDateTime.now();
+		root.kind = Kind.INNER;
+		return root;
+	}
+
+	private enum Kind {
+		INNER, LEAF
+	}
+
+	private static class Node {
+		String name;
+		List<Node> children = new ArrayList<>();
+		Map<String, Node> attributes = new LinkedHashMap<>();
+		byte[] payload;
+		OffsetDateTime timestamp;
+		Kind kind = Kind.LEAF;
+		transient String cache;
+
+		Node() {
+		}
+
+		Node(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Node other))
+				return false;
+
+			return Objects.equals(name, other.name) && Objects.equals(children, other.children) && Objects.equals(attributes, other.attributes) && Arrays.equals(payload, other.payload) && Objects.equals(timestamp, other.timestamp) && kind == other.kind;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, children, attributes, timestamp, kind);
+		}
+	}
+
+	private static class LabeledNode extends Node {
+		private String label;
+
+		@SuppressWarnings("unused")
+		private LabeledNode() {
+		}
+
+		LabeledNode(String name, String label) {
+			super(name);
+			this.label = label;
+		}
+	}
+
+	private static class WithoutNoArgConstructor {
+		@SuppressWarnings("unused")
+		private final String value;
+
+		WithoutNoArgConstructor(String value) {
+			this.value = value;
+		}
+	}
+}
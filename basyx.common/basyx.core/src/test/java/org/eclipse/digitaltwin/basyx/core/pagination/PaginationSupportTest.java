@@ -2,6 +2,7 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -61,6 +62,44 @@ public class PaginationSupportTest {
 		Assert.assertNull(cursorResult.getCursor());
 	}
 
+	@Test
+	public void testFilteredPagination() {
+		PaginationSupport<String> support = getPaginationSupport();
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(2, "2"), i -> Integer.parseInt(i) % 2 == 0);
+		Assert.assertArrayEquals(new String[] { "4", "6" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("6", cursorResult.getCursor());
+	}
+
+	@Test
+	public void testPaginationOnConcurrentMapReflectsModifications() {
+		ConcurrentSkipListMap<String, String> sorted = new ConcurrentSkipListMap<>();
+		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
+		PaginationSupport<String> support = new PaginationSupport<String>(sorted, Function.identity());
+
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(3, null));
+		Assert.assertEquals("2", cursorResult.getCursor());
+
+		sorted.remove("3");
+		sorted.put("2a", "2a");
+
+		cursorResult = support.getPaged(new PaginationInfo(3, cursorResult.getCursor()));
+		Assert.assertArrayEquals(new String[] { "2a", "4", "5" }, cursorResult.getResult().toArray(String[]::new));
+	}
+
+	@Test
+	public void testPaginationById() {
+		PaginationSupport<String> support = getPaginationSupport();
+		List<String> ids = List.of("7", "missing", "1", "4", "1");
+
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(2, null), ids);
+		Assert.assertArrayEquals(new String[] { "1", "4" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("4", cursorResult.getCursor());
+
+		cursorResult = support.getPaged(new PaginationInfo(2, cursorResult.getCursor()), ids);
+		Assert.assertArrayEquals(new String[] { "7" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
 	private PaginationSupport<String> getPaginationSupport() {
 		TreeMap<String, String> sorted = new TreeMap<>();
 		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
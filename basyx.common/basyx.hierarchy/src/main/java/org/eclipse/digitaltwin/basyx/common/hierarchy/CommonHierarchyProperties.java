@@ -39,4 +39,6 @@ public final class CommonHierarchyProperties {
     public static final String HIERARCHY_FEATURE_NAME = "basyx.feature.hierarchy";
     public static final String HIERARCHY_FEATURE_ENABLED = "basyx.feature.hierarchy.enabled";
     public static final String HIERARCHY_FEATURE_DELEGATION_PREFIX = "basyx.feature.hierarchy.prefix";
+    public static final String HIERARCHY_FEATURE_CACHE_TTL_MS = "basyx.feature.hierarchy.cache.ttlms";
+    public static final String HIERARCHY_FEATURE_CACHE_NEGATIVE_TTL_MS = "basyx.feature.hierarchy.cache.negativettlms";
 }
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.hierarchy.delegation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one client per delegation URL, so that the HTTP client of a delegation
+ * target and its kept-alive connections are reused by all delegated requests
+ *
+ * The delegation URLs are derived from the requested identifiers. The number
+ * of pooled clients is therefore bounded; clients for further targets are
+ * created per request.
+ *
+ * @param <C>
+ *            the type of the client
+ *
+ * @author agent
+ *
+ */
+public class DelegatedClientPool<C> {
+
+	static final int MAX_POOLED_CLIENTS = 64;
+
+	private final Function<String, C> clientFactory;
+	private final Map<String, C> clients = new ConcurrentHashMap<>();
+
+	public DelegatedClientPool(Function<String, C> clientFactory) {
+		this.clientFactory = clientFactory;
+	}
+
+	public C getClient(String delegationUrl) {
+		C client = clients.get(delegationUrl);
+		if (client != null)
+			return client;
+
+		if (clients.size() >= MAX_POOLED_CLIENTS)
+			return clientFactory.apply(delegationUrl);
+
+		return clients.computeIfAbsent(delegationUrl, clientFactory);
+	}
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.hierarchy.delegation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of delegated lookups for a limited time
+ *
+ * <ul>
+ * <li>Found values are kept for the TTL, exceptions matching the negative
+ * result predicate (e.g., not found) for the negative TTL. Other exceptions
+ * are not cached. A TTL of zero disables the respective caching.</li>
+ * <li>Concurrent lookups of the same key are coalesced, i.e., only one of them
+ * calls the delegated registry and the others wait for its result.</li>
+ * <li>Entries are invalidated by the decorating storage on local writes. A
+ * lookup running during an invalidation is not cached.</li>
+ * </ul>
+ *
+ * @param <K>
+ *            the type of the lookup key
+ * @param <V>
+ *            the type of the looked up value
+ *
+ * @author agent
+ *
+ */
+public class DelegationCache<K, V> {
+
+	static final int MAX_CACHED_RESULTS = 10_000;
+
+	private final long ttlNanos;
+	private final long negativeTtlNanos;
+	private final Predicate<RuntimeException> isNegativeResult;
+	private final LongSupplier nanoClock;
+
+	private final Map<K, CachedResult<V>> results = new ConcurrentHashMap<>();
+	private final Map<K, CompletableFuture<V>> runningLookups = new ConcurrentHashMap<>();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public DelegationCache(Duration ttl, Duration negativeTtl, Predicate<RuntimeException> isNegativeResult) {
+		this(ttl, negativeTtl, isNegativeResult, System::nanoTime);
+	}
+
+	DelegationCache(Duration ttl, Duration negativeTtl, Predicate<RuntimeException> isNegativeResult, LongSupplier nanoClock) {
+		this.ttlNanos = ttl.toNanos();
+		this.negativeTtlNanos = negativeTtl.toNanos();
+		this.isNegativeResult = isNegativeResult;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Returns the cached result for the key or looks it up with the loader
+	 *
+	 * @throws RuntimeException
+	 *             the exception thrown by the loader, also if it is cached as
+	 *             negative result
+	 */
+	public V get(K key, Supplier<V> loader) {
+		CachedResult<V> cached = results.get(key);
+		if (cached != null && !cached.isExpired(nanoClock.getAsLong()))
+			return cached.get();
+
+		CompletableFuture<V> lookup = new CompletableFuture<>();
+		CompletableFuture<V> runningLookup = runningLookups.putIfAbsent(key, lookup);
+		if (runningLookup != null)
+			return await(runningLookup);
+
+		try {
+			return load(key, loader, lookup);
+		} finally {
+			runningLookups.remove(key, lookup);
+		}
+	}
+
+	public void invalidate(K key) {
+		invalidations.incrementAndGet();
+		results.remove(key);
+	}
+
+	public void invalidateIf(Predicate<K> keyPredicate) {
+		invalidations.incrementAndGet();
+		results.keySet().removeIf(keyPredicate);
+	}
+
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		results.clear();
+	}
+
+	private V load(K key, Supplier<V> loader, CompletableFuture<V> lookup) {
+		long invalidationsBefore = invalidations.get();
+		try {
+			V value = loader.get();
+			cache(key, new CachedResult<>(value, null, expiry(ttlNanos)), invalidationsBefore);
+			lookup.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			if (isNegativeResult.test(e))
+				cache(key, new CachedResult<>(null, e, expiry(negativeTtlNanos)), invalidationsBefore);
+
+			lookup.completeExceptionally(e);
+			throw e;
+		} catch (Error e) {
+			lookup.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private void cache(K key, CachedResult<V> result, long invalidationsBefore) {
+		if (result.expiresAt == null)
+			return;
+
+		// Bounds the cache, e.g., for lookups of many distinct identifiers
+		if (results.size() >= MAX_CACHED_RESULTS)
+			results.clear();
+
+		results.put(key, result);
+
+		// A concurrent invalidation could have been missed by the result
+		if (invalidations.get() != invalidationsBefore)
+			results.remove(key, result);
+	}
+
+	private Long expiry(long ttl) {
+		if (ttl <= 0)
+			return null;
+
+		return nanoClock.getAsLong() + ttl;
+	}
+
+	private static <V> V await(CompletableFuture<V> runningLookup) {
+		try {
+			return runningLookup.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+
+			if (e.getCause() instanceof Error cause)
+				throw cause;
+
+			throw e;
+		}
+	}
+
+	private static final class CachedResult<V> {
+		private final V value;
+		private final RuntimeException exception;
+		private final Long expiresAt;
+
+		private CachedResult(V value, RuntimeException exception, Long expiresAt) {
+			this.value = value;
+			this.exception = exception;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+
+		private V get() {
+			if (exception != null)
+				throw exception;
+
+			return value;
+		}
+	}
+}
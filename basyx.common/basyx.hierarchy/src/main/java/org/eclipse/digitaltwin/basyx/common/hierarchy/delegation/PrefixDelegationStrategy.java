@@ -27,7 +27,9 @@ package org.eclipse.digitaltwin.basyx.common.hierarchy.delegation;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.digitaltwin.basyx.common.hierarchy.CommonHierarchyProperties;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,12 +39,20 @@ import org.springframework.stereotype.Component;
  * Generates delegation URL based on value of the prefix attribute. Default
  * value is 'registry'.
  *
+ * The delegation URL only depends on the scheme and authority of the
+ * identifier, so it is built once per scheme and authority.
+ *
  * @author mateusmolina
  *
  */
 @Component
 public class PrefixDelegationStrategy implements DelegationStrategy {
+	static final int MAX_CACHED_DELEGATION_URLS = 1_000;
+
+	private static final String SCHEME_SEPARATOR = "://";
+
 	private final String prefix;
+	private final Map<String, Optional<String>> delegationUrls = new ConcurrentHashMap<>();
 
 	public PrefixDelegationStrategy(@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_DELEGATION_PREFIX + ":registry}") String prefix) {
 		this.prefix = prefix;
@@ -50,7 +60,41 @@ public class PrefixDelegationStrategy implements DelegationStrategy {
 
 	@Override
 	public Optional<String> buildDelegatedRegistryUrl(String identifier) {
-		return Optional.ofNullable(identifier).map(this::extractDelegationUrl);
+		if (identifier == null)
+			return Optional.empty();
+
+		String origin = extractOrigin(identifier);
+		if (origin == null)
+			return Optional.ofNullable(extractDelegationUrl(identifier));
+
+		Optional<String> delegationUrl = delegationUrls.get(origin);
+		if (delegationUrl != null)
+			return delegationUrl;
+
+		delegationUrl = Optional.ofNullable(extractDelegationUrl(origin));
+
+		// Bounds the cache, e.g., for identifiers of many distinct hosts
+		if (delegationUrls.size() >= MAX_CACHED_DELEGATION_URLS)
+			delegationUrls.clear();
+
+		delegationUrls.put(origin, delegationUrl);
+		return delegationUrl;
+	}
+
+	/**
+	 * Returns the scheme and authority part of the identifier, or null if the
+	 * identifier has none
+	 */
+	private static String extractOrigin(String identifier) {
+		int schemeEnd = identifier.indexOf(SCHEME_SEPARATOR);
+		if (schemeEnd <= 0)
+			return null;
+
+		int authorityEnd = schemeEnd + SCHEME_SEPARATOR.length();
+		while (authorityEnd < identifier.length() && "/?#".indexOf(identifier.charAt(authorityEnd)) < 0)
+			authorityEnd++;
+
+		return identifier.substring(0, authorityEnd);
 	}
 
 	private String extractDelegationUrl(String identifier) {
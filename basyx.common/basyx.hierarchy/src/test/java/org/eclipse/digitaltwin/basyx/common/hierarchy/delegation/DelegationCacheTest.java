@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.hierarchy.delegation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link DelegationCache}
+ *
+ * @author agent
+ *
+ */
+public class DelegationCacheTest {
+
+	private static final Duration TTL = Duration.ofSeconds(30);
+	private static final Duration NEGATIVE_TTL = Duration.ofSeconds(5);
+
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicInteger loads = new AtomicInteger();
+	private final DelegationCache<String, String> cache = new DelegationCache<>(TTL, NEGATIVE_TTL, NotFoundException.class::isInstance, clock::get);
+
+	@Test
+	public void foundValuesAreCachedForTheTtl() {
+		assertEquals("value", cache.get("id", () -> load("value")));
+		clock.addAndGet(TTL.toNanos() - 1);
+		assertEquals("value", cache.get("id", () -> load("other")));
+		assertEquals(1, loads.get());
+
+		clock.incrementAndGet();
+		assertEquals("other", cache.get("id", () -> load("other")));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void negativeResultsAreCachedForTheNegativeTtl() {
+		NotFoundException notFound = assertThrows(NotFoundException.class, () -> cache.get("id", this::notFound));
+		assertSame(notFound, assertThrows(NotFoundException.class, () -> cache.get("id", () -> load("value"))));
+
+		clock.addAndGet(NEGATIVE_TTL.toNanos());
+		assertEquals("value", cache.get("id", () -> load("value")));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void otherExceptionsAreNotCached() {
+		assertThrows(IllegalStateException.class, () -> cache.get("id", () -> {
+			loads.incrementAndGet();
+			throw new IllegalStateException();
+		}));
+
+		assertEquals("value", cache.get("id", () -> load("value")));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void invalidatedResultsAreLookedUpAgain() {
+		cache.get("id", () -> load("value"));
+		cache.get("other", () -> load("value"));
+
+		cache.invalidate("id");
+		cache.get("id", () -> load("value"));
+		cache.get("other", () -> load("value"));
+		assertEquals(3, loads.get());
+
+		cache.invalidateIf(key -> key.startsWith("o"));
+		cache.get("id", () -> load("value"));
+		cache.get("other", () -> load("value"));
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	public void zeroTtlDisablesCaching() {
+		DelegationCache<String, String> uncached = new DelegationCache<>(Duration.ZERO, Duration.ZERO, NotFoundException.class::isInstance, clock::get);
+
+		uncached.get("id", () -> load("value"));
+		uncached.get("id", () -> load("value"));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void concurrentLookupsAreCoalesced() throws Exception {
+		int lookupCount = 8;
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(lookupCount);
+
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			results.add(executor.submit(() -> cache.get("id", () -> {
+				started.countDown();
+				await(release);
+				return load("value");
+			})));
+			started.await();
+
+			for (int i = 1; i < lookupCount; i++)
+				results.add(executor.submit(() -> cache.get("id", () -> load("other"))));
+
+			// Gives the other lookups time to join the running one
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<String> eachResult : results)
+				assertEquals("value", eachResult.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+	}
+
+	private String load(String value) {
+		loads.incrementAndGet();
+		return value;
+	}
+
+	private String notFound() {
+		loads.incrementAndGet();
+		throw new NotFoundException();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static final class NotFoundException extends RuntimeException {
+	}
+}
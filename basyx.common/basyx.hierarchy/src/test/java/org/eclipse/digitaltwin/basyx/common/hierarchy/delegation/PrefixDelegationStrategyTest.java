@@ -86,6 +86,15 @@ public class PrefixDelegationStrategyTest {
 		assertEquals(expectedUrl, actualUrl);
 	}
 
+	@Test
+	public void testBuildDelegatedRegistryUrl_SameOrigin() {
+		assertEquals("http://registry.fraunhofer:8042", prefixDelegationStrategy.buildDelegatedRegistryUrl("http://fraunhofer:8042/example/aas").get());
+		assertEquals("http://registry.fraunhofer:8042", prefixDelegationStrategy.buildDelegatedRegistryUrl("http://fraunhofer:8042?id=aas").get());
+		assertEquals("https://registry.fraunhofer:8042", prefixDelegationStrategy.buildDelegatedRegistryUrl("https://fraunhofer:8042/example/aas").get());
+		assertTrue(prefixDelegationStrategy.buildDelegatedRegistryUrl("unknown://fraunhofer:8042/example/aas").isEmpty());
+		assertTrue(prefixDelegationStrategy.buildDelegatedRegistryUrl("unknown://fraunhofer:8042/other/aas").isEmpty());
+	}
+
 	@Test
 	public void testBuildDelegatedRegistryUrl_NullAasId() {
 		assertTrue(prefixDelegationStrategy.buildDelegatedRegistryUrl(null).isEmpty());
@@ -26,7 +26,9 @@
 package org.eclipse.digitaltwin.basyx.http;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.eclipse.digitaltwin.basyx.core.copy.DeepCopier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +38,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * Factory for creating clones for the defined Input and Output type
  * 
+ * Inputs that already are of the Output type are copied structurally via the
+ * {@link DeepCopier}, all others are converted via a JSON round trip.
+ * 
  * @param <I> the Input type
  * @param <O> the Output type
  * 
@@ -62,6 +67,9 @@ public class CustomTypeCloneFactory<I, O> {
 	 * @return the cloned result
 	 */
 	public List<O> create(List<I> input) {
+	    if (input.stream().allMatch(elementType::isInstance))
+	        return input.stream().map(elementType::cast).map(DeepCopier::copy).collect(Collectors.toList());
+
 	    String serializedLangString = "";
 	    
 	    try {
@@ -89,6 +97,9 @@ public class CustomTypeCloneFactory<I, O> {
 	 * @return the cloned result
 	 */
 	public O create(I input) {
+		if (elementType.isInstance(input))
+			return DeepCopier.copy(elementType.cast(input));
+
 		String serializedLangString = "";
 		try {
 			serializedLangString = mapper.writeValueAsString(input);
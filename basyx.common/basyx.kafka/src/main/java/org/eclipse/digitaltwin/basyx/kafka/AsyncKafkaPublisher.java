@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes events to Kafka without waiting for the broker's acknowledgement.
+ * 
+ * Published events are put into a bounded in-memory queue and sent by a single
+ * dispatcher thread in batches. As the events are handed over to the producer
+ * in the order they were published, the order of the events with the same key,
+ * e.g., the id of a Submodel or Shell, is preserved. If the queue is full, the
+ * configured {@link BackpressurePolicy} applies.
+ * 
+ * Delivery failures are logged and counted. The counters can be exposed via
+ * Micrometer by {@link #bindTo(MeterRegistry)}.
+ * 
+ * @param <V>
+ *            the type of the event payload
+ * 
+ * @author agent
+ *
+ */
+public class AsyncKafkaPublisher<V> implements MeterBinder, AutoCloseable {
+	public static final String METER_PREFIX = "basyx.kafka.publisher.";
+	public static final String TAG_PUBLISHER = "publisher";
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncKafkaPublisher.class);
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private final String name;
+	private final Sender<V> sender;
+	private final BlockingQueue<Event<V>> queue;
+	private final int batchSize;
+	private final long lingerNanos;
+	private final BackpressurePolicy backpressurePolicy;
+	private final long blockTimeoutNanos;
+	private final Duration closeTimeout;
+	private final Thread dispatcher;
+
+	private final LongAdder published = new LongAdder();
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	private volatile boolean closed;
+
+	private AsyncKafkaPublisher(Builder<V> builder) {
+		this.name = builder.name;
+		this.sender = builder.sender;
+		this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+		this.batchSize = builder.batchSize;
+		this.lingerNanos = builder.linger.toNanos();
+		this.backpressurePolicy = builder.backpressurePolicy;
+		this.blockTimeoutNanos = builder.blockTimeout.toNanos();
+		this.closeTimeout = builder.closeTimeout;
+
+		this.dispatcher = new Thread(this::dispatch, "basyx-kafka-publisher-" + name);
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	public static <V> Builder<V> builder(String name, Sender<V> sender) {
+		return new Builder<>(name, sender);
+	}
+
+	/**
+	 * Queues the event for publishing
+	 * 
+	 * @param key
+	 *            the record key, events with the same key are delivered in order
+	 * @param value
+	 *            the payload, must not be modified after it has been published
+	 * @throws RejectedExecutionException
+	 *             if the event cannot be queued according to the
+	 *             {@link BackpressurePolicy} or the publisher is closed
+	 */
+	public void publish(String key, V value) {
+		if (closed)
+			throw new RejectedExecutionException("The Kafka publisher " + name + " is closed");
+
+		Event<V> event = new Event<>(key, value);
+
+		if (!enqueue(event)) {
+			rejected.increment();
+			throw new RejectedExecutionException("The queue of the Kafka publisher " + name + " is full");
+		}
+
+		published.increment();
+	}
+
+	/**
+	 * Stops accepting events and waits until the queued events have been handed
+	 * over to the producer or the close timeout has elapsed
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		try {
+			dispatcher.join(closeTimeout.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (!queue.isEmpty())
+			logger.warn("Closed the Kafka publisher {} with {} undelivered events", name, queue.size());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindCounter(registry, "published", published, "Events accepted for publishing");
+		bindCounter(registry, "delivered", delivered, "Events acknowledged by the broker");
+		bindCounter(registry, "failed", failed, "Events that could not be delivered");
+		bindCounter(registry, "dropped", dropped, "Queued events discarded due to backpressure");
+		bindCounter(registry, "rejected", rejected, "Events rejected due to backpressure");
+
+		Gauge.builder(METER_PREFIX + "queue.size", queue, BlockingQueue::size).description("Events waiting to be sent").tag(TAG_PUBLISHER, name).register(registry);
+	}
+
+	public long getPublishedCount() {
+		return published.sum();
+	}
+
+	public long getDeliveredCount() {
+		return delivered.sum();
+	}
+
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	private boolean enqueue(Event<V> event) {
+		switch (backpressurePolicy) {
+		case BLOCK:
+			try {
+				return queue.offer(event, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		case DROP_OLDEST:
+			while (!queue.offer(event)) {
+				if (queue.poll() != null)
+					dropped.increment();
+			}
+			return true;
+		default:
+			return queue.offer(event);
+		}
+	}
+
+	private void dispatch() {
+		List<Event<V>> batch = new ArrayList<>(batchSize);
+
+		while (!closed || !queue.isEmpty()) {
+			try {
+				collectBatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			for (Event<V> event : batch)
+				send(event);
+
+			batch.clear();
+		}
+	}
+
+	private void collectBatch(List<Event<V>> batch) throws InterruptedException {
+		Event<V> first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		if (first == null)
+			return;
+
+		batch.add(first);
+		queue.drainTo(batch, batchSize - 1);
+
+		long deadline = System.nanoTime() + lingerNanos;
+		while (batch.size() < batchSize && !closed) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0)
+				return;
+
+			Event<V> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null)
+				return;
+
+			batch.add(next);
+			queue.drainTo(batch, batchSize - batch.size());
+		}
+	}
+
+	private void send(Event<V> event) {
+		try {
+			sender.send(event.key, event.value).whenComplete((result, e) -> {
+				if (e == null) {
+					delivered.increment();
+					return;
+				}
+
+				failed.increment();
+				logger.error("Failed to deliver event with key {} via Kafka publisher {}", event.key, name, e);
+			});
+		} catch (RuntimeException e) {
+			failed.increment();
+			logger.error("Failed to send event with key {} via Kafka publisher {}", event.key, name, e);
+		}
+	}
+
+	private void bindCounter(MeterRegistry registry, String meter, LongAdder counter, String description) {
+		FunctionCounter.builder(METER_PREFIX + meter, counter, LongAdder::sum).description(description).tag(TAG_PUBLISHER, name).register(registry);
+	}
+
+	/**
+	 * Hands an event over to the Kafka producer, e.g., via a KafkaTemplate
+	 */
+	@FunctionalInterface
+	public interface Sender<V> {
+		CompletableFuture<?> send(String key, V value);
+	}
+
+	private static final class Event<V> {
+		private final String key;
+		private final V value;
+
+		private Event(String key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	public static final class Builder<V> {
+		private final String name;
+		private final Sender<V> sender;
+		private int queueCapacity = 10000;
+		private int batchSize = 500;
+		private Duration linger = Duration.ZERO;
+		private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+		private Duration blockTimeout = Duration.ofSeconds(3);
+		private Duration closeTimeout = Duration.ofSeconds(10);
+
+		private Builder(String name, Sender<V> sender) {
+			this.name = Objects.requireNonNull(name);
+			this.sender = Objects.requireNonNull(sender);
+		}
+
+		public Builder<V> queueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		public Builder<V> batchSize(int batchSize) {
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * @param linger
+		 *            how long the dispatcher waits for a batch to fill up before
+		 *            sending it
+		 */
+		public Builder<V> linger(Duration linger) {
+			this.linger = linger;
+			return this;
+		}
+
+		public Builder<V> backpressurePolicy(BackpressurePolicy backpressurePolicy) {
+			this.backpressurePolicy = backpressurePolicy;
+			return this;
+		}
+
+		/**
+		 * @param blockTimeout
+		 *            how long {@link BackpressurePolicy#BLOCK} waits for space in
+		 *            the queue
+		 */
+		public Builder<V> blockTimeout(Duration blockTimeout) {
+			this.blockTimeout = blockTimeout;
+			return this;
+		}
+
+		public Builder<V> closeTimeout(Duration closeTimeout) {
+			this.closeTimeout = closeTimeout;
+			return this;
+		}
+
+		public AsyncKafkaPublisher<V> build() {
+			if (queueCapacity < 1 || batchSize < 1)
+				throw new IllegalArgumentException("The queue capacity and batch size have to be positive");
+
+			return new AsyncKafkaPublisher<>(this);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.kafka;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.OutboxEntry;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.OutboxSink;
+
+/**
+ * Sends the entries of a
+ * {@link org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox}
+ * to the Kafka topic stored as their destination and waits for the broker's
+ * acknowledgements
+ * 
+ * @author agent
+ */
+public class KafkaOutboxSink implements OutboxSink {
+
+	private static final long SEND_TIMEOUT_SECONDS = 30;
+
+	private final Sender sender;
+
+	public KafkaOutboxSink(Sender sender) {
+		this.sender = sender;
+	}
+
+	@Override
+	public void publish(List<OutboxEntry> entries) throws Exception {
+		CompletableFuture<?>[] futures = entries.stream().map(entry -> sender.send(entry.getDestination(), entry.getKey(), entry.getPayload())).toArray(CompletableFuture[]::new);
+
+		CompletableFuture.allOf(futures).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Hands an entry over to the Kafka producer, e.g., via a KafkaTemplate
+	 */
+	@FunctionalInterface
+	public interface Sender {
+		CompletableFuture<?> send(String topic, String key, String payload);
+	}
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link AsyncKafkaPublisher} with a {@link RecordingSender} in place
+ * of a Kafka producer
+ * 
+ * @author agent
+ *
+ */
+public class TestAsyncKafkaPublisher {
+	private static final long TIMEOUT_SECONDS = 10;
+
+	private AsyncKafkaPublisher<String> publisher;
+
+	@After
+	public void close() {
+		if (publisher != null)
+			publisher.close();
+	}
+
+	@Test
+	public void publishDoesNotWaitForAcknowledgement() throws InterruptedException {
+		RecordingSender sender = new RecordingSender(2);
+		publisher = AsyncKafkaPublisher.builder("test", sender).build();
+
+		publisher.publish("sm1", "created");
+		publisher.publish("sm1", "updated");
+
+		assertTrue(sender.sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals(0, publisher.getDeliveredCount());
+
+		sender.acknowledgeAll();
+		assertEquals(2, publisher.getDeliveredCount());
+	}
+
+	@Test
+	public void eventsAreSentInPublishingOrder() throws InterruptedException {
+		int count = 1000;
+		RecordingSender sender = new RecordingSender(count);
+		publisher = AsyncKafkaPublisher.builder("test", sender).batchSize(7).build();
+
+		for (int i = 0; i < count; i++)
+			publisher.publish("sm" + (i % 3), String.valueOf(i));
+
+		assertTrue(sender.sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		for (int i = 0; i < count; i++)
+			assertEquals(String.valueOf(i), sender.values.get(i));
+	}
+
+	@Test
+	public void deliveryFailuresAreCounted() throws InterruptedException {
+		RecordingSender sender = new RecordingSender(1);
+		publisher = AsyncKafkaPublisher.builder("test", sender).build();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		publisher.bindTo(registry);
+
+		publisher.publish("sm1", "created");
+		assertTrue(sender.sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		sender.futures.get(0).completeExceptionally(new IllegalStateException("broker unavailable"));
+
+		assertEquals(1, publisher.getFailedCount());
+		assertEquals(1, registry.get(AsyncKafkaPublisher.METER_PREFIX + "failed").tag(AsyncKafkaPublisher.TAG_PUBLISHER, "test").functionCounter().count(), 0);
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void fullQueueIsRejectedWithFailPolicy() throws InterruptedException {
+		BlockingSender sender = new BlockingSender();
+		publisher = AsyncKafkaPublisher.builder("test", sender).queueCapacity(1).backpressurePolicy(BackpressurePolicy.FAIL).build();
+
+		try {
+			fillQueue(sender);
+			publisher.publish("sm1", "rejected");
+		} finally {
+			assertEquals(1, publisher.getRejectedCount());
+			sender.release.countDown();
+		}
+	}
+
+	@Test
+	public void oldestEventIsDroppedWithDropOldestPolicy() throws InterruptedException {
+		BlockingSender sender = new BlockingSender();
+		publisher = AsyncKafkaPublisher.builder("test", sender).queueCapacity(1).backpressurePolicy(BackpressurePolicy.DROP_OLDEST).build();
+
+		fillQueue(sender);
+		publisher.publish("sm1", "newest");
+		sender.release.countDown();
+		publisher.close();
+
+		assertEquals(1, publisher.getDroppedCount());
+		assertEquals(List.of("blocking", "newest"), sender.values);
+	}
+
+	@Test
+	public void blockPolicyRejectsAfterTimeout() throws InterruptedException {
+		BlockingSender sender = new BlockingSender();
+		publisher = AsyncKafkaPublisher.builder("test", sender).queueCapacity(1).blockTimeout(Duration.ofMillis(50)).build();
+
+		try {
+			fillQueue(sender);
+			publisher.publish("sm1", "rejected");
+		} catch (RejectedExecutionException e) {
+			assertEquals(1, publisher.getRejectedCount());
+			return;
+		} finally {
+			sender.release.countDown();
+		}
+
+		throw new AssertionError("Expected the event to be rejected");
+	}
+
+	@Test
+	public void closeSendsQueuedEvents() {
+		RecordingSender sender = new RecordingSender(3);
+		publisher = AsyncKafkaPublisher.builder("test", sender).linger(Duration.ofSeconds(5)).build();
+
+		publisher.publish("sm1", "a");
+		publisher.publish("sm1", "b");
+		publisher.publish("sm1", "c");
+		publisher.close();
+
+		assertEquals(List.of("a", "b", "c"), sender.values);
+	}
+
+	private void fillQueue(BlockingSender sender) throws InterruptedException {
+		publisher.publish("sm1", "blocking");
+		assertTrue(sender.sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		publisher.publish("sm1", "queued");
+	}
+
+	private static class RecordingSender implements AsyncKafkaPublisher.Sender<String> {
+		private final List<String> values = new ArrayList<>();
+		private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+		private final CountDownLatch sent;
+
+		private RecordingSender(int expected) {
+			sent = new CountDownLatch(expected);
+		}
+
+		@Override
+		public synchronized CompletableFuture<?> send(String key, String value) {
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			values.add(value);
+			futures.add(future);
+			sent.countDown();
+			return future;
+		}
+
+		private synchronized void acknowledgeAll() {
+			futures.forEach(f -> f.complete(null));
+		}
+	}
+
+	private static class BlockingSender implements AsyncKafkaPublisher.Sender<String> {
+		private final List<String> values = new ArrayList<>();
+		private final CountDownLatch sending = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public CompletableFuture<?> send(String key, String value) {
+			values.add(value);
+			sending.countDown();
+
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+}
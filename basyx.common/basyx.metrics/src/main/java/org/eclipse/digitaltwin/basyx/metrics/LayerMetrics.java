@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.metrics;
+
+import java.lang.reflect.Proxy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Instruments the layers of a component's decorator chain, e.g., the MQTT,
+ * Kafka, Search or Authorization decorators and the Crud backend, with
+ * Micrometer meters.
+ *
+ * For each instrumented layer, the following meters are registered:
+ * <ul>
+ * <li>{@value #DURATION_METER}: timer tagged by component, layer, operation
+ * and outcome</li>
+ * <li>{@value #ERRORS_METER}: counter tagged by component, layer, operation
+ * and exception</li>
+ * <li>{@value #ACTIVE_METER}: gauge of the invocations currently in progress,
+ * tagged by component and layer</li>
+ * </ul>
+ *
+ * As each layer's timer includes the time spent in the layers it decorates,
+ * the time spent in a single layer is the difference between its timer and
+ * the timer of the next inner layer.
+ *
+ * The bean is only available if {@value #ENABLED_PROPERTY} is set to true.
+ * Otherwise, the components are not instrumented at all.
+ *
+ * @author agent
+ *
+ */
+@Component
+@ConditionalOnProperty(name = LayerMetrics.ENABLED_PROPERTY, havingValue = "true")
+public class LayerMetrics {
+	public static final String ENABLED_PROPERTY = "basyx.metrics.layers.enabled";
+
+	public static final String DURATION_METER = "basyx.layer.duration";
+	public static final String ERRORS_METER = "basyx.layer.errors";
+	public static final String ACTIVE_METER = "basyx.layer.active";
+
+	public static final String TAG_COMPONENT = "component";
+	public static final String TAG_LAYER = "layer";
+	public static final String TAG_OPERATION = "operation";
+	public static final String TAG_OUTCOME = "outcome";
+	public static final String TAG_EXCEPTION = "exception";
+
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public LayerMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Wraps the passed layer so that all invocations of the methods declared by
+	 * {@code type} are measured. The layer is identified by the simple class name
+	 * of the passed object
+	 *
+	 * @param <T>
+	 *            the interface type of the layer
+	 * @param component
+	 *            the name of the component the layer belongs to, e.g.,
+	 *            submodel-repository
+	 * @param type
+	 *            the interface implemented by the layer
+	 * @param layer
+	 *            the layer to instrument
+	 * @return the instrumented layer
+	 */
+	public <T> T instrument(String component, Class<T> type, T layer) {
+		MeteredInvocationHandler handler = new MeteredInvocationHandler(meterRegistry, component, layer.getClass().getSimpleName(), layer);
+
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+}
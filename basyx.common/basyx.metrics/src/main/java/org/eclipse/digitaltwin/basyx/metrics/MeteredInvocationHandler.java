@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures each invocation forwarded to the instrumented layer. The meters of
+ * an operation are resolved once and cached afterwards, so that the hot path
+ * does not have to query the {@link MeterRegistry}
+ *
+ * @author agent
+ *
+ */
+class MeteredInvocationHandler implements InvocationHandler {
+	private static final String OUTCOME_SUCCESS = "success";
+	private static final String OUTCOME_ERROR = "error";
+
+	private final MeterRegistry meterRegistry;
+	private final String component;
+	private final String layer;
+	private final Object target;
+
+	private final AtomicInteger active = new AtomicInteger();
+	private final Map<Method, OperationMeters> operationMeters = new ConcurrentHashMap<>();
+
+	MeteredInvocationHandler(MeterRegistry meterRegistry, String component, String layer, Object target) {
+		this.meterRegistry = meterRegistry;
+		this.component = component;
+		this.layer = layer;
+		this.target = target;
+
+		Gauge.builder(LayerMetrics.ACTIVE_METER, active, AtomicInteger::get).description("Invocations currently in progress in the layer").tag(LayerMetrics.TAG_COMPONENT, component).tag(LayerMetrics.TAG_LAYER, layer)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class)
+			return invokeTarget(method, args);
+
+		OperationMeters meters = operationMeters.computeIfAbsent(method, this::createOperationMeters);
+
+		active.incrementAndGet();
+		long start = System.nanoTime();
+		try {
+			Object result = invokeTarget(method, args);
+			meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (Throwable e) {
+			meters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			countError(method, e);
+			throw e;
+		} finally {
+			active.decrementAndGet();
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private void countError(Method method, Throwable e) {
+		Counter.builder(LayerMetrics.ERRORS_METER).description("Failed invocations of the layer").tag(LayerMetrics.TAG_COMPONENT, component).tag(LayerMetrics.TAG_LAYER, layer).tag(LayerMetrics.TAG_OPERATION, method.getName())
+				.tag(LayerMetrics.TAG_EXCEPTION, e.getClass().getSimpleName()).register(meterRegistry).increment();
+	}
+
+	private OperationMeters createOperationMeters(Method method) {
+		return new OperationMeters(createTimer(method, OUTCOME_SUCCESS), createTimer(method, OUTCOME_ERROR));
+	}
+
+	private Timer createTimer(Method method, String outcome) {
+		return Timer.builder(LayerMetrics.DURATION_METER).description("Duration of the invocations of the layer, including all layers it decorates").tag(LayerMetrics.TAG_COMPONENT, component).tag(LayerMetrics.TAG_LAYER, layer)
+				.tag(LayerMetrics.TAG_OPERATION, method.getName()).tag(LayerMetrics.TAG_OUTCOME, outcome).register(meterRegistry);
+	}
+
+	private static class OperationMeters {
+		private final Timer success;
+		private final Timer error;
+
+		private OperationMeters(Timer success, Timer error) {
+			this.success = success;
+			this.error = error;
+		}
+	}
+}
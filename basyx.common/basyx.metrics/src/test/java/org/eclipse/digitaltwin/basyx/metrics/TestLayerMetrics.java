@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link LayerMetrics}
+ *
+ * @author agent
+ *
+ */
+public class TestLayerMetrics {
+	private static final String COMPONENT = "test-component";
+
+	private SimpleMeterRegistry meterRegistry;
+	private LayerMetrics layerMetrics;
+
+	@Before
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		layerMetrics = new LayerMetrics(meterRegistry);
+	}
+
+	@Test
+	public void successfulInvocationIsTimed() {
+		Layer layer = layerMetrics.instrument(COMPONENT, Layer.class, new InnerLayer());
+
+		assertEquals("value", layer.get("id"));
+		assertEquals("value", layer.get("id"));
+
+		assertEquals(2, getTimer("InnerLayer", "get", "success").count());
+		assertEquals(0, getTimer("InnerLayer", "get", "error").count());
+	}
+
+	@Test
+	public void failedInvocationIsCountedAndRethrown() {
+		Layer layer = layerMetrics.instrument(COMPONENT, Layer.class, new InnerLayer());
+		IllegalStateException expected = null;
+
+		try {
+			layer.delete("id");
+		} catch (IllegalStateException e) {
+			expected = e;
+		}
+
+		assertEquals("not deletable", expected.getMessage());
+		assertEquals(1, getTimer("InnerLayer", "delete", "error").count());
+		assertEquals(1, meterRegistry.get(LayerMetrics.ERRORS_METER).tag(LayerMetrics.TAG_LAYER, "InnerLayer").tag(LayerMetrics.TAG_EXCEPTION, "IllegalStateException").counter().count(), 0);
+	}
+
+	@Test
+	public void eachLayerIsTimedSeparately() {
+		Layer inner = layerMetrics.instrument(COMPONENT, Layer.class, new InnerLayer());
+		Layer outer = layerMetrics.instrument(COMPONENT, Layer.class, new OuterLayer(inner));
+
+		assertEquals("decorated-value", outer.get("id"));
+
+		assertEquals(1, getTimer("OuterLayer", "get", "success").count());
+		assertEquals(1, getTimer("InnerLayer", "get", "success").count());
+		assertEquals(0, meterRegistry.get(LayerMetrics.ACTIVE_METER).tag(LayerMetrics.TAG_LAYER, "OuterLayer").gauge().value(), 0);
+	}
+
+	@Test
+	public void objectMethodsAreNotTimed() {
+		InnerLayer target = new InnerLayer();
+		Layer layer = layerMetrics.instrument(COMPONENT, Layer.class, target);
+
+		assertEquals(target.toString(), layer.toString());
+		assertNull(meterRegistry.find(LayerMetrics.DURATION_METER).tag(LayerMetrics.TAG_OPERATION, "toString").timer());
+		assertEquals(1, meterRegistry.find(LayerMetrics.ACTIVE_METER).gauges().size());
+	}
+
+	private Timer getTimer(String layer, String operation, String outcome) {
+		return meterRegistry.get(LayerMetrics.DURATION_METER).tag(LayerMetrics.TAG_COMPONENT, COMPONENT).tag(LayerMetrics.TAG_LAYER, layer).tag(LayerMetrics.TAG_OPERATION, operation).tag(LayerMetrics.TAG_OUTCOME, outcome).timer();
+	}
+
+	public interface Layer {
+		String get(String id);
+
+		void delete(String id);
+	}
+
+	private static class InnerLayer implements Layer {
+
+		@Override
+		public String get(String id) {
+			return "value";
+		}
+
+		@Override
+		public void delete(String id) {
+			throw new IllegalStateException("not deletable");
+		}
+	}
+
+	private static class OuterLayer implements Layer {
+		private final Layer decorated;
+
+		private OuterLayer(Layer decorated) {
+			this.decorated = decorated;
+		}
+
+		@Override
+		public String get(String id) {
+			return "decorated-" + decorated.get(id);
+		}
+
+		@Override
+		public void delete(String id) {
+			decorated.delete(id);
+		}
+	}
+}
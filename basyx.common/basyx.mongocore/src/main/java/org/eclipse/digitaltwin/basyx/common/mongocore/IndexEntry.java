@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+/**
+ * Defines an index required by a backend on the collection of a given entity.
+ * The indexes are created by the {@link MongoIndexManager}.
+ * 
+ * @author agent
+ */
+public interface IndexEntry {
+
+	Class<?> getEntityClass();
+
+	IndexDefinition getIndex();
+
+	public static IndexEntry of(Class<?> entityClass, IndexDefinition index) {
+		return new IndexEntry() {
+			@Override
+			public Class<?> getEntityClass() {
+				return entityClass;
+			}
+
+			@Override
+			public IndexDefinition getIndex() {
+				return index;
+			}
+		};
+	}
+
+	/**
+	 * Creates an entry for a named index with ascending order on all fields
+	 * 
+	 * @param entityClass
+	 * @param name
+	 *            the name of the index
+	 * @param fields
+	 *            the indexed fields, in order of their precedence
+	 * @return the entry
+	 */
+	public static IndexEntry ascending(Class<?> entityClass, String name, String... fields) {
+		Index index = new Index().named(name);
+
+		for (String field : fields)
+			index.on(field, Direction.ASC);
+
+		return of(entityClass, index);
+	}
+}
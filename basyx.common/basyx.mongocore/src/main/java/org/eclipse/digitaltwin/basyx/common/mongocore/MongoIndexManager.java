@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared by the backends as {@link IndexEntry} at
+ * startup and verifies that they exist afterwards.
+ * 
+ * Index creation can be disabled with
+ * <code>basyx.mongodb.indexes.enabled=false</code>, e.g., if the indexes are
+ * managed by the database administration.
+ * 
+ * @author agent
+ */
+@Component
+@ConditionalOnExpression("'${basyx.backend}'.equals('MongoDB') && ${" + MongoIndexManager.ENABLED_PROPERTY + ":true}")
+public class MongoIndexManager implements InitializingBean {
+
+	public static final String ENABLED_PROPERTY = "basyx.mongodb.indexes.enabled";
+
+	private static final Logger logger = LoggerFactory.getLogger(MongoIndexManager.class);
+
+	private final MongoOperations mongoOperations;
+	private final List<IndexEntry> entries;
+
+	@Autowired
+	public MongoIndexManager(MongoOperations mongoOperations, ObjectProvider<IndexEntry> entries) {
+		this(mongoOperations, entries.orderedStream().toList());
+	}
+
+	public MongoIndexManager(MongoOperations mongoOperations, List<IndexEntry> entries) {
+		this.mongoOperations = mongoOperations;
+		this.entries = entries;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		ensureIndexes();
+	}
+
+	/**
+	 * Creates all missing indexes. Existing indexes with the same definition are
+	 * left untouched.
+	 * 
+	 * @throws IllegalStateException
+	 *             if an index does not exist after its creation
+	 */
+	public void ensureIndexes() {
+		for (IndexEntry entry : entries)
+			ensureIndex(entry);
+	}
+
+	private void ensureIndex(IndexEntry entry) {
+		String collectionName = mongoOperations.getCollectionName(entry.getEntityClass());
+		IndexOperations indexOperations = mongoOperations.indexOps(collectionName);
+
+		String indexName = indexOperations.createIndex(entry.getIndex());
+
+		if (indexOperations.getIndexInfo().stream().noneMatch(info -> info.getName().equals(indexName)))
+			throw new IllegalStateException("Index " + indexName + " does not exist on collection " + collectionName);
+
+		logger.info("Ensured index {} on collection {}", indexName, collectionName);
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Cursor based pagination over a MongoDB collection using the document ids as
+ * keys
+ * 
+ * Pages are retrieved by a range query on the <code>_id</code> index, i.e.,
+ * only the documents of the requested page are read, independent of the
+ * position of the page in the collection.
+ * 
+ * @author agent
+ *
+ * @param <T>
+ *            the entity type
+ */
+public class MongoPaginationSupport<T> {
+	static final String ID_KEY = "_id";
+
+	private final MongoOperations mongoOperations;
+	private final Class<T> entityClass;
+	private final Function<T, String> idResolver;
+
+	public MongoPaginationSupport(MongoOperations mongoOperations, Class<T> entityClass, Function<T, String> idResolver) {
+		this.mongoOperations = mongoOperations;
+		this.entityClass = entityClass;
+		this.idResolver = idResolver;
+	}
+
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo) {
+		return getPaged(pInfo, new Query());
+	}
+
+	/**
+	 * Retrieves a page of the documents matching the passed criteria
+	 * 
+	 * @param pInfo
+	 * @param criteria
+	 *            must not constrain the <code>_id</code>
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Criteria criteria) {
+		return getPaged(pInfo, new Query(criteria));
+	}
+
+	/**
+	 * Retrieves a page of the documents matching the passed criteria and
+	 * transforms the documents of the page by the passed aggregation stages
+	 * 
+	 * @param pInfo
+	 * @param criteria
+	 *            must not constrain the <code>_id</code>
+	 * @param stages
+	 *            applied to the documents of the page, must neither filter nor
+	 *            reorder the documents nor change their <code>_id</code>
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Criteria criteria, List<AggregationOperation> stages) {
+		List<AggregationOperation> ops = new ArrayList<>();
+		ops.add(Aggregation.match(criteria));
+
+		if (pInfo.hasCursor())
+			ops.add(Aggregation.match(Criteria.where(ID_KEY).gt(pInfo.getCursor())));
+
+		ops.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, ID_KEY)));
+
+		if (pInfo.hasLimit())
+			ops.add(Aggregation.limit(pInfo.getLimit()));
+
+		ops.addAll(stages);
+
+		List<T> results = mongoOperations.aggregate(Aggregation.newAggregation(ops), entityClass, entityClass).getMappedResults();
+
+		return new CursorResult<>(computeNextCursor(results, pInfo), results);
+	}
+
+	/**
+	 * Retrieves a page of the documents matching the passed pre-filter and
+	 * filter
+	 * 
+	 * The documents matching the pre-filter are streamed in id order and tested
+	 * by the filter until the page is complete, i.e., documents not matching
+	 * the filter do not count towards the limit.
+	 * 
+	 * @param pInfo
+	 * @param preFilter
+	 *            the <code>$match</code> document, must not constrain the
+	 *            <code>_id</code>
+	 * @param filter
+	 *            tested on the documents matching the pre-filter
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Map<String, Object> preFilter, Predicate<? super T> filter) {
+		List<AggregationOperation> ops = new ArrayList<>();
+
+		if (!preFilter.isEmpty()) {
+			Document match = new Document("$match", new Document(preFilter));
+			ops.add(context -> match);
+		}
+
+		if (pInfo.hasCursor())
+			ops.add(Aggregation.match(Criteria.where(ID_KEY).gt(pInfo.getCursor())));
+
+		ops.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, ID_KEY)));
+
+		List<T> results = new ArrayList<>();
+		try (Stream<T> candidates = mongoOperations.aggregateStream(Aggregation.newAggregation(ops), entityClass, entityClass)) {
+			Iterator<T> iterator = candidates.iterator();
+			while (iterator.hasNext() && (!pInfo.hasLimit() || results.size() < pInfo.getLimit())) {
+				T candidate = iterator.next();
+				if (filter.test(candidate))
+					results.add(candidate);
+			}
+		}
+
+		return new CursorResult<>(computeNextCursor(results, pInfo), results);
+	}
+
+	/**
+	 * Retrieves a page of the documents with the passed ids by a single
+	 * <code>$in</code> query on the <code>_id</code> index
+	 * 
+	 * @param pInfo
+	 * @param ids
+	 * @return the requested page
+	 */
+	public CursorResult<List<T>> getPagedById(PaginationInfo pInfo, Collection<String> ids) {
+		Criteria idCriteria = Criteria.where(ID_KEY).in(ids);
+
+		if (pInfo.hasCursor())
+			idCriteria = idCriteria.gt(pInfo.getCursor());
+
+		Query query = new Query(idCriteria).with(Sort.by(Sort.Direction.ASC, ID_KEY));
+
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
+
+		List<T> results = mongoOperations.find(query, entityClass);
+
+		return new CursorResult<>(computeNextCursor(results, pInfo), results);
+	}
+
+	private CursorResult<List<T>> getPaged(PaginationInfo pInfo, Query query) {
+		if (pInfo.hasCursor())
+			query.addCriteria(Criteria.where(ID_KEY).gt(pInfo.getCursor()));
+
+		query.with(Sort.by(Sort.Direction.ASC, ID_KEY));
+
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
+
+		List<T> results = mongoOperations.find(query, entityClass);
+
+		return new CursorResult<>(computeNextCursor(results, pInfo), results);
+	}
+
+	private String computeNextCursor(List<T> results, PaginationInfo pInfo) {
+		if (!pInfo.hasLimit() || results.size() < pInfo.getLimit())
+			return null;
+
+		return idResolver.apply(results.get(results.size() - 1));
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore.outbox;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Collection of events that still have to be published
+ * 
+ * Instead of publishing an event to a message broker directly after a write,
+ * the event is appended to the outbox with the same {@link MongoOperations}
+ * as the data. If the write runs within a Spring-managed MongoDB
+ * transaction, the append joins it, so that the event is stored if and only
+ * if the write is committed. The {@link MongoOutboxRelay} publishes the events
+ * in the background and removes them afterwards.
+ * 
+ * The creation time of an entry is assigned by the MongoDB server, so that the
+ * entries of all instances sharing the outbox are ordered by a single clock.
+ * Entries created within the same millisecond are ordered by their ObjectId,
+ * i.e., in append order for a single instance.
+ * 
+ * @author agent
+ */
+public class MongoOutbox {
+	public static final String DEFAULT_COLLECTION_NAME = "basyx-outbox";
+
+	static final String LEASE_COLLECTION_SUFFIX = "-lease";
+	static final String LEASE_OWNER = "owner";
+	static final String LEASE_EXPIRES_AT = "expiresAt";
+
+	private final MongoOperations mongoOperations;
+	private final String collectionName;
+
+	public MongoOutbox(MongoOperations mongoOperations) {
+		this(mongoOperations, DEFAULT_COLLECTION_NAME);
+	}
+
+	public MongoOutbox(MongoOperations mongoOperations, String collectionName) {
+		this.mongoOperations = mongoOperations;
+		this.collectionName = collectionName;
+	}
+
+	/**
+	 * Appends an event to the outbox
+	 * 
+	 * @param destination
+	 *            the destination of the event, e.g., a Kafka topic
+	 * @param key
+	 *            the key of the event, may be null
+	 * @param payload
+	 *            the serialized event
+	 * @return the appended entry
+	 */
+	public OutboxEntry append(String destination, String key, String payload) {
+		Query query = Query.query(Criteria.where(OutboxEntry.ID).is(new ObjectId()));
+		Update update = new Update().currentDate(OutboxEntry.CREATED_AT).setOnInsert(OutboxEntry.DESTINATION, destination).setOnInsert(OutboxEntry.KEY, key).setOnInsert(OutboxEntry.PAYLOAD, payload);
+
+		Document appended = mongoOperations.findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, collectionName);
+		return OutboxEntry.fromDocument(appended);
+	}
+
+	/**
+	 * Returns the oldest entries of the outbox without removing them
+	 * 
+	 * @param limit
+	 *            the maximum number of entries
+	 * @return the entries in creation order
+	 */
+	public List<OutboxEntry> fetch(int limit) {
+		Query query = new Query().with(Sort.by(Sort.Direction.ASC, OutboxEntry.CREATED_AT, OutboxEntry.ID)).limit(limit);
+
+		return mongoOperations.find(query, Document.class, collectionName).stream().map(OutboxEntry::fromDocument).toList();
+	}
+
+	/**
+	 * Removes the passed entries from the outbox
+	 * 
+	 * @param entries
+	 */
+	public void remove(List<OutboxEntry> entries) {
+		if (entries.isEmpty())
+			return;
+
+		List<ObjectId> ids = entries.stream().map(OutboxEntry::getId).toList();
+		mongoOperations.remove(Query.query(Criteria.where(OutboxEntry.ID).in(ids)), collectionName);
+	}
+
+	/**
+	 * Acquires or renews the lease on the outbox. Only the owner of the lease
+	 * publishes the entries, so that the entries are published once and in
+	 * order even if several instances share the outbox.
+	 * 
+	 * @param owner
+	 *            the unique name of the acquiring relay
+	 * @param duration
+	 *            the duration after which the lease expires unless it is
+	 *            renewed
+	 * @return true if the passed owner holds the lease
+	 */
+	public boolean acquireLease(String owner, Duration duration) {
+		Date now = new Date();
+		Criteria acquirable = new Criteria().orOperator(Criteria.where(LEASE_OWNER).is(owner), Criteria.where(LEASE_EXPIRES_AT).lt(now));
+		Query query = Query.query(Criteria.where(OutboxEntry.ID).is(collectionName).andOperator(acquirable));
+		Update update = new Update().set(LEASE_OWNER, owner).set(LEASE_EXPIRES_AT, new Date(now.getTime() + duration.toMillis()));
+
+		try {
+			mongoOperations.upsert(query, update, getLeaseCollectionName());
+			return true;
+		} catch (DuplicateKeyException e) {
+			// The lease is held by another relay
+			return false;
+		}
+	}
+
+	/**
+	 * Releases the lease on the outbox if it is held by the passed owner
+	 * 
+	 * @param owner
+	 */
+	public void releaseLease(String owner) {
+		Query query = Query.query(Criteria.where(OutboxEntry.ID).is(collectionName).and(LEASE_OWNER).is(owner));
+		mongoOperations.remove(query, getLeaseCollectionName());
+	}
+
+	/**
+	 * Creates the index on the creation time used by {@link #fetch(int)}
+	 */
+	public void initializeIndex() {
+		mongoOperations.indexOps(collectionName).createIndex(new Index().on(OutboxEntry.CREATED_AT, Sort.Direction.ASC).on(OutboxEntry.ID, Sort.Direction.ASC));
+	}
+
+	/**
+	 * @return the number of entries that still have to be published
+	 */
+	public long size() {
+		return mongoOperations.count(new Query(), collectionName);
+	}
+
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	private String getLeaseCollectionName() {
+		return collectionName + LEASE_COLLECTION_SUFFIX;
+	}
+}
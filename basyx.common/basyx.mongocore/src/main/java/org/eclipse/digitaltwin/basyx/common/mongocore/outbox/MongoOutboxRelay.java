@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drains the {@link MongoOutbox} to an {@link OutboxSink} in batches
+ * 
+ * The relay polls the outbox with a fixed delay from a single background
+ * thread. Entries are only removed after the sink has delivered them, so the
+ * events are published at least once: If the sink fails, e.g., because the
+ * message broker is not reachable, the entries stay in the outbox and are
+ * published as soon as the sink succeeds again. Consumers have to tolerate
+ * duplicates.
+ * 
+ * If several instances share the outbox, only the relay holding the lease on
+ * the outbox publishes, so that the entries are published in order. The lease
+ * is renewed before every batch. If its owner stops, another relay takes over
+ * after the lease has expired.
+ * 
+ * @author agent
+ */
+public class MongoOutboxRelay implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(MongoOutboxRelay.class);
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+	public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(500);
+	public static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(60);
+
+	private final String name;
+	private final String owner;
+	private final MongoOutbox outbox;
+	private final OutboxSink sink;
+	private final int batchSize;
+	private final Duration interval;
+	private final Duration leaseDuration;
+
+	private final Object drainLock = new Object();
+	private ScheduledExecutorService executor;
+
+	public MongoOutboxRelay(String name, MongoOutbox outbox, OutboxSink sink) {
+		this(name, outbox, sink, DEFAULT_BATCH_SIZE, DEFAULT_INTERVAL);
+	}
+
+	/**
+	 * @param name
+	 *            the name of the relay used for the thread name and logging
+	 * @param outbox
+	 * @param sink
+	 * @param batchSize
+	 *            the maximum number of entries passed to the sink at once
+	 * @param interval
+	 *            the delay between two polls of an empty outbox
+	 */
+	public MongoOutboxRelay(String name, MongoOutbox outbox, OutboxSink sink, int batchSize, Duration interval) {
+		this(name, outbox, sink, batchSize, interval, DEFAULT_LEASE_DURATION);
+	}
+
+	/**
+	 * @param name
+	 *            the name of the relay used for the thread name and logging
+	 * @param outbox
+	 * @param sink
+	 * @param batchSize
+	 *            the maximum number of entries passed to the sink at once
+	 * @param interval
+	 *            the delay between two polls of an empty outbox
+	 * @param leaseDuration
+	 *            the duration after which another relay may take over if this
+	 *            relay does not renew its lease. Has to exceed the time the
+	 *            sink needs for a batch.
+	 */
+	public MongoOutboxRelay(String name, MongoOutbox outbox, OutboxSink sink, int batchSize, Duration interval, Duration leaseDuration) {
+		if (batchSize < 1)
+			throw new IllegalArgumentException("The batch size has to be positive, but was " + batchSize);
+
+		this.name = name;
+		this.owner = name + "-" + UUID.randomUUID();
+		this.outbox = outbox;
+		this.sink = sink;
+		this.batchSize = batchSize;
+		this.interval = interval;
+		this.leaseDuration = leaseDuration;
+	}
+
+	/**
+	 * Starts polling the outbox in the background
+	 */
+	public synchronized void start() {
+		if (executor != null)
+			return;
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "basyx-outbox-relay-" + name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::drainQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Publishes all entries currently in the outbox, unless another relay holds
+	 * the lease on the outbox
+	 * 
+	 * @return the number of published entries
+	 * @throws Exception
+	 *             if the sink failed. The entries of the failed batch are kept
+	 *             in the outbox.
+	 */
+	public int drain() throws Exception {
+		synchronized (drainLock) {
+			int published = 0;
+
+			while (true) {
+				if (!outbox.acquireLease(owner, leaseDuration))
+					return published;
+
+				List<OutboxEntry> batch = outbox.fetch(batchSize);
+				if (batch.isEmpty())
+					return published;
+
+				sink.publish(batch);
+				outbox.remove(batch);
+				published += batch.size();
+
+				if (batch.size() < batchSize)
+					return published;
+			}
+		}
+	}
+
+	/**
+	 * Stops polling the outbox and releases the lease. Entries that have not
+	 * been published yet stay in the outbox and are published by another relay
+	 * or after the next start.
+	 */
+	@Override
+	public synchronized void close() throws InterruptedException {
+		if (executor != null) {
+			executor.shutdown();
+			executor.awaitTermination(interval.toMillis() + 10000, TimeUnit.MILLISECONDS);
+			executor = null;
+		}
+
+		synchronized (drainLock) {
+			outbox.releaseLease(owner);
+		}
+	}
+
+	private void drainQuietly() {
+		try {
+			int published = drain();
+			if (published > 0)
+				logger.debug("Outbox relay {} published {} events", name, published);
+		} catch (Exception e) {
+			logger.warn("Outbox relay {} failed to publish events, retrying in {} ms", name, interval.toMillis(), e);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore.outbox;
+
+import java.util.Date;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+/**
+ * An event stored in the {@link MongoOutbox} until it has been published
+ * 
+ * @author agent
+ */
+public class OutboxEntry {
+	static final String ID = "_id";
+	static final String DESTINATION = "destination";
+	static final String KEY = "key";
+	static final String PAYLOAD = "payload";
+	static final String CREATED_AT = "createdAt";
+
+	private final ObjectId id;
+	private final String destination;
+	private final String key;
+	private final String payload;
+	private final Date createdAt;
+
+	public OutboxEntry(ObjectId id, String destination, String key, String payload, Date createdAt) {
+		this.id = id;
+		this.destination = destination;
+		this.key = key;
+		this.payload = payload;
+		this.createdAt = createdAt;
+	}
+
+	public ObjectId getId() {
+		return id;
+	}
+
+	/**
+	 * @return the destination of the event, e.g., a Kafka topic
+	 */
+	public String getDestination() {
+		return destination;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public Date getCreatedAt() {
+		return createdAt;
+	}
+
+	Document toDocument() {
+		return new Document(ID, id).append(DESTINATION, destination).append(KEY, key).append(PAYLOAD, payload).append(CREATED_AT, createdAt);
+	}
+
+	static OutboxEntry fromDocument(Document document) {
+		return new OutboxEntry(document.getObjectId(ID), document.getString(DESTINATION), document.getString(KEY), document.getString(PAYLOAD), document.getDate(CREATED_AT));
+	}
+}
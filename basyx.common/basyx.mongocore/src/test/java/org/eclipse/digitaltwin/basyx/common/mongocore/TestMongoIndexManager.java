@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Tests the creation of the declared indexes by the {@link MongoIndexManager}
+ * against an in-process MongoDB server
+ * 
+ * @author agent
+ */
+public class TestMongoIndexManager {
+	private static final String COLLECTION_NAME = "indexTestCollection";
+
+	private static MongoServer server;
+	private static MongoClient client;
+
+	private MongoTemplate template;
+
+	@BeforeClass
+	public static void startServer() {
+		server = new MongoServer(new MemoryBackend());
+		client = MongoClients.create(server.bindAndGetConnectionString());
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		client.close();
+		server.shutdownNow();
+	}
+
+	@Before
+	public void init() {
+		BasyxMongoMappingContext mappingContext = new BasyxMongoMappingContext(List.of(MappingEntry.of(COLLECTION_NAME, IndexedEntity.class)));
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		template = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, "index-test"), converter);
+	}
+
+	@After
+	public void clear() {
+		template.dropCollection(COLLECTION_NAME);
+	}
+
+	@Test
+	public void declaredIndexesAreCreatedInMappedCollection() {
+		MongoIndexManager manager = new MongoIndexManager(template, List.of(IndexEntry.ascending(IndexedEntity.class, "name", "name"), IndexEntry.ascending(IndexedEntity.class, "keys", "keys.name", "keys.value")));
+
+		manager.ensureIndexes();
+
+		List<IndexInfo> indexes = template.indexOps(COLLECTION_NAME).getIndexInfo();
+		assertTrue(indexes.stream().anyMatch(info -> info.getName().equals("name") && info.isIndexForFields(List.of("name"))));
+		assertTrue(indexes.stream().anyMatch(info -> info.getName().equals("keys") && info.isIndexForFields(List.of("keys.name", "keys.value"))));
+	}
+
+	@Test
+	public void existingIndexesAreKept() {
+		MongoIndexManager manager = new MongoIndexManager(template, List.of(IndexEntry.ascending(IndexedEntity.class, "name", "name")));
+
+		manager.ensureIndexes();
+		manager.ensureIndexes();
+
+		// The _id index and the declared index
+		assertEquals(2, template.indexOps(COLLECTION_NAME).getIndexInfo().size());
+	}
+
+	static class IndexedEntity {
+		String id;
+		String name;
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Tests the keyset pagination of the {@link MongoPaginationSupport} against an
+ * in-process MongoDB server
+ * 
+ * @author agent
+ */
+public class TestMongoPaginationSupport {
+	private static final String COLLECTION_NAME = "paginationTestCollection";
+
+	private static MongoServer server;
+	private static MongoClient client;
+
+	private MongoTemplate template;
+	private MongoPaginationSupport<PagedEntity> paginationSupport;
+
+	@BeforeClass
+	public static void startServer() {
+		server = new MongoServer(new MemoryBackend());
+		client = MongoClients.create(server.bindAndGetConnectionString());
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		client.close();
+		server.shutdownNow();
+	}
+
+	@Before
+	public void init() {
+		BasyxMongoMappingContext mappingContext = new BasyxMongoMappingContext(List.of(MappingEntry.of(COLLECTION_NAME, PagedEntity.class)));
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		template = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, "pagination-test"), converter);
+		template.dropCollection(COLLECTION_NAME);
+
+		// Inserted in reverse order, so that the natural order differs from the id order
+		IntStream.range(0, 10).map(i -> 9 - i).forEach(i -> template.insert(new PagedEntity("id" + i, i % 2 == 0 ? "even" : "odd")));
+
+		paginationSupport = new MongoPaginationSupport<>(template, PagedEntity.class, entity -> entity.id);
+	}
+
+	@Test
+	public void pagesAreReturnedInIdOrder() {
+		CursorResult<List<PagedEntity>> firstPage = paginationSupport.getPaged(new PaginationInfo(4, null));
+		assertEquals(List.of("id0", "id1", "id2", "id3"), getIds(firstPage));
+		assertEquals("id3", firstPage.getCursor());
+
+		CursorResult<List<PagedEntity>> lastPage = paginationSupport.getPaged(new PaginationInfo(8, firstPage.getCursor()));
+		assertEquals(List.of("id4", "id5", "id6", "id7", "id8", "id9"), getIds(lastPage));
+		assertNull(lastPage.getCursor());
+	}
+
+	@Test
+	public void noLimitReturnsAllWithoutCursor() {
+		CursorResult<List<PagedEntity>> page = paginationSupport.getPaged(PaginationInfo.NO_LIMIT);
+
+		assertEquals(10, page.getResult().size());
+		assertNull(page.getCursor());
+	}
+
+	@Test
+	public void criteriaIsAppliedBeforeLimit() {
+		CursorResult<List<PagedEntity>> page = paginationSupport.getPaged(new PaginationInfo(2, "id2"), Criteria.where("kind").is("even"));
+
+		assertEquals(List.of("id4", "id6"), getIds(page));
+		assertEquals("id6", page.getCursor());
+	}
+
+	@Test
+	public void stagesAreAppliedToPage() {
+		Document stage = new Document("$addFields", new Document("kind", "projected"));
+		CursorResult<List<PagedEntity>> page = paginationSupport.getPaged(new PaginationInfo(2, "id2"), Criteria.where("kind").is("odd"), List.of(context -> stage));
+
+		assertEquals(List.of("id3", "id5"), getIds(page));
+		assertEquals(List.of("projected", "projected"), page.getResult().stream().map(entity -> entity.kind).toList());
+		assertEquals("id5", page.getCursor());
+	}
+
+	@Test
+	public void preFilterAndFilterAreAppliedBeforeLimit() {
+		CursorResult<List<PagedEntity>> page = paginationSupport.getPaged(new PaginationInfo(2, "id0"), Map.of("kind", "even"), entity -> !entity.id.equals("id4"));
+
+		assertEquals(List.of("id2", "id6"), getIds(page));
+		assertEquals("id6", page.getCursor());
+	}
+
+	@Test
+	public void emptyPreFilterOnlyAppliesFilter() {
+		CursorResult<List<PagedEntity>> page = paginationSupport.getPaged(PaginationInfo.NO_LIMIT, Map.of(), entity -> entity.kind.equals("odd"));
+
+		assertEquals(List.of("id1", "id3", "id5", "id7", "id9"), getIds(page));
+		assertNull(page.getCursor());
+	}
+
+	@Test
+	public void onlyGivenIdsArePaged() {
+		List<String> ids = List.of("id8", "id1", "missing", "id5");
+
+		CursorResult<List<PagedEntity>> firstPage = paginationSupport.getPagedById(new PaginationInfo(2, null), ids);
+		assertEquals(List.of("id1", "id5"), getIds(firstPage));
+		assertEquals("id5", firstPage.getCursor());
+
+		CursorResult<List<PagedEntity>> lastPage = paginationSupport.getPagedById(new PaginationInfo(2, firstPage.getCursor()), ids);
+		assertEquals(List.of("id8"), getIds(lastPage));
+		assertNull(lastPage.getCursor());
+	}
+
+	private static List<String> getIds(CursorResult<List<PagedEntity>> page) {
+		return page.getResult().stream().map(entity -> entity.id).toList();
+	}
+
+	static class PagedEntity {
+		String id;
+		String kind;
+
+		PagedEntity(String id, String kind) {
+			this.id = id;
+			this.kind = kind;
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Tests the {@link MongoOutbox} and the {@link MongoOutboxRelay} against an
+ * in-process MongoDB server
+ * 
+ * @author agent
+ */
+public class TestMongoOutboxRelay {
+	private static final String COLLECTION_NAME = "outboxTestCollection";
+	private static final String DESTINATION = "test-events";
+
+	private static MongoServer server;
+	private static MongoClient client;
+
+	private MongoTemplate template;
+	private MongoOutbox outbox;
+
+	@BeforeClass
+	public static void startServer() {
+		server = new MongoServer(new MemoryBackend());
+		client = MongoClients.create(server.bindAndGetConnectionString());
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		client.close();
+		server.shutdownNow();
+	}
+
+	@Before
+	public void init() {
+		template = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, "outbox-test"));
+		template.dropCollection(COLLECTION_NAME);
+		template.dropCollection(COLLECTION_NAME + MongoOutbox.LEASE_COLLECTION_SUFFIX);
+
+		outbox = new MongoOutbox(template, COLLECTION_NAME);
+	}
+
+	@Test
+	public void entriesArePublishedInAppendOrderAndRemoved() throws Exception {
+		appendEntries(0, 25);
+
+		List<String> published = new ArrayList<>();
+		List<Integer> batchSizes = new ArrayList<>();
+		MongoOutboxRelay relay = new MongoOutboxRelay("test", outbox, batch -> {
+			batchSizes.add(batch.size());
+			batch.forEach(entry -> published.add(entry.getPayload()));
+		}, 10, Duration.ofMillis(10));
+
+		assertEquals(25, relay.drain());
+
+		assertEquals(getPayloads(0, 25), published);
+		assertEquals(List.of(10, 10, 5), batchSizes);
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void entryIsRestoredFromTheCollection() {
+		OutboxEntry appended = outbox.append(DESTINATION, "key", "payload");
+
+		OutboxEntry fetched = outbox.fetch(1).get(0);
+
+		assertEquals(appended.getId(), fetched.getId());
+		assertEquals(DESTINATION, fetched.getDestination());
+		assertEquals("key", fetched.getKey());
+		assertEquals("payload", fetched.getPayload());
+		assertEquals(appended.getCreatedAt(), fetched.getCreatedAt());
+	}
+
+	@Test
+	public void failedBatchIsKeptAndPublishedLater() throws Exception {
+		appendEntries(0, 5);
+
+		List<String> published = new ArrayList<>();
+		boolean[] brokerAvailable = { false };
+		MongoOutboxRelay relay = new MongoOutboxRelay("test", outbox, batch -> {
+			if (!brokerAvailable[0])
+				throw new IllegalStateException("Broker not available");
+
+			batch.forEach(entry -> published.add(entry.getPayload()));
+		}, 10, Duration.ofMillis(10));
+
+		try {
+			relay.drain();
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+		assertEquals(5, outbox.size());
+
+		appendEntries(5, 10);
+		brokerAvailable[0] = true;
+
+		assertEquals(10, relay.drain());
+		assertEquals(getPayloads(0, 10), published);
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void startedRelayDrainsInTheBackground() throws Exception {
+		List<String> published = new CopyOnWriteArrayList<>();
+
+		try (MongoOutboxRelay relay = new MongoOutboxRelay("test", outbox, batch -> batch.forEach(entry -> published.add(entry.getPayload())), 10, Duration.ofMillis(10))) {
+			relay.start();
+			appendEntries(0, 15);
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (published.size() < 15 && System.nanoTime() < deadline)
+				Thread.sleep(10);
+		}
+
+		assertEquals(getPayloads(0, 15), published);
+		assertTrue(outbox.fetch(1).isEmpty());
+	}
+
+	@Test
+	public void entriesAreOrderedByCreationTime() {
+		outbox.append(DESTINATION, "key", "first");
+		// The ObjectIds of other instances are not ordered by time
+		template.insert(new Document(OutboxEntry.ID, new ObjectId(new Date(0))).append(OutboxEntry.PAYLOAD, "second").append(OutboxEntry.CREATED_AT, new Date()), COLLECTION_NAME);
+
+		assertEquals(List.of("first", "second"), outbox.fetch(2).stream().map(OutboxEntry::getPayload).toList());
+	}
+
+	@Test
+	public void onlyTheLeaseOwnerPublishes() throws Exception {
+		appendEntries(0, 5);
+
+		List<String> published = new ArrayList<>();
+		MongoOutboxRelay owner = new MongoOutboxRelay("owner", outbox, batch -> batch.forEach(entry -> published.add(entry.getPayload())), 10, Duration.ofMillis(10));
+		MongoOutboxRelay other = new MongoOutboxRelay("other", outbox, batch -> fail(), 10, Duration.ofMillis(10));
+
+		assertEquals(5, owner.drain());
+		appendEntries(5, 10);
+		assertEquals(0, other.drain());
+		assertEquals(5, outbox.size());
+
+		owner.close();
+		other = new MongoOutboxRelay("other", outbox, batch -> batch.forEach(entry -> published.add(entry.getPayload())), 10, Duration.ofMillis(10));
+		assertEquals(5, other.drain());
+		assertEquals(getPayloads(0, 10), published);
+	}
+
+	@Test
+	public void expiredLeaseIsTakenOver() throws Exception {
+		appendEntries(0, 5);
+
+		MongoOutboxRelay crashed = new MongoOutboxRelay("crashed", outbox, batch -> {
+			throw new IllegalStateException("Crashed while publishing");
+		}, 10, Duration.ofMillis(10), Duration.ofMillis(500));
+		MongoOutboxRelay other = new MongoOutboxRelay("other", outbox, batch -> {
+		}, 10, Duration.ofMillis(10), Duration.ofMillis(500));
+
+		try {
+			crashed.drain();
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+		assertEquals(0, other.drain());
+
+		Thread.sleep(600);
+
+		assertEquals(5, other.drain());
+		assertEquals(0, outbox.size());
+	}
+
+	private void appendEntries(int from, int to) {
+		for (int i = from; i < to; i++)
+			outbox.append(DESTINATION, "key" + i, "payload" + i);
+	}
+
+	private static List<String> getPayloads(int from, int to) {
+		List<String> payloads = new ArrayList<>();
+		for (int i = from; i < to; i++)
+			payloads.add("payload" + i);
+
+		return payloads;
+	}
+}
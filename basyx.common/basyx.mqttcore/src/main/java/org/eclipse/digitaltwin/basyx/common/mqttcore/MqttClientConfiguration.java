@@ -24,25 +24,38 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.common.mqttcore;
 
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Shared Paho client configuration used by all MQTT features.
+ * 
+ * By default, the events are published synchronously on the request thread.
+ * With <code>mqtt.publishing.mode=async</code>, they are published via a
+ * {@link QueuedMqttEventPublisher} instead.
  */
 public class MqttClientConfiguration {
+	public static final String PUBLISHING_MODE = "mqtt.publishing.mode";
+
 	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = PUBLISHING_MODE, havingValue = "sync", matchIfMissing = true)
 	@Bean
 	public IMqttClient mqttClient(@Value("${mqtt.clientId}") String clientId, @Value("${mqtt.hostname}") String hostname, @Value("${mqtt.port}") int port,
 			@Value("${mqtt.protocol:tcp}") String protocol, MqttConnectOptions mqttConnectOptions) throws MqttException {
-		IMqttClient mqttClient = new MqttClient(protocol + "://" + hostname + ":" + port, clientId, new MemoryPersistence());
+		IMqttClient mqttClient = new MqttClient(getServerUri(protocol, hostname, port), clientId, new MemoryPersistence());
 		try {
 			mqttClient.connect(mqttConnectOptions);
 			return mqttClient;
@@ -56,6 +69,43 @@ public class MqttClientConfiguration {
 		}
 	}
 
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = PUBLISHING_MODE, havingValue = "async")
+	@Bean
+	public IMqttAsyncClient mqttAsyncClient(@Value("${mqtt.clientId}") String clientId, @Value("${mqtt.hostname}") String hostname, @Value("${mqtt.port}") int port,
+			@Value("${mqtt.protocol:tcp}") String protocol, MqttConnectOptions mqttConnectOptions) throws MqttException {
+		IMqttAsyncClient mqttClient = new MqttAsyncClient(getServerUri(protocol, hostname, port), clientId, new MemoryPersistence());
+		try {
+			mqttClient.connect(mqttConnectOptions).waitForCompletion();
+			return mqttClient;
+		} catch (MqttException connectError) {
+			try {
+				mqttClient.close();
+			} catch (MqttException closeError) {
+				connectError.addSuppressed(closeError);
+			}
+			throw connectError;
+		}
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = PUBLISHING_MODE, havingValue = "sync", matchIfMissing = true)
+	@Bean
+	public MqttEventPublisher mqttEventPublisher(IMqttClient mqttClient) {
+		return MqttEventPublisher.of(mqttClient);
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = PUBLISHING_MODE, havingValue = "async")
+	@Bean
+	public QueuedMqttEventPublisher queuedMqttEventPublisher(IMqttAsyncClient mqttAsyncClient, MqttConnectOptions mqttConnectOptions,
+			@Value("${mqtt.publishing.queuecapacity:" + QueuedMqttEventPublisher.DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+			@Value("${mqtt.publishing.qos:" + QueuedMqttEventPublisher.DEFAULT_QOS + "}") int qos, ObjectProvider<MeterRegistry> meterRegistry) {
+		QueuedMqttEventPublisher publisher = new QueuedMqttEventPublisher(mqttAsyncClient, queueCapacity, mqttConnectOptions.getMaxInflight(), qos);
+		meterRegistry.ifAvailable(publisher::bindTo);
+		return publisher;
+	}
+
 	@ConditionalOnMissingBean
 	@Bean
 	@ConfigurationProperties(prefix = "mqtt")
@@ -71,4 +121,8 @@ public class MqttClientConfiguration {
 		mqttConnectOptions.setPassword(password.toCharArray());
 		return mqttConnectOptions;
 	}
+
+	private static String getServerUri(String protocol, String hostname, int port) {
+		return protocol + "://" + hostname + ":" + port;
+	}
 }
@@ -30,21 +30,38 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Publishes MQTT event payloads consistently across all feature decorators.
+ * 
+ * {@link #of(IMqttClient)} publishes synchronously on the calling thread,
+ * whereas {@link QueuedMqttEventPublisher} hands the messages over to a
+ * dispatcher thread.
  */
-public final class MqttEventPublisher {
-	private MqttEventPublisher() {
+public interface MqttEventPublisher {
+
+	/**
+	 * Publishes the payload as UTF-8 encoded message to the topic. Failures are
+	 * logged and not propagated to the caller.
+	 */
+	void publish(String topic, String payload);
+
+	static MqttEventPublisher of(IMqttClient mqttClient) {
+		Logger logger = LoggerFactory.getLogger(MqttEventPublisher.class);
+		return (topic, payload) -> publish(mqttClient, topic, payload, logger);
 	}
 
-	public static void publish(IMqttClient mqttClient, String topic, String payload, Logger logger) {
-		byte[] payloadBytes = payload == null ? new byte[0] : payload.getBytes(StandardCharsets.UTF_8);
+	static void publish(IMqttClient mqttClient, String topic, String payload, Logger logger) {
 		try {
 			logger.debug("Send MQTT message to {}: {}", topic, payload);
-			mqttClient.publish(topic, new MqttMessage(payloadBytes));
+			mqttClient.publish(topic, toMessage(payload));
 		} catch (MqttException e) {
 			logger.error("Could not send MQTT message to topic '" + topic + "'", e);
 		}
 	}
+
+	static MqttMessage toMessage(String payload) {
+		return new MqttMessage(payload == null ? new byte[0] : payload.getBytes(StandardCharsets.UTF_8));
+	}
 }
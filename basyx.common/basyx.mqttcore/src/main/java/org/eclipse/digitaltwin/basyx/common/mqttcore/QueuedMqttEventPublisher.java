@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes MQTT events without blocking the calling thread.
+ *
+ * Published messages are put into a bounded in-memory queue and sent by a
+ * single dispatcher thread via an {@link IMqttAsyncClient}. As the messages are
+ * handed over to the client in the order they were published, the order of the
+ * messages of a topic is preserved. At most <code>maxInflight</code> messages
+ * are awaiting their acknowledgement at a time.
+ *
+ * While the client is disconnected, the dispatcher pauses and the queue acts as
+ * disconnect buffer until the client has reconnected. Messages published to a
+ * full queue are dropped, as event notifications must not fail the request
+ * that caused them. Dropped and failed messages are logged and counted. The
+ * counters can be exposed via Micrometer by {@link #bindTo(MeterRegistry)}.
+ *
+ * @author agent
+ *
+ */
+public class QueuedMqttEventPublisher implements MqttEventPublisher, MeterBinder, AutoCloseable {
+	public static final String METER_PREFIX = "basyx.mqtt.publisher.";
+	public static final String TAG_CLIENT = "client";
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+	public static final int DEFAULT_QOS = 1;
+
+	private static final Logger logger = LoggerFactory.getLogger(QueuedMqttEventPublisher.class);
+	private static final long POLL_INTERVAL_MILLIS = 100;
+	private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+	private final IMqttAsyncClient mqttClient;
+	private final BlockingDeque<Message> queue;
+	private final int maxInflight;
+	private final Semaphore inflight;
+	private final int qos;
+	private final Thread dispatcher;
+	private final IMqttActionListener deliveryListener = new DeliveryListener();
+
+	private final LongAdder published = new LongAdder();
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	private volatile boolean closed;
+
+	/**
+	 * @param mqttClient
+	 *            the connected client, which should reconnect automatically
+	 * @param queueCapacity
+	 *            the maximum number of messages waiting to be sent
+	 * @param maxInflight
+	 *            the maximum number of unacknowledged messages, must not exceed
+	 *            the max inflight setting of the client's connect options
+	 * @param qos
+	 *            the quality of service the messages are published with
+	 */
+	public QueuedMqttEventPublisher(IMqttAsyncClient mqttClient, int queueCapacity, int maxInflight, int qos) {
+		if (queueCapacity < 1)
+			throw new IllegalArgumentException("The queue capacity has to be positive, but was " + queueCapacity);
+
+		if (maxInflight < 1)
+			throw new IllegalArgumentException("The max inflight count has to be positive, but was " + maxInflight);
+
+		MqttMessage.validateQos(qos);
+
+		this.mqttClient = mqttClient;
+		this.queue = new LinkedBlockingDeque<>(queueCapacity);
+		this.maxInflight = maxInflight;
+		this.inflight = new Semaphore(maxInflight);
+		this.qos = qos;
+
+		this.dispatcher = new Thread(this::dispatch, "basyx-mqtt-publisher-" + mqttClient.getClientId());
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	@Override
+	public void publish(String topic, String payload) {
+		if (closed || !queue.offerLast(new Message(topic, payload))) {
+			dropped.increment();
+			logger.warn("Dropped MQTT message to topic '{}' as the publish queue is {}", topic, closed ? "closed" : "full");
+			return;
+		}
+
+		published.increment();
+	}
+
+	/**
+	 * Stops accepting messages and waits until the queued messages have been
+	 * acknowledged or the close timeout has elapsed
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+		try {
+			dispatcher.join(CLOSE_TIMEOUT.toMillis());
+			if (inflight.tryAcquire(maxInflight, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS))
+				inflight.release(maxInflight);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		dispatcher.interrupt();
+
+		if (!queue.isEmpty())
+			logger.warn("Closed the MQTT publisher of client {} with {} unsent messages", mqttClient.getClientId(), queue.size());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindCounter(registry, "published", published, "Messages accepted for publishing");
+		bindCounter(registry, "delivered", delivered, "Messages acknowledged by the broker");
+		bindCounter(registry, "failed", failed, "Messages that could not be delivered");
+		bindCounter(registry, "dropped", dropped, "Messages discarded due to a full queue");
+
+		Gauge.builder(METER_PREFIX + "queue.size", queue, BlockingDeque::size).description("Messages waiting to be sent").tag(TAG_CLIENT, mqttClient.getClientId()).register(registry);
+		Gauge.builder(METER_PREFIX + "inflight", this, QueuedMqttEventPublisher::getInflightCount).description("Messages awaiting their acknowledgement").tag(TAG_CLIENT, mqttClient.getClientId())
+				.register(registry);
+	}
+
+	public long getPublishedCount() {
+		return published.sum();
+	}
+
+	public long getDeliveredCount() {
+		return delivered.sum();
+	}
+
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	public int getInflightCount() {
+		return maxInflight - inflight.availablePermits();
+	}
+
+	private void dispatch() {
+		while (!closed || !queue.isEmpty()) {
+			try {
+				if (!mqttClient.isConnected()) {
+					if (closed)
+						return;
+
+					Thread.sleep(POLL_INTERVAL_MILLIS);
+					continue;
+				}
+
+				Message message = queue.pollFirst(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				if (message == null)
+					continue;
+
+				inflight.acquire();
+				send(message);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void send(Message message) {
+		MqttMessage mqttMessage = MqttEventPublisher.toMessage(message.payload);
+		mqttMessage.setQos(qos);
+
+		try {
+			logger.debug("Send MQTT message to {}: {}", message.topic, message.payload);
+			mqttClient.publish(message.topic, mqttMessage, message.topic, deliveryListener);
+		} catch (MqttException e) {
+			inflight.release();
+
+			if (e.getReasonCode() == MqttException.REASON_CODE_CLIENT_NOT_CONNECTED && queue.offerFirst(message))
+				return;
+
+			failed.increment();
+			logger.error("Could not send MQTT message to topic '" + message.topic + "'", e);
+		}
+	}
+
+	private void bindCounter(MeterRegistry registry, String meter, LongAdder counter, String description) {
+		FunctionCounter.builder(METER_PREFIX + meter, counter, LongAdder::sum).description(description).tag(TAG_CLIENT, mqttClient.getClientId()).register(registry);
+	}
+
+	private final class DeliveryListener implements IMqttActionListener {
+		@Override
+		public void onSuccess(IMqttToken token) {
+			delivered.increment();
+			inflight.release();
+		}
+
+		@Override
+		public void onFailure(IMqttToken token, Throwable e) {
+			failed.increment();
+			inflight.release();
+			logger.error("Could not send MQTT message to topic '" + token.getUserContext() + "'", e);
+		}
+	}
+
+	private static final class Message {
+		private final String topic;
+		private final String payload;
+
+		private Message(String topic, String payload) {
+			this.topic = topic;
+			this.payload = payload;
+		}
+	}
+}
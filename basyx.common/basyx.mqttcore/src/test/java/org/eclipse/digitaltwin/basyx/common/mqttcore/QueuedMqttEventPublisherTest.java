@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener.MqttEvent;
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.junit.After;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class QueuedMqttEventPublisherTest {
+	private static final int MAX_INFLIGHT = 10;
+
+	private final List<IMqttAsyncClient> clients = new ArrayList<>();
+	private final List<QueuedMqttEventPublisher> publishers = new ArrayList<>();
+
+	@After
+	public void closeClients() throws MqttException {
+		publishers.forEach(QueuedMqttEventPublisher::close);
+		for (IMqttAsyncClient client : clients) {
+			if (client.isConnected())
+				client.disconnectForcibly();
+			client.close();
+		}
+	}
+
+	@Test
+	public void preservesOrderPerTopic() throws Exception {
+		try (MqttBrokerTestSupport fixture = MqttBrokerTestSupport.start()) {
+			IMqttAsyncClient client = createClient(fixture);
+			client.connect(createConnectOptions()).waitForCompletion();
+			QueuedMqttEventPublisher publisher = createPublisher(client, 1000);
+
+			for (int i = 0; i < 100; i++) {
+				publisher.publish("ordered/a", "a-" + i);
+				publisher.publish("ordered/b", "b-" + i);
+			}
+
+			Map<String, List<String>> received = new HashMap<>();
+			for (int i = 0; i < 200; i++) {
+				MqttEvent event = fixture.listener().awaitNextEvent();
+				received.computeIfAbsent(event.topic(), topic -> new ArrayList<>()).add(event.payload());
+			}
+
+			assertEquals(getExpectedPayloads("a-"), received.get("ordered/a"));
+			assertEquals(getExpectedPayloads("b-"), received.get("ordered/b"));
+
+			publisher.close();
+			assertEquals(200, publisher.getPublishedCount());
+			assertEquals(200, publisher.getDeliveredCount());
+			assertEquals(0, publisher.getDroppedCount());
+		}
+	}
+
+	@Test
+	public void buffersWhileDisconnectedAndDropsOnFullQueue() throws Exception {
+		try (MqttBrokerTestSupport fixture = MqttBrokerTestSupport.start()) {
+			IMqttAsyncClient client = createClient(fixture);
+			QueuedMqttEventPublisher publisher = createPublisher(client, 2);
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			publisher.bindTo(registry);
+
+			publisher.publish("buffered", "first");
+			publisher.publish("buffered", "second");
+			publisher.publish("buffered", "third");
+
+			assertEquals(2, publisher.getQueueSize());
+			assertEquals(2, registry.get(QueuedMqttEventPublisher.METER_PREFIX + "queue.size").gauge().value(), 0);
+			assertEquals(1, registry.get(QueuedMqttEventPublisher.METER_PREFIX + "dropped").functionCounter().count(), 0);
+
+			client.connect(createConnectOptions()).waitForCompletion();
+
+			assertEquals("first", fixture.listener().awaitEvent("buffered").payload());
+			assertEquals("second", fixture.listener().awaitEvent("buffered").payload());
+
+			publisher.close();
+			assertEquals(2, publisher.getDeliveredCount());
+			assertEquals(0, publisher.getInflightCount());
+			assertEquals(2, registry.get(QueuedMqttEventPublisher.METER_PREFIX + "delivered").functionCounter().count(), 0);
+		}
+	}
+
+	@Test
+	public void dropsMessagesAfterClose() throws Exception {
+		IMqttAsyncClient client = new MqttAsyncClient("tcp://localhost:1", uniqueClientId(), new MemoryPersistence());
+		clients.add(client);
+		QueuedMqttEventPublisher publisher = createPublisher(client, 10);
+		publisher.close();
+
+		publisher.publish("closed", "payload");
+
+		assertEquals(0, publisher.getPublishedCount());
+		assertEquals(1, publisher.getDroppedCount());
+	}
+
+	private IMqttAsyncClient createClient(MqttBrokerTestSupport fixture) throws MqttException {
+		IMqttAsyncClient client = new MqttAsyncClient(fixture.serverUri(), uniqueClientId(), new MemoryPersistence());
+		clients.add(client);
+		return client;
+	}
+
+	private QueuedMqttEventPublisher createPublisher(IMqttAsyncClient client, int queueCapacity) {
+		QueuedMqttEventPublisher publisher = new QueuedMqttEventPublisher(client, queueCapacity, MAX_INFLIGHT, QueuedMqttEventPublisher.DEFAULT_QOS);
+		publishers.add(publisher);
+		return publisher;
+	}
+
+	private static MqttConnectOptions createConnectOptions() {
+		MqttConnectOptions options = new MqttConnectOptions();
+		options.setMaxInflight(MAX_INFLIGHT);
+		return options;
+	}
+
+	private static List<String> getExpectedPayloads(String prefix) {
+		List<String> payloads = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			payloads.add(prefix + i);
+		return payloads;
+	}
+
+	private static String uniqueClientId() {
+		return "queued-" + UUID.randomUUID().toString().substring(0, 16);
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A pending change of a single document of an index
+ *
+ * Changes of the same document are coalesced via {@link #merge(DocumentChange)}
+ * so that only the net effect is sent to Elasticsearch. Full index changes
+ * either carry the document or leave it to be loaded when the change is
+ * flushed, so that the latest state is indexed.
+ *
+ * A change that failed keeps the number of attempts and the time it may be
+ * sent again, also when it is merged with subsequent changes.
+ *
+ * @author agent
+ *
+ */
+final class DocumentChange {
+
+	enum Kind {
+		INDEX, UPDATE, DELETE
+	}
+
+	private final Kind kind;
+	private final Object document;
+	private final Map<String, Object> updates;
+	private final long enqueuedNanos;
+	private final int attempts;
+	private final long retryAtNanos;
+
+	private DocumentChange(Kind kind, Object document, Map<String, Object> updates, long enqueuedNanos) {
+		this(kind, document, updates, enqueuedNanos, 0, enqueuedNanos);
+	}
+
+	private DocumentChange(Kind kind, Object document, Map<String, Object> updates, long enqueuedNanos, int attempts, long retryAtNanos) {
+		this.kind = kind;
+		this.document = document;
+		this.updates = updates;
+		this.enqueuedNanos = enqueuedNanos;
+		this.attempts = attempts;
+		this.retryAtNanos = retryAtNanos;
+	}
+
+	static DocumentChange index() {
+		return index(null);
+	}
+
+	static DocumentChange index(Object document) {
+		return new DocumentChange(Kind.INDEX, document, Collections.emptyMap(), System.nanoTime());
+	}
+
+	static DocumentChange update(String key, Object value) {
+		Map<String, Object> updates = new LinkedHashMap<>();
+		updates.put(key, value);
+		return new DocumentChange(Kind.UPDATE, null, updates, System.nanoTime());
+	}
+
+	static DocumentChange delete() {
+		return new DocumentChange(Kind.DELETE, null, Collections.emptyMap(), System.nanoTime());
+	}
+
+	/**
+	 * Combines this change with a subsequent change of the same document
+	 *
+	 * @param next
+	 *            the change that happened after this one
+	 * @return the change with the same effect as applying both changes in order
+	 */
+	DocumentChange merge(DocumentChange next) {
+		switch (next.kind) {
+		case INDEX:
+		case DELETE:
+			return new DocumentChange(next.kind, next.document, next.updates, enqueuedNanos, attempts, retryAtNanos);
+		default:
+			return mergeUpdate(next);
+		}
+	}
+
+	private DocumentChange mergeUpdate(DocumentChange next) {
+		switch (kind) {
+		case DELETE:
+			return this;
+		case INDEX:
+			return document == null ? this : new DocumentChange(Kind.INDEX, null, Collections.emptyMap(), enqueuedNanos, attempts, retryAtNanos);
+		default:
+			Map<String, Object> merged = new LinkedHashMap<>(updates);
+			merged.putAll(next.updates);
+			return new DocumentChange(Kind.UPDATE, null, merged, enqueuedNanos, attempts, retryAtNanos);
+		}
+	}
+
+	/**
+	 * @param retryAtNanos
+	 *            the {@link System#nanoTime()} from which the change may be sent
+	 *            again
+	 * @return this change after one more failed attempt
+	 */
+	DocumentChange retry(long retryAtNanos) {
+		return new DocumentChange(kind, document, updates, enqueuedNanos, attempts + 1, retryAtNanos);
+	}
+
+	boolean isDue(long nowNanos) {
+		return nowNanos - retryAtNanos >= 0;
+	}
+
+	Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the document to be indexed or null, if it is to be loaded on flush
+	 */
+	Object getDocument() {
+		return document;
+	}
+
+	Map<String, Object> getUpdates() {
+		return updates;
+	}
+
+	long getEnqueuedNanos() {
+		return enqueuedNanos;
+	}
+
+	/**
+	 * @return the number of failed attempts to apply this change
+	 */
+	int getAttempts() {
+		return attempts;
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+/**
+ * Keeps the documents of an Elasticsearch index in sync with the repository
+ * they are derived from
+ *
+ * @author agent
+ *
+ */
+public interface DocumentIndexer extends AutoCloseable {
+
+	/**
+	 * Indexes the current state of the document, which is retrieved via the
+	 * {@link DocumentLoader} of the indexer
+	 *
+	 * @param id
+	 *            the id of the document
+	 */
+	public void index(String id);
+
+	/**
+	 * Indexes the given document
+	 *
+	 * @param id
+	 *            the id of the document
+	 * @param document
+	 *            the document as it should be stored in the index
+	 */
+	public void index(String id, Object document);
+
+	/**
+	 * Updates a part of an indexed document. The updates of a document are
+	 * rendered by the {@link PartialUpdateRenderer} of the indexer. If the
+	 * update cannot be applied, the document is indexed completely instead.
+	 *
+	 * @param id
+	 *            the id of the document
+	 * @param key
+	 *            identifies the updated part, a later update with the same key
+	 *            supersedes the earlier one
+	 * @param value
+	 *            the update as understood by the {@link PartialUpdateRenderer}
+	 */
+	public void update(String id, String key, Object value);
+
+	/**
+	 * Removes the document from the index
+	 *
+	 * @param id
+	 *            the id of the document
+	 */
+	public void delete(String id);
+
+	@Override
+	public default void close() {
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Creates the {@link DocumentIndexer}s of a search feature according to the
+ * configured indexing mode.
+ *
+ * With {@value #MODE_SYNC}, changes are indexed before returning to the
+ * caller. With {@value #MODE_ASYNC}, they are indexed by a
+ * {@link WriteBehindDocumentIndexer}, which is closed together with this
+ * factory.
+ *
+ * @author agent
+ *
+ */
+public class DocumentIndexerFactory implements AutoCloseable {
+	public static final String MODE_SYNC = "sync";
+	public static final String MODE_ASYNC = "async";
+
+	private final ElasticsearchClient client;
+	private final boolean writeBehind;
+	private final Duration flushInterval;
+	private final int maxBatchSize;
+	private final MeterRegistry meterRegistry;
+	private final List<DocumentIndexer> indexers = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a factory for synchronous indexers
+	 */
+	public DocumentIndexerFactory(ElasticsearchClient client) {
+		this(client, MODE_SYNC, WriteBehindDocumentIndexer.DEFAULT_FLUSH_INTERVAL, WriteBehindDocumentIndexer.DEFAULT_MAX_BATCH_SIZE, null);
+	}
+
+	/**
+	 * @param client
+	 *            the client of the Elasticsearch cluster
+	 * @param mode
+	 *            either {@value #MODE_SYNC} or {@value #MODE_ASYNC}
+	 * @param flushInterval
+	 *            the time changes are collected in {@value #MODE_ASYNC} mode
+	 * @param maxBatchSize
+	 *            the maximum number of changes per bulk request in
+	 *            {@value #MODE_ASYNC} mode
+	 * @param meterRegistry
+	 *            the registry the indexing metrics are bound to, may be null
+	 */
+	public DocumentIndexerFactory(ElasticsearchClient client, String mode, Duration flushInterval, int maxBatchSize, MeterRegistry meterRegistry) {
+		if (!MODE_SYNC.equalsIgnoreCase(mode) && !MODE_ASYNC.equalsIgnoreCase(mode))
+			throw new IllegalArgumentException("Unknown indexing mode '" + mode + "', expected '" + MODE_SYNC + "' or '" + MODE_ASYNC + "'");
+
+		this.client = client;
+		this.writeBehind = MODE_ASYNC.equalsIgnoreCase(mode);
+		this.flushInterval = flushInterval;
+		this.maxBatchSize = maxBatchSize;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * @param indexName
+	 *            the index the documents are stored in
+	 * @param loader
+	 *            loads documents that are indexed completely
+	 * @param renderer
+	 *            renders partial updates, may be null in which case updated
+	 *            documents are indexed completely
+	 */
+	public DocumentIndexer create(String indexName, DocumentLoader loader, PartialUpdateRenderer renderer) {
+		if (!writeBehind)
+			return new ElasticsearchDocumentIndexer(client, indexName, loader, renderer);
+
+		WriteBehindDocumentIndexer indexer = new WriteBehindDocumentIndexer(client, indexName, loader, renderer, flushInterval, maxBatchSize);
+		if (meterRegistry != null)
+			indexer.bindTo(meterRegistry);
+
+		indexers.add(indexer);
+		return indexer;
+	}
+
+	public boolean isWriteBehind() {
+		return writeBehind;
+	}
+
+	/**
+	 * Flushes and closes all indexers created by this factory
+	 */
+	@Override
+	public void close() {
+		indexers.forEach(DocumentIndexer::close);
+		indexers.clear();
+	}
+}
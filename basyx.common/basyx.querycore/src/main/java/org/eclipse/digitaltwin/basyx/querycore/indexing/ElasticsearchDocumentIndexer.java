@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+
+/**
+ * {@link DocumentIndexer} that sends each change to Elasticsearch before
+ * returning to the caller. Failures are thrown to the caller.
+ *
+ * All changes are sent via the bulk API, so that subclasses can send several
+ * changes in one request.
+ *
+ * @author agent
+ *
+ */
+public class ElasticsearchDocumentIndexer implements DocumentIndexer {
+	private static final Logger logger = LoggerFactory.getLogger(ElasticsearchDocumentIndexer.class);
+	private static final String RESULT_NOOP = "noop";
+	private static final int STATUS_NOT_FOUND = 404;
+	private static final int STATUS_REQUEST_TIMEOUT = 408;
+	private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+	private final ElasticsearchClient client;
+	private final String indexName;
+	private final DocumentLoader loader;
+	private final PartialUpdateRenderer renderer;
+
+	/**
+	 * @param client
+	 *            the client of the Elasticsearch cluster
+	 * @param indexName
+	 *            the index the documents are stored in
+	 * @param loader
+	 *            loads documents that are indexed completely
+	 * @param renderer
+	 *            renders partial updates, may be null in which case updated
+	 *            documents are indexed completely
+	 */
+	public ElasticsearchDocumentIndexer(ElasticsearchClient client, String indexName, DocumentLoader loader, PartialUpdateRenderer renderer) {
+		this.client = client;
+		this.indexName = indexName;
+		this.loader = loader;
+		this.renderer = renderer;
+	}
+
+	@Override
+	public void index(String id) {
+		submit(id, DocumentChange.index());
+	}
+
+	@Override
+	public void index(String id, Object document) {
+		submit(id, DocumentChange.index(document));
+	}
+
+	@Override
+	public void update(String id, String key, Object value) {
+		submit(id, renderer == null ? DocumentChange.index() : DocumentChange.update(key, value));
+	}
+
+	@Override
+	public void delete(String id) {
+		submit(id, DocumentChange.delete());
+	}
+
+	public String getIndexName() {
+		return indexName;
+	}
+
+	/**
+	 * Hands over a change to be sent to Elasticsearch
+	 */
+	void submit(String id, DocumentChange change) {
+		execute(Collections.singletonMap(id, change));
+	}
+
+	/**
+	 * Called for each change that has been applied to the index
+	 */
+	void onIndexed(String id, DocumentChange change) {
+	}
+
+	/**
+	 * Called for changes that could not be applied to the index
+	 *
+	 * @param changes
+	 *            the failed changes by the id of their document
+	 * @param cause
+	 *            the reason of the failure
+	 * @param permanent
+	 *            true, if sending the changes again will fail as well, e.g.
+	 *            as Elasticsearch rejected the document
+	 */
+	void onFailure(Map<String, DocumentChange> changes, RuntimeException cause, boolean permanent) {
+		throw cause;
+	}
+
+	/**
+	 * Called for partial updates that could not be applied, e.g. as the
+	 * document has not been indexed yet. The changes passed index the
+	 * documents completely.
+	 */
+	void onFallback(Map<String, DocumentChange> fallback) {
+		execute(fallback);
+	}
+
+	/**
+	 * Sends the changes to Elasticsearch in a single bulk request
+	 *
+	 * @param changes
+	 *            the changes by the id of their document
+	 */
+	void execute(Map<String, DocumentChange> changes) {
+		List<String> ids = new ArrayList<>(changes.size());
+		Map<String, DocumentChange> sent = new LinkedHashMap<>();
+		List<BulkOperation> operations = new ArrayList<>(changes.size());
+
+		for (Map.Entry<String, DocumentChange> entry : changes.entrySet()) {
+			BulkOperation operation = toOperation(entry.getKey(), entry.getValue());
+			if (operation == null)
+				continue;
+
+			ids.add(entry.getKey());
+			sent.put(entry.getKey(), entry.getValue());
+			operations.add(operation);
+		}
+
+		if (operations.isEmpty())
+			return;
+
+		BulkResponse response;
+		try {
+			response = client.bulk(b -> b.index(indexName).operations(operations));
+		} catch (IOException e) {
+			onFailure(sent, new UncheckedIOException("Could not send " + ids.size() + " changes to index '" + indexName + "'", e), false);
+			return;
+		} catch (ElasticsearchException e) {
+			onFailure(sent, e, isPermanent(e.status()));
+			return;
+		} catch (RuntimeException e) {
+			onFailure(sent, e, false);
+			return;
+		}
+
+		Map<String, DocumentChange> fallback = new LinkedHashMap<>();
+		for (int i = 0; i < response.items().size(); i++)
+			handleResult(ids.get(i), sent.get(ids.get(i)), response.items().get(i), fallback);
+
+		if (!fallback.isEmpty())
+			onFallback(fallback);
+	}
+
+	private void handleResult(String id, DocumentChange change, BulkResponseItem item, Map<String, DocumentChange> fallback) {
+		boolean isUpdate = item.operationType() == OperationType.Update;
+
+		if (item.error() == null && !(isUpdate && RESULT_NOOP.equals(item.result()))) {
+			onIndexed(id, change);
+		} else if (isUpdate && (item.error() == null || item.status() == STATUS_NOT_FOUND)) {
+			logger.debug("Could not partially update document '{}' in index '{}', indexing it completely", id, indexName);
+			fallback.put(id, change.merge(DocumentChange.index()));
+		} else if (item.operationType() == OperationType.Delete && item.status() == STATUS_NOT_FOUND) {
+			onIndexed(id, change);
+		} else {
+			onFailure(Collections.singletonMap(id, change), new IllegalStateException("Could not index document '" + id + "' in index '" + indexName + "': " + item.error().reason()), isPermanent(item.status()));
+		}
+	}
+
+	/**
+	 * Client errors are permanent, apart from timeouts and rejections due to
+	 * load
+	 */
+	private static boolean isPermanent(int status) {
+		return status >= 400 && status < 500 && status != STATUS_REQUEST_TIMEOUT && status != STATUS_TOO_MANY_REQUESTS;
+	}
+
+	private BulkOperation toOperation(String id, DocumentChange change) {
+		switch (change.getKind()) {
+		case DELETE:
+			return BulkOperation.of(b -> b.delete(d -> d.id(id)));
+		case UPDATE:
+			return BulkOperation.of(b -> b.update(u -> u.id(id).action(renderer.render(change.getUpdates()))));
+		default:
+			Object document = change.getDocument() != null ? change.getDocument() : loadDocument(id, change);
+			if (document == null)
+				return null;
+
+			return BulkOperation.of(b -> b.index(i -> i.id(id).document(document)));
+		}
+	}
+
+	private Object loadDocument(String id, DocumentChange change) {
+		try {
+			return loader.load(id);
+		} catch (ElementDoesNotExistException e) {
+			logger.debug("Skipped indexing document '{}' in index '{}' as it does not exist anymore", id, indexName);
+			return null;
+		} catch (RuntimeException e) {
+			onFailure(Collections.singletonMap(id, change), e, false);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import java.util.Map;
+
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+
+/**
+ * Renders the coalesced partial updates of a document into an Elasticsearch
+ * update action, e.g. a partial document or a script.
+ *
+ * A script that cannot apply the updates, e.g. as the updated part does not
+ * exist in the indexed document, should set <code>ctx.op</code> to
+ * <code>noop</code>. The indexer then indexes the document completely.
+ *
+ * @author agent
+ *
+ */
+@FunctionalInterface
+public interface PartialUpdateRenderer {
+
+	/**
+	 * @param updates
+	 *            the updates by their key in the order they were made
+	 * @return the update action applying all updates
+	 */
+	public UpdateAction<Object, Object> render(Map<String, Object> updates);
+}
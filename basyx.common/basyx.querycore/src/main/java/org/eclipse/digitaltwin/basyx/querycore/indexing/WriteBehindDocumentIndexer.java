@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link DocumentIndexer} that applies changes to the index asynchronously.
+ *
+ * Changes are collected per document and coalesced, so that a document
+ * changed several times within a flush interval is sent to Elasticsearch only
+ * once. A single thread flushes the collected changes via the bulk API in
+ * batches of at most <code>maxBatchSize</code> changes. A flush is triggered
+ * early once as many documents have pending changes.
+ *
+ * Failed changes are put back into the pending changes and sent again after
+ * an exponential backoff, ahead of any later change of the same document.
+ * Changes that Elasticsearch rejected or that failed <code>maxAttempts</code>
+ * times are logged and counted, as the index is derived data that must not
+ * fail the request that caused the change. The counters and the indexing lag,
+ * i.e. the time from the first change of a document until it is indexed, can
+ * be exposed via Micrometer by {@link #bindTo(MeterRegistry)}.
+ *
+ * @author agent
+ *
+ */
+public class WriteBehindDocumentIndexer extends ElasticsearchDocumentIndexer implements MeterBinder {
+	public static final String METER_PREFIX = "basyx.search.indexing.";
+	public static final String TAG_INDEX = "index";
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(500);
+	public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+	public static final int DEFAULT_MAX_ATTEMPTS = 5;
+	public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(1);
+
+	private static final Logger logger = LoggerFactory.getLogger(WriteBehindDocumentIndexer.class);
+	private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(1);
+
+	private final ConcurrentMap<String, DocumentChange> pending = new ConcurrentHashMap<>();
+	private final int maxBatchSize;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final ScheduledExecutorService scheduler;
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder indexed = new LongAdder();
+	private final LongAdder retried = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	private volatile Timer lagTimer;
+	private volatile boolean closed;
+
+	/**
+	 * @param client
+	 *            the client of the Elasticsearch cluster
+	 * @param indexName
+	 *            the index the documents are stored in
+	 * @param loader
+	 *            loads documents that are indexed completely
+	 * @param renderer
+	 *            renders partial updates, may be null in which case updated
+	 *            documents are indexed completely
+	 * @param flushInterval
+	 *            the time changes are collected before they are flushed
+	 * @param maxBatchSize
+	 *            the maximum number of changes sent in one bulk request
+	 */
+	public WriteBehindDocumentIndexer(ElasticsearchClient client, String indexName, DocumentLoader loader, PartialUpdateRenderer renderer, Duration flushInterval, int maxBatchSize) {
+		this(client, indexName, loader, renderer, flushInterval, maxBatchSize, DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_BACKOFF);
+	}
+
+	/**
+	 * @param client
+	 *            the client of the Elasticsearch cluster
+	 * @param indexName
+	 *            the index the documents are stored in
+	 * @param loader
+	 *            loads documents that are indexed completely
+	 * @param renderer
+	 *            renders partial updates, may be null in which case updated
+	 *            documents are indexed completely
+	 * @param flushInterval
+	 *            the time changes are collected before they are flushed
+	 * @param maxBatchSize
+	 *            the maximum number of changes sent in one bulk request
+	 * @param maxAttempts
+	 *            the number of attempts after which a failing change is dropped
+	 * @param retryBackoff
+	 *            the time before the first retry of a failed change, doubled
+	 *            with each further attempt
+	 */
+	public WriteBehindDocumentIndexer(ElasticsearchClient client, String indexName, DocumentLoader loader, PartialUpdateRenderer renderer, Duration flushInterval, int maxBatchSize, int maxAttempts,
+			Duration retryBackoff) {
+		super(client, indexName, loader, renderer);
+
+		if (flushInterval.isNegative() || flushInterval.isZero())
+			throw new IllegalArgumentException("The flush interval has to be positive, but was " + flushInterval);
+
+		if (maxBatchSize < 1)
+			throw new IllegalArgumentException("The max batch size has to be positive, but was " + maxBatchSize);
+
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException("The max attempts have to be positive, but were " + maxAttempts);
+
+		this.maxBatchSize = maxBatchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "basyx-search-indexer-" + indexName);
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.scheduler.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Sends all pending changes to Elasticsearch
+	 */
+	public synchronized void flush() {
+		flushRequested.set(false);
+
+		try {
+			int remaining = pending.size();
+			while (remaining > 0) {
+				Map<String, DocumentChange> batch = drain(Math.min(remaining, maxBatchSize));
+				if (batch.isEmpty())
+					return;
+
+				remaining -= batch.size();
+				execute(batch);
+			}
+		} catch (RuntimeException e) {
+			logger.error("Could not flush the pending changes of index '" + getIndexName() + "'", e);
+		}
+	}
+
+	/**
+	 * Stops the periodic flush and sends the pending changes, including the ones
+	 * waiting for a retry. Changes submitted afterwards are sent synchronously.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		scheduler.shutdown();
+
+		try {
+			scheduler.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		flush();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindCounter(registry, "submitted", submitted, "Changes submitted for indexing");
+		bindCounter(registry, "coalesced", coalesced, "Changes merged into a pending change of the same document");
+		bindCounter(registry, "indexed", indexed, "Changes applied to the index");
+		bindCounter(registry, "retried", retried, "Failed changes put back to be sent again");
+		bindCounter(registry, "failed", failed, "Changes that could not be applied to the index");
+
+		Gauge.builder(METER_PREFIX + "pending", pending, Map::size).description("Documents with changes waiting to be indexed").tag(TAG_INDEX, getIndexName()).register(registry);
+		lagTimer = Timer.builder(METER_PREFIX + "lag").description("Time from the first pending change of a document until it is indexed").tag(TAG_INDEX, getIndexName()).register(registry);
+	}
+
+	public long getSubmittedCount() {
+		return submitted.sum();
+	}
+
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+	public long getIndexedCount() {
+		return indexed.sum();
+	}
+
+	public long getRetriedCount() {
+		return retried.sum();
+	}
+
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	@Override
+	void submit(String id, DocumentChange change) {
+		if (closed) {
+			super.submit(id, change);
+			return;
+		}
+
+		submitted.increment();
+		enqueue(id, change);
+
+		if (pending.size() >= maxBatchSize && flushRequested.compareAndSet(false, true))
+			requestFlush();
+	}
+
+	@Override
+	void onIndexed(String id, DocumentChange change) {
+		indexed.increment();
+
+		Timer timer = lagTimer;
+		if (timer != null)
+			timer.record(System.nanoTime() - change.getEnqueuedNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	void onFailure(Map<String, DocumentChange> changes, RuntimeException cause, boolean permanent) {
+		List<String> dropped = new ArrayList<>();
+		long now = System.nanoTime();
+
+		changes.forEach((id, change) -> {
+			if (permanent || closed || change.getAttempts() + 1 >= maxAttempts) {
+				dropped.add(id);
+				return;
+			}
+
+			retried.increment();
+			requeue(id, change.retry(now + getBackoff(change.getAttempts()).toNanos()));
+		});
+
+		if (dropped.size() < changes.size())
+			logger.warn("Could not index {} documents in index '{}', retrying: {}", changes.size() - dropped.size(), getIndexName(), cause.getMessage());
+
+		if (!dropped.isEmpty()) {
+			failed.add(dropped.size());
+			logger.error("Could not index the documents " + dropped + " in index '" + getIndexName() + "'", cause);
+		}
+	}
+
+	@Override
+	void onFallback(Map<String, DocumentChange> fallback) {
+		fallback.forEach(this::requeue);
+	}
+
+	private void requestFlush() {
+		try {
+			scheduler.execute(this::flush);
+		} catch (RejectedExecutionException e) {
+			logger.debug("Skipped early flush of index '{}' as the indexer is closing", getIndexName());
+		}
+	}
+
+	private void enqueue(String id, DocumentChange change) {
+		pending.merge(id, change, (existing, next) -> {
+			coalesced.increment();
+			return existing.merge(next);
+		});
+	}
+
+	/**
+	 * Puts back a change that has been taken from the pending changes, so that
+	 * it is applied before a change of the same document submitted meanwhile
+	 */
+	private void requeue(String id, DocumentChange change) {
+		pending.merge(id, change, (later, earlier) -> earlier.merge(later));
+	}
+
+	private Duration getBackoff(int attempts) {
+		Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+		return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+	}
+
+	private Map<String, DocumentChange> drain(int count) {
+		Map<String, DocumentChange> batch = new LinkedHashMap<>();
+		long now = System.nanoTime();
+		Iterator<Map.Entry<String, DocumentChange>> entries = pending.entrySet().iterator();
+		while (batch.size() < count && entries.hasNext()) {
+			Map.Entry<String, DocumentChange> entry = entries.next();
+			DocumentChange change = entry.getValue();
+			if (!closed && !change.isDue(now))
+				continue;
+
+			if (pending.remove(entry.getKey(), change))
+				batch.put(entry.getKey(), change);
+		}
+		return batch;
+	}
+
+	private void bindCounter(MeterRegistry registry, String meter, LongAdder counter, String description) {
+		FunctionCounter.builder(METER_PREFIX + meter, counter, LongAdder::sum).description(description).tag(TAG_INDEX, getIndexName()).register(registry);
+	}
+}
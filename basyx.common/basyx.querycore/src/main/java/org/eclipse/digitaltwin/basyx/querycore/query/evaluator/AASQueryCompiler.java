@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.digitaltwin.basyx.querycore.query.model.AASQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.LogicalExpression;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.MatchExpression;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.StringValue;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.Value;
+
+/**
+ * Compiles the condition of an {@link AASQuery} into a {@link CompiledQuery}
+ * that is evaluated directly on aas4j model objects, i.e., without
+ * Elasticsearch
+ *
+ * Fields, literals and regular expressions are parsed once during
+ * compilation. Fields referring to multiple values, e.g.
+ * <code>$sme#idShort</code>, match if any of their values matches. All
+ * operators of an expression as well as the expressions of a
+ * <code>$match</code> have to hold. <code>$ne</code> holds if none of the
+ * values equals.
+ *
+ * @author agent
+ *
+ */
+public class AASQueryCompiler {
+    private final MongoPreFilterTranslator mongoTranslator = new MongoPreFilterTranslator();
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the condition is invalid
+     */
+    public CompiledQuery compile(AASQuery query) {
+        return compile(query == null ? null : query.get$condition());
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the condition is invalid
+     */
+    public CompiledQuery compile(LogicalExpression condition) {
+        if (condition == null)
+            return new CompiledQuery(element -> true, Map.of());
+
+        return new CompiledQuery(compileLogical(condition), mongoTranslator.translate(condition));
+    }
+
+    private Predicate<Object> compileLogical(LogicalExpression expression) {
+        List<Predicate<Object>> conjuncts = new ArrayList<>();
+
+        if (isSet(expression.get$and()))
+            conjuncts.add(allOf(expression.get$and().stream().map(this::compileLogical).toList()));
+        if (isSet(expression.get$or()))
+            conjuncts.add(anyOf(expression.get$or().stream().map(this::compileLogical).toList()));
+        if (expression.get$not() != null)
+            conjuncts.add(compileLogical(expression.get$not()).negate());
+        if (isSet(expression.get$match()))
+            conjuncts.add(allOf(expression.get$match().stream().map(this::compileMatch).toList()));
+
+        addComparisons(conjuncts, expression.get$eq(), expression.get$ne(), expression.get$gt(), expression.get$ge(), expression.get$lt(), expression.get$le());
+        addStringOperations(conjuncts, expression.get$contains(), expression.get$startsWith(), expression.get$endsWith(), expression.get$regex());
+        addBoolean(conjuncts, expression.get$boolean());
+
+        return allOf(conjuncts);
+    }
+
+    private Predicate<Object> compileMatch(MatchExpression expression) {
+        List<Predicate<Object>> conjuncts = new ArrayList<>();
+
+        if (isSet(expression.get$match()))
+            conjuncts.add(allOf(expression.get$match().stream().map(this::compileMatch).toList()));
+
+        addComparisons(conjuncts, expression.get$eq(), expression.get$ne(), expression.get$gt(), expression.get$ge(), expression.get$lt(), expression.get$le());
+        addStringOperations(conjuncts, expression.get$contains(), expression.get$startsWith(), expression.get$endsWith(), expression.get$regex());
+        addBoolean(conjuncts, expression.get$boolean());
+
+        return allOf(conjuncts);
+    }
+
+    private void addComparisons(List<Predicate<Object>> conjuncts, List<Value> eq, List<Value> ne, List<Value> gt, List<Value> ge, List<Value> lt, List<Value> le) {
+        addComparison(conjuncts, eq, "$eq", result -> result == 0);
+        if (isSet(ne))
+            conjuncts.add(compileComparison(ne, "$ne", result -> result == 0).negate());
+        addComparison(conjuncts, gt, "$gt", result -> result > 0);
+        addComparison(conjuncts, ge, "$ge", result -> result >= 0);
+        addComparison(conjuncts, lt, "$lt", result -> result < 0);
+        addComparison(conjuncts, le, "$le", result -> result <= 0);
+    }
+
+    private void addComparison(List<Predicate<Object>> conjuncts, List<Value> operands, String operator, Predicate<Integer> accepts) {
+        if (isSet(operands))
+            conjuncts.add(compileComparison(operands, operator, accepts));
+    }
+
+    private Predicate<Object> compileComparison(List<Value> operands, String operator, Predicate<Integer> accepts) {
+        requireBinary(operands, operator);
+        Operand left = compileValue(operands.get(0));
+        Operand right = compileValue(operands.get(1));
+
+        return element -> anyPair(left.evaluate(element), right.evaluate(element), (l, r) -> {
+            Integer result = Scalars.compare(l, r);
+            return result != null && accepts.test(result);
+        });
+    }
+
+    private void addStringOperations(List<Predicate<Object>> conjuncts, List<StringValue> contains, List<StringValue> startsWith, List<StringValue> endsWith, List<StringValue> regex) {
+        addStringOperation(conjuncts, contains, "$contains", String::contains);
+        addStringOperation(conjuncts, startsWith, "$starts-with", String::startsWith);
+        addStringOperation(conjuncts, endsWith, "$ends-with", String::endsWith);
+
+        if (!isSet(regex))
+            return;
+
+        requireBinary(regex, "$regex");
+        Operand left = compileStringValue(regex.get(0));
+        Operand right = compileStringValue(regex.get(1));
+        Object literal = right.getLiteral();
+        if (literal != null) {
+            Pattern pattern = compilePattern(Scalars.toText(literal));
+            conjuncts.add(element -> anyPair(left.evaluate(element), right.evaluate(element), (l, r) -> pattern.matcher(Scalars.toText(l)).matches()));
+        } else {
+            conjuncts.add(element -> anyPair(left.evaluate(element), right.evaluate(element), (l, r) -> compilePattern(Scalars.toText(r)).matcher(Scalars.toText(l)).matches()));
+        }
+    }
+
+    private void addStringOperation(List<Predicate<Object>> conjuncts, List<StringValue> operands, String operator, BiPredicate<String, String> operation) {
+        if (!isSet(operands))
+            return;
+
+        requireBinary(operands, operator);
+        Operand left = compileStringValue(operands.get(0));
+        Operand right = compileStringValue(operands.get(1));
+        conjuncts.add(element -> anyPair(left.evaluate(element), right.evaluate(element), (l, r) -> operation.test(Scalars.toText(l), Scalars.toText(r))));
+    }
+
+    private static void addBoolean(List<Predicate<Object>> conjuncts, Boolean value) {
+        if (value != null)
+            conjuncts.add(element -> value);
+    }
+
+    private Operand compileValue(Value value) {
+        if (value.get$field() != null)
+            return Operand.field(FieldPath.parse(value.get$field()));
+        if (value.get$strVal() != null)
+            return Operand.literal(value.get$strVal());
+        if (value.get$numVal() != null)
+            return Operand.literal(new BigDecimal(value.get$numVal().toString()));
+        if (value.get$hexVal() != null)
+            return Operand.literal(requireLiteral(Scalars.toNumber(value.get$hexVal()), value.get$hexVal()));
+        if (value.get$dateTimeVal() != null)
+            return Operand.literal(value.get$dateTimeVal().toInstant());
+        if (value.get$timeVal() != null)
+            return Operand.literal(value.get$timeVal());
+        if (value.get$boolean() != null)
+            return Operand.literal(value.get$boolean());
+        if (value.get$strCast() != null)
+            return Operand.cast(compileValue(value.get$strCast()), Scalars::toText);
+        if (value.get$numCast() != null)
+            return Operand.cast(compileValue(value.get$numCast()), Scalars::toNumber);
+        if (value.get$hexCast() != null)
+            return Operand.cast(compileValue(value.get$hexCast()), Scalars::toNumber);
+        if (value.get$boolCast() != null)
+            return Operand.cast(compileValue(value.get$boolCast()), Scalars::toBoolean);
+        if (value.get$dateTimeCast() != null)
+            return Operand.cast(compileValue(value.get$dateTimeCast()), Scalars::toInstant);
+        if (value.get$timeCast() != null)
+            return Operand.cast(compileValue(value.get$timeCast()), AASQueryCompiler::toTime);
+        if (value.get$dayOfWeek() != null)
+            return Operand.literal(datePart(value.get$dayOfWeek(), date -> date.getDayOfWeek().getValue()));
+        if (value.get$dayOfMonth() != null)
+            return Operand.literal(datePart(value.get$dayOfMonth(), ZonedDateTime::getDayOfMonth));
+        if (value.get$month() != null)
+            return Operand.literal(datePart(value.get$month(), ZonedDateTime::getMonthValue));
+        if (value.get$year() != null)
+            return Operand.literal(datePart(value.get$year(), ZonedDateTime::getYear));
+        if (value.get$attribute() != null)
+            return Operand.literal(null);
+
+        throw new IllegalArgumentException("Unsupported value " + value);
+    }
+
+    private Operand compileStringValue(StringValue value) {
+        if (value.get$field() != null)
+            return Operand.field(FieldPath.parse(value.get$field()));
+        if (value.get$strVal() != null)
+            return Operand.literal(value.get$strVal());
+        if (value.get$strCast() != null)
+            return Operand.cast(compileValue(value.get$strCast()), Scalars::toText);
+        if (value.get$attribute() != null)
+            return Operand.literal(null);
+
+        throw new IllegalArgumentException("Unsupported string value " + value);
+    }
+
+    private static Object toTime(Object value) {
+        Instant instant = Scalars.toInstant(value);
+        if (instant != null)
+            return LocalTime.ofInstant(instant, ZoneOffset.UTC).toString();
+
+        return Scalars.toText(value);
+    }
+
+    private static BigDecimal datePart(Date date, Function<ZonedDateTime, Integer> part) {
+        return BigDecimal.valueOf(part.apply(date.toInstant().atZone(ZoneOffset.UTC)));
+    }
+
+    private static Pattern compilePattern(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid regular expression '" + regex + "'", e);
+        }
+    }
+
+    private static Object requireLiteral(Object literal, String source) {
+        if (literal == null)
+            throw new IllegalArgumentException("Invalid literal '" + source + "'");
+        return literal;
+    }
+
+    private static boolean anyPair(List<Object> left, List<Object> right, BiPredicate<Object, Object> condition) {
+        for (Object l : left) {
+            for (Object r : right) {
+                if (condition.test(l, r))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private static Predicate<Object> allOf(List<Predicate<Object>> predicates) {
+        if (predicates.isEmpty())
+            return element -> true;
+        if (predicates.size() == 1)
+            return predicates.get(0);
+
+        @SuppressWarnings("unchecked")
+        Predicate<Object>[] array = predicates.toArray(new Predicate[0]);
+        return element -> {
+            for (Predicate<Object> predicate : array) {
+                if (!predicate.test(element))
+                    return false;
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<Object> anyOf(List<Predicate<Object>> predicates) {
+        if (predicates.size() == 1)
+            return predicates.get(0);
+
+        @SuppressWarnings("unchecked")
+        Predicate<Object>[] array = predicates.toArray(new Predicate[0]);
+        return element -> {
+            for (Predicate<Object> predicate : array) {
+                if (predicate.test(element))
+                    return true;
+            }
+            return false;
+        };
+    }
+
+    private static void requireBinary(List<?> operands, String operator) {
+        if (operands.size() != 2)
+            throw new IllegalArgumentException(operator + " requires exactly two operands, got " + operands.size());
+    }
+
+    private static boolean isSet(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+
+/**
+ * Condition of an AASQuery compiled by the {@link AASQueryCompiler}
+ *
+ * Instances are immutable and can be evaluated concurrently.
+ *
+ * @author agent
+ *
+ */
+public class CompiledQuery implements QueryFilter<Object> {
+    private final Predicate<Object> predicate;
+    private final Map<String, Object> mongoPreFilter;
+
+    CompiledQuery(Predicate<Object> predicate, Map<String, Object> mongoPreFilter) {
+        this.predicate = predicate;
+        this.mongoPreFilter = mongoPreFilter;
+    }
+
+    /**
+     * @param element
+     *            an aas4j model object, e.g. a Submodel
+     * @return true if the element matches the condition
+     */
+    @Override
+    public boolean test(Object element) {
+        return predicate.test(element);
+    }
+
+    @Override
+    public Map<String, Object> getMongoPreFilter() {
+        return mongoPreFilter;
+    }
+}
@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Parsed field reference of a query, e.g.
+ * <code>$sm#semanticId.keys[0].value</code> or
+ * <code>$sme.Nameplate.Markings[2]#value</code>
+ *
+ * A field resolves to all values it refers to. Lists that are not indexed are
+ * traversed, i.e., <code>description.text</code> refers to the texts of all
+ * descriptions. A field ending at a reference refers to the value of its first
+ * key, a field ending at a key to its value.
+ *
+ * @author agent
+ *
+ */
+final class FieldPath {
+    static final int ANY_INDEX = -1;
+
+    private final String field;
+    private final String prefix;
+    private final boolean elementField;
+    private final List<PathToken> elementPath;
+    private final List<Segment> segments;
+
+    private FieldPath(String field, String prefix, boolean elementField, List<PathToken> elementPath, List<Segment> segments) {
+        this.field = field;
+        this.prefix = prefix;
+        this.elementField = elementField;
+        this.elementPath = elementPath;
+        this.segments = segments;
+    }
+
+    static FieldPath parse(String field) {
+        int separator = field.indexOf('#');
+        if (!field.startsWith("$") || separator < 0)
+            throw new IllegalArgumentException("Invalid field '" + field + "', expected '<$aas|$sm|$sme|$cd|$aasdesc|$smdesc>#<attribute>'");
+
+        String prefix = field.substring(0, separator);
+        boolean elementField = prefix.equals("$sme") || prefix.startsWith("$sme.");
+        List<PathToken> elementPath = null;
+        if (prefix.startsWith("$sme."))
+            elementPath = parseElementPath(prefix.substring("$sme.".length()), field);
+
+        return new FieldPath(field, elementField ? "$sme" : prefix, elementField, elementPath, parseSegments(field.substring(separator + 1), field));
+    }
+
+    /**
+     * @return the prefix without idShortPath, e.g. <code>$sm</code> or
+     *         <code>$sme</code>
+     */
+    String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @return true if the field refers to Submodel elements
+     */
+    boolean isElementField() {
+        return elementField;
+    }
+
+    /**
+     * @return the tokens of the idShortPath or null if the field refers to
+     *         elements at any position
+     */
+    List<PathToken> getElementPath() {
+        return elementPath;
+    }
+
+    List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Resolves the scalar values the field refers to
+     *
+     * @param root
+     *            the object the query is evaluated on
+     * @return the values, empty if the field does not exist
+     */
+    List<Object> resolve(Object root) {
+        List<Object> current;
+        if (!elementField)
+            current = Collections.singletonList(root);
+        else if (!(root instanceof Submodel submodel))
+            return Collections.emptyList();
+        else if (elementPath == null)
+            current = collectAllElements(submodel.getSubmodelElements());
+        else
+            current = navigateElements(submodel.getSubmodelElements());
+
+        for (Segment segment : segments) {
+            if (current.isEmpty())
+                return current;
+            current = navigate(current, segment);
+        }
+
+        return toScalars(current);
+    }
+
+    @Override
+    public String toString() {
+        return field;
+    }
+
+    private List<Object> navigateElements(List<SubmodelElement> topLevelElements) {
+        List<Object> current = new ArrayList<>();
+        if (topLevelElements != null)
+            current.addAll(topLevelElements);
+
+        for (int i = 0; i < elementPath.size(); i++) {
+            PathToken token = elementPath.get(i);
+            List<Object> next = new ArrayList<>();
+            for (Object container : current) {
+                if (token.isIndex()) {
+                    if (container instanceof SubmodelElementList list && list.getValue() != null && token.getIndex() < list.getValue().size())
+                        next.add(list.getValue().get(token.getIndex()));
+                } else if (container instanceof SubmodelElement element && token.getIdShort().equals(element.getIdShort())) {
+                    next.add(element);
+                }
+            }
+
+            if (i < elementPath.size() - 1)
+                next = expandChildren(next, elementPath.get(i + 1));
+            current = next;
+        }
+
+        return current;
+    }
+
+    private static List<Object> expandChildren(List<Object> elements, PathToken nextToken) {
+        // SubmodelElementLists addressed by index are kept to be indexed by the
+        // next token
+        if (nextToken.isIndex())
+            return elements;
+
+        List<Object> children = new ArrayList<>();
+        for (Object element : elements)
+            children.addAll(getChildren(element));
+        return children;
+    }
+
+    private static List<Object> collectAllElements(List<SubmodelElement> topLevelElements) {
+        List<Object> elements = new ArrayList<>();
+        if (topLevelElements == null)
+            return elements;
+
+        List<Object> pending = new ArrayList<>(topLevelElements);
+        while (!pending.isEmpty()) {
+            Object element = pending.remove(pending.size() - 1);
+            elements.add(element);
+            pending.addAll(getChildren(element));
+        }
+        return elements;
+    }
+
+    private static Collection<? extends SubmodelElement> getChildren(Object element) {
+        Collection<? extends SubmodelElement> children = null;
+        if (element instanceof SubmodelElementCollection collection)
+            children = collection.getValue();
+        else if (element instanceof SubmodelElementList list)
+            children = list.getValue();
+        else if (element instanceof Entity entity)
+            children = entity.getStatements();
+        else if (element instanceof AnnotatedRelationshipElement relationship)
+            children = relationship.getAnnotations();
+
+        return children == null ? Collections.emptyList() : children;
+    }
+
+    private static List<Object> navigate(List<Object> current, Segment segment) {
+        List<Object> next = new ArrayList<>();
+        for (Object value : current) {
+            Object property = PropertyAccessor.get(value, segment.getName());
+            if (property instanceof List<?> list) {
+                if (segment.getIndex() == ANY_INDEX)
+                    next.addAll(list);
+                else if (segment.getIndex() < list.size())
+                    next.add(list.get(segment.getIndex()));
+            } else if (property != null && segment.getIndex() == ANY_INDEX) {
+                next.add(property);
+            }
+        }
+        return next;
+    }
+
+    private static List<Object> toScalars(List<Object> values) {
+        List<Object> scalars = new ArrayList<>(values.size());
+        for (Object value : values) {
+            Object scalar = toScalar(value);
+            if (scalar != null)
+                scalars.add(scalar);
+        }
+        return scalars;
+    }
+
+    private static Object toScalar(Object value) {
+        Object scalar = PropertyAccessor.toScalar(value);
+        if (scalar != null)
+            return scalar;
+
+        // References are compared by the value of their first key
+        Object keys = PropertyAccessor.get(value, "keys");
+        if (keys instanceof List<?> keyList)
+            return keyList.isEmpty() ? null : PropertyAccessor.toScalar(PropertyAccessor.get(keyList.get(0), "value"));
+
+        // Keys are compared by their value
+        if (PropertyAccessor.get(value, "type") != null)
+            return PropertyAccessor.toScalar(PropertyAccessor.get(value, "value"));
+
+        return null;
+    }
+
+    private static List<PathToken> parseElementPath(String idShortPath, String field) {
+        List<PathToken> tokens = new ArrayList<>();
+        for (String part : idShortPath.split("\\.")) {
+            int bracket = part.indexOf('[');
+            String idShort = bracket < 0 ? part : part.substring(0, bracket);
+            if (idShort.isEmpty() && bracket != 0)
+                throw new IllegalArgumentException("Invalid idShortPath in field '" + field + "'");
+            if (!idShort.isEmpty())
+                tokens.add(PathToken.idShort(idShort));
+
+            while (bracket >= 0) {
+                int closing = part.indexOf(']', bracket);
+                if (closing < 0)
+                    throw new IllegalArgumentException("Invalid idShortPath in field '" + field + "'");
+
+                tokens.add(PathToken.index(parseIndex(part.substring(bracket + 1, closing), field)));
+                bracket = part.indexOf('[', closing);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<Segment> parseSegments(String attributePath, String field) {
+        List<Segment> segments = new ArrayList<>();
+        for (String part : attributePath.split("\\.")) {
+            int bracket = part.indexOf('[');
+            if (bracket < 0) {
+                segments.add(new Segment(part, ANY_INDEX));
+                continue;
+            }
+
+            if (!part.endsWith("]"))
+                throw new IllegalArgumentException("Invalid attribute in field '" + field + "'");
+
+            String index = part.substring(bracket + 1, part.length() - 1);
+            segments.add(new Segment(part.substring(0, bracket), index.isEmpty() ? ANY_INDEX : parseIndex(index, field)));
+        }
+        return segments;
+    }
+
+    private static int parseIndex(String index, String field) {
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid index '" + index + "' in field '" + field + "'");
+        }
+    }
+
+    /**
+     * Attribute of a field, optionally indexed
+     */
+    static final class Segment {
+        private final String name;
+        private final int index;
+
+        Segment(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the index or {@link FieldPath#ANY_INDEX}
+         */
+        int getIndex() {
+            return index;
+        }
+    }
+
+    /**
+     * Token of the idShortPath of an element field
+     */
+    static final class PathToken {
+        private final String idShort;
+        private final int index;
+
+        private PathToken(String idShort, int index) {
+            this.idShort = idShort;
+            this.index = index;
+        }
+
+        static PathToken idShort(String idShort) {
+            return new PathToken(idShort, ANY_INDEX);
+        }
+
+        static PathToken index(int index) {
+            return new PathToken(null, index);
+        }
+
+        boolean isIndex() {
+            return idShort == null;
+        }
+
+        String getIdShort() {
+            return idShort;
+        }
+
+        int getIndex() {
+            return index;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.FieldPath.PathToken;
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.FieldPath.Segment;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.LogicalExpression;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.MatchExpression;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.StringValue;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.Value;
+
+/**
+ * Translates a condition into a MongoDB <code>$match</code> document on the
+ * stored aas4j objects
+ *
+ * The translation is a pre-filter, i.e., it may match more documents than
+ * the condition but never less. Only comparisons of String attributes with
+ * String literals by <code>$eq</code>, <code>$contains</code>,
+ * <code>$starts-with</code> and <code>$ends-with</code> are translated, as
+ * enums and numbers are stored in a different form than they are compared
+ * in. Parts that cannot be translated do not constrain the documents.
+ *
+ * @author agent
+ *
+ */
+class MongoPreFilterTranslator {
+    private static final String AND = "$and";
+    private static final String OR = "$or";
+    private static final String ELEM_MATCH = "$elemMatch";
+    private static final String REGEX = "$regex";
+    private static final String ID_SHORT = "idShort";
+    private static final String VALUE = "value";
+    private static final String FIRST_KEY_VALUE = "keys.0.value";
+
+    private static final Set<String> TRANSLATED_PREFIXES = Set.of("$aas", "$sm", "$sme", "$cd");
+    private static final Set<String> STRING_ATTRIBUTES = Set.of("id", ID_SHORT, "category", "globalAssetId", "assetType", "name", "language", "text", "version", "revision", "templateId", "min", "max", "contentType", VALUE);
+    private static final Set<String> REFERENCE_ATTRIBUTES = Set.of("semanticId", "supplementalSemanticIds", "valueId", "derivedFrom", "isCaseOf", "submodels", "first", "second", "externalSubjectId");
+    private static final List<String> CHILD_CONTAINERS = List.of(VALUE, "statements", "annotations");
+
+    /**
+     * @return the pre-filter, empty if the condition cannot be translated
+     */
+    Map<String, Object> translate(LogicalExpression condition) {
+        Map<String, Object> filter = translateLogical(condition);
+        return filter == null ? Map.of() : filter;
+    }
+
+    private Map<String, Object> translateLogical(LogicalExpression expression) {
+        List<Map<String, Object>> conjuncts = new ArrayList<>();
+
+        if (isSet(expression.get$and()))
+            addIfPresent(conjuncts, allOf(expression.get$and().stream().map(this::translateLogical).toList()));
+        if (isSet(expression.get$or()))
+            addIfPresent(conjuncts, anyOf(expression.get$or().stream().map(this::translateLogical).toList()));
+        if (isSet(expression.get$match()))
+            addIfPresent(conjuncts, allOf(expression.get$match().stream().map(this::translateMatch).toList()));
+
+        addOperators(conjuncts, expression.get$eq(), expression.get$contains(), expression.get$startsWith(), expression.get$endsWith());
+
+        return allOf(conjuncts);
+    }
+
+    private Map<String, Object> translateMatch(MatchExpression expression) {
+        List<Map<String, Object>> conjuncts = new ArrayList<>();
+
+        if (isSet(expression.get$match()))
+            addIfPresent(conjuncts, allOf(expression.get$match().stream().map(this::translateMatch).toList()));
+
+        addOperators(conjuncts, expression.get$eq(), expression.get$contains(), expression.get$startsWith(), expression.get$endsWith());
+
+        return allOf(conjuncts);
+    }
+
+    private void addOperators(List<Map<String, Object>> conjuncts, List<Value> eq, List<StringValue> contains, List<StringValue> startsWith, List<StringValue> endsWith) {
+        if (isSet(eq) && eq.size() == 2)
+            addIfPresent(conjuncts, translateEquality(eq.get(0), eq.get(1)));
+        if (isSet(contains) && contains.size() == 2)
+            addIfPresent(conjuncts, translateStringOperation(contains.get(0), contains.get(1), "", ""));
+        if (isSet(startsWith) && startsWith.size() == 2)
+            addIfPresent(conjuncts, translateStringOperation(startsWith.get(0), startsWith.get(1), "^", ""));
+        if (isSet(endsWith) && endsWith.size() == 2)
+            addIfPresent(conjuncts, translateStringOperation(endsWith.get(0), endsWith.get(1), "", "$"));
+    }
+
+    private Map<String, Object> translateEquality(Value left, Value right) {
+        if (left.get$field() != null && right.get$strVal() != null)
+            return translateField(left.get$field(), right.get$strVal());
+        if (right.get$field() != null && left.get$strVal() != null)
+            return translateField(right.get$field(), left.get$strVal());
+
+        return null;
+    }
+
+    private Map<String, Object> translateStringOperation(StringValue left, StringValue right, String regexPrefix, String regexSuffix) {
+        if (left.get$field() == null || right.get$strVal() == null)
+            return null;
+
+        return translateField(left.get$field(), Map.of(REGEX, regexPrefix + Pattern.quote(right.get$strVal()) + regexSuffix));
+    }
+
+    private Map<String, Object> translateField(String field, Object condition) {
+        FieldPath path;
+        try {
+            path = FieldPath.parse(field);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!TRANSLATED_PREFIXES.contains(path.getPrefix()))
+            return null;
+
+        // Elements at any depth cannot be addressed by a path
+        if (path.isElementField() && path.getElementPath() == null)
+            return null;
+
+        Map<String, Object> attributeCondition = translateAttribute(path.getSegments(), condition, !path.isElementField());
+        if (attributeCondition == null || !path.isElementField())
+            return attributeCondition;
+
+        return navigate(path.getElementPath(), 0, List.of("submodelElements"), attributeCondition);
+    }
+
+    private static Map<String, Object> translateAttribute(List<Segment> segments, Object condition, boolean topLevel) {
+        StringBuilder mongoPath = new StringBuilder();
+        for (Segment segment : segments) {
+            if (mongoPath.length() > 0)
+                mongoPath.append('.');
+            mongoPath.append(segment.getName());
+            if (segment.getIndex() != FieldPath.ANY_INDEX)
+                mongoPath.append('.').append(segment.getIndex());
+        }
+
+        Segment last = segments.get(segments.size() - 1);
+        String path = mongoPath.toString();
+
+        if (topLevel && segments.size() == 1 && last.getName().equals("id"))
+            return Map.of("_id", condition);
+        if (last.getName().equals("keys"))
+            return Map.of(path + "." + VALUE, condition);
+        if (REFERENCE_ATTRIBUTES.contains(last.getName()))
+            return Map.of(path + "." + FIRST_KEY_VALUE, condition);
+        if (last.getName().equals(VALUE))
+            // The value of a ReferenceElement is a reference
+            return Map.of(OR, List.of(Map.of(path, condition), Map.of(path + "." + FIRST_KEY_VALUE, condition)));
+        if (STRING_ATTRIBUTES.contains(last.getName()))
+            return Map.of(path, condition);
+
+        return null;
+    }
+
+    private static Map<String, Object> navigate(List<PathToken> tokens, int position, List<String> containers, Map<String, Object> attributeCondition) {
+        List<Map<String, Object>> alternatives = new ArrayList<>(containers.size());
+        for (String container : containers)
+            alternatives.add(navigateIn(tokens, position, container, attributeCondition));
+
+        return anyOf(alternatives);
+    }
+
+    private static Map<String, Object> navigateIn(List<PathToken> tokens, int position, String container, Map<String, Object> attributeCondition) {
+        PathToken token = tokens.get(position);
+        boolean last = position == tokens.size() - 1;
+
+        if (token.isIndex()) {
+            Map<String, Object> elementCondition = last ? attributeCondition : navigate(tokens, position + 1, CHILD_CONTAINERS, attributeCondition);
+            return prefix(container + "." + token.getIndex(), elementCondition);
+        }
+
+        Map<String, Object> elementCondition = last ? attributeCondition : navigateChildren(tokens, position + 1, attributeCondition);
+        Map<String, Object> elemMatch = Map.of(AND, List.of(Map.of(ID_SHORT, token.getIdShort()), elementCondition));
+        return Map.of(container, Map.of(ELEM_MATCH, elemMatch));
+    }
+
+    private static Map<String, Object> navigateChildren(List<PathToken> tokens, int position, Map<String, Object> attributeCondition) {
+        // Elements of SubmodelElementLists are addressed by index within the
+        // list itself
+        if (tokens.get(position).isIndex())
+            return navigateIn(tokens, position, VALUE, attributeCondition);
+
+        return navigate(tokens, position, CHILD_CONTAINERS, attributeCondition);
+    }
+
+    /**
+     * Prefixes the field names of the passed condition, e.g. to address an
+     * element of a list by its position
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> prefix(String prefix, Map<String, Object> condition) {
+        Map<String, Object> prefixed = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : condition.entrySet()) {
+            if (entry.getKey().startsWith("$"))
+                prefixed.put(entry.getKey(), ((List<Map<String, Object>>) entry.getValue()).stream().map(c -> prefix(prefix, c)).toList());
+            else
+                prefixed.put(prefix + "." + entry.getKey(), entry.getValue());
+        }
+        return prefixed;
+    }
+
+    private static Map<String, Object> allOf(List<Map<String, Object>> conditions) {
+        List<Map<String, Object>> present = conditions.stream().filter(c -> c != null).toList();
+        if (present.isEmpty())
+            return null;
+        if (present.size() == 1)
+            return present.get(0);
+
+        return Map.of(AND, present);
+    }
+
+    private static Map<String, Object> anyOf(List<Map<String, Object>> conditions) {
+        // An alternative that cannot be translated may match any document
+        if (conditions.isEmpty() || conditions.contains(null))
+            return null;
+        if (conditions.size() == 1)
+            return conditions.get(0);
+
+        return Map.of(OR, conditions);
+    }
+
+    private static void addIfPresent(List<Map<String, Object>> conjuncts, Map<String, Object> condition) {
+        if (condition != null)
+            conjuncts.add(condition);
+    }
+
+    private static boolean isSet(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+}
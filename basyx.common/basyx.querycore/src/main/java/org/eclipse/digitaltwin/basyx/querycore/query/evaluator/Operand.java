@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compiled operand of a comparison, i.e., a field, a literal or a cast
+ *
+ * @author agent
+ *
+ */
+@FunctionalInterface
+interface Operand {
+
+    /**
+     * @param root
+     *            the object the query is evaluated on
+     * @return the scalar values of the operand, empty if it has none
+     */
+    List<Object> evaluate(Object root);
+
+    /**
+     * @return the value of the literal or null if the operand is not a literal
+     */
+    default Object getLiteral() {
+        return null;
+    }
+
+    /**
+     * @return the field or null if the operand is not a field
+     */
+    default FieldPath getField() {
+        return null;
+    }
+
+    static Operand field(FieldPath field) {
+        return new Operand() {
+            @Override
+            public List<Object> evaluate(Object root) {
+                return field.resolve(root);
+            }
+
+            @Override
+            public FieldPath getField() {
+                return field;
+            }
+        };
+    }
+
+    static Operand literal(Object value) {
+        List<Object> values = value == null ? Collections.emptyList() : Collections.singletonList(value);
+        return new Operand() {
+            @Override
+            public List<Object> evaluate(Object root) {
+                return values;
+            }
+
+            @Override
+            public Object getLiteral() {
+                return value;
+            }
+        };
+    }
+
+    static Operand cast(Operand operand, Function<Object, Object> conversion) {
+        Object literal = operand.getLiteral();
+        if (literal != null)
+            return literal(conversion.apply(literal));
+
+        return root -> {
+            List<Object> values = operand.evaluate(root);
+            List<Object> converted = new ArrayList<>(values.size());
+            for (Object value : values) {
+                Object result = conversion.apply(value);
+                if (result != null)
+                    converted.add(result);
+            }
+            return converted;
+        };
+    }
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Reads the properties of model objects by their getters and converts the
+ * read values into the scalars the query operators work on
+ *
+ * The getters are looked up once per class and property. Enums are rendered
+ * in their serialized form, e.g. <code>Instance</code> or
+ * <code>xs:string</code>, so that they compare like in the JSON
+ * representation the query refers to.
+ *
+ * @author agent
+ *
+ */
+final class PropertyAccessor {
+    private static final String AAS4J_PACKAGE = "org.eclipse.digitaltwin.aas4j";
+
+    private static final ClassValue<Map<String, Optional<Method>>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Method>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final Map<Enum<?>, String> ENUM_LITERALS = new ConcurrentHashMap<>();
+    private static final ObjectMapper ENUM_MAPPER = createEnumMapper();
+
+    private PropertyAccessor() {
+    }
+
+    /**
+     * @return the value of the property or null if the object has no such
+     *         property
+     */
+    static Object get(Object target, String property) {
+        Optional<Method> getter = GETTERS.get(target.getClass()).computeIfAbsent(property, p -> findGetter(target.getClass(), p));
+        if (getter.isEmpty())
+            return null;
+
+        try {
+            return getter.get().invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts the passed value into a String, BigDecimal, Boolean or Instant
+     *
+     * @return the scalar or null if the value is not a scalar
+     */
+    static Object toScalar(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof BigDecimal || value instanceof Instant)
+            return value;
+        if (value instanceof Number)
+            return new BigDecimal(value.toString());
+        if (value instanceof Enum<?> literal)
+            return ENUM_LITERALS.computeIfAbsent(literal, PropertyAccessor::renderEnum);
+        if (value instanceof Date date)
+            return date.toInstant();
+        if (value instanceof OffsetDateTime dateTime)
+            return dateTime.toInstant();
+        if (value instanceof ZonedDateTime dateTime)
+            return dateTime.toInstant();
+
+        return null;
+    }
+
+    private static Optional<Method> findGetter(Class<?> type, String property) {
+        if (property.isEmpty())
+            return Optional.empty();
+
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String prefix : new String[] { "get", "is" }) {
+            try {
+                Method method = type.getMethod(prefix + suffix);
+                if (method.getReturnType() != void.class)
+                    return Optional.of(method);
+            } catch (NoSuchMethodException e) {
+                // try next prefix
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String renderEnum(Enum<?> literal) {
+        if (!literal.getDeclaringClass().getName().startsWith(AAS4J_PACKAGE))
+            return literal.toString();
+
+        try {
+            return ENUM_MAPPER.convertValue(literal, String.class);
+        } catch (IllegalArgumentException e) {
+            return literal.name();
+        }
+    }
+
+    private static ObjectMapper createEnumMapper() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Enum.class, new EnumSerializer());
+        return new ObjectMapper().registerModule(module);
+    }
+}
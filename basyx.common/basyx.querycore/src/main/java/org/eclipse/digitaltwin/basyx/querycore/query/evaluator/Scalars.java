@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Conversions and comparisons of the scalars produced by {@link FieldPath}s
+ * and literals, i.e., Strings, BigDecimals, Booleans and Instants
+ *
+ * Values of different types are compared by the more specific type, e.g. the
+ * String <code>"5.0"</code> equals the number <code>5</code>. Values that
+ * cannot be converted are incomparable.
+ *
+ * @author agent
+ *
+ */
+final class Scalars {
+    private static final String HEX_PREFIX = "16#";
+
+    private Scalars() {
+    }
+
+    /**
+     * @return the comparison result or null if the values are incomparable
+     */
+    static Integer compare(Object left, Object right) {
+        if (left instanceof Instant || right instanceof Instant)
+            return compare(toInstant(left), toInstant(right));
+        if (left instanceof BigDecimal || right instanceof BigDecimal)
+            return compare(toNumber(left), toNumber(right));
+        if (left instanceof Boolean || right instanceof Boolean)
+            return compare(toBoolean(left), toBoolean(right));
+
+        return compare(toText(left), toText(right));
+    }
+
+    static String toText(Object value) {
+        if (value == null)
+            return null;
+        if (value instanceof BigDecimal number)
+            return number.toPlainString();
+
+        return value.toString();
+    }
+
+    static BigDecimal toNumber(Object value) {
+        if (value instanceof BigDecimal number)
+            return number;
+        if (!(value instanceof String text))
+            return null;
+
+        String trimmed = text.trim();
+        try {
+            if (trimmed.startsWith(HEX_PREFIX))
+                return new BigDecimal(new BigInteger(trimmed.substring(HEX_PREFIX.length()), 16));
+
+            return new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool)
+            return bool;
+        if (value instanceof String text) {
+            if ("true".equalsIgnoreCase(text.trim()))
+                return Boolean.TRUE;
+            if ("false".equalsIgnoreCase(text.trim()))
+                return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    static Instant toInstant(Object value) {
+        if (value instanceof Instant instant)
+            return instant;
+        if (!(value instanceof String text))
+            return null;
+
+        String trimmed = text.trim();
+        try {
+            return OffsetDateTime.parse(trimmed).toInstant();
+        } catch (DateTimeParseException e) {
+            // no offset given
+        }
+        try {
+            return LocalDateTime.parse(trimmed).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            // no time given
+        }
+        try {
+            return LocalDate.parse(trimmed).atStartOfDay().toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static <C extends Comparable<C>> Integer compare(C left, C right) {
+        if (left == null || right == null)
+            return null;
+
+        return Integer.signum(left.compareTo(right));
+    }
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.executor;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import co.elastic.clients.json.JsonpDeserializable;
+import co.elastic.clients.json.JsonpDeserializer;
+import co.elastic.clients.json.JsonpMapper;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Source of a search hit converted back from the indexed document into the
+ * AAS JSON structure
+ *
+ * The conversion is done while the hit is parsed, i.e., in a single pass over
+ * the parser events without an intermediate representation:
+ * <ul>
+ * <li>object fields holding an empty array are dropped</li>
+ * <li>the renamed children fields (<code>smcChildren</code>,
+ * <code>smlChildren</code>, <code>referenceChildren</code> and
+ * <code>langContent</code>) are restored as <code>value</code>. They take
+ * precedence over a <code>value</code> field of the same object.</li>
+ * </ul>
+ * As with the former tree rewrite, objects nested in arrays of arrays are
+ * passed through unchanged.
+ *
+ * @author agent
+ *
+ */
+@JsonpDeserializable
+public final class DenormalizedSource {
+    public static final JsonpDeserializer<DenormalizedSource> _DESERIALIZER = JsonpDeserializer.of(EnumSet.allOf(Event.class), (parser, mapper, event) -> new DenormalizedSource(readValue(parser, event, true)));
+
+    private static final String VALUE = "value";
+    // Ascending precedence, i.e., later fields replace earlier ones
+    private static final Map<String, Integer> RENAMED_VALUE_FIELDS = Map.of(VALUE, 0, "smcChildren", 1, "smlChildren", 2, "referenceChildren", 3, "langContent", 4);
+    private static final int NO_VALUE = -1;
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final JsonNode node;
+
+    private DenormalizedSource(JsonNode node) {
+        this.node = node;
+    }
+
+    public JsonNode getNode() {
+        return node;
+    }
+
+    /**
+     * Parses and converts a single document, e.g., for tests or benchmarks
+     */
+    public static JsonNode read(JsonParser parser, JsonpMapper mapper) {
+        return _DESERIALIZER.deserialize(parser, mapper).getNode();
+    }
+
+    private static JsonNode readValue(JsonParser parser, Event event, boolean rewrite) {
+        switch (event) {
+        case START_OBJECT:
+            return readObject(parser, rewrite);
+        case START_ARRAY:
+            return readArray(parser, rewrite);
+        case VALUE_STRING:
+            return NODES.textNode(parser.getString());
+        case VALUE_NUMBER:
+            return readNumber(parser);
+        case VALUE_TRUE:
+            return NODES.booleanNode(true);
+        case VALUE_FALSE:
+            return NODES.booleanNode(false);
+        case VALUE_NULL:
+            return NODES.nullNode();
+        default:
+            throw new IllegalStateException("Unexpected JSON event " + event);
+        }
+    }
+
+    private static ObjectNode readObject(JsonParser parser, boolean rewrite) {
+        ObjectNode object = NODES.objectNode();
+        int valuePrecedence = NO_VALUE;
+
+        while (parser.next() != Event.END_OBJECT) {
+            String name = parser.getString();
+            JsonNode value = readValue(parser, parser.next(), rewrite);
+
+            if (value.isArray() && value.isEmpty())
+                continue;
+
+            Integer precedence = rewrite ? RENAMED_VALUE_FIELDS.get(name) : null;
+            if (precedence == null) {
+                object.set(name, value);
+            } else if (precedence > valuePrecedence) {
+                object.set(VALUE, value);
+                valuePrecedence = precedence;
+            }
+        }
+
+        return object;
+    }
+
+    private static ArrayNode readArray(JsonParser parser, boolean rewrite) {
+        ArrayNode array = NODES.arrayNode();
+
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            // Only objects directly contained in an array are rewritten
+            array.add(readValue(parser, event, rewrite && event == Event.START_OBJECT));
+        }
+
+        return array;
+    }
+
+    private static JsonNode readNumber(JsonParser parser) {
+        if (!parser.isIntegralNumber())
+            return NODES.numberNode(parser.getBigDecimal().doubleValue());
+
+        BigDecimal number = parser.getBigDecimal();
+        try {
+            long longValue = number.longValueExact();
+            if (longValue == (int) longValue)
+                return NODES.numberNode((int) longValue);
+
+            return NODES.numberNode(longValue);
+        } catch (ArithmeticException e) {
+            return NODES.numberNode(number.toBigInteger());
+        }
+    }
+}
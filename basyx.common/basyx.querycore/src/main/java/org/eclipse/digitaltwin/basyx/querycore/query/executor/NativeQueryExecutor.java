@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.executor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryableRepository;
+import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.AASQueryCompiler;
+import org.eclipse.digitaltwin.basyx.querycore.query.evaluator.CompiledQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.AASQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.QueryPaging;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.QueryResponse;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Executes AASQueries on a {@link QueryableRepository}, i.e., by the
+ * repository backend itself instead of an Elasticsearch index
+ *
+ * The condition is compiled once per query. Responses are shaped like the ones
+ * of the {@link ESQueryExecutor}: results are sorted by id, the cursor is the
+ * Base64URL encoded id of the last result and <code>$select=id</code> returns
+ * objects only containing the id.
+ *
+ * @author agent
+ *
+ * @param <T>
+ *            the entity type
+ */
+public class NativeQueryExecutor<T> {
+    private static final String SELECT_ID = "id";
+    private static final String IDENTIFIER_RESULT_TYPE = "Identifier";
+
+    private final AASQueryCompiler compiler = new AASQueryCompiler();
+    private final QueryableRepository<T> repository;
+    private final Function<T, String> idResolver;
+    private final String modelName;
+
+    public NativeQueryExecutor(QueryableRepository<T> repository, Function<T, String> idResolver, String modelName) {
+        this.repository = repository;
+        this.idResolver = idResolver;
+        this.modelName = modelName;
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the query is invalid
+     */
+    public QueryResponse executeQueryAndGetResponse(AASQuery query, Integer limit, Base64UrlEncodedCursor cursor) {
+        CompiledQuery compiledQuery = compiler.compile(query);
+        int pageSize = (limit != null && limit > 0) ? limit : ESQueryExecutor.DEFAULT_PAGE_SIZE;
+        String decodedCursor = cursor == null ? null : cursor.getDecodedCursor();
+
+        // One more than requested tells whether there is a next page
+        CursorResult<List<T>> page = repository.query(compiledQuery, new PaginationInfo(pageSize + 1, decodedCursor));
+        List<T> matches = page.getResult();
+
+        boolean hasMore = matches.size() > pageSize;
+        List<T> pageMatches = hasMore ? matches.subList(0, pageSize) : matches;
+
+        String nextCursor = hasMore ? encodeCursor(idResolver.apply(pageMatches.get(pageMatches.size() - 1))) : null;
+
+        boolean selectId = SELECT_ID.equals(query.get$select());
+        List<Object> result = new ArrayList<>(pageMatches.size());
+        for (T match : pageMatches)
+            result.add(selectId ? toIdentifier(match) : match);
+
+        return new QueryResponse(new QueryPaging(nextCursor, getResultType(query)), result);
+    }
+
+    private ObjectNode toIdentifier(T match) {
+        return JsonNodeFactory.instance.objectNode().put(SELECT_ID, idResolver.apply(match));
+    }
+
+    private String getResultType(AASQuery query) {
+        return (query.get$select() == null || query.get$select().isEmpty()) ? modelName : IDENTIFIER_RESULT_TYPE;
+    }
+
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.indexing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentChange.Kind;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the coalescing of the changes of a document
+ *
+ * @author agent
+ *
+ */
+public class DocumentChangeTest {
+
+	@Test
+	public void deleteSupersedesPendingChanges() {
+		assertEquals(Kind.DELETE, DocumentChange.index("doc").merge(DocumentChange.delete()).getKind());
+		assertEquals(Kind.DELETE, DocumentChange.update("a", 1).merge(DocumentChange.delete()).getKind());
+	}
+
+	@Test
+	public void updateOfDeletedDocumentIsDropped() {
+		DocumentChange delete = DocumentChange.delete();
+
+		assertSame(delete, delete.merge(DocumentChange.update("a", 1)));
+	}
+
+	@Test
+	public void indexSupersedesPendingChanges() {
+		DocumentChange merged = DocumentChange.delete().merge(DocumentChange.index("doc"));
+
+		assertEquals(Kind.INDEX, merged.getKind());
+		assertEquals("doc", merged.getDocument());
+	}
+
+	@Test
+	public void updateOfIndexedDocumentLoadsLatestState() {
+		DocumentChange merged = DocumentChange.index("stale").merge(DocumentChange.update("a", 1));
+
+		assertEquals(Kind.INDEX, merged.getKind());
+		assertNull(merged.getDocument());
+	}
+
+	@Test
+	public void updatesAreMergedByKey() {
+		DocumentChange merged = DocumentChange.update("a", 1).merge(DocumentChange.update("b", 2)).merge(DocumentChange.update("a", 3));
+
+		assertEquals(Kind.UPDATE, merged.getKind());
+		assertEquals(Map.of("a", 3, "b", 2), merged.getUpdates());
+	}
+
+	@Test
+	public void mergeKeepsFirstEnqueueTime() {
+		DocumentChange first = DocumentChange.update("a", 1);
+
+		assertEquals(first.getEnqueuedNanos(), first.merge(DocumentChange.index()).getEnqueuedNanos());
+	}
+
+	@Test
+	public void retriedChangeIsAppliedBeforeLaterChanges() {
+		DocumentChange merged = DocumentChange.delete().retry(0).merge(DocumentChange.index("doc"));
+
+		assertEquals(Kind.INDEX, merged.getKind());
+		assertEquals(1, merged.getAttempts());
+	}
+
+	@Test
+	public void failedChangesAreRetriedUpToMaxAttempts() {
+		WriteBehindDocumentIndexer indexer = new WriteBehindDocumentIndexer(null, "test-index", id -> "doc", updates -> null, Duration.ofHours(1), 100, 3, Duration.ZERO);
+
+		indexer.index("sm1", "doc");
+
+		indexer.flush();
+		assertEquals(1, indexer.getPendingCount());
+		assertEquals(0, indexer.getFailedCount());
+
+		indexer.flush();
+		indexer.flush();
+		assertEquals(0, indexer.getPendingCount());
+		assertEquals(2, indexer.getRetriedCount());
+		assertEquals(1, indexer.getFailedCount());
+	}
+
+	@Test
+	public void failedChangesAreNotSentBeforeTheirBackoff() {
+		WriteBehindDocumentIndexer indexer = new WriteBehindDocumentIndexer(null, "test-index", id -> "doc", updates -> null, Duration.ofHours(1), 100, 3, Duration.ofHours(1));
+
+		indexer.index("sm1", "doc");
+		indexer.flush();
+		indexer.flush();
+
+		assertEquals(1, indexer.getPendingCount());
+		assertEquals(1, indexer.getRetriedCount());
+	}
+
+	@Test
+	public void writeBehindIndexerCoalescesPendingChanges() {
+		WriteBehindDocumentIndexer indexer = new WriteBehindDocumentIndexer(null, "test-index", id -> "doc", updates -> null, Duration.ofHours(1), 100);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		indexer.bindTo(registry);
+
+		indexer.update("sm1", "a", 1);
+		indexer.update("sm1", "a", 2);
+		indexer.index("sm2");
+		indexer.delete("sm2");
+
+		assertEquals(4, indexer.getSubmittedCount());
+		assertEquals(2, indexer.getCoalescedCount());
+		assertEquals(2, indexer.getPendingCount());
+		assertEquals(2, registry.get(WriteBehindDocumentIndexer.METER_PREFIX + "pending").gauge().value(), 0);
+	}
+}
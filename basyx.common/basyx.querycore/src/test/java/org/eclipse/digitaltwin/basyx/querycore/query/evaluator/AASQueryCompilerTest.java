@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.ModellingKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
+import org.eclipse.digitaltwin.basyx.querycore.query.executor.NativeQueryExecutor;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.AASQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.QueryResponse;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests the evaluation of AASQueries on aas4j objects and their translation
+ * into MongoDB pre-filters
+ *
+ * @author agent
+ *
+ */
+public class AASQueryCompilerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AASQueryCompiler compiler = new AASQueryCompiler();
+    private final Submodel nameplate = createSubmodel("sm1", "Nameplate", "https://example.org/nameplate", "42.5");
+    private final Submodel operationalData = createSubmodel("sm2", "OperationalData", "https://example.org/operational", "17");
+
+    @Test
+    public void topLevelAttributeIsCompared() throws JsonProcessingException {
+        CompiledQuery query = compile("""
+                {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Nameplate"}]}""");
+
+        assertTrue(query.test(nameplate));
+        assertFalse(query.test(operationalData));
+    }
+
+    @Test
+    public void referenceIsComparedByFirstKey() throws JsonProcessingException {
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sm#semanticId"}, {"$strVal": "https://example.org/nameplate"}]}""").test(nameplate));
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sm#semanticId.keys[0].value"}, {"$strVal": "https://example.org/nameplate"}]}""").test(nameplate));
+        assertFalse(compile("""
+                {"$eq": [{"$field": "$sm#semanticId.keys[1].value"}, {"$strVal": "https://example.org/nameplate"}]}""").test(nameplate));
+    }
+
+    @Test
+    public void enumsAreComparedBySerializedForm() throws JsonProcessingException {
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sm#kind"}, {"$strVal": "Instance"}]}""").test(nameplate));
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sme.Temperature#valueType"}, {"$strVal": "xs:double"}]}""").test(nameplate));
+    }
+
+    @Test
+    public void elementValueIsComparedNumerically() throws JsonProcessingException {
+        CompiledQuery query = compile("""
+                {"$gt": [{"$field": "$sme.Temperature#value"}, {"$numVal": 20}]}""");
+
+        assertTrue(query.test(nameplate));
+        assertFalse(query.test(operationalData));
+    }
+
+    @Test
+    public void nestedElementsAreAddressedByIdShortPath() throws JsonProcessingException {
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sme.Markings.Marking[1].MarkingName#value"}, {"$strVal": "CE"}]}""").test(nameplate));
+        assertFalse(compile("""
+                {"$eq": [{"$field": "$sme.Markings.Marking[0].MarkingName#value"}, {"$strVal": "CE"}]}""").test(nameplate));
+    }
+
+    @Test
+    public void elementsAtAnyDepthAreMatched() throws JsonProcessingException {
+        assertTrue(compile("""
+                {"$eq": [{"$field": "$sme#idShort"}, {"$strVal": "MarkingName"}]}""").test(nameplate));
+    }
+
+    @Test
+    public void logicalOperatorsAreCombined() throws JsonProcessingException {
+        CompiledQuery query = compile("""
+                {"$or": [
+                  {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Unknown"}]},
+                  {"$and": [
+                    {"$starts-with": [{"$field": "$sm#id"}, {"$strVal": "sm"}]},
+                    {"$not": {"$ne": [{"$field": "$sm#idShort"}, {"$strVal": "OperationalData"}]}}
+                  ]}
+                ]}""");
+
+        assertFalse(query.test(nameplate));
+        assertTrue(query.test(operationalData));
+    }
+
+    @Test
+    public void regexMatchesWholeValue() throws JsonProcessingException {
+        assertTrue(compile("""
+                {"$regex": [{"$field": "$sm#idShort"}, {"$strVal": "Name.*"}]}""").test(nameplate));
+        assertFalse(compile("""
+                {"$regex": [{"$field": "$sm#idShort"}, {"$strVal": "Name"}]}""").test(nameplate));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidFieldIsRejected() throws JsonProcessingException {
+        compile("""
+                {"$eq": [{"$field": "idShort"}, {"$strVal": "Nameplate"}]}""");
+    }
+
+    @Test
+    public void stringComparisonsAreTranslatedToMongoPreFilter() throws JsonProcessingException {
+        Map<String, Object> filter = compile("""
+                {"$and": [
+                  {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Nameplate"}]},
+                  {"$starts-with": [{"$field": "$sm#semanticId"}, {"$strVal": "https://example.org"}]}
+                ]}""").getMongoPreFilter();
+
+        assertEquals(Map.of("$and", List.of(Map.of("idShort", "Nameplate"), Map.of("semanticId.keys.0.value", Map.of("$regex", "^" + Pattern.quote("https://example.org"))))), filter);
+    }
+
+    @Test
+    public void elementPathIsTranslatedToElemMatch() throws JsonProcessingException {
+        Map<String, Object> filter = compile("""
+                {"$eq": [{"$field": "$sme.Temperature#idShort"}, {"$strVal": "Temperature"}]}""").getMongoPreFilter();
+
+        Map<String, Object> elementCondition = Map.of("$and", List.of(Map.of("idShort", "Temperature"), Map.of("idShort", "Temperature")));
+        assertEquals(Map.of("submodelElements", Map.of("$elemMatch", elementCondition)), filter);
+    }
+
+    @Test
+    public void untranslatableConditionsDoNotConstrainMongoPreFilter() throws JsonProcessingException {
+        assertEquals(Map.of(), compile("""
+                {"$gt": [{"$field": "$sme.Temperature#value"}, {"$numVal": 20}]}""").getMongoPreFilter());
+        assertEquals(Map.of(), compile("""
+                {"$not": {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Nameplate"}]}}""").getMongoPreFilter());
+        assertEquals(Map.of(), compile("""
+                {"$or": [
+                  {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Nameplate"}]},
+                  {"$eq": [{"$field": "$sm#kind"}, {"$strVal": "Instance"}]}
+                ]}""").getMongoPreFilter());
+    }
+
+    @Test
+    public void executorPagesOverMatches() throws JsonProcessingException {
+        TreeMap<String, Submodel> submodels = new TreeMap<>();
+        for (int i = 0; i < 5; i++) {
+            Submodel submodel = createSubmodel("sm" + i, i % 2 == 0 ? "Even" : "Odd", "https://example.org/" + i, "1");
+            submodels.put(submodel.getId(), submodel);
+        }
+        PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodels, Submodel::getId);
+        NativeQueryExecutor<Submodel> executor = new NativeQueryExecutor<>((filter, pInfo) -> paginationSupport.getPaged(pInfo, filter), Submodel::getId, "Submodel");
+
+        AASQuery query = MAPPER.readValue("""
+                {"$select": "id", "$condition": {"$eq": [{"$field": "$sm#idShort"}, {"$strVal": "Even"}]}}""", AASQuery.class);
+
+        QueryResponse firstPage = executor.executeQueryAndGetResponse(query, 2, null);
+        assertEquals(List.of("sm0", "sm2"), getIds(firstPage));
+        assertEquals("Identifier", firstPage.paging_metadata.resulType);
+
+        QueryResponse lastPage = executor.executeQueryAndGetResponse(query, 2, new Base64UrlEncodedCursor(firstPage.paging_metadata.cursor));
+        assertEquals(List.of("sm4"), getIds(lastPage));
+        assertNull(lastPage.paging_metadata.cursor);
+    }
+
+    private CompiledQuery compile(String condition) throws JsonProcessingException {
+        return compiler.compile(MAPPER.readValue("{\"$condition\": " + condition + "}", AASQuery.class));
+    }
+
+    private static List<String> getIds(QueryResponse response) {
+        return response.result.stream().map(node -> ((ObjectNode) node).get("id").asText()).toList();
+    }
+
+    private static Submodel createSubmodel(String id, String idShort, String semanticId, String temperature) {
+        DefaultReference reference = new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE).keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(semanticId).build()).build();
+
+        DefaultSubmodelElementCollection firstMarking = new DefaultSubmodelElementCollection.Builder().value(new DefaultProperty.Builder().idShort("MarkingName").value("UKCA").build()).build();
+        DefaultSubmodelElementCollection secondMarking = new DefaultSubmodelElementCollection.Builder().value(new DefaultProperty.Builder().idShort("MarkingName").value("CE").build()).build();
+        DefaultSubmodelElementList markingList = new DefaultSubmodelElementList.Builder().idShort("Marking").value(List.of(firstMarking, secondMarking)).build();
+
+        return new DefaultSubmodel.Builder().id(id)
+                .idShort(idShort)
+                .kind(ModellingKind.INSTANCE)
+                .semanticId(reference)
+                .submodelElements(new DefaultProperty.Builder().idShort("Temperature").valueType(DataTypeDefXsd.DOUBLE).value(temperature).build())
+                .submodelElements(new DefaultSubmodelElementCollection.Builder().idShort("Markings").value(markingList).build())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.querycore.query.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.JsonpDeserializer;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+/**
+ * Tests the conversion of indexed documents back into AAS JSON by
+ * {@link DenormalizedSource}
+ *
+ * @author agent
+ *
+ */
+public class DenormalizedSourceTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+
+    @Test
+    public void renamedChildrenAreRestoredAsValue() throws JsonProcessingException {
+        JsonNode actual = read("""
+                {"submodelElements":[{"idShort":"C","smcChildren":[{"idShort":"L","smlChildren":[{"value":"1"}]}]},
+                 {"idShort":"M","langContent":[{"language":"en","text":"t"}]},{"idShort":"R","referenceChildren":{"keys":[{"value":"k"}]}}]}
+                """);
+
+        assertJson("""
+                {"submodelElements":[{"idShort":"C","value":[{"idShort":"L","value":[{"value":"1"}]}]},
+                 {"idShort":"M","value":[{"language":"en","text":"t"}]},{"idShort":"R","value":{"keys":[{"value":"k"}]}}]}
+                """, actual);
+    }
+
+    @Test
+    public void renamedChildrenTakePrecedenceOverValue() throws JsonProcessingException {
+        assertJson("{\"value\":[\"children\"]}", read("{\"smcChildren\":[\"children\"],\"value\":\"plain\"}"));
+        assertJson("{\"value\":[\"children\"]}", read("{\"value\":\"plain\",\"smcChildren\":[\"children\"]}"));
+        assertJson("{\"value\":[\"lang\"]}", read("{\"langContent\":[\"lang\"],\"smcChildren\":[\"children\"]}"));
+    }
+
+    @Test
+    public void emptyArraysAreDropped() throws JsonProcessingException {
+        assertJson("{\"value\":\"plain\",\"nested\":{},\"list\":[[],{}]}", read("{\"value\":\"plain\",\"smcChildren\":[],\"nested\":{\"keys\":[]},\"list\":[[],{\"empty\":[]}],\"empty\":[]}"));
+    }
+
+    @Test
+    public void objectsInNestedArraysAreNotRewritten() throws JsonProcessingException {
+        assertJson("{\"matrix\":[[{\"smcChildren\":[1]}]]}", read("{\"matrix\":[[{\"smcChildren\":[1]}]]}"));
+    }
+
+    @Test
+    public void scalarsKeepTheirType() throws JsonProcessingException {
+        JsonNode actual = read("{\"int\":1,\"long\":10000000000,\"big\":100000000000000000000,\"double\":1.5,\"bool\":true,\"null\":null,\"text\":\"t\"}");
+
+        assertTrue(actual.get("int").isInt());
+        assertTrue(actual.get("long").isLong());
+        assertTrue(actual.get("big").isBigInteger());
+        assertTrue(actual.get("double").isDouble());
+        assertTrue(actual.get("bool").isBoolean());
+        assertTrue(actual.get("null").isNull());
+        assertTrue(actual.get("text").isTextual());
+    }
+
+    @Test
+    public void searchResponseHitsAreDenormalized() throws JsonProcessingException {
+        String response = """
+                {"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0},
+                 "hits":{"total":{"value":1,"relation":"eq"},"hits":[{"_index":"i","_id":"sm","_source":{"id":"sm","smcChildren":[{"idShort":"P"}],"empty":[]}}]}}
+                """;
+
+        SearchResponse<DenormalizedSource> searchResponse = SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.<DenormalizedSource>of(DenormalizedSource.class)).deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(response)), jsonpMapper);
+
+        assertJson("{\"id\":\"sm\",\"value\":[{\"idShort\":\"P\"}]}", searchResponse.hits().hits().get(0).source().getNode());
+    }
+
+    private JsonNode read(String json) {
+        return DenormalizedSource.read(jsonpMapper.jsonProvider().createParser(new StringReader(json)), jsonpMapper);
+    }
+
+    private static void assertJson(String expected, JsonNode actual) throws JsonProcessingException {
+        assertEquals(MAPPER.readTree(expected), actual);
+    }
+}
@@ -25,8 +25,13 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.backend;
 
+import java.util.List;
+
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.basyx.common.backend.inmemory.core.InMemoryCrudRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
@@ -44,4 +49,9 @@ public class InMemoryConceptDescriptionBackend extends InMemoryCrudRepository<Co
 		super(ConceptDescription::getId);
 	}
 
+	@Override
+	public CursorResult<List<ConceptDescription>> query(QueryFilter<? super ConceptDescription> filter, PaginationInfo pInfo) {
+		return findAll(pInfo, filter);
+	}
+
 }
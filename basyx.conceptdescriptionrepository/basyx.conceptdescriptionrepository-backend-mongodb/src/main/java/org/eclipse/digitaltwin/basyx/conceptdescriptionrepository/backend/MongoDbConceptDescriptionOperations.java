@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.backend;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoPaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+/**
+ * MongoDb implementation of the {@link ConceptDescriptionOperations}
+ * 
+ * @author agent
+ */
+public class MongoDbConceptDescriptionOperations implements ConceptDescriptionOperations {
+
+    private final MongoPaginationSupport<ConceptDescription> paginationSupport;
+
+    public MongoDbConceptDescriptionOperations(MongoOperations mongoOperations) {
+        this.paginationSupport = new MongoPaginationSupport<>(mongoOperations, ConceptDescription.class, ConceptDescription::getId);
+    }
+
+    @Override
+    public CursorResult<List<ConceptDescription>> findAll(PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo);
+    }
+
+    @Override
+    public CursorResult<List<ConceptDescription>> findAllById(Collection<String> ids, PaginationInfo pInfo) {
+        return paginationSupport.getPagedById(pInfo, ids);
+    }
+
+    @Override
+    public CursorResult<List<ConceptDescription>> query(QueryFilter<? super ConceptDescription> filter, PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo, filter.getMongoPreFilter(), filter);
+    }
+}
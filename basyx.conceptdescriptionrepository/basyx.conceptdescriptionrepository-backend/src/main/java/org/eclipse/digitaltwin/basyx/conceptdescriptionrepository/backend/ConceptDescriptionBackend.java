@@ -35,6 +35,6 @@ import org.springframework.stereotype.Repository;
  * @author mateusmolina
  */
 @Repository
-public interface ConceptDescriptionBackend extends CrudRepository<ConceptDescription, String> {
+public interface ConceptDescriptionBackend extends CrudRepository<ConceptDescription, String>, ConceptDescriptionOperations {
 
 }
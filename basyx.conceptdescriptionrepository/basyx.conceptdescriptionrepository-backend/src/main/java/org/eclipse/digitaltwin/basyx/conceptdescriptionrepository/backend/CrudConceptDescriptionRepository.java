@@ -45,6 +45,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.springframework.lang.NonNull;
 
 /**
@@ -73,14 +74,17 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo) {
-		Iterable<ConceptDescription> iterable = conceptDescriptionBackend.findAll();
-		List<ConceptDescription> conceptDescriptions = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
-
-		TreeMap<String, ConceptDescription> conceptDescriptionMap = conceptDescriptions.stream().collect(Collectors.toMap(ConceptDescription::getId, conceptDescription -> conceptDescription, (a, b) -> a, TreeMap::new));
+		return conceptDescriptionBackend.findAll(pInfo);
+	}
 
-		PaginationSupport<ConceptDescription> paginationSupport = new PaginationSupport<>(conceptDescriptionMap, ConceptDescription::getId);
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsById(Collection<String> conceptDescriptionIds, PaginationInfo pInfo) {
+		return conceptDescriptionBackend.findAllById(conceptDescriptionIds, pInfo);
+	}
 
-		return paginationSupport.getPaged(pInfo);
+	@Override
+	public CursorResult<List<ConceptDescription>> queryConceptDescriptions(QueryFilter<? super ConceptDescription> filter, PaginationInfo pInfo) {
+		return conceptDescriptionBackend.query(filter, pInfo);
 	}
 
 	@Override
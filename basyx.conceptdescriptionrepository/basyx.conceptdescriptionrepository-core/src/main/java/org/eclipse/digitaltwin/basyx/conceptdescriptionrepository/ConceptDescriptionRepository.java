@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -34,6 +36,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 
 /**
  * Specifies the overall ConceptDescriptionRepository API
@@ -50,6 +54,62 @@ public interface ConceptDescriptionRepository {
 	 */
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo);
 
+	/**
+	 * Retrieves the ConceptDescriptions with the passed ids, sorted ascending by
+	 * their id. Ids without a ConceptDescription are skipped, i.e., they do not
+	 * count towards the limit.
+	 *
+	 * The default implementation retrieves the ConceptDescriptions of the
+	 * requested page one by one. Implementations should let their backend
+	 * retrieve them at once.
+	 *
+	 * @param conceptDescriptionIds
+	 * @param pInfo
+	 * @return the ConceptDescriptions of the requested page
+	 */
+	public default CursorResult<List<ConceptDescription>> getAllConceptDescriptionsById(Collection<String> conceptDescriptionIds, PaginationInfo pInfo) {
+		return PaginationSupport.getPaged(pInfo, conceptDescriptionIds, conceptDescriptionId -> {
+			try {
+				return getConceptDescription(conceptDescriptionId);
+			} catch (ElementDoesNotExistException e) {
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Retrieves the ConceptDescriptions matching the passed filter, sorted
+	 * ascending by their id. ConceptDescriptions not matching the filter do not
+	 * count towards the limit.
+	 *
+	 * The default implementation pages through all ConceptDescriptions and tests
+	 * each of them. Implementations should let their backend evaluate the
+	 * filter.
+	 *
+	 * @param filter
+	 * @param pInfo
+	 * @return the matching ConceptDescriptions of the requested page
+	 */
+	public default CursorResult<List<ConceptDescription>> queryConceptDescriptions(QueryFilter<? super ConceptDescription> filter, PaginationInfo pInfo) {
+		List<ConceptDescription> matches = new ArrayList<>();
+		String cursor = pInfo.getCursor();
+
+		do {
+			CursorResult<List<ConceptDescription>> page = getAllConceptDescriptions(new PaginationInfo(pInfo.getLimit(), cursor));
+			for (ConceptDescription conceptDescription : page.getResult()) {
+				if (!filter.test(conceptDescription))
+					continue;
+
+				matches.add(conceptDescription);
+				if (pInfo.hasLimit() && matches.size() == pInfo.getLimit())
+					return new CursorResult<>(conceptDescription.getId(), matches);
+			}
+			cursor = page.getCursor();
+		} while (cursor != null);
+
+		return new CursorResult<>(null, matches);
+	}
+
 	/**
 	 * Retrieves all ConceptDescriptions from the repository matching the passed
 	 * idShort
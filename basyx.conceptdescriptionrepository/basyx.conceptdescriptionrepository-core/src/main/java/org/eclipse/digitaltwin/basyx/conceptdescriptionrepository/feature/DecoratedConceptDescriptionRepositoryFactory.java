@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepositoryFactory;
@@ -43,6 +44,10 @@ public class DecoratedConceptDescriptionRepositoryFactory extends DecoratedFacto
 		super(toDecorate, features);
 	}
 
+	public DecoratedConceptDescriptionRepositoryFactory(ConceptDescriptionRepositoryFactory toDecorate, List<ConceptDescriptionRepositoryFeature> features, UnaryOperator<ConceptDescriptionRepositoryFactory> layerDecorator) {
+		super(toDecorate, features, layerDecorator);
+	}
+
 	@Override
 	public ConceptDescriptionRepository create() {
 		return getDecorated().create();
@@ -27,9 +27,9 @@ package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.autho
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
-import java.util.TreeMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -44,9 +44,6 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionExcep
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Decorator for authorized {@link ConceptDescriptionRepository}
@@ -56,7 +53,6 @@ import org.slf4j.LoggerFactory;
  */
 public class AuthorizedConceptDescriptionRepository implements ConceptDescriptionRepository {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizedConceptDescriptionRepository.class);
 	private ConceptDescriptionRepository decorated;
 	private RbacPermissionResolver<ConceptDescriptionTargetInformation> permissionResolver;
 	
@@ -74,26 +70,22 @@ public class AuthorizedConceptDescriptionRepository implements ConceptDescriptio
 		
 		List<TargetInformation> targetInformations = permissionResolver.getMatchingTargetInformationInRules(Action.READ, new ConceptDescriptionTargetInformation(getIdAsList("*")));
 		
-		List<String> allIds = targetInformations.stream().map(ConceptDescriptionTargetInformation.class::cast)
-				.map(ConceptDescriptionTargetInformation::getConceptDescriptionIds).flatMap(List::stream).collect(Collectors.toList());
+		Set<String> allIds = targetInformations.stream().map(ConceptDescriptionTargetInformation.class::cast)
+				.map(ConceptDescriptionTargetInformation::getConceptDescriptionIds).flatMap(List::stream).collect(Collectors.toSet());
 		
-		List<ConceptDescription> conceptDesc = allIds.stream().map(id -> {
-			try {
-				return getConceptDescription(id);
-			} catch (ElementDoesNotExistException e) {
-				LOGGER.error("Concept Description: '{}' not found, Error: {}", id, e.getMessage());
-				return null;
-			} catch (Exception e) {
-				LOGGER.error("Exception occurred while retrieving the Concept Description: {}, Error: {}", id, e.getMessage());
-				return null;
-			}
-		}).filter(Objects::nonNull).collect(Collectors.toList());
-		
-		TreeMap<String, ConceptDescription> aasMap = conceptDesc.stream().collect(Collectors.toMap(ConceptDescription::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+		return getAllConceptDescriptionsById(allIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsById(Collection<String> conceptDescriptionIds, PaginationInfo pInfo) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new ConceptDescriptionTargetInformation(getIdAsList("*")));
+
+		if (isAuthorized)
+			return decorated.getAllConceptDescriptionsById(conceptDescriptionIds, pInfo);
 
-		PaginationSupport<ConceptDescription> paginationSupport = new PaginationSupport<>(aasMap, ConceptDescription::getId);
+		List<String> permittedIds = conceptDescriptionIds.stream().filter(id -> permissionResolver.hasPermission(Action.READ, new ConceptDescriptionTargetInformation(getIdAsList(id)))).collect(Collectors.toList());
 
-		return paginationSupport.getPaged(pInfo);
+		return decorated.getAllConceptDescriptionsById(permittedIds, pInfo);
 	}
 
 	@Override
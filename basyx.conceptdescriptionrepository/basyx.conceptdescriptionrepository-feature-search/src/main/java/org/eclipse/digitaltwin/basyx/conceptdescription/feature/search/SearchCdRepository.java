@@ -37,10 +37,12 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 public class SearchCdRepository implements ConceptDescriptionRepository {
@@ -61,6 +63,16 @@ public class SearchCdRepository implements ConceptDescriptionRepository {
 		return decorated.getAllConceptDescriptions(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsById(Collection<String> conceptDescriptionIds, PaginationInfo pInfo) {
+		return decorated.getAllConceptDescriptionsById(conceptDescriptionIds, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> queryConceptDescriptions(QueryFilter<? super ConceptDescription> filter, PaginationInfo pInfo) {
+		return decorated.queryConceptDescriptions(filter, pInfo);
+	}
+
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
 		return decorated.getAllConceptDescriptionsByIdShort(idShort, pInfo);
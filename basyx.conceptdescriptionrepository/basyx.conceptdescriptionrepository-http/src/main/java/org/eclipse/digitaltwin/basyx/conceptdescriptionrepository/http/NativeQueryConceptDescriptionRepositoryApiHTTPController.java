@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
+import org.eclipse.digitaltwin.basyx.querycore.query.executor.NativeQueryExecutor;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.AASQuery;
+import org.eclipse.digitaltwin.basyx.querycore.query.model.QueryResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves the query endpoint of the ConceptDescription Repository if the
+ * Elasticsearch based search feature is disabled
+ * 
+ * The queries are evaluated by the backend of the
+ * {@link ConceptDescriptionRepository}, i.e., no search index is required.
+ * 
+ * @author agent
+ *
+ */
+@RestController
+@ConditionalOnExpression("!(${basyx.cdrepository.feature.experimental.search.enabled:false} || ${basyx.feature.experimental.search.enabled:false})")
+public class NativeQueryConceptDescriptionRepositoryApiHTTPController implements NativeQueryConceptDescriptionRepositoryHTTPApi {
+
+	private final NativeQueryExecutor<ConceptDescription> executor;
+
+	public NativeQueryConceptDescriptionRepositoryApiHTTPController(ConceptDescriptionRepository repository) {
+		this.executor = new NativeQueryExecutor<ConceptDescription>(repository::queryConceptDescriptions, ConceptDescription::getId, "ConceptDescription");
+	}
+
+	@Override
+	public ResponseEntity<QueryResponse> queryConceptDescriptions(AASQuery query, Integer limit, Base64UrlEncodedCursor cursor) {
+		return new ResponseEntity<>(executor.executeQueryAndGetResponse(query, limit, cursor), HttpStatus.OK);
+	}
+}
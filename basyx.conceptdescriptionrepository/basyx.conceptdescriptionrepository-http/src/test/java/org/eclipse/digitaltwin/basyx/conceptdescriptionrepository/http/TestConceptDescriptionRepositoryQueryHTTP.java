@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ParseException;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.ConceptDescriptionRepositorySuiteHelper;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.DummyConceptDescriptionFactory;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the query endpoint of the ConceptDescriptionRepository HTTP/REST API
+ * evaluated by the repository backend
+ *
+ * @author agent
+ *
+ */
+public class TestConceptDescriptionRepositoryQueryHTTP {
+	private static final String QUERY_URL = "http://localhost:8080/query/concept-descriptions";
+	private static final String ID_SHORT_QUERY = "{\"$condition\":{\"$eq\":[{\"$field\":\"$cd#idShort\"},{\"$strVal\":\"%s\"}]}}";
+
+	private static ConfigurableApplicationContext appContext;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@BeforeClass
+	public static void startConceptDescriptionRepo() {
+		appContext = new SpringApplicationBuilder(DummyConceptDescriptionRepositoryComponent.class).profiles("httptests").run(new String[] {});
+	}
+
+	@AfterClass
+	public static void shutdownConceptDescriptionRepo() {
+		appContext.close();
+	}
+
+	@Before
+	public void populateRepository() {
+		DummyConceptDescriptionFactory.getConceptDescriptions().forEach(getRepository()::createConceptDescription);
+	}
+
+	@After
+	public void resetRepository() {
+		ConceptDescriptionRepository repo = getRepository();
+		repo.getAllConceptDescriptions(PaginationInfo.NO_LIMIT).getResult().stream().map(cd -> cd.getId()).forEach(repo::deleteConceptDescription);
+	}
+
+	@Test
+	public void matchingConceptDescriptionsAreReturned() throws IOException, ParseException {
+		JsonNode response = query(String.format(ID_SHORT_QUERY, ConceptDescriptionRepositorySuiteHelper.BASIC_CONCEPT_DESCRIPTION_ID_SHORT), "");
+
+		assertEquals("ConceptDescription", response.at("/paging_metadata/resulType").asText());
+		assertEquals(1, response.get("result").size());
+		assertEquals(ConceptDescriptionRepositorySuiteHelper.BASIC_CONCEPT_DESCRIPTION_ID, response.at("/result/0/id").asText());
+	}
+
+	@Test
+	public void resultsArePaged() throws IOException, ParseException {
+		String allQuery = "{\"$select\":\"id\",\"$condition\":{\"$ne\":[{\"$field\":\"$cd#id\"},{\"$strVal\":\"\"}]}}";
+		int conceptDescriptionCount = DummyConceptDescriptionFactory.getConceptDescriptions().size();
+
+		JsonNode firstPage = query(allQuery, "?limit=1");
+		assertEquals(1, firstPage.get("result").size());
+
+		JsonNode secondPage = query(allQuery, "?limit=" + conceptDescriptionCount + "&cursor=" + firstPage.at("/paging_metadata/cursor").asText());
+		assertEquals(conceptDescriptionCount - 1, secondPage.get("result").size());
+		assertEquals("Identifier", secondPage.at("/paging_metadata/resulType").asText());
+	}
+
+	@Test
+	public void invalidQueryIsRejected() throws IOException {
+		String invalidQuery = "{\"$condition\":{\"$eq\":[{\"$field\":\"cd#idShort\"},{\"$strVal\":\"x\"}]}}";
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL, invalidQuery);
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
+	private JsonNode query(String query, String parameters) throws IOException, ParseException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL + parameters, query);
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		return mapper.readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	private static ConceptDescriptionRepository getRepository() {
+		return appContext.getBean(ConceptDescriptionRepository.class);
+	}
+}
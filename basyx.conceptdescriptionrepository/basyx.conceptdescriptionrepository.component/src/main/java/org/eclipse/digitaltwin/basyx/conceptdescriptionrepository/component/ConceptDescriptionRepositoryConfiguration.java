@@ -26,11 +26,13 @@
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.component;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.ConceptDescriptionRepositoryFeature;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.DecoratedConceptDescriptionRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,11 +47,19 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 public class ConceptDescriptionRepositoryConfiguration {
+	private static final String METRICS_COMPONENT_NAME = "concept-description-repository";
+
 
 	@Bean
 	@ConditionalOnMissingBean
-	public static ConceptDescriptionRepository getConceptDescriptionRepository(ConceptDescriptionRepositoryFactory aasRepositoryFactory, List<ConceptDescriptionRepositoryFeature> features) {
-		return new DecoratedConceptDescriptionRepositoryFactory(aasRepositoryFactory, features).create();
+	public static ConceptDescriptionRepository getConceptDescriptionRepository(ConceptDescriptionRepositoryFactory aasRepositoryFactory, List<ConceptDescriptionRepositoryFeature> features, Optional<LayerMetrics> layerMetrics) {
+		if (layerMetrics.isEmpty())
+			return new DecoratedConceptDescriptionRepositoryFactory(aasRepositoryFactory, features).create();
+
+		return new DecoratedConceptDescriptionRepositoryFactory(aasRepositoryFactory, features, factory -> instrument(factory, layerMetrics.get())).create();
 	}
 
+	private static ConceptDescriptionRepositoryFactory instrument(ConceptDescriptionRepositoryFactory factory, LayerMetrics layerMetrics) {
+		return () -> layerMetrics.instrument(METRICS_COMPONENT_NAME, ConceptDescriptionRepository.class, factory.create());
+	}
 }
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.client;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T22:25:13.301354552Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class RFC3339InstantDeserializer<T extends Temporal> extends InstantDeserializer<T> {
+    private static final long serialVersionUID = 1L;
+    private final static boolean DEFAULT_NORMALIZE_ZONE_ID = JavaTimeFeature.NORMALIZE_DESERIALIZED_ZONE_ID.enabledByDefault();
+    private final static boolean DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
+    = JavaTimeFeature.ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS.enabledByDefault();
+
+    public static final RFC3339InstantDeserializer<Instant> INSTANT = new RFC3339InstantDeserializer<>(
+        Instant.class, DateTimeFormatter.ISO_INSTANT,
+        Instant::from,
+        a -> Instant.ofEpochMilli( a.value ),
+        a -> Instant.ofEpochSecond( a.integer, a.fraction ),
+        null,
+        true, // yes, replace zero offset with Z
+        DEFAULT_NORMALIZE_ZONE_ID,
+        DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
+    );
+
+    public static final RFC3339InstantDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new RFC3339InstantDeserializer<>(
+        OffsetDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+        OffsetDateTime::from,
+        a -> OffsetDateTime.ofInstant( Instant.ofEpochMilli( a.value ), a.zoneId ),
+        a -> OffsetDateTime.ofInstant( Instant.ofEpochSecond( a.integer, a.fraction ), a.zoneId ),
+        (d, z) -> ( d.isEqual( OffsetDateTime.MIN ) || d.isEqual( OffsetDateTime.MAX ) ?
+        d :
+        d.withOffsetSameInstant( z.getRules().getOffset( d.toLocalDateTime() ) ) ),
+        true, // yes, replace zero offset with Z
+        DEFAULT_NORMALIZE_ZONE_ID,
+        DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
+    );
+
+    public static final RFC3339InstantDeserializer<ZonedDateTime> ZONED_DATE_TIME = new RFC3339InstantDeserializer<>(
+        ZonedDateTime.class, DateTimeFormatter.ISO_ZONED_DATE_TIME,
+        ZonedDateTime::from,
+        a -> ZonedDateTime.ofInstant( Instant.ofEpochMilli( a.value ), a.zoneId ),
+        a -> ZonedDateTime.ofInstant( Instant.ofEpochSecond( a.integer, a.fraction ), a.zoneId ),
+        ZonedDateTime::withZoneSameInstant,
+        false, // keep zero offset and Z separate since zones explicitly supported
+        DEFAULT_NORMALIZE_ZONE_ID,
+        DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
+    );
+
+    protected RFC3339InstantDeserializer(
+            Class<T> supportedType,
+            DateTimeFormatter formatter,
+            Function<TemporalAccessor, T> parsedToValue,
+            Function<FromIntegerArguments, T> fromMilliseconds,
+            Function<FromDecimalArguments, T> fromNanoseconds,
+            BiFunction<T, ZoneId, T> adjust,
+            boolean replaceZeroOffsetAsZ,
+            boolean normalizeZoneId,
+            boolean readNumericStringsAsTimestamp) {
+        super(
+                supportedType,
+                formatter,
+                parsedToValue,
+                fromMilliseconds,
+                fromNanoseconds,
+                adjust,
+                replaceZeroOffsetAsZ,
+                normalizeZoneId,
+                readNumericStringsAsTimestamp
+        );
+    }
+
+    @Override
+    protected T _fromString(JsonParser p, DeserializationContext ctxt, String string0) throws IOException {
+        return super._fromString(p, ctxt, string0.replace( ' ', 'T' ));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiClient;
+/**
+ * LevelType
+ */
+@JsonPropertyOrder({
+  LevelType.JSON_PROPERTY_MIN,
+  LevelType.JSON_PROPERTY_NOM,
+  LevelType.JSON_PROPERTY_TYP,
+  LevelType.JSON_PROPERTY_MAX
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T22:25:13.301354552Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class LevelType {
+  public static final String JSON_PROPERTY_MIN = "min";
+  @jakarta.annotation.Nonnull
+  private Boolean min;
+
+  public static final String JSON_PROPERTY_NOM = "nom";
+  @jakarta.annotation.Nonnull
+  private Boolean nom;
+
+  public static final String JSON_PROPERTY_TYP = "typ";
+  @jakarta.annotation.Nonnull
+  private Boolean typ;
+
+  public static final String JSON_PROPERTY_MAX = "max";
+  @jakarta.annotation.Nonnull
+  private Boolean max;
+
+  public LevelType() { 
+  }
+
+  public LevelType min(@jakarta.annotation.Nonnull Boolean min) {
+    this.min = min;
+    return this;
+  }
+
+  /**
+   * Get min
+   * @return min
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_MIN, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public Boolean getMin() {
+    return min;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_MIN, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setMin(@jakarta.annotation.Nonnull Boolean min) {
+    this.min = min;
+  }
+
+
+  public LevelType nom(@jakarta.annotation.Nonnull Boolean nom) {
+    this.nom = nom;
+    return this;
+  }
+
+  /**
+   * Get nom
+   * @return nom
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_NOM, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public Boolean getNom() {
+    return nom;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_NOM, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setNom(@jakarta.annotation.Nonnull Boolean nom) {
+    this.nom = nom;
+  }
+
+
+  public LevelType typ(@jakarta.annotation.Nonnull Boolean typ) {
+    this.typ = typ;
+    return this;
+  }
+
+  /**
+   * Get typ
+   * @return typ
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_TYP, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public Boolean getTyp() {
+    return typ;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_TYP, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setTyp(@jakarta.annotation.Nonnull Boolean typ) {
+    this.typ = typ;
+  }
+
+
+  public LevelType max(@jakarta.annotation.Nonnull Boolean max) {
+    this.max = max;
+    return this;
+  }
+
+  /**
+   * Get max
+   * @return max
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_MAX, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public Boolean getMax() {
+    return max;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_MAX, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setMax(@jakarta.annotation.Nonnull Boolean max) {
+    this.max = max;
+  }
+
+
+  /**
+   * Return true if this LevelType object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    LevelType levelType = (LevelType) o;
+    return Objects.equals(this.min, levelType.min) &&
+        Objects.equals(this.nom, levelType.nom) &&
+        Objects.equals(this.typ, levelType.typ) &&
+        Objects.equals(this.max, levelType.max);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(min, nom, typ, max);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class LevelType {\n");
+    sb.append("    min: ").append(toIndentedString(min)).append("\n");
+    sb.append("    nom: ").append(toIndentedString(nom)).append("\n");
+    sb.append("    typ: ").append(toIndentedString(typ)).append("\n");
+    sb.append("    max: ").append(toIndentedString(max)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `min` to the URL query string
+    if (getMin() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%smin%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getMin()))));
+    }
+
+    // add `nom` to the URL query string
+    if (getNom() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%snom%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getNom()))));
+    }
+
+    // add `typ` to the URL query string
+    if (getTyp() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%styp%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getTyp()))));
+    }
+
+    // add `max` to the URL query string
+    if (getMax() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%smax%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getMax()))));
+    }
+
+    return joiner.toString();
+  }
+}
+
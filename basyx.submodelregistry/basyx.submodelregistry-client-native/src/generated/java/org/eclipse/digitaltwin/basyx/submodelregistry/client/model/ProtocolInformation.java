@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.ProtocolInformationSecurityAttributes;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiClient;
+/**
+ * ProtocolInformation
+ */
+@JsonPropertyOrder({
+  ProtocolInformation.JSON_PROPERTY_HREF,
+  ProtocolInformation.JSON_PROPERTY_ENDPOINT_PROTOCOL,
+  ProtocolInformation.JSON_PROPERTY_ENDPOINT_PROTOCOL_VERSION,
+  ProtocolInformation.JSON_PROPERTY_SUBPROTOCOL,
+  ProtocolInformation.JSON_PROPERTY_SUBPROTOCOL_BODY,
+  ProtocolInformation.JSON_PROPERTY_SUBPROTOCOL_BODY_ENCODING,
+  ProtocolInformation.JSON_PROPERTY_SECURITY_ATTRIBUTES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T22:25:13.301354552Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class ProtocolInformation {
+  public static final String JSON_PROPERTY_HREF = "href";
+  @jakarta.annotation.Nonnull
+  private String href;
+
+  public static final String JSON_PROPERTY_ENDPOINT_PROTOCOL = "endpointProtocol";
+  @jakarta.annotation.Nullable
+  private String endpointProtocol;
+
+  public static final String JSON_PROPERTY_ENDPOINT_PROTOCOL_VERSION = "endpointProtocolVersion";
+  @jakarta.annotation.Nullable
+  private List<String> endpointProtocolVersion;
+
+  public static final String JSON_PROPERTY_SUBPROTOCOL = "subprotocol";
+  @jakarta.annotation.Nullable
+  private String subprotocol;
+
+  public static final String JSON_PROPERTY_SUBPROTOCOL_BODY = "subprotocolBody";
+  @jakarta.annotation.Nullable
+  private String subprotocolBody;
+
+  public static final String JSON_PROPERTY_SUBPROTOCOL_BODY_ENCODING = "subprotocolBodyEncoding";
+  @jakarta.annotation.Nullable
+  private String subprotocolBodyEncoding;
+
+  public static final String JSON_PROPERTY_SECURITY_ATTRIBUTES = "securityAttributes";
+  @jakarta.annotation.Nullable
+  private List<ProtocolInformationSecurityAttributes> securityAttributes;
+
+  public ProtocolInformation() { 
+  }
+
+  public ProtocolInformation href(@jakarta.annotation.Nonnull String href) {
+    this.href = href;
+    return this;
+  }
+
+  /**
+   * Get href
+   * @return href
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_HREF, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public String getHref() {
+    return href;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_HREF, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setHref(@jakarta.annotation.Nonnull String href) {
+    this.href = href;
+  }
+
+
+  public ProtocolInformation endpointProtocol(@jakarta.annotation.Nullable String endpointProtocol) {
+    this.endpointProtocol = endpointProtocol;
+    return this;
+  }
+
+  /**
+   * Get endpointProtocol
+   * @return endpointProtocol
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINT_PROTOCOL, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getEndpointProtocol() {
+    return endpointProtocol;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINT_PROTOCOL, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setEndpointProtocol(@jakarta.annotation.Nullable String endpointProtocol) {
+    this.endpointProtocol = endpointProtocol;
+  }
+
+
+  public ProtocolInformation endpointProtocolVersion(@jakarta.annotation.Nullable List<String> endpointProtocolVersion) {
+    this.endpointProtocolVersion = endpointProtocolVersion;
+    return this;
+  }
+
+  public ProtocolInformation addEndpointProtocolVersionItem(String endpointProtocolVersionItem) {
+    if (this.endpointProtocolVersion == null) {
+      this.endpointProtocolVersion = new ArrayList<>();
+    }
+    this.endpointProtocolVersion.add(endpointProtocolVersionItem);
+    return this;
+  }
+
+  /**
+   * Get endpointProtocolVersion
+   * @return endpointProtocolVersion
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINT_PROTOCOL_VERSION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<String> getEndpointProtocolVersion() {
+    return endpointProtocolVersion;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINT_PROTOCOL_VERSION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setEndpointProtocolVersion(@jakarta.annotation.Nullable List<String> endpointProtocolVersion) {
+    this.endpointProtocolVersion = endpointProtocolVersion;
+  }
+
+
+  public ProtocolInformation subprotocol(@jakarta.annotation.Nullable String subprotocol) {
+    this.subprotocol = subprotocol;
+    return this;
+  }
+
+  /**
+   * Get subprotocol
+   * @return subprotocol
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getSubprotocol() {
+    return subprotocol;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSubprotocol(@jakarta.annotation.Nullable String subprotocol) {
+    this.subprotocol = subprotocol;
+  }
+
+
+  public ProtocolInformation subprotocolBody(@jakarta.annotation.Nullable String subprotocolBody) {
+    this.subprotocolBody = subprotocolBody;
+    return this;
+  }
+
+  /**
+   * Get subprotocolBody
+   * @return subprotocolBody
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL_BODY, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getSubprotocolBody() {
+    return subprotocolBody;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL_BODY, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSubprotocolBody(@jakarta.annotation.Nullable String subprotocolBody) {
+    this.subprotocolBody = subprotocolBody;
+  }
+
+
+  public ProtocolInformation subprotocolBodyEncoding(@jakarta.annotation.Nullable String subprotocolBodyEncoding) {
+    this.subprotocolBodyEncoding = subprotocolBodyEncoding;
+    return this;
+  }
+
+  /**
+   * Get subprotocolBodyEncoding
+   * @return subprotocolBodyEncoding
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL_BODY_ENCODING, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getSubprotocolBodyEncoding() {
+    return subprotocolBodyEncoding;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SUBPROTOCOL_BODY_ENCODING, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSubprotocolBodyEncoding(@jakarta.annotation.Nullable String subprotocolBodyEncoding) {
+    this.subprotocolBodyEncoding = subprotocolBodyEncoding;
+  }
+
+
+  public ProtocolInformation securityAttributes(@jakarta.annotation.Nullable List<ProtocolInformationSecurityAttributes> securityAttributes) {
+    this.securityAttributes = securityAttributes;
+    return this;
+  }
+
+  public ProtocolInformation addSecurityAttributesItem(ProtocolInformationSecurityAttributes securityAttributesItem) {
+    if (this.securityAttributes == null) {
+      this.securityAttributes = new ArrayList<>();
+    }
+    this.securityAttributes.add(securityAttributesItem);
+    return this;
+  }
+
+  /**
+   * Get securityAttributes
+   * @return securityAttributes
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SECURITY_ATTRIBUTES, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<ProtocolInformationSecurityAttributes> getSecurityAttributes() {
+    return securityAttributes;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SECURITY_ATTRIBUTES, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSecurityAttributes(@jakarta.annotation.Nullable List<ProtocolInformationSecurityAttributes> securityAttributes) {
+    this.securityAttributes = securityAttributes;
+  }
+
+
+  /**
+   * Return true if this ProtocolInformation object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ProtocolInformation protocolInformation = (ProtocolInformation) o;
+    return Objects.equals(this.href, protocolInformation.href) &&
+        Objects.equals(this.endpointProtocol, protocolInformation.endpointProtocol) &&
+        Objects.equals(this.endpointProtocolVersion, protocolInformation.endpointProtocolVersion) &&
+        Objects.equals(this.subprotocol, protocolInformation.subprotocol) &&
+        Objects.equals(this.subprotocolBody, protocolInformation.subprotocolBody) &&
+        Objects.equals(this.subprotocolBodyEncoding, protocolInformation.subprotocolBodyEncoding) &&
+        Objects.equals(this.securityAttributes, protocolInformation.securityAttributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(href, endpointProtocol, endpointProtocolVersion, subprotocol, subprotocolBody, subprotocolBodyEncoding, securityAttributes);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ProtocolInformation {\n");
+    sb.append("    href: ").append(toIndentedString(href)).append("\n");
+    sb.append("    endpointProtocol: ").append(toIndentedString(endpointProtocol)).append("\n");
+    sb.append("    endpointProtocolVersion: ").append(toIndentedString(endpointProtocolVersion)).append("\n");
+    sb.append("    subprotocol: ").append(toIndentedString(subprotocol)).append("\n");
+    sb.append("    subprotocolBody: ").append(toIndentedString(subprotocolBody)).append("\n");
+    sb.append("    subprotocolBodyEncoding: ").append(toIndentedString(subprotocolBodyEncoding)).append("\n");
+    sb.append("    securityAttributes: ").append(toIndentedString(securityAttributes)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `href` to the URL query string
+    if (getHref() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%shref%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getHref()))));
+    }
+
+    // add `endpointProtocol` to the URL query string
+    if (getEndpointProtocol() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%sendpointProtocol%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getEndpointProtocol()))));
+    }
+
+    // add `endpointProtocolVersion` to the URL query string
+    if (getEndpointProtocolVersion() != null) {
+      for (int i = 0; i < getEndpointProtocolVersion().size(); i++) {
+        joiner.add(String.format(java.util.Locale.ROOT, "%sendpointProtocolVersion%s%s=%s", prefix, suffix,
+            "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix),
+            ApiClient.urlEncode(ApiClient.valueToString(getEndpointProtocolVersion().get(i)))));
+      }
+    }
+
+    // add `subprotocol` to the URL query string
+    if (getSubprotocol() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%ssubprotocol%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getSubprotocol()))));
+    }
+
+    // add `subprotocolBody` to the URL query string
+    if (getSubprotocolBody() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%ssubprotocolBody%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getSubprotocolBody()))));
+    }
+
+    // add `subprotocolBodyEncoding` to the URL query string
+    if (getSubprotocolBodyEncoding() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%ssubprotocolBodyEncoding%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getSubprotocolBodyEncoding()))));
+    }
+
+    // add `securityAttributes` to the URL query string
+    if (getSecurityAttributes() != null) {
+      for (int i = 0; i < getSecurityAttributes().size(); i++) {
+        if (getSecurityAttributes().get(i) != null) {
+          joiner.add(getSecurityAttributes().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%ssecurityAttributes%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Endpoint;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Extension;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.LangStringNameType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.LangStringTextType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Reference;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiClient;
+/**
+ * SubmodelDescriptor
+ */
+@JsonPropertyOrder({
+  SubmodelDescriptor.JSON_PROPERTY_DESCRIPTION,
+  SubmodelDescriptor.JSON_PROPERTY_DISPLAY_NAME,
+  SubmodelDescriptor.JSON_PROPERTY_EXTENSIONS,
+  SubmodelDescriptor.JSON_PROPERTY_ADMINISTRATION,
+  SubmodelDescriptor.JSON_PROPERTY_ID_SHORT,
+  SubmodelDescriptor.JSON_PROPERTY_ID,
+  SubmodelDescriptor.JSON_PROPERTY_SEMANTIC_ID,
+  SubmodelDescriptor.JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS,
+  SubmodelDescriptor.JSON_PROPERTY_ENDPOINTS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T22:25:13.301354552Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class SubmodelDescriptor {
+  public static final String JSON_PROPERTY_DESCRIPTION = "description";
+  @jakarta.annotation.Nullable
+  private List<LangStringTextType> description;
+
+  public static final String JSON_PROPERTY_DISPLAY_NAME = "displayName";
+  @jakarta.annotation.Nullable
+  private List<LangStringNameType> displayName;
+
+  public static final String JSON_PROPERTY_EXTENSIONS = "extensions";
+  @jakarta.annotation.Nullable
+  private List<Extension> extensions;
+
+  public static final String JSON_PROPERTY_ADMINISTRATION = "administration";
+  @jakarta.annotation.Nullable
+  private AdministrativeInformation administration;
+
+  public static final String JSON_PROPERTY_ID_SHORT = "idShort";
+  @jakarta.annotation.Nullable
+  private String idShort;
+
+  public static final String JSON_PROPERTY_ID = "id";
+  @jakarta.annotation.Nonnull
+  private String id;
+
+  public static final String JSON_PROPERTY_SEMANTIC_ID = "semanticId";
+  @jakarta.annotation.Nullable
+  private Reference semanticId;
+
+  public static final String JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS = "supplementalSemanticIds";
+  @jakarta.annotation.Nullable
+  private List<Reference> supplementalSemanticIds;
+
+  public static final String JSON_PROPERTY_ENDPOINTS = "endpoints";
+  @jakarta.annotation.Nonnull
+  private List<Endpoint> endpoints;
+
+  public SubmodelDescriptor() { 
+  }
+
+  public SubmodelDescriptor description(@jakarta.annotation.Nullable List<LangStringTextType> description) {
+    this.description = description;
+    return this;
+  }
+
+  public SubmodelDescriptor addDescriptionItem(LangStringTextType descriptionItem) {
+    if (this.description == null) {
+      this.description = new ArrayList<>();
+    }
+    this.description.add(descriptionItem);
+    return this;
+  }
+
+  /**
+   * Get description
+   * @return description
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_DESCRIPTION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_DESCRIPTION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setDescription(@jakarta.annotation.Nullable List<LangStringTextType> description) {
+    this.description = description;
+  }
+
+
+  public SubmodelDescriptor displayName(@jakarta.annotation.Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+    return this;
+  }
+
+  public SubmodelDescriptor addDisplayNameItem(LangStringNameType displayNameItem) {
+    if (this.displayName == null) {
+      this.displayName = new ArrayList<>();
+    }
+    this.displayName.add(displayNameItem);
+    return this;
+  }
+
+  /**
+   * Get displayName
+   * @return displayName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_DISPLAY_NAME, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_DISPLAY_NAME, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setDisplayName(@jakarta.annotation.Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+  }
+
+
+  public SubmodelDescriptor extensions(@jakarta.annotation.Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+    return this;
+  }
+
+  public SubmodelDescriptor addExtensionsItem(Extension extensionsItem) {
+    if (this.extensions == null) {
+      this.extensions = new ArrayList<>();
+    }
+    this.extensions.add(extensionsItem);
+    return this;
+  }
+
+  /**
+   * Get extensions
+   * @return extensions
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_EXTENSIONS, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_EXTENSIONS, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExtensions(@jakarta.annotation.Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+  }
+
+
+  public SubmodelDescriptor administration(@jakarta.annotation.Nullable AdministrativeInformation administration) {
+    this.administration = administration;
+    return this;
+  }
+
+  /**
+   * Get administration
+   * @return administration
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_ADMINISTRATION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public AdministrativeInformation getAdministration() {
+    return administration;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ADMINISTRATION, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setAdministration(@jakarta.annotation.Nullable AdministrativeInformation administration) {
+    this.administration = administration;
+  }
+
+
+  public SubmodelDescriptor idShort(@jakarta.annotation.Nullable String idShort) {
+    this.idShort = idShort;
+    return this;
+  }
+
+  /**
+   * Get idShort
+   * @return idShort
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_ID_SHORT, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getIdShort() {
+    return idShort;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ID_SHORT, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setIdShort(@jakarta.annotation.Nullable String idShort) {
+    this.idShort = idShort;
+  }
+
+
+  public SubmodelDescriptor id(@jakarta.annotation.Nonnull String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Get id
+   * @return id
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_ID, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ID, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setId(@jakarta.annotation.Nonnull String id) {
+    this.id = id;
+  }
+
+
+  public SubmodelDescriptor semanticId(@jakarta.annotation.Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+    return this;
+  }
+
+  /**
+   * Get semanticId
+   * @return semanticId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SEMANTIC_ID, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SEMANTIC_ID, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSemanticId(@jakarta.annotation.Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+  }
+
+
+  public SubmodelDescriptor supplementalSemanticIds(@jakarta.annotation.Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    return this;
+  }
+
+  public SubmodelDescriptor addSupplementalSemanticIdsItem(Reference supplementalSemanticIdsItem) {
+    if (this.supplementalSemanticIds == null) {
+      this.supplementalSemanticIds = new ArrayList<>();
+    }
+    this.supplementalSemanticIds.add(supplementalSemanticIdsItem);
+    return this;
+  }
+
+  /**
+   * Get supplementalSemanticIds
+   * @return supplementalSemanticIds
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(value = JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS, required = false)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSupplementalSemanticIds(@jakarta.annotation.Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+  }
+
+
+  public SubmodelDescriptor endpoints(@jakarta.annotation.Nonnull List<Endpoint> endpoints) {
+    this.endpoints = endpoints;
+    return this;
+  }
+
+  public SubmodelDescriptor addEndpointsItem(Endpoint endpointsItem) {
+    if (this.endpoints == null) {
+      this.endpoints = new ArrayList<>();
+    }
+    this.endpoints.add(endpointsItem);
+    return this;
+  }
+
+  /**
+   * Get endpoints
+   * @return endpoints
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINTS, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+
+  @JsonProperty(value = JSON_PROPERTY_ENDPOINTS, required = true)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setEndpoints(@jakarta.annotation.Nonnull List<Endpoint> endpoints) {
+    this.endpoints = endpoints;
+  }
+
+
+  /**
+   * Return true if this SubmodelDescriptor object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubmodelDescriptor submodelDescriptor = (SubmodelDescriptor) o;
+    return Objects.equals(this.description, submodelDescriptor.description) &&
+        Objects.equals(this.displayName, submodelDescriptor.displayName) &&
+        Objects.equals(this.extensions, submodelDescriptor.extensions) &&
+        Objects.equals(this.administration, submodelDescriptor.administration) &&
+        Objects.equals(this.idShort, submodelDescriptor.idShort) &&
+        Objects.equals(this.id, submodelDescriptor.id) &&
+        Objects.equals(this.semanticId, submodelDescriptor.semanticId) &&
+        Objects.equals(this.supplementalSemanticIds, submodelDescriptor.supplementalSemanticIds) &&
+        Objects.equals(this.endpoints, submodelDescriptor.endpoints);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(description, displayName, extensions, administration, idShort, id, semanticId, supplementalSemanticIds, endpoints);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubmodelDescriptor {\n");
+    sb.append("    description: ").append(toIndentedString(description)).append("\n");
+    sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+    sb.append("    extensions: ").append(toIndentedString(extensions)).append("\n");
+    sb.append("    administration: ").append(toIndentedString(administration)).append("\n");
+    sb.append("    idShort: ").append(toIndentedString(idShort)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    semanticId: ").append(toIndentedString(semanticId)).append("\n");
+    sb.append("    supplementalSemanticIds: ").append(toIndentedString(supplementalSemanticIds)).append("\n");
+    sb.append("    endpoints: ").append(toIndentedString(endpoints)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `description` to the URL query string
+    if (getDescription() != null) {
+      for (int i = 0; i < getDescription().size(); i++) {
+        if (getDescription().get(i) != null) {
+          joiner.add(getDescription().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%sdescription%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `displayName` to the URL query string
+    if (getDisplayName() != null) {
+      for (int i = 0; i < getDisplayName().size(); i++) {
+        if (getDisplayName().get(i) != null) {
+          joiner.add(getDisplayName().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%sdisplayName%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `extensions` to the URL query string
+    if (getExtensions() != null) {
+      for (int i = 0; i < getExtensions().size(); i++) {
+        if (getExtensions().get(i) != null) {
+          joiner.add(getExtensions().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%sextensions%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `administration` to the URL query string
+    if (getAdministration() != null) {
+      joiner.add(getAdministration().toUrlQueryString(prefix + "administration" + suffix));
+    }
+
+    // add `idShort` to the URL query string
+    if (getIdShort() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%sidShort%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getIdShort()))));
+    }
+
+    // add `id` to the URL query string
+    if (getId() != null) {
+      joiner.add(String.format(java.util.Locale.ROOT, "%sid%s=%s", prefix, suffix, ApiClient.urlEncode(ApiClient.valueToString(getId()))));
+    }
+
+    // add `semanticId` to the URL query string
+    if (getSemanticId() != null) {
+      joiner.add(getSemanticId().toUrlQueryString(prefix + "semanticId" + suffix));
+    }
+
+    // add `supplementalSemanticIds` to the URL query string
+    if (getSupplementalSemanticIds() != null) {
+      for (int i = 0; i < getSupplementalSemanticIds().size(); i++) {
+        if (getSupplementalSemanticIds().get(i) != null) {
+          joiner.add(getSupplementalSemanticIds().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%ssupplementalSemanticIds%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `endpoints` to the URL query string
+    if (getEndpoints() != null) {
+      for (int i = 0; i < getEndpoints().size(); i++) {
+        if (getEndpoints().get(i) != null) {
+          joiner.add(getEndpoints().get(i).toUrlQueryString(String.format(java.util.Locale.ROOT, "%sendpoints%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format(java.util.Locale.ROOT, "%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
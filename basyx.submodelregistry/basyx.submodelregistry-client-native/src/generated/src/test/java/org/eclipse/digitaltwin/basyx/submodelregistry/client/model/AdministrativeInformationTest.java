@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Reference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for AdministrativeInformation
+ */
+class AdministrativeInformationTest {
+    private final AdministrativeInformation model = new AdministrativeInformation();
+
+    /**
+     * Model tests for AdministrativeInformation
+     */
+    @Test
+    void testAdministrativeInformation() {
+        // TODO: test AdministrativeInformation
+    }
+
+    /**
+     * Test the property 'embeddedDataSpecifications'
+     */
+    @Test
+    void embeddedDataSpecificationsTest() {
+        // TODO: test embeddedDataSpecifications
+    }
+
+    /**
+     * Test the property 'version'
+     */
+    @Test
+    void versionTest() {
+        // TODO: test version
+    }
+
+    /**
+     * Test the property 'revision'
+     */
+    @Test
+    void revisionTest() {
+        // TODO: test revision
+    }
+
+    /**
+     * Test the property 'creator'
+     */
+    @Test
+    void creatorTest() {
+        // TODO: test creator
+    }
+
+    /**
+     * Test the property 'templateId'
+     */
+    @Test
+    void templateIdTest() {
+        // TODO: test templateId
+    }
+
+}
@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.submodelregistry.feature.hierarchy;
 
+import java.time.Duration;
+
 import org.eclipse.digitaltwin.basyx.common.hierarchy.CommonHierarchyProperties;
 import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegationStrategy;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRegistryStorage;
@@ -51,6 +53,12 @@ public class HierarchicalSubmodelRegistryFeature implements SubmodelRegistryStor
 	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_ENABLED + "}")
 	private boolean enabled;
 
+	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_CACHE_TTL_MS + ":30000}")
+	private long cacheTtlMs;
+
+	@Value("${" + CommonHierarchyProperties.HIERARCHY_FEATURE_CACHE_NEGATIVE_TTL_MS + ":5000}")
+	private long negativeCacheTtlMs;
+
 	private DelegationStrategy delegationStrategy;
 
 	public HierarchicalSubmodelRegistryFeature(DelegationStrategy delegationStrategy) {
@@ -59,7 +67,7 @@ public class HierarchicalSubmodelRegistryFeature implements SubmodelRegistryStor
 
 	@Override
 	public SubmodelRegistryStorage decorate(SubmodelRegistryStorage storage) {
-		return new HierarchicalSubmodelRegistryStorage(storage, delegationStrategy);
+		return new HierarchicalSubmodelRegistryStorage(storage, delegationStrategy, Duration.ofMillis(cacheTtlMs), Duration.ofMillis(negativeCacheTtlMs));
 	}
 
 	@Override
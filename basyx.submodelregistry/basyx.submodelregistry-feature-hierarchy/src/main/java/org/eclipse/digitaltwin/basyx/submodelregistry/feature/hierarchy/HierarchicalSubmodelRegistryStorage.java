@@ -25,9 +25,12 @@
 
 package org.eclipse.digitaltwin.basyx.submodelregistry.feature.hierarchy;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegatedClientPool;
+import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegationCache;
 import org.eclipse.digitaltwin.basyx.common.hierarchy.delegation.DelegationStrategy;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
@@ -42,6 +45,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Decorator for Hierarchical {@link SubmodelRegistryStorage}
+ * 
+ * The delegated registries are accessed with one pooled client per
+ * delegation URL. Delegated lookups of descriptors are cached in a
+ * {@link DelegationCache}, which is invalidated by local writes of the
+ * respective descriptor.
  *
  * @author mateusmolina
  */
@@ -53,14 +61,25 @@ public class HierarchicalSubmodelRegistryStorage implements SubmodelRegistryStor
 
 	private final SubmodelRegistryModelMapper mapper = new SubmodelRegistryModelMapper(new ObjectMapper());
 
+	private final DelegatedClientPool<SubmodelRegistryApi> clientPool = new DelegatedClientPool<>(SubmodelRegistryApi::new);
+
+	private final DelegationCache<String, SubmodelDescriptor> descriptorCache;
+
 	public HierarchicalSubmodelRegistryStorage(SubmodelRegistryStorage decorated, DelegationStrategy delegationStrategy) {
+		this(decorated, delegationStrategy, Duration.ZERO, Duration.ZERO);
+	}
+
+	public HierarchicalSubmodelRegistryStorage(SubmodelRegistryStorage decorated, DelegationStrategy delegationStrategy, Duration cacheTtl, Duration negativeCacheTtl) {
 		this.decorated = decorated;
 		this.delegationStrategy = delegationStrategy;
+		this.descriptorCache = new DelegationCache<>(cacheTtl, negativeCacheTtl, SubmodelNotFoundException.class::isInstance);
 	}
 
 	@Override
 	public Set<String> clear() {
-		return decorated.clear();
+		Set<String> removed = decorated.clear();
+		descriptorCache.invalidateAll();
+		return removed;
 	}
 
 	@Override
@@ -73,31 +92,39 @@ public class HierarchicalSubmodelRegistryStorage implements SubmodelRegistryStor
 		try {
 			return decorated.getSubmodelDescriptor(submodelId);
 		} catch (SubmodelNotFoundException e) {
-			try {
-				return mapper.mapEqModel(getDelegatedRegistryApi(submodelId).getSubmodelDescriptorById(submodelId));
-			} catch (ApiException e1) {
-				throw SubmodelRegistryModelMapper.mapApiException(e1, submodelId);
-			}
+			return descriptorCache.get(submodelId, () -> getDelegatedSubmodelDescriptor(submodelId));
+		}
+	}
+
+	private SubmodelDescriptor getDelegatedSubmodelDescriptor(String submodelId) {
+		try {
+			return mapper.mapEqModel(getDelegatedRegistryApi(submodelId).getSubmodelDescriptorById(submodelId));
+		} catch (ApiException e) {
+			throw SubmodelRegistryModelMapper.mapApiException(e, submodelId);
 		}
 	}
 
 	@Override
 	public void insertSubmodelDescriptor(SubmodelDescriptor descr) throws SubmodelAlreadyExistsException {
 		decorated.insertSubmodelDescriptor(descr);
+		descriptorCache.invalidate(descr.getId());
 	}
 
 	@Override
 	public void replaceSubmodelDescriptor(String submodelId, SubmodelDescriptor descr) throws SubmodelNotFoundException {
 		decorated.replaceSubmodelDescriptor(submodelId, descr);
+		descriptorCache.invalidate(submodelId);
+		descriptorCache.invalidate(descr.getId());
 	}
 
 	@Override
 	public void removeSubmodelDescriptor(String submodelId) throws SubmodelNotFoundException {
 		decorated.removeSubmodelDescriptor(submodelId);
+		descriptorCache.invalidate(submodelId);
 	}
 
 	private SubmodelRegistryApi getDelegatedRegistryApi(String smId) {
 		String delegationUrl = delegationStrategy.buildDelegatedRegistryUrl(smId).orElseThrow(() -> new SubmodelNotFoundException(smId));
-		return new SubmodelRegistryApi(delegationUrl);
+		return clientPool.getClient(delegationUrl);
 	}
 }
@@ -0,0 +1,198 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * AdministrativeInformation
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class AdministrativeInformation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  private @Nullable String version;
+
+  private @Nullable String revision;
+
+  private @Nullable Reference creator;
+
+  private @Nullable String templateId;
+
+  public AdministrativeInformation embeddedDataSpecifications(@Nullable List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications) {
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    return this;
+  }
+
+  public AdministrativeInformation addEmbeddedDataSpecificationsItem(EmbeddedDataSpecification embeddedDataSpecificationsItem) {
+    if (this.embeddedDataSpecifications == null) {
+      this.embeddedDataSpecifications = new ArrayList<>();
+    }
+    this.embeddedDataSpecifications.add(embeddedDataSpecificationsItem);
+    return this;
+  }
+
+  /**
+   * Get embeddedDataSpecifications
+   * @return embeddedDataSpecifications
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "embeddedDataSpecifications", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("embeddedDataSpecifications")
+  public @Nullable List<@Valid EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  @JsonProperty("embeddedDataSpecifications")
+  public void setEmbeddedDataSpecifications(@Nullable List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications) {
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+  }
+
+  public AdministrativeInformation version(@Nullable String version) {
+    this.version = version;
+    return this;
+  }
+
+  /**
+   * Get version
+   * @return version
+   */
+  @Pattern(regexp = "^(0|[1-9][0-9]{0,3})$") 
+  @Schema(name = "version", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("version")
+  public @Nullable String getVersion() {
+    return version;
+  }
+
+  @JsonProperty("version")
+  public void setVersion(@Nullable String version) {
+    this.version = version;
+  }
+
+  public AdministrativeInformation revision(@Nullable String revision) {
+    this.revision = revision;
+    return this;
+  }
+
+  /**
+   * Get revision
+   * @return revision
+   */
+  @Pattern(regexp = "^(0|[1-9][0-9]{0,3})$") 
+  @Schema(name = "revision", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("revision")
+  public @Nullable String getRevision() {
+    return revision;
+  }
+
+  @JsonProperty("revision")
+  public void setRevision(@Nullable String revision) {
+    this.revision = revision;
+  }
+
+  public AdministrativeInformation creator(@Nullable Reference creator) {
+    this.creator = creator;
+    return this;
+  }
+
+  /**
+   * Get creator
+   * @return creator
+   */
+  @Valid 
+  @Schema(name = "creator", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("creator")
+  public @Nullable Reference getCreator() {
+    return creator;
+  }
+
+  @JsonProperty("creator")
+  public void setCreator(@Nullable Reference creator) {
+    this.creator = creator;
+  }
+
+  public AdministrativeInformation templateId(@Nullable String templateId) {
+    this.templateId = templateId;
+    return this;
+  }
+
+  /**
+   * Get templateId
+   * @return templateId
+   */
+  @Pattern(regexp = "^([\\x09\\x0a\\x0d\\x20-\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1, max = 2000) 
+  @Schema(name = "templateId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("templateId")
+  public @Nullable String getTemplateId() {
+    return templateId;
+  }
+
+  @JsonProperty("templateId")
+  public void setTemplateId(@Nullable String templateId) {
+    this.templateId = templateId;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AdministrativeInformation administrativeInformation = (AdministrativeInformation) o;
+    return Objects.equals(this.embeddedDataSpecifications, administrativeInformation.embeddedDataSpecifications) &&
+        Objects.equals(this.version, administrativeInformation.version) &&
+        Objects.equals(this.revision, administrativeInformation.revision) &&
+        Objects.equals(this.creator, administrativeInformation.creator) &&
+        Objects.equals(this.templateId, administrativeInformation.templateId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(embeddedDataSpecifications, version, revision, creator, templateId);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AdministrativeInformation {\n");
+    sb.append("    embeddedDataSpecifications: ").append(toIndentedString(embeddedDataSpecifications)).append("\n");
+    sb.append("    version: ").append(toIndentedString(version)).append("\n");
+    sb.append("    revision: ").append(toIndentedString(revision)).append("\n");
+    sb.append("    creator: ").append(toIndentedString(creator)).append("\n");
+    sb.append("    templateId: ").append(toIndentedString(templateId)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
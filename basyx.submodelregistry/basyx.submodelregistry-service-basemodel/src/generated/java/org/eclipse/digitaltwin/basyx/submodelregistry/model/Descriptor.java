@@ -0,0 +1,165 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Extension;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringNameType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringTextType;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Descriptor
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class Descriptor implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable List<LangStringTextType> description;
+
+  private @Nullable List<LangStringNameType> displayName;
+
+  private @Nullable List<Extension> extensions;
+
+  public Descriptor description(@Nullable List<LangStringTextType> description) {
+    this.description = description;
+    return this;
+  }
+
+  public Descriptor addDescriptionItem(LangStringTextType descriptionItem) {
+    if (this.description == null) {
+      this.description = new ArrayList<>();
+    }
+    this.description.add(descriptionItem);
+    return this;
+  }
+
+  /**
+   * Get description
+   * @return description
+   */
+  @Valid 
+  @Schema(name = "description", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("description")
+  public @Nullable List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @JsonProperty("description")
+  public void setDescription(@Nullable List<LangStringTextType> description) {
+    this.description = description;
+  }
+
+  public Descriptor displayName(@Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+    return this;
+  }
+
+  public Descriptor addDisplayNameItem(LangStringNameType displayNameItem) {
+    if (this.displayName == null) {
+      this.displayName = new ArrayList<>();
+    }
+    this.displayName.add(displayNameItem);
+    return this;
+  }
+
+  /**
+   * Get displayName
+   * @return displayName
+   */
+  @Valid 
+  @Schema(name = "displayName", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("displayName")
+  public @Nullable List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @JsonProperty("displayName")
+  public void setDisplayName(@Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+  }
+
+  public Descriptor extensions(@Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+    return this;
+  }
+
+  public Descriptor addExtensionsItem(Extension extensionsItem) {
+    if (this.extensions == null) {
+      this.extensions = new ArrayList<>();
+    }
+    this.extensions.add(extensionsItem);
+    return this;
+  }
+
+  /**
+   * Get extensions
+   * @return extensions
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "extensions", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("extensions")
+  public @Nullable List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @JsonProperty("extensions")
+  public void setExtensions(@Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Descriptor descriptor = (Descriptor) o;
+    return Objects.equals(this.description, descriptor.description) &&
+        Objects.equals(this.displayName, descriptor.displayName) &&
+        Objects.equals(this.extensions, descriptor.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(description, displayName, extensions);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Descriptor {\n");
+    sb.append("    description: ").append(toIndentedString(description)).append("\n");
+    sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+    sb.append("    extensions: ").append(toIndentedString(extensions)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,243 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Extension
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class Extension implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable Reference semanticId;
+
+  private @Nullable List<Reference> supplementalSemanticIds;
+
+  private String name;
+
+  private @Nullable DataTypeDefXsd valueType;
+
+  private @Nullable String value;
+
+  private @Nullable List<Reference> refersTo;
+
+  public Extension() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public Extension(String name) {
+    this.name = name;
+  }
+
+  public Extension semanticId(@Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+    return this;
+  }
+
+  /**
+   * Get semanticId
+   * @return semanticId
+   */
+  @Valid 
+  @Schema(name = "semanticId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("semanticId")
+  public @Nullable Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @JsonProperty("semanticId")
+  public void setSemanticId(@Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+  }
+
+  public Extension supplementalSemanticIds(@Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    return this;
+  }
+
+  public Extension addSupplementalSemanticIdsItem(Reference supplementalSemanticIdsItem) {
+    if (this.supplementalSemanticIds == null) {
+      this.supplementalSemanticIds = new ArrayList<>();
+    }
+    this.supplementalSemanticIds.add(supplementalSemanticIdsItem);
+    return this;
+  }
+
+  /**
+   * Get supplementalSemanticIds
+   * @return supplementalSemanticIds
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "supplementalSemanticIds", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("supplementalSemanticIds")
+  public @Nullable List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @JsonProperty("supplementalSemanticIds")
+  public void setSupplementalSemanticIds(@Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+  }
+
+  public Extension name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Get name
+   * @return name
+   */
+  @NotNull @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1, max = 128) 
+  @Schema(name = "name", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("name")
+  public String getName() {
+    return name;
+  }
+
+  @JsonProperty("name")
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Extension valueType(@Nullable DataTypeDefXsd valueType) {
+    this.valueType = valueType;
+    return this;
+  }
+
+  /**
+   * Get valueType
+   * @return valueType
+   */
+  @Valid 
+  @Schema(name = "valueType", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("valueType")
+  public @Nullable DataTypeDefXsd getValueType() {
+    return valueType;
+  }
+
+  @JsonProperty("valueType")
+  public void setValueType(@Nullable DataTypeDefXsd valueType) {
+    this.valueType = valueType;
+  }
+
+  public Extension value(@Nullable String value) {
+    this.value = value;
+    return this;
+  }
+
+  /**
+   * Get value
+   * @return value
+   */
+  
+  @Schema(name = "value", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("value")
+  public @Nullable String getValue() {
+    return value;
+  }
+
+  @JsonProperty("value")
+  public void setValue(@Nullable String value) {
+    this.value = value;
+  }
+
+  public Extension refersTo(@Nullable List<Reference> refersTo) {
+    this.refersTo = refersTo;
+    return this;
+  }
+
+  public Extension addRefersToItem(Reference refersToItem) {
+    if (this.refersTo == null) {
+      this.refersTo = new ArrayList<>();
+    }
+    this.refersTo.add(refersToItem);
+    return this;
+  }
+
+  /**
+   * Get refersTo
+   * @return refersTo
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "refersTo", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("refersTo")
+  public @Nullable List<Reference> getRefersTo() {
+    return refersTo;
+  }
+
+  @JsonProperty("refersTo")
+  public void setRefersTo(@Nullable List<Reference> refersTo) {
+    this.refersTo = refersTo;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Extension extension = (Extension) o;
+    return Objects.equals(this.semanticId, extension.semanticId) &&
+        Objects.equals(this.supplementalSemanticIds, extension.supplementalSemanticIds) &&
+        Objects.equals(this.name, extension.name) &&
+        Objects.equals(this.valueType, extension.valueType) &&
+        Objects.equals(this.value, extension.value) &&
+        Objects.equals(this.refersTo, extension.refersTo);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(semanticId, supplementalSemanticIds, name, valueType, value, refersTo);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Extension {\n");
+    sb.append("    semanticId: ").append(toIndentedString(semanticId)).append("\n");
+    sb.append("    supplementalSemanticIds: ").append(toIndentedString(supplementalSemanticIds)).append("\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    valueType: ").append(toIndentedString(valueType)).append("\n");
+    sb.append("    value: ").append(toIndentedString(value)).append("\n");
+    sb.append("    refersTo: ").append(toIndentedString(refersTo)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
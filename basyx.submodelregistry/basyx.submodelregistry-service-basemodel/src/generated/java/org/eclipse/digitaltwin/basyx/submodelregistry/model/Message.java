@@ -0,0 +1,230 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Message
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class Message implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable String code;
+
+  private @Nullable String correlationId;
+
+  /**
+   * Gets or Sets messageType
+   */
+  public enum MessageTypeEnum {
+    UNDEFINED("Undefined"),
+    
+    INFO("Info"),
+    
+    WARNING("Warning"),
+    
+    ERROR("Error"),
+    
+    EXCEPTION("Exception");
+
+    private final String value;
+
+    MessageTypeEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static MessageTypeEnum fromValue(String value) {
+      for (MessageTypeEnum b : MessageTypeEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  private @Nullable MessageTypeEnum messageType;
+
+  private @Nullable String text;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private @Nullable OffsetDateTime timestamp;
+
+  public Message code(@Nullable String code) {
+    this.code = code;
+    return this;
+  }
+
+  /**
+   * Get code
+   * @return code
+   */
+  @Size(min = 1, max = 32) 
+  @Schema(name = "code", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("code")
+  public @Nullable String getCode() {
+    return code;
+  }
+
+  @JsonProperty("code")
+  public void setCode(@Nullable String code) {
+    this.code = code;
+  }
+
+  public Message correlationId(@Nullable String correlationId) {
+    this.correlationId = correlationId;
+    return this;
+  }
+
+  /**
+   * Get correlationId
+   * @return correlationId
+   */
+  @Size(min = 1, max = 128) 
+  @Schema(name = "correlationId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("correlationId")
+  public @Nullable String getCorrelationId() {
+    return correlationId;
+  }
+
+  @JsonProperty("correlationId")
+  public void setCorrelationId(@Nullable String correlationId) {
+    this.correlationId = correlationId;
+  }
+
+  public Message messageType(@Nullable MessageTypeEnum messageType) {
+    this.messageType = messageType;
+    return this;
+  }
+
+  /**
+   * Get messageType
+   * @return messageType
+   */
+  
+  @Schema(name = "messageType", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("messageType")
+  public @Nullable MessageTypeEnum getMessageType() {
+    return messageType;
+  }
+
+  @JsonProperty("messageType")
+  public void setMessageType(@Nullable MessageTypeEnum messageType) {
+    this.messageType = messageType;
+  }
+
+  public Message text(@Nullable String text) {
+    this.text = text;
+    return this;
+  }
+
+  /**
+   * Get text
+   * @return text
+   */
+  
+  @Schema(name = "text", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("text")
+  public @Nullable String getText() {
+    return text;
+  }
+
+  @JsonProperty("text")
+  public void setText(@Nullable String text) {
+    this.text = text;
+  }
+
+  public Message timestamp(@Nullable OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  /**
+   * Get timestamp
+   * @return timestamp
+   */
+  @Valid 
+  @Schema(name = "timestamp", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("timestamp")
+  public @Nullable OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  @JsonProperty("timestamp")
+  public void setTimestamp(@Nullable OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Message message = (Message) o;
+    return Objects.equals(this.code, message.code) &&
+        Objects.equals(this.correlationId, message.correlationId) &&
+        Objects.equals(this.messageType, message.messageType) &&
+        Objects.equals(this.text, message.text) &&
+        Objects.equals(this.timestamp, message.timestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(code, correlationId, messageType, text, timestamp);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Message {\n");
+    sb.append("    code: ").append(toIndentedString(code)).append("\n");
+    sb.append("    correlationId: ").append(toIndentedString(correlationId)).append("\n");
+    sb.append("    messageType: ").append(toIndentedString(messageType)).append("\n");
+    sb.append("    text: ").append(toIndentedString(text)).append("\n");
+    sb.append("    timestamp: ").append(toIndentedString(timestamp)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
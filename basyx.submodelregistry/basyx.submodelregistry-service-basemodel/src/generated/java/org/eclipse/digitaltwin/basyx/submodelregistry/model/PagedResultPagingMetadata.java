@@ -0,0 +1,87 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * PagedResultPagingMetadata
+ */
+
+@JsonTypeName("PagedResult_paging_metadata")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class PagedResultPagingMetadata implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable String cursor;
+
+  public PagedResultPagingMetadata cursor(@Nullable String cursor) {
+    this.cursor = cursor;
+    return this;
+  }
+
+  /**
+   * Get cursor
+   * @return cursor
+   */
+  
+  @Schema(name = "cursor", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("cursor")
+  public @Nullable String getCursor() {
+    return cursor;
+  }
+
+  @JsonProperty("cursor")
+  public void setCursor(@Nullable String cursor) {
+    this.cursor = cursor;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PagedResultPagingMetadata pagedResultPagingMetadata = (PagedResultPagingMetadata) o;
+    return Objects.equals(this.cursor, pagedResultPagingMetadata.cursor);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cursor);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PagedResultPagingMetadata {\n");
+    sb.append("    cursor: ").append(toIndentedString(cursor)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
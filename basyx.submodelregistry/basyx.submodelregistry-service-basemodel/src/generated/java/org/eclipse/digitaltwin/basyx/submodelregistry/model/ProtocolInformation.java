@@ -0,0 +1,266 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.ProtocolInformationSecurityAttributes;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * ProtocolInformation
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class ProtocolInformation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String href;
+
+  private @Nullable String endpointProtocol;
+
+  private @Nullable List<@Size(max = 128)String> endpointProtocolVersion;
+
+  private @Nullable String subprotocol;
+
+  private @Nullable String subprotocolBody;
+
+  private @Nullable String subprotocolBodyEncoding;
+
+  private @Nullable List<@Valid ProtocolInformationSecurityAttributes> securityAttributes;
+
+  public ProtocolInformation() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public ProtocolInformation(String href) {
+    this.href = href;
+  }
+
+  public ProtocolInformation href(String href) {
+    this.href = href;
+    return this;
+  }
+
+  /**
+   * Get href
+   * @return href
+   */
+  @NotNull @Size(max = 2048) 
+  @Schema(name = "href", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("href")
+  public String getHref() {
+    return href;
+  }
+
+  @JsonProperty("href")
+  public void setHref(String href) {
+    this.href = href;
+  }
+
+  public ProtocolInformation endpointProtocol(@Nullable String endpointProtocol) {
+    this.endpointProtocol = endpointProtocol;
+    return this;
+  }
+
+  /**
+   * Get endpointProtocol
+   * @return endpointProtocol
+   */
+  @Size(max = 128) 
+  @Schema(name = "endpointProtocol", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("endpointProtocol")
+  public @Nullable String getEndpointProtocol() {
+    return endpointProtocol;
+  }
+
+  @JsonProperty("endpointProtocol")
+  public void setEndpointProtocol(@Nullable String endpointProtocol) {
+    this.endpointProtocol = endpointProtocol;
+  }
+
+  public ProtocolInformation endpointProtocolVersion(@Nullable List<@Size(max = 128)String> endpointProtocolVersion) {
+    this.endpointProtocolVersion = endpointProtocolVersion;
+    return this;
+  }
+
+  public ProtocolInformation addEndpointProtocolVersionItem(String endpointProtocolVersionItem) {
+    if (this.endpointProtocolVersion == null) {
+      this.endpointProtocolVersion = new ArrayList<>();
+    }
+    this.endpointProtocolVersion.add(endpointProtocolVersionItem);
+    return this;
+  }
+
+  /**
+   * Get endpointProtocolVersion
+   * @return endpointProtocolVersion
+   */
+  
+  @Schema(name = "endpointProtocolVersion", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("endpointProtocolVersion")
+  public @Nullable List<@Size(max = 128)String> getEndpointProtocolVersion() {
+    return endpointProtocolVersion;
+  }
+
+  @JsonProperty("endpointProtocolVersion")
+  public void setEndpointProtocolVersion(@Nullable List<@Size(max = 128)String> endpointProtocolVersion) {
+    this.endpointProtocolVersion = endpointProtocolVersion;
+  }
+
+  public ProtocolInformation subprotocol(@Nullable String subprotocol) {
+    this.subprotocol = subprotocol;
+    return this;
+  }
+
+  /**
+   * Get subprotocol
+   * @return subprotocol
+   */
+  @Size(max = 128) 
+  @Schema(name = "subprotocol", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("subprotocol")
+  public @Nullable String getSubprotocol() {
+    return subprotocol;
+  }
+
+  @JsonProperty("subprotocol")
+  public void setSubprotocol(@Nullable String subprotocol) {
+    this.subprotocol = subprotocol;
+  }
+
+  public ProtocolInformation subprotocolBody(@Nullable String subprotocolBody) {
+    this.subprotocolBody = subprotocolBody;
+    return this;
+  }
+
+  /**
+   * Get subprotocolBody
+   * @return subprotocolBody
+   */
+  @Size(max = 128) 
+  @Schema(name = "subprotocolBody", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("subprotocolBody")
+  public @Nullable String getSubprotocolBody() {
+    return subprotocolBody;
+  }
+
+  @JsonProperty("subprotocolBody")
+  public void setSubprotocolBody(@Nullable String subprotocolBody) {
+    this.subprotocolBody = subprotocolBody;
+  }
+
+  public ProtocolInformation subprotocolBodyEncoding(@Nullable String subprotocolBodyEncoding) {
+    this.subprotocolBodyEncoding = subprotocolBodyEncoding;
+    return this;
+  }
+
+  /**
+   * Get subprotocolBodyEncoding
+   * @return subprotocolBodyEncoding
+   */
+  @Size(max = 128) 
+  @Schema(name = "subprotocolBodyEncoding", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("subprotocolBodyEncoding")
+  public @Nullable String getSubprotocolBodyEncoding() {
+    return subprotocolBodyEncoding;
+  }
+
+  @JsonProperty("subprotocolBodyEncoding")
+  public void setSubprotocolBodyEncoding(@Nullable String subprotocolBodyEncoding) {
+    this.subprotocolBodyEncoding = subprotocolBodyEncoding;
+  }
+
+  public ProtocolInformation securityAttributes(@Nullable List<@Valid ProtocolInformationSecurityAttributes> securityAttributes) {
+    this.securityAttributes = securityAttributes;
+    return this;
+  }
+
+  public ProtocolInformation addSecurityAttributesItem(ProtocolInformationSecurityAttributes securityAttributesItem) {
+    if (this.securityAttributes == null) {
+      this.securityAttributes = new ArrayList<>();
+    }
+    this.securityAttributes.add(securityAttributesItem);
+    return this;
+  }
+
+  /**
+   * Get securityAttributes
+   * @return securityAttributes
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "securityAttributes", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("securityAttributes")
+  public @Nullable List<@Valid ProtocolInformationSecurityAttributes> getSecurityAttributes() {
+    return securityAttributes;
+  }
+
+  @JsonProperty("securityAttributes")
+  public void setSecurityAttributes(@Nullable List<@Valid ProtocolInformationSecurityAttributes> securityAttributes) {
+    this.securityAttributes = securityAttributes;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ProtocolInformation protocolInformation = (ProtocolInformation) o;
+    return Objects.equals(this.href, protocolInformation.href) &&
+        Objects.equals(this.endpointProtocol, protocolInformation.endpointProtocol) &&
+        Objects.equals(this.endpointProtocolVersion, protocolInformation.endpointProtocolVersion) &&
+        Objects.equals(this.subprotocol, protocolInformation.subprotocol) &&
+        Objects.equals(this.subprotocolBody, protocolInformation.subprotocolBody) &&
+        Objects.equals(this.subprotocolBodyEncoding, protocolInformation.subprotocolBodyEncoding) &&
+        Objects.equals(this.securityAttributes, protocolInformation.securityAttributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(href, endpointProtocol, endpointProtocolVersion, subprotocol, subprotocolBody, subprotocolBodyEncoding, securityAttributes);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ProtocolInformation {\n");
+    sb.append("    href: ").append(toIndentedString(href)).append("\n");
+    sb.append("    endpointProtocol: ").append(toIndentedString(endpointProtocol)).append("\n");
+    sb.append("    endpointProtocolVersion: ").append(toIndentedString(endpointProtocolVersion)).append("\n");
+    sb.append("    subprotocol: ").append(toIndentedString(subprotocol)).append("\n");
+    sb.append("    subprotocolBody: ").append(toIndentedString(subprotocolBody)).append("\n");
+    sb.append("    subprotocolBodyEncoding: ").append(toIndentedString(subprotocolBodyEncoding)).append("\n");
+    sb.append("    securityAttributes: ").append(toIndentedString(securityAttributes)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,346 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Endpoint;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Extension;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringNameType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringTextType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * SubmodelDescriptor
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T22:25:30.579105488Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class SubmodelDescriptor implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private @Nullable List<LangStringTextType> description;
+
+  private @Nullable List<LangStringNameType> displayName;
+
+  private @Nullable List<Extension> extensions;
+
+  private @Nullable AdministrativeInformation administration;
+
+  private @Nullable String idShort;
+
+  private String id;
+
+  private @Nullable Reference semanticId;
+
+  private @Nullable List<Reference> supplementalSemanticIds;
+
+  private List<@Valid Endpoint> endpoints;
+
+  public SubmodelDescriptor() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public SubmodelDescriptor(String id, List<@Valid Endpoint> endpoints) {
+    this.id = id;
+    this.endpoints = endpoints;
+  }
+
+  public SubmodelDescriptor description(@Nullable List<LangStringTextType> description) {
+    this.description = description;
+    return this;
+  }
+
+  public SubmodelDescriptor addDescriptionItem(LangStringTextType descriptionItem) {
+    if (this.description == null) {
+      this.description = new ArrayList<>();
+    }
+    this.description.add(descriptionItem);
+    return this;
+  }
+
+  /**
+   * Get description
+   * @return description
+   */
+  @Valid 
+  @Schema(name = "description", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("description")
+  public @Nullable List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @JsonProperty("description")
+  public void setDescription(@Nullable List<LangStringTextType> description) {
+    this.description = description;
+  }
+
+  public SubmodelDescriptor displayName(@Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+    return this;
+  }
+
+  public SubmodelDescriptor addDisplayNameItem(LangStringNameType displayNameItem) {
+    if (this.displayName == null) {
+      this.displayName = new ArrayList<>();
+    }
+    this.displayName.add(displayNameItem);
+    return this;
+  }
+
+  /**
+   * Get displayName
+   * @return displayName
+   */
+  @Valid 
+  @Schema(name = "displayName", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("displayName")
+  public @Nullable List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @JsonProperty("displayName")
+  public void setDisplayName(@Nullable List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+  }
+
+  public SubmodelDescriptor extensions(@Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+    return this;
+  }
+
+  public SubmodelDescriptor addExtensionsItem(Extension extensionsItem) {
+    if (this.extensions == null) {
+      this.extensions = new ArrayList<>();
+    }
+    this.extensions.add(extensionsItem);
+    return this;
+  }
+
+  /**
+   * Get extensions
+   * @return extensions
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "extensions", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("extensions")
+  public @Nullable List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @JsonProperty("extensions")
+  public void setExtensions(@Nullable List<Extension> extensions) {
+    this.extensions = extensions;
+  }
+
+  public SubmodelDescriptor administration(@Nullable AdministrativeInformation administration) {
+    this.administration = administration;
+    return this;
+  }
+
+  /**
+   * Get administration
+   * @return administration
+   */
+  @Valid 
+  @Schema(name = "administration", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("administration")
+  public @Nullable AdministrativeInformation getAdministration() {
+    return administration;
+  }
+
+  @JsonProperty("administration")
+  public void setAdministration(@Nullable AdministrativeInformation administration) {
+    this.administration = administration;
+  }
+
+  public SubmodelDescriptor idShort(@Nullable String idShort) {
+    this.idShort = idShort;
+    return this;
+  }
+
+  /**
+   * Get idShort
+   * @return idShort
+   */
+  @Size(max = 128) 
+  @Schema(name = "idShort", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("idShort")
+  public @Nullable String getIdShort() {
+    return idShort;
+  }
+
+  @JsonProperty("idShort")
+  public void setIdShort(@Nullable String idShort) {
+    this.idShort = idShort;
+  }
+
+  public SubmodelDescriptor id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Get id
+   * @return id
+   */
+  @NotNull @Pattern(regexp = "^[\\x09\\x0A\\x0D\\x20-\\uD7FF\\uE000-\\uFFFD\\u10000-\\u10FFFF]*$") @Size(min = 1, max = 2000) 
+  @Schema(name = "id", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("id")
+  public String getId() {
+    return id;
+  }
+
+  @JsonProperty("id")
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public SubmodelDescriptor semanticId(@Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+    return this;
+  }
+
+  /**
+   * Get semanticId
+   * @return semanticId
+   */
+  @Valid 
+  @Schema(name = "semanticId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("semanticId")
+  public @Nullable Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @JsonProperty("semanticId")
+  public void setSemanticId(@Nullable Reference semanticId) {
+    this.semanticId = semanticId;
+  }
+
+  public SubmodelDescriptor supplementalSemanticIds(@Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    return this;
+  }
+
+  public SubmodelDescriptor addSupplementalSemanticIdsItem(Reference supplementalSemanticIdsItem) {
+    if (this.supplementalSemanticIds == null) {
+      this.supplementalSemanticIds = new ArrayList<>();
+    }
+    this.supplementalSemanticIds.add(supplementalSemanticIdsItem);
+    return this;
+  }
+
+  /**
+   * Get supplementalSemanticIds
+   * @return supplementalSemanticIds
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "supplementalSemanticIds", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("supplementalSemanticIds")
+  public @Nullable List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @JsonProperty("supplementalSemanticIds")
+  public void setSupplementalSemanticIds(@Nullable List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+  }
+
+  public SubmodelDescriptor endpoints(List<@Valid Endpoint> endpoints) {
+    this.endpoints = endpoints;
+    return this;
+  }
+
+  public SubmodelDescriptor addEndpointsItem(Endpoint endpointsItem) {
+    if (this.endpoints == null) {
+      this.endpoints = new ArrayList<>();
+    }
+    this.endpoints.add(endpointsItem);
+    return this;
+  }
+
+  /**
+   * Get endpoints
+   * @return endpoints
+   */
+  @NotNull @Valid @Size(min = 1) 
+  @Schema(name = "endpoints", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("endpoints")
+  public List<@Valid Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  @JsonProperty("endpoints")
+  public void setEndpoints(List<@Valid Endpoint> endpoints) {
+    this.endpoints = endpoints;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubmodelDescriptor submodelDescriptor = (SubmodelDescriptor) o;
+    return Objects.equals(this.description, submodelDescriptor.description) &&
+        Objects.equals(this.displayName, submodelDescriptor.displayName) &&
+        Objects.equals(this.extensions, submodelDescriptor.extensions) &&
+        Objects.equals(this.administration, submodelDescriptor.administration) &&
+        Objects.equals(this.idShort, submodelDescriptor.idShort) &&
+        Objects.equals(this.id, submodelDescriptor.id) &&
+        Objects.equals(this.semanticId, submodelDescriptor.semanticId) &&
+        Objects.equals(this.supplementalSemanticIds, submodelDescriptor.supplementalSemanticIds) &&
+        Objects.equals(this.endpoints, submodelDescriptor.endpoints);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(description, displayName, extensions, administration, idShort, id, semanticId, supplementalSemanticIds, endpoints);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubmodelDescriptor {\n");
+    sb.append("    description: ").append(toIndentedString(description)).append("\n");
+    sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+    sb.append("    extensions: ").append(toIndentedString(extensions)).append("\n");
+    sb.append("    administration: ").append(toIndentedString(administration)).append("\n");
+    sb.append("    idShort: ").append(toIndentedString(idShort)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    semanticId: ").append(toIndentedString(semanticId)).append("\n");
+    sb.append("    supplementalSemanticIds: ").append(toIndentedString(supplementalSemanticIds)).append("\n");
+    sb.append("    endpoints: ").append(toIndentedString(endpoints)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -25,38 +25,47 @@
 package org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration;
 
 import lombok.extern.log4j.Log4j2;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRegistryStorage;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.memory.InMemorySubmodelRegistryStorage;
-import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.memory.ThreadSafeSubmodelRegistryStorageDecorator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Optional;
 
 @Configuration
 @Log4j2
 public class InMemorySubmodelStorageConfiguration {
 
+	private static final String METRICS_COMPONENT_NAME = "submodel-registry";
+
 	@Bean
 	@ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "inMemory")
-	public SubmodelRegistryStorage storage(List<SubmodelRegistryStorageFeature> features) {
+	public SubmodelRegistryStorage storage(List<SubmodelRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
 		log.info("Creating in-memory storage");
 
-		SubmodelRegistryStorage storage = new ThreadSafeSubmodelRegistryStorageDecorator(new CursorEncodingRegistryStorage(new InMemorySubmodelRegistryStorage()));
+		SubmodelRegistryStorage storage = new CursorEncodingRegistryStorage(new InMemorySubmodelRegistryStorage());
 
-		return applyFeatures(storage, features);
+		return applyFeatures(storage, features, layerMetrics);
 	}
 
-	private SubmodelRegistryStorage applyFeatures(SubmodelRegistryStorage storage, List<SubmodelRegistryStorageFeature> features) {
+	private SubmodelRegistryStorage applyFeatures(SubmodelRegistryStorage storage, List<SubmodelRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
+		storage = instrument(storage, layerMetrics);
+
 		for (SubmodelRegistryStorageFeature eachFeature : features) {
 			log.info("Activating feature " + eachFeature.getName());
-			storage = eachFeature.decorate(storage);
+			storage = instrument(eachFeature.decorate(storage), layerMetrics);
 		}
 
 		return storage;
 	}
 
+	private SubmodelRegistryStorage instrument(SubmodelRegistryStorage storage, Optional<LayerMetrics> layerMetrics) {
+		return layerMetrics.map(metrics -> metrics.instrument(METRICS_COMPONENT_NAME, SubmodelRegistryStorage.class, storage)).orElse(storage);
+	}
+
 }
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.memory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * Secondary index of a descriptor property that maps each property value to
+ * the sorted ids of the descriptors holding it
+ * 
+ * The id sets are concurrent, so that they can be paged by readers while the
+ * index is maintained by writers.
+ * 
+ * @author agent
+ *
+ */
+class DescriptorIndex<T, K> {
+
+	private final ConcurrentHashMap<K, NavigableSet<String>> idsByKey = new ConcurrentHashMap<>();
+
+	private final Function<T, Collection<K>> keyExtractor;
+
+	DescriptorIndex(Function<T, Collection<K>> keyExtractor) {
+		this.keyExtractor = keyExtractor;
+	}
+
+	void add(String id, T descriptor) {
+		for (K eachKey : keyExtractor.apply(descriptor)) {
+			idsByKey.compute(eachKey, (key, ids) -> {
+				NavigableSet<String> result = ids == null ? new ConcurrentSkipListSet<>() : ids;
+				result.add(id);
+				return result;
+			});
+		}
+	}
+
+	void remove(String id, T descriptor) {
+		for (K eachKey : keyExtractor.apply(descriptor)) {
+			idsByKey.computeIfPresent(eachKey, (key, ids) -> {
+				ids.remove(id);
+				return ids.isEmpty() ? null : ids;
+			});
+		}
+	}
+
+	NavigableSet<String> get(K key) {
+		return idsByKey.getOrDefault(key, Collections.emptyNavigableSet());
+	}
+
+	void clear() {
+		idsByKey.clear();
+	}
+}
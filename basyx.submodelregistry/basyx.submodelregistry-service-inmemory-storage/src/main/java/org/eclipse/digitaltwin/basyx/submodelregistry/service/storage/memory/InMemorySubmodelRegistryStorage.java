@@ -24,15 +24,19 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.memory;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
 import org.eclipse.digitaltwin.basyx.submodelregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.errors.SubmodelAlreadyExistsException;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.errors.SubmodelNotFoundException;
@@ -40,10 +44,23 @@ import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRe
 
 import lombok.NonNull;
 
+/**
+ * In-memory storage of the submodel registry based on a concurrent sorted map
+ * 
+ * Reads do not lock. Writes are serialized per descriptor id by
+ * {@link LockStripes}, so that writes to different descriptors run
+ * concurrently. The secondary index on the semantic ids is maintained on every
+ * write.
+ */
 public class InMemorySubmodelRegistryStorage implements SubmodelRegistryStorage {
 
-	private final HashMap<String, SubmodelDescriptor> submodelLookupMap = new HashMap<>();
-	private final TreeMap<String, SubmodelDescriptor> sortedSubmodelMap = new TreeMap<>();
+	private static final int LOCK_STRIPES = 64;
+
+	private final ConcurrentSkipListMap<String, SubmodelDescriptor> sortedSubmodelMap = new ConcurrentSkipListMap<>();
+
+	private final DescriptorIndex<SubmodelDescriptor, String> semanticIdIndex = new DescriptorIndex<>(InMemorySubmodelRegistryStorage::getSemanticIdKeys);
+
+	private final LockStripes locks = new LockStripes(LOCK_STRIPES);
 
 	@Override
 	public CursorResult<List<SubmodelDescriptor>> getAllSubmodelDescriptors(@NonNull PaginationInfo pRequest) {
@@ -53,7 +70,7 @@ public class InMemorySubmodelRegistryStorage implements SubmodelRegistryStorage
 
 	@Override
 	public SubmodelDescriptor getSubmodelDescriptor(@NonNull String submodelId) throws SubmodelNotFoundException {
-		SubmodelDescriptor elem = submodelLookupMap.get(submodelId);
+		SubmodelDescriptor elem = sortedSubmodelMap.get(submodelId);
 		if (elem == null) {
 			throw new SubmodelNotFoundException(submodelId);
 		}
@@ -63,41 +80,65 @@ public class InMemorySubmodelRegistryStorage implements SubmodelRegistryStorage
 	@Override
 	public void insertSubmodelDescriptor(@NonNull SubmodelDescriptor descr) throws SubmodelAlreadyExistsException {
 		String id = descr.getId();
-		SubmodelDescriptor previous = submodelLookupMap.putIfAbsent(id, descr);
-		if (previous != null) {
-			throw new SubmodelAlreadyExistsException(id);
-		}
-		sortedSubmodelMap.put(id, descr);
+		locks.withLock(id, () -> {
+			SubmodelDescriptor previous = sortedSubmodelMap.putIfAbsent(id, descr);
+			if (previous != null) {
+				throw new SubmodelAlreadyExistsException(id);
+			}
+			semanticIdIndex.add(id, descr);
+		});
 	}
 
 	@Override
 	public void removeSubmodelDescriptor(@NonNull String submodelId) throws SubmodelNotFoundException {
-		SubmodelDescriptor previous = submodelLookupMap.remove(submodelId);
-		if (previous == null) {
-			throw new SubmodelNotFoundException(submodelId);
-		}
-		sortedSubmodelMap.remove(submodelId);
+		locks.withLock(submodelId, () -> {
+			SubmodelDescriptor previous = sortedSubmodelMap.remove(submodelId);
+			if (previous == null) {
+				throw new SubmodelNotFoundException(submodelId);
+			}
+			semanticIdIndex.remove(submodelId, previous);
+		});
 	}
 
 	@Override
 	public void replaceSubmodelDescriptor(@NonNull String submodelId, @NonNull SubmodelDescriptor descr) throws SubmodelNotFoundException {
-		if (!submodelLookupMap.containsKey(submodelId)) {
-			throw new SubmodelNotFoundException(submodelId);
-		}
 		String toReplaceId = descr.getId();
-		if (!Objects.equals(submodelId, toReplaceId)) {
-			submodelLookupMap.remove(submodelId);
-			sortedSubmodelMap.remove(submodelId);
-		}
-		submodelLookupMap.put(toReplaceId, descr);
-		sortedSubmodelMap.put(toReplaceId, descr);
+		locks.withLocks(submodelId, toReplaceId, () -> {
+			SubmodelDescriptor previous = sortedSubmodelMap.get(submodelId);
+			if (previous == null) {
+				throw new SubmodelNotFoundException(submodelId);
+			}
+			if (!Objects.equals(submodelId, toReplaceId)) {
+				sortedSubmodelMap.remove(submodelId);
+			}
+			semanticIdIndex.remove(submodelId, previous);
+			SubmodelDescriptor overwritten = sortedSubmodelMap.put(toReplaceId, descr);
+			if (overwritten != null && overwritten != previous) {
+				semanticIdIndex.remove(toReplaceId, overwritten);
+			}
+			semanticIdIndex.add(toReplaceId, descr);
+		});
 	}
 
 	@Override
 	public Set<String> clear() {
-		Set<String> keys = new HashSet<>(sortedSubmodelMap.keySet());
-		submodelLookupMap.clear();
-		sortedSubmodelMap.clear();
-		return keys;
+		return locks.withAllLocks(() -> {
+			Set<String> keys = new HashSet<>(sortedSubmodelMap.keySet());
+			sortedSubmodelMap.clear();
+			semanticIdIndex.clear();
+			return keys;
+		});
+	}
+
+	NavigableSet<String> getIdsBySemanticId(String semanticIdKeyValue) {
+		return semanticIdIndex.get(semanticIdKeyValue);
+	}
+
+	private static Collection<String> getSemanticIdKeys(SubmodelDescriptor descriptor) {
+		Reference semanticId = descriptor.getSemanticId();
+		if (semanticId == null || semanticId.getKeys() == null) {
+			return Set.of();
+		}
+		return semanticId.getKeys().stream().map(Key::getValue).filter(Objects::nonNull).collect(Collectors.toSet());
 	}
-}
\ No newline at end of file
+}
@@ -28,7 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,7 +41,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PaginationSupport {
 
-	private final TreeMap<String, SubmodelDescriptor> sortedMap;
+	private final NavigableMap<String, SubmodelDescriptor> sortedMap;
 	
 	public CursorResult<List<SubmodelDescriptor>> getDescriptorsPaged(PaginationInfo pInfo) {
 		Map<String, SubmodelDescriptor> cursorView = getCursorView(pInfo);
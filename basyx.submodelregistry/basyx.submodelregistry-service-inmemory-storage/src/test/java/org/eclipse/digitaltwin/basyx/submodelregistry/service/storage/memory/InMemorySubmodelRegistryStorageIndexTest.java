@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.KeyTypes;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.ReferenceTypes;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.SubmodelDescriptor;
+import org.junit.Test;
+
+/**
+ * Tests the secondary index and the concurrent writes of the
+ * {@link InMemorySubmodelRegistryStorage}
+ * 
+ * @author agent
+ *
+ */
+public class InMemorySubmodelRegistryStorageIndexTest {
+
+	private final InMemorySubmodelRegistryStorage storage = new InMemorySubmodelRegistryStorage();
+
+	@Test
+	public void semanticIdIndexFollowsWrites() {
+		storage.insertSubmodelDescriptor(createSubmodel("sm", "urn:nameplate"));
+		assertEquals(Set.of("sm"), storage.getIdsBySemanticId("urn:nameplate"));
+
+		storage.replaceSubmodelDescriptor("sm", createSubmodel("sm2", "urn:technicalData"));
+		assertTrue(storage.getIdsBySemanticId("urn:nameplate").isEmpty());
+		assertEquals(Set.of("sm2"), storage.getIdsBySemanticId("urn:technicalData"));
+
+		storage.removeSubmodelDescriptor("sm2");
+		assertTrue(storage.getIdsBySemanticId("urn:technicalData").isEmpty());
+	}
+
+	@Test
+	public void concurrentWritesAreNotLost() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = IntStream.range(0, 8).mapToObj(thread -> executor.submit(() -> {
+				for (int i = 0; i < 250; i++) {
+					storage.insertSubmodelDescriptor(createSubmodel("sm-" + thread + "-" + i, "urn:nameplate"));
+				}
+			})).collect(Collectors.toList());
+			for (Future<?> eachFuture : futures) {
+				eachFuture.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(2000, storage.getAllSubmodelDescriptors(PaginationInfo.NO_LIMIT).getResult().size());
+		assertEquals(2000, storage.getIdsBySemanticId("urn:nameplate").size());
+	}
+
+	private static SubmodelDescriptor createSubmodel(String id, String semanticId) {
+		Reference reference = new Reference(ReferenceTypes.EXTERNALREFERENCE, List.of(new Key(KeyTypes.GLOBALREFERENCE, semanticId)));
+		return new SubmodelDescriptor().id(id).semanticId(reference);
+	}
+}
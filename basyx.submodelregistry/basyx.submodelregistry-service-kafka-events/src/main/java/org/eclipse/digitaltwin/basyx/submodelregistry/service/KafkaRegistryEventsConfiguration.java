@@ -24,20 +24,47 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelregistry.service;
 
+import java.time.Duration;
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEventSink;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka.KafkaRegistryEventSink;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
+import org.eclipse.digitaltwin.basyx.kafka.BackpressurePolicy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.support.GenericMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @ConditionalOnProperty(prefix = "events", name = "sink", havingValue = "kafka")
 public class KafkaRegistryEventsConfiguration {
 
+	public static final String REGISTRY_EVENT_PUBLISHER = "registryEventPublisher";
+
+	@Bean(REGISTRY_EVENT_PUBLISHER)
+	@ConditionalOnProperty(prefix = "events.kafka.publishing", name = "mode", havingValue = "async")
+	public AsyncKafkaPublisher<RegistryEvent> registryEventPublisher(KafkaTemplate<String, String> template,
+			@Value("${events.kafka.publishing.queuecapacity:10000}") int queueCapacity,
+			@Value("${events.kafka.publishing.batchsize:500}") int batchSize,
+			@Value("${events.kafka.publishing.lingerms:0}") long lingerMs,
+			@Value("${events.kafka.publishing.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		AsyncKafkaPublisher<RegistryEvent> publisher = AsyncKafkaPublisher.<RegistryEvent>builder("registry-events", (key, evt) -> template.send(new GenericMessage<RegistryEvent>(evt)))
+				.queueCapacity(queueCapacity).batchSize(batchSize).linger(Duration.ofMillis(lingerMs)).backpressurePolicy(backpressurePolicy).build();
+		meterRegistry.ifAvailable(publisher::bindTo);
+		return publisher;
+	}
+
 	@Bean
-	public RegistryEventSink eventSink(KafkaTemplate<String, String> template) {
-		return new KafkaRegistryEventSink(template);
+	public RegistryEventSink eventSink(KafkaTemplate<String, String> template, @Qualifier(REGISTRY_EVENT_PUBLISHER) ObjectProvider<AsyncKafkaPublisher<RegistryEvent>> publisher) {
+		return new KafkaRegistryEventSink(template, publisher.getIfAvailable());
 	}
 
 }
@@ -29,21 +29,42 @@ import java.util.concurrent.ExecutionException;
 
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEventSink;
+import org.eclipse.digitaltwin.basyx.core.copy.DeepCopier;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.support.GenericMessage;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-@RequiredArgsConstructor
 @Log4j2
 public class KafkaRegistryEventSink implements RegistryEventSink {
 
 	private final KafkaTemplate<String, String> template;
+	private final AsyncKafkaPublisher<RegistryEvent> publisher;
+
+	public KafkaRegistryEventSink(KafkaTemplate<String, String> template) {
+		this(template, null);
+	}
+
+	/**
+	 * @param publisher
+	 *            if not null, the events are published asynchronously via the
+	 *            publisher instead of waiting for the broker's acknowledgement
+	 */
+	public KafkaRegistryEventSink(KafkaTemplate<String, String> template, AsyncKafkaPublisher<RegistryEvent> publisher) {
+		this.template = template;
+		this.publisher = publisher;
+	}
 
 	@Override
 	public void consumeEvent(RegistryEvent evt) {
+		if (publisher != null) {
+			// the descriptors might still be changed by the caller after returning
+			publisher.publish(evt.getId(), DeepCopier.copy(evt));
+			return;
+		}
+
 		try {
 			CompletableFuture<SendResult<String, String>> future = template.send(new GenericMessage<RegistryEvent>(evt));
 			future.get(); // use the blocking approach for now
@@ -0,0 +1,431 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.DataTypeIec61360;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.LevelType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.ValueList;
+import org.springframework.lang.Nullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * DataSpecificationIec61360
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T21:49:04.385258923Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public class DataSpecificationIec61360 implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private List<LangStringPreferredNameTypeIec61360> preferredName;
+
+  private @Nullable List<LangStringShortNameTypeIec61360> shortName;
+
+  private @Nullable String unit;
+
+  private @Nullable Reference unitId;
+
+  private @Nullable String sourceOfDefinition;
+
+  private @Nullable String symbol;
+
+  private @Nullable DataTypeIec61360 dataType;
+
+  private @Nullable List<LangStringDefinitionTypeIec61360> definition;
+
+  private @Nullable String valueFormat;
+
+  private @Nullable ValueList valueList;
+
+  private @Nullable String value;
+
+  private @Nullable LevelType levelType;
+
+  private String modelType = "DataSpecificationIec61360";
+
+  public DataSpecificationIec61360() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public DataSpecificationIec61360(List<LangStringPreferredNameTypeIec61360> preferredName, String modelType) {
+    this.preferredName = preferredName;
+    this.modelType = modelType;
+  }
+
+  public DataSpecificationIec61360 preferredName(List<LangStringPreferredNameTypeIec61360> preferredName) {
+    this.preferredName = preferredName;
+    return this;
+  }
+
+  public DataSpecificationIec61360 addPreferredNameItem(LangStringPreferredNameTypeIec61360 preferredNameItem) {
+    if (this.preferredName == null) {
+      this.preferredName = new ArrayList<>();
+    }
+    this.preferredName.add(preferredNameItem);
+    return this;
+  }
+
+  /**
+   * Get preferredName
+   * @return preferredName
+   */
+  @NotNull @Valid @Size(min = 1) 
+  @Schema(name = "preferredName", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("preferredName")
+  public List<LangStringPreferredNameTypeIec61360> getPreferredName() {
+    return preferredName;
+  }
+
+  @JsonProperty("preferredName")
+  public void setPreferredName(List<LangStringPreferredNameTypeIec61360> preferredName) {
+    this.preferredName = preferredName;
+  }
+
+  public DataSpecificationIec61360 shortName(@Nullable List<LangStringShortNameTypeIec61360> shortName) {
+    this.shortName = shortName;
+    return this;
+  }
+
+  public DataSpecificationIec61360 addShortNameItem(LangStringShortNameTypeIec61360 shortNameItem) {
+    if (this.shortName == null) {
+      this.shortName = new ArrayList<>();
+    }
+    this.shortName.add(shortNameItem);
+    return this;
+  }
+
+  /**
+   * Get shortName
+   * @return shortName
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "shortName", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("shortName")
+  public @Nullable List<LangStringShortNameTypeIec61360> getShortName() {
+    return shortName;
+  }
+
+  @JsonProperty("shortName")
+  public void setShortName(@Nullable List<LangStringShortNameTypeIec61360> shortName) {
+    this.shortName = shortName;
+  }
+
+  public DataSpecificationIec61360 unit(@Nullable String unit) {
+    this.unit = unit;
+    return this;
+  }
+
+  /**
+   * Get unit
+   * @return unit
+   */
+  @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1) 
+  @Schema(name = "unit", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("unit")
+  public @Nullable String getUnit() {
+    return unit;
+  }
+
+  @JsonProperty("unit")
+  public void setUnit(@Nullable String unit) {
+    this.unit = unit;
+  }
+
+  public DataSpecificationIec61360 unitId(@Nullable Reference unitId) {
+    this.unitId = unitId;
+    return this;
+  }
+
+  /**
+   * Get unitId
+   * @return unitId
+   */
+  @Valid 
+  @Schema(name = "unitId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("unitId")
+  public @Nullable Reference getUnitId() {
+    return unitId;
+  }
+
+  @JsonProperty("unitId")
+  public void setUnitId(@Nullable Reference unitId) {
+    this.unitId = unitId;
+  }
+
+  public DataSpecificationIec61360 sourceOfDefinition(@Nullable String sourceOfDefinition) {
+    this.sourceOfDefinition = sourceOfDefinition;
+    return this;
+  }
+
+  /**
+   * Get sourceOfDefinition
+   * @return sourceOfDefinition
+   */
+  @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1) 
+  @Schema(name = "sourceOfDefinition", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("sourceOfDefinition")
+  public @Nullable String getSourceOfDefinition() {
+    return sourceOfDefinition;
+  }
+
+  @JsonProperty("sourceOfDefinition")
+  public void setSourceOfDefinition(@Nullable String sourceOfDefinition) {
+    this.sourceOfDefinition = sourceOfDefinition;
+  }
+
+  public DataSpecificationIec61360 symbol(@Nullable String symbol) {
+    this.symbol = symbol;
+    return this;
+  }
+
+  /**
+   * Get symbol
+   * @return symbol
+   */
+  @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1) 
+  @Schema(name = "symbol", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("symbol")
+  public @Nullable String getSymbol() {
+    return symbol;
+  }
+
+  @JsonProperty("symbol")
+  public void setSymbol(@Nullable String symbol) {
+    this.symbol = symbol;
+  }
+
+  public DataSpecificationIec61360 dataType(@Nullable DataTypeIec61360 dataType) {
+    this.dataType = dataType;
+    return this;
+  }
+
+  /**
+   * Get dataType
+   * @return dataType
+   */
+  @Valid 
+  @Schema(name = "dataType", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("dataType")
+  public @Nullable DataTypeIec61360 getDataType() {
+    return dataType;
+  }
+
+  @JsonProperty("dataType")
+  public void setDataType(@Nullable DataTypeIec61360 dataType) {
+    this.dataType = dataType;
+  }
+
+  public DataSpecificationIec61360 definition(@Nullable List<LangStringDefinitionTypeIec61360> definition) {
+    this.definition = definition;
+    return this;
+  }
+
+  public DataSpecificationIec61360 addDefinitionItem(LangStringDefinitionTypeIec61360 definitionItem) {
+    if (this.definition == null) {
+      this.definition = new ArrayList<>();
+    }
+    this.definition.add(definitionItem);
+    return this;
+  }
+
+  /**
+   * Get definition
+   * @return definition
+   */
+  @Valid @Size(min = 1) 
+  @Schema(name = "definition", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("definition")
+  public @Nullable List<LangStringDefinitionTypeIec61360> getDefinition() {
+    return definition;
+  }
+
+  @JsonProperty("definition")
+  public void setDefinition(@Nullable List<LangStringDefinitionTypeIec61360> definition) {
+    this.definition = definition;
+  }
+
+  public DataSpecificationIec61360 valueFormat(@Nullable String valueFormat) {
+    this.valueFormat = valueFormat;
+    return this;
+  }
+
+  /**
+   * Get valueFormat
+   * @return valueFormat
+   */
+  @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1) 
+  @Schema(name = "valueFormat", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("valueFormat")
+  public @Nullable String getValueFormat() {
+    return valueFormat;
+  }
+
+  @JsonProperty("valueFormat")
+  public void setValueFormat(@Nullable String valueFormat) {
+    this.valueFormat = valueFormat;
+  }
+
+  public DataSpecificationIec61360 valueList(@Nullable ValueList valueList) {
+    this.valueList = valueList;
+    return this;
+  }
+
+  /**
+   * Get valueList
+   * @return valueList
+   */
+  @Valid 
+  @Schema(name = "valueList", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("valueList")
+  public @Nullable ValueList getValueList() {
+    return valueList;
+  }
+
+  @JsonProperty("valueList")
+  public void setValueList(@Nullable ValueList valueList) {
+    this.valueList = valueList;
+  }
+
+  public DataSpecificationIec61360 value(@Nullable String value) {
+    this.value = value;
+    return this;
+  }
+
+  /**
+   * Get value
+   * @return value
+   */
+  @Pattern(regexp = "^([\\t\\n\\r -\\ud7ff\\ue000-\\ufffd]|\\ud800[\\udc00-\\udfff]|[\\ud801-\\udbfe][\\udc00-\\udfff]|\\udbff[\\udc00-\\udfff])*$") @Size(min = 1, max = 2000) 
+  @Schema(name = "value", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("value")
+  public @Nullable String getValue() {
+    return value;
+  }
+
+  @JsonProperty("value")
+  public void setValue(@Nullable String value) {
+    this.value = value;
+  }
+
+  public DataSpecificationIec61360 levelType(@Nullable LevelType levelType) {
+    this.levelType = levelType;
+    return this;
+  }
+
+  /**
+   * Get levelType
+   * @return levelType
+   */
+  @Valid 
+  @Schema(name = "levelType", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("levelType")
+  public @Nullable LevelType getLevelType() {
+    return levelType;
+  }
+
+  @JsonProperty("levelType")
+  public void setLevelType(@Nullable LevelType levelType) {
+    this.levelType = levelType;
+  }
+
+  public DataSpecificationIec61360 modelType(String modelType) {
+    this.modelType = modelType;
+    return this;
+  }
+
+  /**
+   * Get modelType
+   * @return modelType
+   */
+  @NotNull 
+  @Schema(name = "modelType", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("modelType")
+  public String getModelType() {
+    return modelType;
+  }
+
+  @JsonProperty("modelType")
+  public void setModelType(String modelType) {
+    this.modelType = modelType;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DataSpecificationIec61360 dataSpecificationIec61360 = (DataSpecificationIec61360) o;
+    return Objects.equals(this.preferredName, dataSpecificationIec61360.preferredName) &&
+        Objects.equals(this.shortName, dataSpecificationIec61360.shortName) &&
+        Objects.equals(this.unit, dataSpecificationIec61360.unit) &&
+        Objects.equals(this.unitId, dataSpecificationIec61360.unitId) &&
+        Objects.equals(this.sourceOfDefinition, dataSpecificationIec61360.sourceOfDefinition) &&
+        Objects.equals(this.symbol, dataSpecificationIec61360.symbol) &&
+        Objects.equals(this.dataType, dataSpecificationIec61360.dataType) &&
+        Objects.equals(this.definition, dataSpecificationIec61360.definition) &&
+        Objects.equals(this.valueFormat, dataSpecificationIec61360.valueFormat) &&
+        Objects.equals(this.valueList, dataSpecificationIec61360.valueList) &&
+        Objects.equals(this.value, dataSpecificationIec61360.value) &&
+        Objects.equals(this.levelType, dataSpecificationIec61360.levelType) &&
+        Objects.equals(this.modelType, dataSpecificationIec61360.modelType);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(preferredName, shortName, unit, unitId, sourceOfDefinition, symbol, dataType, definition, valueFormat, valueList, value, levelType, modelType);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class DataSpecificationIec61360 {\n");
+    sb.append("    preferredName: ").append(toIndentedString(preferredName)).append("\n");
+    sb.append("    shortName: ").append(toIndentedString(shortName)).append("\n");
+    sb.append("    unit: ").append(toIndentedString(unit)).append("\n");
+    sb.append("    unitId: ").append(toIndentedString(unitId)).append("\n");
+    sb.append("    sourceOfDefinition: ").append(toIndentedString(sourceOfDefinition)).append("\n");
+    sb.append("    symbol: ").append(toIndentedString(symbol)).append("\n");
+    sb.append("    dataType: ").append(toIndentedString(dataType)).append("\n");
+    sb.append("    definition: ").append(toIndentedString(definition)).append("\n");
+    sb.append("    valueFormat: ").append(toIndentedString(valueFormat)).append("\n");
+    sb.append("    valueList: ").append(toIndentedString(valueList)).append("\n");
+    sb.append("    value: ").append(toIndentedString(value)).append("\n");
+    sb.append("    levelType: ").append(toIndentedString(levelType)).append("\n");
+    sb.append("    modelType: ").append(toIndentedString(modelType)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(@Nullable Object o) {
+    return o == null ? "null" : o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,112 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Gets or Sets DataTypeDefXsd
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T21:49:04.385258923Z[Etc/UTC]", comments = "Generator version: 7.23.0")
+public enum DataTypeDefXsd implements Serializable {
+  
+  XS_ANYURI("xs:anyURI"),
+  
+  XS_BASE64BINARY("xs:base64Binary"),
+  
+  XS_BOOLEAN("xs:boolean"),
+  
+  XS_BYTE("xs:byte"),
+  
+  XS_DATE("xs:date"),
+  
+  XS_DATETIME("xs:dateTime"),
+  
+  XS_DECIMAL("xs:decimal"),
+  
+  XS_DOUBLE("xs:double"),
+  
+  XS_DURATION("xs:duration"),
+  
+  XS_FLOAT("xs:float"),
+  
+  XS_GDAY("xs:gDay"),
+  
+  XS_GMONTH("xs:gMonth"),
+  
+  XS_GMONTHDAY("xs:gMonthDay"),
+  
+  XS_GYEAR("xs:gYear"),
+  
+  XS_GYEARMONTH("xs:gYearMonth"),
+  
+  XS_HEXBINARY("xs:hexBinary"),
+  
+  XS_INT("xs:int"),
+  
+  XS_INTEGER("xs:integer"),
+  
+  XS_LONG("xs:long"),
+  
+  XS_NEGATIVEINTEGER("xs:negativeInteger"),
+  
+  XS_NONNEGATIVEINTEGER("xs:nonNegativeInteger"),
+  
+  XS_NONPOSITIVEINTEGER("xs:nonPositiveInteger"),
+  
+  XS_POSITIVEINTEGER("xs:positiveInteger"),
+  
+  XS_SHORT("xs:short"),
+  
+  XS_STRING("xs:string"),
+  
+  XS_TIME("xs:time"),
+  
+  XS_UNSIGNEDBYTE("xs:unsignedByte"),
+  
+  XS_UNSIGNEDINT("xs:unsignedInt"),
+  
+  XS_UNSIGNEDLONG("xs:unsignedLong"),
+  
+  XS_UNSIGNEDSHORT("xs:unsignedShort");
+
+  private final String value;
+
+  DataTypeDefXsd(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static DataTypeDefXsd fromValue(String value) {
+    for (DataTypeDefXsd b : DataTypeDefXsd.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
@@ -25,6 +25,7 @@
 package org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration;
 
 import lombok.extern.log4j.Log4j2;
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRegistryStorage;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.storage.SubmodelRegistryStorageFeature;
@@ -39,6 +40,7 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 import java.util.List;
+import java.util.Optional;
 
 @Configuration
 @ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "mongodb")
@@ -46,17 +48,18 @@ import java.util.List;
 @Log4j2
 public class MongoDbConfiguration {
 
+	private static final String METRICS_COMPONENT_NAME = "submodel-registry";
 
 	@Value("${basyx.submodelregistry.mongodb.collectionName:submodelDescriptor}")
 	public String collectionName;
 	
 	@Bean
-	public SubmodelRegistryStorage createSubmodelRegistryStorage(MongoTemplate template, List<SubmodelRegistryStorageFeature> features) {
+	public SubmodelRegistryStorage createSubmodelRegistryStorage(MongoTemplate template, List<SubmodelRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
 		log.info("Creating mongodb storage");
 
 		SubmodelRegistryStorage storage = new CursorEncodingRegistryStorage(new MongoDbSubmodelRegistryStorage(template, collectionName));
 
-		return applyFeatures(storage, features);
+		return applyFeatures(storage, features, layerMetrics);
 	}
 
 	@Bean
@@ -64,13 +67,19 @@ public class MongoDbConfiguration {
 		return new MongoTransactionManager(dbFactory);
 	}
 
-	private SubmodelRegistryStorage applyFeatures(SubmodelRegistryStorage storage, List<SubmodelRegistryStorageFeature> features) {
+	private SubmodelRegistryStorage applyFeatures(SubmodelRegistryStorage storage, List<SubmodelRegistryStorageFeature> features, Optional<LayerMetrics> layerMetrics) {
+		storage = instrument(storage, layerMetrics);
+
 		for (SubmodelRegistryStorageFeature eachFeature : features) {
 			log.info("Activating feature " + eachFeature.getName());
-			storage = eachFeature.decorate(storage);
+			storage = instrument(eachFeature.decorate(storage), layerMetrics);
 		}
 
 		return storage;
 	}
 
+	private SubmodelRegistryStorage instrument(SubmodelRegistryStorage storage, Optional<LayerMetrics> layerMetrics) {
+		return layerMetrics.map(metrics -> metrics.instrument(METRICS_COMPONENT_NAME, SubmodelRegistryStorage.class, storage)).orElse(storage);
+	}
+
 }
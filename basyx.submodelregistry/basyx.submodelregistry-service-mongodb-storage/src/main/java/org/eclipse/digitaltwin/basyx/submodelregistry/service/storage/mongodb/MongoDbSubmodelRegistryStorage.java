@@ -69,12 +69,12 @@ public class MongoDbSubmodelRegistryStorage implements SubmodelRegistryStorage {
 	@Override
 	public CursorResult<List<SubmodelDescriptor>> getAllSubmodelDescriptors(@NonNull PaginationInfo pRequest) {
 		List<AggregationOperation> allAggregations = new LinkedList<>();
+		applyCursor(pRequest, allAggregations);
 		applySorting(allAggregations);
-		applyPagination(pRequest, allAggregations);
+		applyLimit(pRequest, allAggregations);
 		AggregationResults<Document> results = template.aggregate(Aggregation.newAggregation(allAggregations), collectionName, Document.class);
 		List<SubmodelDescriptor> foundDescriptors = results.getMappedResults().stream().map(this::toSubmodelDescriptor).collect(Collectors.toList());
-		String cursor = resolveCursor(pRequest, foundDescriptors);
-		return new CursorResult<List<SubmodelDescriptor>>(cursor, foundDescriptors);
+		return toCursorResult(pRequest, foundDescriptors);
 	}
 	
 	@Override
@@ -159,23 +159,27 @@ public class MongoDbSubmodelRegistryStorage implements SubmodelRegistryStorage {
 		return compatibleDocument;
 	}
 
-	private String resolveCursor(PaginationInfo pRequest, List<SubmodelDescriptor> foundDescriptors) {
-		if (foundDescriptors.isEmpty() || !pRequest.isPaged()) {
-			return null;
+	private CursorResult<List<SubmodelDescriptor>> toCursorResult(PaginationInfo pRequest, List<SubmodelDescriptor> foundDescriptors) {
+		if (!pRequest.hasLimit() || foundDescriptors.size() <= pRequest.getLimit()) {
+			return new CursorResult<List<SubmodelDescriptor>>(null, foundDescriptors);
 		}
-		SubmodelDescriptor last = foundDescriptors.get(foundDescriptors.size() - 1);
-		return last.getId();
+		List<SubmodelDescriptor> page = foundDescriptors.subList(0, pRequest.getLimit());
+		SubmodelDescriptor last = page.get(page.size() - 1);
+		return new CursorResult<List<SubmodelDescriptor>>(last.getId(), page);
 	}
 
-	private void applyPagination(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
-		String cursor = pRequest.getCursor();
-		if (cursor != null) {
-			String id2 = ID;
-			Criteria gt = Criteria.where(id2).gt(cursor);
-			allAggregations.add(Aggregation.match(gt));
+	// the cursor is the id of the last descriptor of the previous page, so that
+	// the next page is a range seek on the _id index
+	private void applyCursor(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
+		if (pRequest.hasCursor()) {
+			allAggregations.add(Aggregation.match(Criteria.where(ID).gt(pRequest.getCursor())));
 		}
-		if (pRequest.getLimit() != null) {
-			allAggregations.add(Aggregation.limit(pRequest.getLimit()));
+	}
+
+	// one more element is requested to know whether there is a next page
+	private void applyLimit(PaginationInfo pRequest, List<AggregationOperation> allAggregations) {
+		if (pRequest.hasLimit()) {
+			allAggregations.add(Aggregation.limit(pRequest.getLimit() + 1L));
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.UUID;
+
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ * This class provides Spring Converter beans for the enum models in the OpenAPI specification.
+ *
+ * By default, Spring only converts primitive types to enums using Enum::valueOf, which can prevent
+ * correct conversion if the OpenAPI specification is using an `enumPropertyNaming` other than
+ * `original` or the specification has an integer enum.
+ */
+@Configuration(value = "org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration.enumConverterConfiguration")
+public class EnumConverterConfiguration {
+
+
+}
@@ -25,18 +25,20 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.backend;
 
+import java.util.Collection;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.*;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.serialization.SubmodelMetadataUtil;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.SubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.data.repository.CrudRepository;
@@ -44,8 +46,6 @@ import org.springframework.lang.NonNull;
 
 import java.io.InputStream;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Default Implementation for the {@link SubmodelRepository} using a {@link CrudRepository} as backend.
@@ -80,19 +80,27 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
-		Iterable<Submodel> iterable = submodelBackend.findAll();
-		List<Submodel> submodels = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
+		return submodelBackend.findAll(pInfo);
+	}
 
-		TreeMap<String, Submodel> submodelMap = submodels.stream().collect(Collectors.toMap(Submodel::getId, submodel -> submodel, (a, b) -> a, TreeMap::new));
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, PaginationInfo pInfo) {
+		return submodelBackend.getSubmodels(semanticId, pInfo);
+	}
 
-		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodelMap, Submodel::getId);
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return submodelBackend.getSubmodels(semanticId, idShort, pInfo, projection);
+	}
 
-		return paginationSupport.getPaged(pInfo);
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return submodelBackend.query(filter, pInfo);
 	}
 
 	@Override
-	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, PaginationInfo pInfo) {
-		return submodelBackend.getSubmodels(semanticId, pInfo);
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return submodelBackend.findAllById(submodelIds, pInfo);
 	}
 
 	@Override
@@ -100,6 +108,11 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		return submodelBackend.findById(submodelId).orElseThrow(() -> new ElementDoesNotExistException(submodelId));
 	}
 
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return submodelBackend.getSubmodel(submodelId, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		throwIfSubmodelDoesNotExist(submodelId);
@@ -125,16 +138,35 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		submodelBackend.deleteById(submodelId);
 	}
 
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		Submodel submodel = getSubmodel(submodelId);
+
+		submodelBackend.deleteById(submodelId);
+
+		return submodel;
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
 		return getService(submodelId).getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return getService(submodelId).getSubmodelElements(pInfo, projection);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShortPath) throws ElementDoesNotExistException {
 		return getService(submodelId).getSubmodelElement(smeIdShortPath);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShortPath, Projection projection) throws ElementDoesNotExistException {
+		return getService(submodelId).getSubmodelElement(smeIdShortPath, projection);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return getService(submodelId).getSubmodelElementValue(smeIdShort);
@@ -145,6 +177,11 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		getService(submodelId).setSubmodelElementValue(smeIdShort, value);
 	}
 
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		return getService(submodelId).setSubmodelElementValueAndGet(smeIdShort, value);
+	}
+
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		getService(submodelId).createSubmodelElement(smElement);
@@ -155,6 +192,11 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		getService(submodelId).createSubmodelElement(idShortPath, smElement);
 	}
 
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		return getService(submodelId).createSubmodelElementAndGetPath(idShortPath, smElement);
+	}
+
 	@Override
 	public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
 		getService(submodelId).updateSubmodelElement(idShortPath, submodelElement);
@@ -165,6 +207,11 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		getService(submodelId).deleteSubmodelElement(idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return getService(submodelId).getAndDeleteSubmodelElement(idShortPath);
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		return getService(submodelId).invokeOperation(idShortPath, input);
@@ -48,6 +48,7 @@ import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.client.internal.SubmodelRepositoryApi;
 import org.eclipse.digitaltwin.basyx.submodelrepository.client.internal.SubmodelRepositoryApiFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.client.ConnectedSubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.http.HttpStatus;
@@ -98,6 +99,15 @@ public class ConnectedSubmodelRepository implements SubmodelRepository {
 		}
 	}
 
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		try {
+			return repoApi.getSubmodelById(submodelId, projection.getLevel().getParameterValue(), projection.getExtent().getParameterValue());
+		} catch (ApiException e) {
+			throw mapExceptionSubmodelAccess(submodelId, e);
+		}
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		try {
@@ -171,6 +181,20 @@ public class ConnectedSubmodelRepository implements SubmodelRepository {
 	    }
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		try {
+			String encodedCursor = pInfo.getCursor() == null ? null : Base64UrlEncoder.encode(pInfo.getCursor());
+			String encodedSemanticId = semanticId == null ? null : Base64UrlEncoder.encode(semanticId);
+			return repoApi.getAllSubmodels(encodedSemanticId, idShort, pInfo.getLimit(), encodedCursor, projection.getLevel().getParameterValue(), projection.getExtent().getParameterValue());
+		} catch (ApiException e) {
+			if (e.getCode() == HttpStatus.INTERNAL_SERVER_ERROR.value())
+				return new CursorResult<>("", new ArrayList<>());
+			else
+				throw e;
+		}
+	}
+
 	@Override
 	public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
 		getConnectedSubmodelService(submodelId).updateSubmodelElement(idShortPath, submodelElement);
@@ -181,11 +205,21 @@ public class ConnectedSubmodelRepository implements SubmodelRepository {
 		return getConnectedSubmodelService(submodelId).getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return getConnectedSubmodelService(submodelId).getSubmodelElements(pInfo, projection);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return getConnectedSubmodelService(submodelId).getSubmodelElement(smeIdShort);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return getConnectedSubmodelService(submodelId).getSubmodelElement(smeIdShort, projection);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return getConnectedSubmodelService(submodelId).getSubmodelElementValue(smeIdShort);
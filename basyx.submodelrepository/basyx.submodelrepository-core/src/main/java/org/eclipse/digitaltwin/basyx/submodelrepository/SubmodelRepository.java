@@ -28,6 +28,8 @@ package org.eclipse.digitaltwin.basyx.submodelrepository;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
@@ -41,7 +43,12 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projector;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
@@ -66,7 +73,87 @@ public interface SubmodelRepository {
 	 * @return a list of all found Submodels with common Semantic ID
 	 */
 	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, PaginationInfo pInfo);
-	
+
+	/**
+	 * Retrieves all Submodels from the repository matching the given filters with
+	 * the given projection applied
+	 * 
+	 * The default implementation filters each retrieved page by the idShort, i.e.,
+	 * pages may contain less Submodels than requested. Implementations should
+	 * filter before paging.
+	 * 
+	 * @param semanticId
+	 *            the Semantic ID to filter for, or null
+	 * @param idShort
+	 *            the idShort to filter for, or null
+	 * @param pInfo
+	 * @param projection
+	 *            the requested level and extent
+	 * @return a list of all found Submodels
+	 */
+	public default CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		CursorResult<List<Submodel>> result = semanticId == null ? getAllSubmodels(pInfo) : getAllSubmodels(semanticId, pInfo);
+
+		if (idShort == null && projection.isDefault())
+			return result;
+
+		List<Submodel> submodels = result.getResult().stream().filter(submodel -> idShort == null || idShort.equals(submodel.getIdShort())).map(submodel -> Projector.project(submodel, projection)).toList();
+		return new CursorResult<>(result.getCursor(), submodels);
+	}
+
+	/**
+	 * Retrieves the Submodels matching the passed filter, sorted ascending by
+	 * their id. Submodels not matching the filter do not count towards the limit.
+	 *
+	 * The default implementation pages through all Submodels and tests each of
+	 * them. Implementations should let their backend evaluate the filter.
+	 *
+	 * @param filter
+	 * @param pInfo
+	 * @return the matching Submodels of the requested page
+	 */
+	public default CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		List<Submodel> matches = new ArrayList<>();
+		String cursor = pInfo.getCursor();
+
+		do {
+			CursorResult<List<Submodel>> page = getAllSubmodels(new PaginationInfo(pInfo.getLimit(), cursor));
+			for (Submodel submodel : page.getResult()) {
+				if (!filter.test(submodel))
+					continue;
+
+				matches.add(submodel);
+				if (pInfo.hasLimit() && matches.size() == pInfo.getLimit())
+					return new CursorResult<>(submodel.getId(), matches);
+			}
+			cursor = page.getCursor();
+		} while (cursor != null);
+
+		return new CursorResult<>(null, matches);
+	}
+
+	/**
+	 * Retrieves the Submodels with the passed ids, sorted ascending by their id.
+	 * Ids without a Submodel are skipped, i.e., they do not count towards the
+	 * limit.
+	 *
+	 * The default implementation retrieves the Submodels of the requested page
+	 * one by one. Implementations should let their backend retrieve them at once.
+	 *
+	 * @param submodelIds
+	 * @param pInfo
+	 * @return the Submodels of the requested page
+	 */
+	public default CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return PaginationSupport.getPaged(pInfo, submodelIds, submodelId -> {
+			try {
+				return getSubmodel(submodelId);
+			} catch (ElementDoesNotExistException e) {
+				return null;
+			}
+		});
+	}
+
 	/**
 	 * Retrieves the Submodel with the specific id
 	 * 
@@ -76,6 +163,20 @@ public interface SubmodelRepository {
 	 */
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the Submodel with the specific id with the given projection
+	 * applied
+	 * 
+	 * @param submodelId
+	 * @param projection
+	 *            the requested level and extent
+	 * @return the projected Submodel
+	 * @throws ElementDoesNotExistException
+	 */
+	public default Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return Projector.project(getSubmodel(submodelId), projection);
+	}
+
 	/**
 	 * Updates an existing Submodel
 	 * 
@@ -111,6 +212,19 @@ public interface SubmodelRepository {
 	 */
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException;
 
+	/**
+	 * Deletes a Submodel and returns its state before the deletion
+	 * 
+	 * @param submodelId
+	 * @return the deleted Submodel
+	 * @throws ElementDoesNotExistException
+	 */
+	public default Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		Submodel submodel = getSubmodel(submodelId);
+		deleteSubmodel(submodelId);
+		return submodel;
+	}
+
 	/**
 	 * Retrieves all SubmodelElements of a Submodel
 	 * 
@@ -119,6 +233,23 @@ public interface SubmodelRepository {
 	 */
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves all SubmodelElements of a Submodel with the given projection
+	 * applied
+	 * 
+	 * @param submodelId
+	 * @param pInfo
+	 * @param projection
+	 *            the requested level and extent, relative to the Submodel
+	 * @return the projected SubmodelElements
+	 * @throws ElementDoesNotExistException
+	 */
+	public default CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		CursorResult<List<SubmodelElement>> result = getSubmodelElements(submodelId, pInfo);
+
+		return new CursorResult<>(result.getCursor(), Projector.projectSubmodelElements(result.getResult(), projection));
+	}
+
 	/**
 	 * Retrieves a specific SubmodelElement of a Submodel
 	 *
@@ -132,6 +263,24 @@ public interface SubmodelRepository {
 	 */
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves a specific SubmodelElement of a Submodel with the given projection
+	 * applied
+	 *
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param smeIdShort
+	 *            the SubmodelElement IdShort
+	 * @param projection
+	 *            the requested level and extent
+	 * @return the projected SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement or the Submodel does not exist
+	 */
+	public default SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return Projector.project(getSubmodelElement(submodelId, smeIdShort), projection);
+	}
+
 	/**
 	 * Retrieves the value of a specific SubmodelElement of a Submodel
 	 * 
@@ -159,6 +308,25 @@ public interface SubmodelRepository {
 	 */
 	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException;
 
+	/**
+	 * Sets the value of a specific SubmodelElement of a Submodel and returns the
+	 * SubmodelElement with the new value
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param smeIdShort
+	 *            the SubmodelElement IdShort
+	 * @param value
+	 *            the new value
+	 * @return the SubmodelElement as written
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement or the Submodel does not exist
+	 */
+	public default SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		setSubmodelElementValue(submodelId, smeIdShort, value);
+		return getSubmodelElement(submodelId, smeIdShort);
+	}
+
 	/**
 	 * Creates a SubmodelElement in a Submodel
 	 * 
@@ -181,6 +349,23 @@ public interface SubmodelRepository {
 	 */
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException;
 
+	/**
+	 * Creates a nested SubmodelElement and returns the IdShortPath it has been
+	 * created at
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the IdShortPath of the parent SubmodelElement
+	 * @param smElement
+	 *            the SubmodelElement
+	 * @return the IdShortPath of the created SubmodelElement
+	 */
+	public default String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		createSubmodelElement(submodelId, idShortPath, smElement);
+		return SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, getSubmodelElement(submodelId, idShortPath), smElement);
+	}
+
 	/**
 	 * Deletes a SubmodelElement
 	 * 
@@ -191,6 +376,21 @@ public interface SubmodelRepository {
 	 */
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Deletes a SubmodelElement and returns its state before the deletion
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the SubmodelElement IdShort
+	 * @return the deleted SubmodelElement
+	 */
+	public default SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = getSubmodelElement(submodelId, idShortPath);
+		deleteSubmodelElement(submodelId, idShortPath);
+		return submodelElement;
+	}
+
 	/**
 	 * Returns the name of the repository
 	 * 
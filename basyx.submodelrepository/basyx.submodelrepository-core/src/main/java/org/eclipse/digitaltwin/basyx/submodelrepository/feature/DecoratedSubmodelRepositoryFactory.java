@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.digitaltwin.basyx.core.DecoratedFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
@@ -43,6 +44,10 @@ public class DecoratedSubmodelRepositoryFactory extends DecoratedFactory<Submode
 		super(toDecorate, features);
 	}
 
+	public DecoratedSubmodelRepositoryFactory(SubmodelRepositoryFactory toDecorate, List<SubmodelRepositoryFeature> features, UnaryOperator<SubmodelRepositoryFactory> layerDecorator) {
+		super(toDecorate, features, layerDecorator);
+	}
+
 	@Override
 	public SubmodelRepository create() {
 		return getDecorated().create();
@@ -29,7 +29,9 @@ import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
@@ -52,8 +54,6 @@ import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.authorization.SubmodelTargetInformation;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Decorator for authorized {@link SubmodelRepository}
@@ -63,7 +63,6 @@ import org.slf4j.LoggerFactory;
  */
 public class AuthorizedSubmodelRepository implements SubmodelRepository {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizedSubmodelRepository.class);
 	private static final String ALL_ALLOWED_WILDCARD = "*";
 	private SubmodelRepository decorated;
 	private RbacPermissionResolver<SubmodelTargetInformation> permissionResolver;
@@ -82,26 +81,22 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		
 		List<TargetInformation> targetInformations = permissionResolver.getMatchingTargetInformationInRules(Action.READ, new SubmodelTargetInformation(getIdAsList(ALL_ALLOWED_WILDCARD), getIdAsList(ALL_ALLOWED_WILDCARD)));
 		
-		List<String> allIds = targetInformations.stream().map(SubmodelTargetInformation.class::cast)
-				.map(SubmodelTargetInformation::getSubmodelIds).flatMap(List::stream).collect(Collectors.toList());
-		
-		List<Submodel> submodels = allIds.stream().map(id -> {
-			try {
-				return getSubmodel(id);
-			} catch (ElementDoesNotExistException e) {
-				LOGGER.error("Submodel: '{}' not found, Error: {}", id, e.getMessage());
-				return null;
-			} catch (Exception e) {
-				LOGGER.error("Exception occurred while retrieving the Submodel: {}, Error: {}", id, e.getMessage());
-				return null;
-			}
-		}).filter(Objects::nonNull).collect(Collectors.toList());
+		Set<String> allIds = targetInformations.stream().map(SubmodelTargetInformation.class::cast)
+				.map(SubmodelTargetInformation::getSubmodelIds).flatMap(List::stream).collect(Collectors.toSet());
 		
-		TreeMap<String, Submodel> aasMap = submodels.stream().collect(Collectors.toMap(Submodel::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+		return getAllSubmodelsById(allIds, pInfo);
+	}
 
-		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(aasMap, Submodel::getId);
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new SubmodelTargetInformation(getIdAsList(ALL_ALLOWED_WILDCARD), getIdAsList(ALL_ALLOWED_WILDCARD)));
 
-		return paginationSupport.getPaged(pInfo);
+		if (isAuthorized)
+			return decorated.getAllSubmodelsById(submodelIds, pInfo);
+
+		List<String> permittedIds = submodelIds.stream().filter(id -> permissionResolver.hasPermission(Action.READ, new SubmodelTargetInformation(getIdAsList(id), getIdAsList(ALL_ALLOWED_WILDCARD)))).collect(Collectors.toList());
+
+		return decorated.getAllSubmodelsById(permittedIds, pInfo);
 	}
 	
 	@Override
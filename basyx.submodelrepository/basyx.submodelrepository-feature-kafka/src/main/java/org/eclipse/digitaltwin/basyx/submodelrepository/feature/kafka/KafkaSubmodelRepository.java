@@ -26,20 +26,23 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.kafka;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -48,10 +51,21 @@ public class KafkaSubmodelRepository implements SubmodelRepository {
 	
 	private final SubmodelRepository decorated;
 	private final SubmodelEventHandler eventHandler;
+	private final TransactionOperations transactions;
 	
 	public KafkaSubmodelRepository(SubmodelRepository decorated, SubmodelEventHandler eventHandler) {
+		this(decorated, eventHandler, TransactionOperations.withoutTransaction());
+	}
+
+	/**
+	 * @param transactions
+	 *            runs each write together with the handling of its event, so
+	 *            that an event stored in an outbox is committed with the write
+	 */
+	public KafkaSubmodelRepository(SubmodelRepository decorated, SubmodelEventHandler eventHandler, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.eventHandler = eventHandler;
+		this.transactions = transactions;
 	}
 
 	@Override
@@ -64,22 +78,67 @@ public class KafkaSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo, projection);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return decorated.querySubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return decorated.getAllSubmodelsById(submodelIds, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, projection);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, projection);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
-		decorated.updateSubmodel(submodelId, submodel);
-		eventHandler.onSubmodelUpdated(submodel);
+		transactions.executeWithoutResult(status -> {
+			decorated.updateSubmodel(submodelId, submodel);
+			eventHandler.onSubmodelUpdated(submodel);
+		});
 	}
 
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
-		decorated.createSubmodel(submodel);
-		eventHandler.onSubmodelCreated(submodel);
+		transactions.executeWithoutResult(status -> {
+			decorated.createSubmodel(submodel);
+			eventHandler.onSubmodelCreated(submodel);
+		});
 	}
 
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
-		decorated.deleteSubmodel(submodelId);
-		eventHandler.onSubmodelDeleted(submodelId);
+		transactions.executeWithoutResult(status -> {
+			decorated.deleteSubmodel(submodelId);
+			eventHandler.onSubmodelDeleted(submodelId);
+		});
+	}
+
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			Submodel submodel = decorated.getAndDeleteSubmodel(submodelId);
+			eventHandler.onSubmodelDeleted(submodelId);
+			return submodel;
+		});
 	}
 
 	@Override
@@ -103,49 +162,67 @@ public class KafkaSubmodelRepository implements SubmodelRepository {
 	@Override
 	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value)
 			throws ElementDoesNotExistException {
-		decorated.setSubmodelElementValue(submodelId, idShortPath, value);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
-		eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+		setSubmodelElementValueAndGet(submodelId, idShortPath, value);
+	}
+
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String idShortPath, SubmodelElementValue value)
+			throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			SubmodelElement submodelElement = decorated.setSubmodelElementValueAndGet(submodelId, idShortPath, value);
+			eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+			return submodelElement;
+		});
 	}
 	
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) {
-		decorated.createSubmodelElement(submodelId, submodelElement);
-		eventHandler.onSubmodelElementCreated(submodelElement, submodelId, submodelElement.getIdShort());
+		transactions.executeWithoutResult(status -> {
+			decorated.createSubmodelElement(submodelId, submodelElement);
+			eventHandler.onSubmodelElementCreated(submodelElement, submodelId, submodelElement.getIdShort());
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String parentPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		decorated.createSubmodelElement(submodelId, parentPath, submodelElement);
-		String path = computePath(submodelId, parentPath, submodelElement.getIdShort());
-		eventHandler.onSubmodelElementCreated(submodelElement, submodelId, path);
+		createSubmodelElementAndGetPath(submodelId, parentPath, submodelElement);
 	}
 
-	private String computePath(String submodelId, String parentPath, String smeIdShort) {
-		SubmodelElement parent = getSubmodelElement(submodelId, parentPath);
-			if (parent instanceof SubmodelElementList) {
-				SubmodelElementList parentList = (SubmodelElementList) parent;
-				int listSize = parentList.getValue().size();
-				int pos = listSize -1; // already added starting with zero
-				// new element is appended
-				return parentPath + "[" + pos + "]";
-			} else {
-				return parentPath + "." + smeIdShort;
-			}
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String parentPath, SubmodelElement submodelElement)
+			throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			String path = decorated.createSubmodelElementAndGetPath(submodelId, parentPath, submodelElement);
+			eventHandler.onSubmodelElementCreated(submodelElement, submodelId, path);
+			return path;
+		});
 	}
 
 	@Override
 	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		decorated.updateSubmodelElement(submodelIdentifier, idShortPath, submodelElement);
-		eventHandler.onSubmodelElementUpdated(submodelElement, submodelIdentifier, idShortPath);
+		transactions.executeWithoutResult(status -> {
+			decorated.updateSubmodelElement(submodelIdentifier, idShortPath, submodelElement);
+			eventHandler.onSubmodelElementUpdated(submodelElement, submodelIdentifier, idShortPath);
+		});
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		decorated.deleteSubmodelElement(submodelId, idShortPath);
-		eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+		transactions.executeWithoutResult(status -> {
+			decorated.deleteSubmodelElement(submodelId, idShortPath);
+			eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+		});
+	}
+
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			SubmodelElement submodelElement = decorated.getAndDeleteSubmodelElement(submodelId, idShortPath);
+			eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+			return submodelElement;
+		});
 	}
 
 	@Override
@@ -191,9 +268,11 @@ public class KafkaSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
-		decorated.patchSubmodelElements(submodelId, submodelElementList);
-		Submodel submodel = getSubmodel(submodelId);
-		eventHandler.onSubmodelUpdated(submodel);
+		transactions.executeWithoutResult(status -> {
+			decorated.patchSubmodelElements(submodelId, submodelElementList);
+			Submodel submodel = getSubmodel(submodelId);
+			eventHandler.onSubmodelUpdated(submodel);
+		});
 	}
 
 	@Override
@@ -26,17 +26,29 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.kafka;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutboxRelay;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
+import org.eclipse.digitaltwin.basyx.kafka.BackpressurePolicy;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.KafkaSubmodelServiceConfiguration;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.DistributingSubmodelEventHandler;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventDistributer;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.DataPreservationLevel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -58,12 +70,50 @@ public class KafkaSubmodelRepositoryConfiguration {
 		return DataPreservationLevel.valueOf(level);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(name = KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_PUBLISHER)
+	@ConditionalOnProperty(name = KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "async")
+	public AsyncKafkaPublisher<String> submodelEventPublisher(KafkaTemplate<String, String> template,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.queuecapacity:10000}") int queueCapacity,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.lingerms:0}") long lingerMs,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return KafkaSubmodelServiceConfiguration.createSubmodelEventPublisher(template, topicName, queueCapacity, batchSize, lingerMs, backpressurePolicy, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_OUTBOX)
+	@ConditionalOnProperty(name = KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutbox submodelEventOutbox(MongoOperations mongoOperations,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.outbox.collection:submodel-events-outbox}") String collectionName) {
+		return new MongoOutbox(mongoOperations, collectionName);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_TRANSACTIONS)
+	@ConditionalOnProperty(name = KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public TransactionOperations submodelEventTransactions(MongoTemplate mongoTemplate) {
+		return KafkaSubmodelServiceConfiguration.createSubmodelEventTransactions(mongoTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutboxRelay submodelEventOutboxRelay(@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_OUTBOX) MongoOutbox outbox, KafkaTemplate<String, String> template,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".publishing.outbox.intervalms:500}") long intervalMs) {
+		return KafkaSubmodelServiceConfiguration.createSubmodelEventOutboxRelay(outbox, template, batchSize, intervalMs);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public SubmodelEventDistributer submodelEventDistributer(DataPreservationLevel level, JsonSerializer serializer,
 			KafkaTemplate<String, String> template,
-			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName) {		
-		return new KafkaSubmodelServiceConfiguration().eventDistributer(level, serializer, template, topicName);
+			@Value("${" + KafkaSubmodelRepositoryFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName,
+			@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_PUBLISHER) ObjectProvider<AsyncKafkaPublisher<String>> publisher,
+			@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_OUTBOX) ObjectProvider<MongoOutbox> outbox) {
+		return new KafkaSubmodelServiceConfiguration().eventDistributer(level, serializer, template, topicName, publisher, outbox);
 	}
 
 	@Bean
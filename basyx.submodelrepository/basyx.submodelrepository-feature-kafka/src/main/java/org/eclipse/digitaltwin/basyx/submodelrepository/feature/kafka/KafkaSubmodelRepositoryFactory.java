@@ -28,6 +28,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.kafka;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -36,15 +37,21 @@ public class KafkaSubmodelRepositoryFactory implements SubmodelRepositoryFactory
 
 	private final SubmodelRepositoryFactory decorated;
 	private final SubmodelEventHandler handler;
+	private final TransactionOperations transactions;
 	
 	
 	public KafkaSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, SubmodelEventHandler handler) {
+		this(decorated, handler, TransactionOperations.withoutTransaction());
+	}
+
+	public KafkaSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, SubmodelEventHandler handler, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.handler = handler;
+		this.transactions = transactions;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new KafkaSubmodelRepository(decorated.create(), handler);
+		return new KafkaSubmodelRepository(decorated.create(), handler, transactions);
 	}
 }
@@ -27,11 +27,15 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.kafka;
 
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.KafkaSubmodelServiceConfiguration;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -45,15 +49,17 @@ public class KafkaSubmodelRepositoryFeature implements SubmodelRepositoryFeature
 	public final static String FEATURE_ENABLED_EXPRESSION = "#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.kafka.enabled:false}}"; 
 
 	private final SubmodelEventHandler handler;
+	private final TransactionOperations transactions;
 	
 	@Autowired
-	public KafkaSubmodelRepositoryFeature(SubmodelEventHandler handler) {
+	public KafkaSubmodelRepositoryFeature(SubmodelEventHandler handler, @Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_TRANSACTIONS) ObjectProvider<TransactionOperations> transactions) {
 		this.handler = handler;
+		this.transactions = transactions.getIfAvailable(TransactionOperations::withoutTransaction);
 	}
 
 	@Override
 	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory factory) {
-		return new KafkaSubmodelRepositoryFactory(factory, handler);
+		return new KafkaSubmodelRepositoryFactory(factory, handler, transactions);
 	}
 
 	@Override
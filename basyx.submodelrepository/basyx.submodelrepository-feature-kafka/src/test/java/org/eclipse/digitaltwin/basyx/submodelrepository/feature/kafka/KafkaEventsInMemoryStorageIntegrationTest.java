@@ -226,6 +226,19 @@ public class KafkaEventsInMemoryStorageIntegrationTest {
 		Assert.assertEquals(elem, evt.getSmElement());
 	}
 
+	@Test
+	public void testSubmodelElementNotAddedUnderProperty() {
+		Submodel sm = TestSubmodels.createSubmodel(ID_SM1, TestSubmodels.IDSHORT_PROP_0, "7");
+		repo.createSubmodel(sm);
+		SubmodelEvent evt = adapter.next();
+		Assert.assertEquals(SubmodelEventType.SM_CREATED, evt.getType());
+
+		SubmodelElement elem = TestSubmodels.submodelElement(TestSubmodels.IDSHORT_PROP_1, "88");
+		Assert.assertThrows(ElementDoesNotExistException.class, () -> repo.createSubmodelElement(ID_SM1, TestSubmodels.IDSHORT_PROP_0, elem));
+
+		adapter.assertNoAdditionalMessages();
+	}
+
 	@Test
 	public void testSubmodelElementAddedUnderPath() {
 		Submodel sm = TestSubmodels.createSubmodel(ID_SM1, TestSubmodels.IDSHORT_PROP_0, "7");
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
@@ -39,13 +40,12 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
-import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Repository decorator for the MQTT eventing on the submodel level.
@@ -53,17 +53,20 @@ import org.slf4j.LoggerFactory;
  * @author fischer
  */
 public class MqttSubmodelRepository implements SubmodelRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelRepository.class);
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	private SubmodelRepository decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 
 	public MqttSubmodelRepository(SubmodelRepository decorated, IMqttClient mqttClient, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, MqttEventPublisher.of(mqttClient), topicFactory);
+	}
+
+	public MqttSubmodelRepository(SubmodelRepository decorated, MqttEventPublisher mqttEventPublisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.mqttEventPublisher = mqttEventPublisher;
 	}
 
 	@Override
@@ -81,6 +84,36 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo, projection);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return decorated.querySubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return decorated.getAllSubmodelsById(submodelIds, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, projection);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, projection);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
@@ -95,9 +128,14 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
-		Submodel submodel = decorated.getSubmodel(submodelId);
-		decorated.deleteSubmodel(submodelId);
+		getAndDeleteSubmodel(submodelId);
+	}
+
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		Submodel submodel = decorated.getAndDeleteSubmodel(submodelId);
 		submodelDeleted(submodel, getName());
+		return submodel;
 	}
 
 	@Override
@@ -118,39 +156,50 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
-		decorated.setSubmodelElementValue(submodelId, idShortPath, value);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
+		setSubmodelElementValueAndGet(submodelId, idShortPath, value);
+	}
+
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = decorated.setSubmodelElementValueAndGet(submodelId, idShortPath, value);
 		submodelElementValueUpdated(submodelElement, getName(), submodelId, idShortPath);
+		return submodelElement;
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		decorated.createSubmodelElement(submodelId, smElement);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, smElement.getIdShort());
-		submodelElementCreated(submodelElement, getName(), submodelId, smElement.getIdShort());
+		submodelElementCreated(smElement, getName(), submodelId, smElement.getIdShort());
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
-		decorated.createSubmodelElement(submodelId, idShortPath, smElement);
-		SubmodelElement parent = decorated.getSubmodelElement(submodelId, idShortPath);
-		String createdElementPath = SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parent, smElement);
-		SubmodelElement createdElement = decorated.getSubmodelElement(submodelId, createdElementPath);
-		submodelElementCreated(createdElement, getName(), submodelId, createdElementPath);
+		createSubmodelElementAndGetPath(submodelId, idShortPath, smElement);
+	}
+
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		String createdElementPath = decorated.createSubmodelElementAndGetPath(submodelId, idShortPath, smElement);
+		submodelElementCreated(smElement, getName(), submodelId, createdElementPath);
+		return createdElementPath;
 	}
 	
 	@Override
 	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
 		decorated.updateSubmodelElement(submodelIdentifier, idShortPath, smElement);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelIdentifier, idShortPath);
-		submodelElementUpdated(submodelElement, getName(), submodelIdentifier, idShortPath);
+		submodelElementUpdated(smElement, getName(), submodelIdentifier, idShortPath);
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
-		decorated.deleteSubmodelElement(submodelId, idShortPath);
+		getAndDeleteSubmodelElement(submodelId, idShortPath);
+	}
+
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = decorated.getAndDeleteSubmodelElement(submodelId, idShortPath);
 		submodelElementDeleted(submodelElement, getName(), submodelId, idShortPath);
+		return submodelElement;
 	}
 
 	@Override
@@ -262,7 +311,7 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttEventPublisher.publish(mqttClient, topic, payload, logger);
+		mqttEventPublisher.publish(topic, payload);
 	}
 
 }
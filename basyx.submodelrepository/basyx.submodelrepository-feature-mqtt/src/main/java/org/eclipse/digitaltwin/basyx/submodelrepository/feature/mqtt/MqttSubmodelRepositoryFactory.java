@@ -25,6 +25,7 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
@@ -37,17 +38,21 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 public class MqttSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
 	private SubmodelRepositoryFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher mqttEventPublisher;
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, IMqttClient client, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, MqttEventPublisher.of(client), topicFactory);
+	}
+
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, MqttEventPublisher mqttEventPublisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new MqttSubmodelRepository(decorated.create(), client, topicFactory);
+		return new MqttSubmodelRepository(decorated.create(), mqttEventPublisher, topicFactory);
 	}
 }
@@ -25,10 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -47,16 +47,16 @@ public class MqttSubmodelRepositoryFeature implements SubmodelRepositoryFeature
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 	private boolean enabled;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 
 	@Autowired
-	public MqttSubmodelRepositoryFeature(IMqttClient mqttClient) {
-		this.mqttClient = mqttClient;
+	public MqttSubmodelRepositoryFeature(MqttEventPublisher mqttEventPublisher) {
+		this.mqttEventPublisher = mqttEventPublisher;
 	}
 
 	@Override
 	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory aasServiceFactory) {
-		return new MqttSubmodelRepositoryFactory(aasServiceFactory, mqttClient, new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder()));
+		return new MqttSubmodelRepositoryFactory(aasServiceFactory, mqttEventPublisher, new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder()));
 	}
 
 	@Override
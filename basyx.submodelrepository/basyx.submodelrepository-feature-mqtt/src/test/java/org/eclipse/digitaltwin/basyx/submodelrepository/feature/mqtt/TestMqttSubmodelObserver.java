@@ -27,11 +27,14 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -54,6 +57,7 @@ import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener.MqttEvent;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileMetadata;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
@@ -175,6 +179,23 @@ public class TestMqttSubmodelObserver {
 		assertEquals(child, deserializeSubmodelElementPayload(event.payload()));
 	}
 
+	@Test
+	public void createSubmodelElementInNonContainerElementHasNoEvent() {
+		String propertyIdShort = "nonContainerProperty";
+		Submodel submodel = createSubmodelDummyWithSubmodelElement("nonContainerSubmodel", propertyIdShort);
+		submodelRepository.createSubmodel(submodel);
+		SubmodelElement child = createSubmodelElementDummy("nonContainerChild");
+		String childPath = propertyIdShort + "." + child.getIdShort();
+
+		try {
+			submodelRepository.createSubmodelElement(submodel.getId(), propertyIdShort, child);
+			fail();
+		} catch (ElementDoesNotExistException e) {
+		}
+
+		assertThrows(AssertionError.class, () -> listener.awaitEvent(topicFactory.createCreateSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), childPath), Duration.ofSeconds(1)));
+	}
+
 	@Test
 	public void updateSubmodelElementEvent() throws DeserializationException {
 		Submodel submodel = createSubmodelDummyWithSubmodelElement("updateSubmodelForElementEventId", "updateSubmodelElementEventId");
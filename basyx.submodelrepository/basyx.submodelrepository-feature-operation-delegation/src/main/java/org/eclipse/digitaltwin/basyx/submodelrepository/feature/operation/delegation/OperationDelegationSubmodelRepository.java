@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.deleg
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,7 +42,9 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
@@ -76,6 +79,36 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo, projection);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return decorated.querySubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return decorated.getAllSubmodelsById(submodelIds, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, projection);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, projection);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
@@ -96,6 +129,11 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodel(submodelId);
 	}
 
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getAndDeleteSubmodel(submodelId);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElements(submodelId, pInfo);
@@ -116,6 +154,11 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		decorated.setSubmodelElementValue(submodelId, smeIdShort, value);
 	}
 
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		return decorated.setSubmodelElementValueAndGet(submodelId, smeIdShort, value);
+	}
+
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		decorated.createSubmodelElement(submodelId, smElement);
@@ -126,11 +169,21 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		decorated.createSubmodelElement(submodelId, idShortPath, smElement);
 	}
 
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		return decorated.createSubmodelElementAndGetPath(submodelId, idShortPath, smElement);
+	}
+
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getAndDeleteSubmodelElement(submodelId, idShortPath);
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		SubmodelElement submodelElement = getSubmodelElement(submodelId, idShortPath);
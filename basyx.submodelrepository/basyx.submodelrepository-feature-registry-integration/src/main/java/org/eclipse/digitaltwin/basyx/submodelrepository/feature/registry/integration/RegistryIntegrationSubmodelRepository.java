@@ -26,6 +26,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integr
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
@@ -39,12 +40,14 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkExcep
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiException;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.api.SubmodelRegistryApi;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.factory.SubmodelDescriptorFactory;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.mapper.AttributeMapper;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.slf4j.Logger;
@@ -84,6 +87,36 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo, projection);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return decorated.querySubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return decorated.getAllSubmodelsById(submodelIds, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, projection);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, projection);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
@@ -113,6 +146,13 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodel(submodelId);
 	}
 
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		deleteFromRegistry(submodelId);
+
+		return decorated.getAndDeleteSubmodel(submodelId);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo paginationInfo) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElements(submodelId, paginationInfo);
@@ -133,6 +173,11 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		decorated.setSubmodelElementValue(submodelId, idShortPath, value);
 	}
 
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		return decorated.setSubmodelElementValueAndGet(submodelId, idShortPath, value);
+	}
+
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) {
 		decorated.createSubmodelElement(submodelId, submodelElement);
@@ -142,6 +187,11 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
 		decorated.createSubmodelElement(submodelId, idShortPath, submodelElement);
 	}
+
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		return decorated.createSubmodelElementAndGetPath(submodelId, idShortPath, submodelElement);
+	}
 	
 	@Override
 	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
@@ -153,6 +203,11 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getAndDeleteSubmodelElement(submodelId, idShortPath);
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		return decorated.invokeOperation(submodelId, idShortPath, input);
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+import org.eclipse.digitaltwin.basyx.querycore.indexing.PartialUpdateRenderer;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+
+import co.elastic.clients.elasticsearch._types.ScriptLanguage;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+import co.elastic.clients.json.JsonData;
+
+/**
+ * Renders Property value changes into a scripted update of the Submodel
+ * document created by the {@link IndexNormalizer}.
+ *
+ * The value of a Property is stored twice in the document, at the element
+ * within the <code>submodelElements</code> tree and at the flattened key
+ * <code>submodelElements.&lt;idShortPath&gt;.value</code>. A partial document
+ * cannot address an element within the tree, so the script navigates to the
+ * element by the tokens of its idShortPath and sets both. If the element
+ * cannot be found, the script does not change the document and it is indexed
+ * completely instead.
+ *
+ * @author agent
+ *
+ */
+public class PropertyValueUpdateRenderer implements PartialUpdateRenderer {
+	static final String UPDATES_PARAM = "updates";
+
+	private static final String PATH = "path";
+	private static final String KEY = "key";
+	private static final String VALUE = "value";
+
+	// @formatter:off
+	private static final String SCRIPT =
+			"for (def update : params.updates) {"
+			+ "  def node = null;"
+			+ "  def children = ctx._source.submodelElements;"
+			+ "  for (def token : update.path) {"
+			+ "    node = null;"
+			+ "    if (children instanceof List) {"
+			+ "      if (token instanceof String) {"
+			+ "        for (def child : children) {"
+			+ "          if (child.idShort == token) { node = child; break; }"
+			+ "        }"
+			+ "      } else if (token < children.size()) {"
+			+ "        node = children.get(token);"
+			+ "      }"
+			+ "    }"
+			+ "    if (node == null) { break; }"
+			+ "    children = node._value;"
+			+ "  }"
+			+ "  if (node == null || node._value != null) { ctx.op = 'noop'; return; }"
+			+ "  if (update.value == null) {"
+			+ "    node.remove('value');"
+			+ "    ctx._source.remove(update.key);"
+			+ "  } else {"
+			+ "    node.value = update.value;"
+			+ "    ctx._source[update.key] = update.value;"
+			+ "  }"
+			+ "}";
+	// @formatter:on
+
+	@Override
+	public UpdateAction<Object, Object> render(Map<String, Object> updates) {
+		JsonData params = JsonData.of(new ArrayList<>(updates.values()));
+
+		return UpdateAction.of(a -> a.script(s -> s.source(src -> src.scriptString(SCRIPT)).lang(ScriptLanguage.Painless).params(UPDATES_PARAM, params)));
+	}
+
+	/**
+	 * Creates the update setting the value of a Property
+	 *
+	 * @param idShortPath
+	 *            the idShortPath of the Property
+	 * @param value
+	 *            the new value of the Property
+	 */
+	public static Map<String, Object> createUpdate(String idShortPath, String value) {
+		Map<String, Object> update = new HashMap<>();
+		update.put(PATH, toPathTokens(idShortPath));
+		update.put(KEY, "submodelElements." + idShortPath + "." + VALUE);
+		update.put(VALUE, value);
+		return update;
+	}
+
+	private static List<Object> toPathTokens(String idShortPath) {
+		Stack<PathToken> tokenStack = new SubmodelElementIdShortPathParser().parsePathTokens(idShortPath);
+
+		List<Object> tokens = new ArrayList<>(tokenStack.size());
+		while (!tokenStack.isEmpty()) {
+			PathToken token = tokenStack.pop();
+			tokens.add(token instanceof ListIndexPathToken ? (Object) Integer.valueOf(token.getToken()) : token.getToken());
+		}
+		return tokens;
+	}
+}
@@ -33,7 +33,12 @@ import org.eclipse.digitaltwin.aas4j.v3.model.*;
 import org.eclipse.digitaltwin.basyx.core.exceptions.*;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexer;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.slf4j.Logger;
@@ -43,19 +48,22 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.util.Collection;
 import java.util.List;
 
 public class SearchSubmodelRepository implements SubmodelRepository {
 	private static final Logger logger = LoggerFactory.getLogger(SearchSubmodelRepository.class);
-	private final ElasticsearchClient esclient;
-	private final String indexName;
+	private final DocumentIndexer indexer;
 
 	private SubmodelRepository decorated;
 
 	public SearchSubmodelRepository(SubmodelRepository decorated, ElasticsearchClient esclient, String indexName) {
+		this(decorated, new DocumentIndexerFactory(esclient), indexName);
+	}
+
+	public SearchSubmodelRepository(SubmodelRepository decorated, DocumentIndexerFactory indexerFactory, String indexName) {
 		this.decorated = decorated;
-		this.esclient = esclient;
-		this.indexName = indexName;
+		this.indexer = indexerFactory.create(indexName, this::loadDocument, new PropertyValueUpdateRenderer());
 	}
 
 	@Override
@@ -73,10 +81,40 @@ public class SearchSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo, projection);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> querySubmodels(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+		return decorated.querySubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodelsById(Collection<String> submodelIds, PaginationInfo pInfo) {
+		return decorated.getAllSubmodelsById(submodelIds, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, projection);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, projection);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, projection);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
-		updateSMIndex(submodel);
+		indexSM(submodel);
 	}
 
 	@Override
@@ -97,6 +135,13 @@ public class SearchSubmodelRepository implements SubmodelRepository {
 		deindexSM(submodelId);
 	}
 
+	@Override
+	public Submodel getAndDeleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		Submodel submodel = decorated.getAndDeleteSubmodel(submodelId);
+		deindexSM(submodelId);
+		return submodel;
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElements(submodelId, pInfo);
@@ -115,7 +160,14 @@ public class SearchSubmodelRepository implements SubmodelRepository {
 	@Override
 	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
 		decorated.setSubmodelElementValue(submodelId, smeIdShort, value);
-		reindexSM(submodelId);
+		updateSMIndex(submodelId, smeIdShort, value);
+	}
+
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = decorated.setSubmodelElementValueAndGet(submodelId, smeIdShort, value);
+		updateSMIndex(submodelId, smeIdShort, value);
+		return submodelElement;
 	}
 
 	@Override
@@ -130,12 +182,26 @@ public class SearchSubmodelRepository implements SubmodelRepository {
 		reindexSM(submodelId);
 	}
 
+	@Override
+	public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		String createdPath = decorated.createSubmodelElementAndGetPath(submodelId, idShortPath, smElement);
+		reindexSM(submodelId);
+		return createdPath;
+	}
+
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 		reindexSM(submodelId);
 	}
 
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = decorated.getAndDeleteSubmodelElement(submodelId, idShortPath);
+		reindexSM(submodelId);
+		return submodelElement;
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		return decorated.invokeOperation(submodelId, idShortPath, input);
@@ -195,51 +261,37 @@ public class SearchSubmodelRepository implements SubmodelRepository {
 	}
 
 	private void indexSM(Submodel submodel) {
-		try {
-			JsonNode normalizedSubmodel = IndexNormalizer.toIndexable(submodel);
-			esclient.create(
-					c -> c.index(indexName)
-							.id(submodel.getId())
-							.document(JsonData.fromJson(normalizedSubmodel.toString()))
-			);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		} catch (SerializationException e) {
-            throw new RuntimeException(e);
-        }
-    }
+		indexer.index(submodel.getId(), toIndexable(submodel));
+	}
+
+	private void updateSMIndex(String smId, String idShortPath, SubmodelElementValue value) {
+		if (value instanceof PropertyValue propertyValue)
+			indexer.update(smId, idShortPath, PropertyValueUpdateRenderer.createUpdate(idShortPath, propertyValue.getValue()));
+		else
+			reindexSM(smId);
+	}
+
+	private void deindexSM(String smID) {
+		indexer.delete(smID);
+	}
+
+	private void reindexSM(String smId) {
+		indexer.index(smId);
+	}
+
+	private Object loadDocument(String smId) {
+		return toIndexable(decorated.getSubmodel(smId));
+	}
 
-	private void updateSMIndex(Submodel submodel) {
+	private static JsonData toIndexable(Submodel submodel) {
 		try {
 			JsonNode normalizedSubmodel = IndexNormalizer.toIndexable(submodel);
-			esclient.update(
-					u -> u.index(indexName)
-							.id(submodel.getId())
-							.doc(JsonData.fromJson(normalizedSubmodel.toString())),
-					JsonData.class
-			);
+			return JsonData.fromJson(normalizedSubmodel.toString());
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		} catch (SerializationException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-	private void deindexSM(String smID) {
-		try {
-			esclient.delete(
-					d -> d.index(indexName)
-							.id(smID)
-			);
-		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	private void reindexSM(String smId) {
-		Submodel submodel = getSubmodel(smId);
-		deindexSM(smId);
-		indexSM(submodel);
-	}
-
 }
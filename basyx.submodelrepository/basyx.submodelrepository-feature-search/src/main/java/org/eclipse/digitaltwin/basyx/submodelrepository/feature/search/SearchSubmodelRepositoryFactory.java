@@ -26,24 +26,29 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.search;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 
 public class SearchSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
-	private final ElasticsearchClient esclient;
+	private final DocumentIndexerFactory indexerFactory;
 	private final String indexName;
 	private SubmodelRepositoryFactory decorated;
 
 	public SearchSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, ElasticsearchClient client, String indexName) {
+		this(decorated, new DocumentIndexerFactory(client), indexName);
+	}
+
+	public SearchSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, DocumentIndexerFactory indexerFactory, String indexName) {
 		this.decorated = decorated;
-		this.esclient = client;
+		this.indexerFactory = indexerFactory;
 		this.indexName = indexName;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new SearchSubmodelRepository(decorated.create(), esclient, indexName);
+		return new SearchSubmodelRepository(decorated.create(), indexerFactory, indexName);
 	}
 
 }
@@ -26,19 +26,25 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.search;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.eclipse.digitaltwin.basyx.querycore.indexing.DocumentIndexerFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @ConditionalOnExpression("#{${" + SearchSubmodelRepositoryFeature.FEATURENAME + ".enabled:false} or ${basyx.feature.experimental.search.enabled:false}}")
 @Component
 public class SearchSubmodelRepositoryFeature implements SubmodelRepositoryFeature {
 	public static final String FEATURENAME = "basyx.submodelrepository.feature.experimental.search";
 	public static final String DEFAULT_INDEX = "sm-index";
-	private final ElasticsearchClient esclient;
+	private final DocumentIndexerFactory indexerFactory;
 
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.experimental.search.enabled:false}}")
 	private boolean enabled;
@@ -47,22 +53,25 @@ public class SearchSubmodelRepositoryFeature implements SubmodelRepositoryFeatur
 	private String indexName;
 
 	@Autowired
-	public SearchSubmodelRepositoryFeature(ElasticsearchClient client) {
-		this.esclient = client;
+	public SearchSubmodelRepositoryFeature(ElasticsearchClient client, @Value("${" + FEATURENAME + ".indexing.mode:" + DocumentIndexerFactory.MODE_SYNC + "}") String indexingMode,
+			@Value("${" + FEATURENAME + ".indexing.flushintervalms:500}") long flushIntervalMs, @Value("${" + FEATURENAME + ".indexing.batchsize:500}") int batchSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.indexerFactory = new DocumentIndexerFactory(client, indexingMode, Duration.ofMillis(flushIntervalMs), batchSize, meterRegistry.getIfAvailable());
 	}
 
 	@Override
 	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory submodelServiceFactory) {
-		return new SearchSubmodelRepositoryFactory(submodelServiceFactory, esclient, indexName);
+		return new SearchSubmodelRepositoryFactory(submodelServiceFactory, indexerFactory, indexName);
 	}
 
 	@Override
 	public void initialize() {
 	}
 
+	@PreDestroy
 	@Override
 	public void cleanUp() {
-
+		indexerFactory.close();
 	}
 
 	@Override
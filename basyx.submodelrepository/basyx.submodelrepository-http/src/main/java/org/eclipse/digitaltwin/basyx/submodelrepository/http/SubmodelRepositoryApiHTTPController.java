@@ -56,9 +56,11 @@ import org.eclipse.digitaltwin.basyx.operation.Invokable;
 import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.http.pagination.GetSubmodelsResult;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
@@ -126,12 +128,9 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 		PaginationInfo pInfo = new PaginationInfo(limit, decodedCursor);
 
-	    CursorResult<List<Submodel>> cursorResult;
-	    if (semanticId != null) {
-	        cursorResult = repository.getAllSubmodels(semanticId.getIdentifier(), pInfo);
-	    } else {
-	        cursorResult = repository.getAllSubmodels(pInfo);
-	    }
+		String semanticIdValue = semanticId == null ? null : semanticId.getIdentifier();
+		String idShortValue = idShort == null || idShort.isEmpty() ? null : idShort;
+		CursorResult<List<Submodel>> cursorResult = repository.getAllSubmodels(semanticIdValue, idShortValue, pInfo, Projection.of(level, extent));
 
 		GetSubmodelsResult paginatedSubmodel = new GetSubmodelsResult();
 
@@ -145,7 +144,7 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<Submodel> getSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent) {
-		return new ResponseEntity<Submodel>(repository.getSubmodel(submodelIdentifier.getIdentifier()), HttpStatus.OK);
+		return new ResponseEntity<Submodel>(repository.getSubmodel(submodelIdentifier.getIdentifier(), Projection.of(level, extent)), HttpStatus.OK);
 	}
 
 	@Override
@@ -166,7 +165,7 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		}
 
 		PaginationInfo pInfo = new PaginationInfo(limit, decodedCursor);
-		CursorResult<List<SubmodelElement>> cursorResult = repository.getSubmodelElements(submodelIdentifier.getIdentifier(), pInfo);
+		CursorResult<List<SubmodelElement>> cursorResult = repository.getSubmodelElements(submodelIdentifier.getIdentifier(), pInfo, Projection.of(level, extent));
 
 		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
 		String encodedCursor = getEncodedCursorFromCursorResult(cursorResult);
@@ -179,7 +178,7 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<SubmodelElement> getSubmodelElementByPathSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid String level, @Valid String extent) {
-		return handleSubmodelElementValueNormalGetRequest(submodelIdentifier.getIdentifier(), idShortPath);
+		return handleSubmodelElementValueNormalGetRequest(submodelIdentifier.getIdentifier(), idShortPath, Projection.of(level, extent));
 	}
 
 	@Override
@@ -212,7 +211,7 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<SubmodelElementValue> getSubmodelElementByPathValueOnlySubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid String level, @Valid String extent) {
-		return handleSubmodelElementValueGetRequest(submodelIdentifier.getIdentifier(), idShortPath);
+		return handleSubmodelElementValueGetRequest(submodelIdentifier.getIdentifier(), idShortPath, Projection.of(level, extent));
 	}
 
 	@Override
@@ -222,7 +221,12 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<SubmodelValueOnly> getSubmodelByIdValueOnly(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent) {
-		return new ResponseEntity<SubmodelValueOnly>(repository.getSubmodelByIdValueOnly(submodelIdentifier.getIdentifier()), HttpStatus.OK);
+		Projection projection = Projection.of(level, extent);
+		if (projection.isDefault())
+			return new ResponseEntity<SubmodelValueOnly>(repository.getSubmodelByIdValueOnly(submodelIdentifier.getIdentifier()), HttpStatus.OK);
+
+		SubmodelValueOnly valueOnly = new SubmodelValueOnly(repository.getSubmodelElements(submodelIdentifier.getIdentifier(), PaginationInfo.NO_LIMIT, projection).getResult());
+		return new ResponseEntity<SubmodelValueOnly>(valueOnly, HttpStatus.OK);
 	}
 
 	@Override
@@ -294,13 +298,14 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
-	private ResponseEntity<SubmodelElementValue> handleSubmodelElementValueGetRequest(String submodelIdentifier, String idShortPath) {
-		SubmodelElementValue value = repository.getSubmodelElementValue(submodelIdentifier, idShortPath);
+	private ResponseEntity<SubmodelElementValue> handleSubmodelElementValueGetRequest(String submodelIdentifier, String idShortPath, Projection projection) {
+		SubmodelElementValue value = projection.isDefault() ? repository.getSubmodelElementValue(submodelIdentifier, idShortPath)
+				: SubmodelElementValueMapperFactory.create(repository.getSubmodelElement(submodelIdentifier, idShortPath, projection)).getValue();
 		return new ResponseEntity<SubmodelElementValue>(value, HttpStatus.OK);
 	}
 
-	private ResponseEntity<SubmodelElement> handleSubmodelElementValueNormalGetRequest(String submodelIdentifier, String idShortPath) {
-		SubmodelElement submodelElement = repository.getSubmodelElement(submodelIdentifier, idShortPath);
+	private ResponseEntity<SubmodelElement> handleSubmodelElementValueNormalGetRequest(String submodelIdentifier, String idShortPath, Projection projection) {
+		SubmodelElement submodelElement = repository.getSubmodelElement(submodelIdentifier, idShortPath, projection);
 		return new ResponseEntity<SubmodelElement>(submodelElement, HttpStatus.OK);
 	}
 
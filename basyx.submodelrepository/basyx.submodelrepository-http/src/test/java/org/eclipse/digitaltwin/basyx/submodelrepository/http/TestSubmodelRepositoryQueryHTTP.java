@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ParseException;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the query endpoint of the SubmodelRepository HTTP/REST API evaluated
+ * by the repository backend
+ *
+ * @author agent
+ *
+ */
+public class TestSubmodelRepositoryQueryHTTP {
+	private static final String QUERY_URL = "http://localhost:8080/query/submodels";
+	private static final String ID_SHORT_QUERY = "{\"$condition\":{\"$eq\":[{\"$field\":\"$sm#idShort\"},{\"$strVal\":\"%s\"}]}}";
+
+	private static ConfigurableApplicationContext appContext;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@BeforeClass
+	public static void startSubmodelRepo() {
+		appContext = new SpringApplicationBuilder(DummySubmodelRepositoryComponent.class).profiles("httptests").run(new String[] {});
+	}
+
+	@AfterClass
+	public static void shutdownSubmodelRepo() {
+		appContext.close();
+	}
+
+	@Before
+	public void populateRepository() {
+		DummySubmodelFactory.getSubmodels().forEach(getRepository()::createSubmodel);
+	}
+
+	@After
+	public void resetRepository() {
+		SubmodelRepository repo = getRepository();
+		repo.getAllSubmodels(PaginationInfo.NO_LIMIT).getResult().stream().map(s -> s.getId()).forEach(repo::deleteSubmodel);
+	}
+
+	@Test
+	public void matchingSubmodelsAreReturned() throws IOException, ParseException {
+		JsonNode response = query(String.format(ID_SHORT_QUERY, DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID_SHORT), "");
+
+		assertEquals("Submodel", response.at("/paging_metadata/resulType").asText());
+		assertEquals(1, response.get("result").size());
+		assertEquals(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, response.at("/result/0/id").asText());
+	}
+
+	@Test
+	public void resultsArePaged() throws IOException, ParseException {
+		String allQuery = "{\"$select\":\"id\",\"$condition\":{\"$ne\":[{\"$field\":\"$sm#id\"},{\"$strVal\":\"\"}]}}";
+		int submodelCount = DummySubmodelFactory.getSubmodels().size();
+
+		JsonNode firstPage = query(allQuery, "?limit=1");
+		assertEquals(1, firstPage.get("result").size());
+
+		JsonNode secondPage = query(allQuery, "?limit=" + submodelCount + "&cursor=" + firstPage.at("/paging_metadata/cursor").asText());
+		assertEquals(submodelCount - 1, secondPage.get("result").size());
+		assertEquals("Identifier", secondPage.at("/paging_metadata/resulType").asText());
+	}
+
+	@Test
+	public void invalidQueryIsRejected() throws IOException {
+		String invalidQuery = "{\"$condition\":{\"$eq\":[{\"$field\":\"sm#idShort\"},{\"$strVal\":\"x\"}]}}";
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL, invalidQuery);
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
+	private JsonNode query(String query, String parameters) throws IOException, ParseException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(QUERY_URL + parameters, query);
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		return mapper.readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	private static SubmodelRepository getRepository() {
+		return appContext.getBean(SubmodelRepository.class);
+	}
+}
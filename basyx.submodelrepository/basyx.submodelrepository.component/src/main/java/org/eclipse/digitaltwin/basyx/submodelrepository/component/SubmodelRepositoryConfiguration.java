@@ -26,7 +26,9 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.component;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.eclipse.digitaltwin.basyx.metrics.LayerMetrics;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.DecoratedSubmodelRepositoryFactory;
@@ -50,10 +52,15 @@ import org.springframework.context.annotation.Primary;
  */
 @Configuration
 public class SubmodelRepositoryConfiguration {
+	private static final String METRICS_COMPONENT_NAME = "submodel-repository";
+
 	@Bean
 	@ConditionalOnMissingBean
-	public SubmodelRepository getSubmodelRepository(SubmodelRepositoryFactory aasRepositoryFactory, List<SubmodelRepositoryFeature> features) {
-		return new DecoratedSubmodelRepositoryFactory(aasRepositoryFactory, features).create();
+	public SubmodelRepository getSubmodelRepository(SubmodelRepositoryFactory aasRepositoryFactory, List<SubmodelRepositoryFeature> features, Optional<LayerMetrics> layerMetrics) {
+		if (layerMetrics.isEmpty())
+			return new DecoratedSubmodelRepositoryFactory(aasRepositoryFactory, features).create();
+
+		return new DecoratedSubmodelRepositoryFactory(aasRepositoryFactory, features, factory -> instrument(factory, layerMetrics.get())).create();
 	}
 
 	@Primary
@@ -61,4 +68,8 @@ public class SubmodelRepositoryConfiguration {
 	public SubmodelServiceFactory getSubmodelServiceFactory(SubmodelServiceFactory aasServiceFactory, List<SubmodelServiceFeature> features) {
 		return new DecoratedSubmodelServiceFactory(aasServiceFactory, features);
 	}
+
+	private static SubmodelRepositoryFactory instrument(SubmodelRepositoryFactory factory, LayerMetrics layerMetrics) {
+		return () -> layerMetrics.instrument(METRICS_COMPONENT_NAME, SubmodelRepository.class, factory.create());
+	}
 }
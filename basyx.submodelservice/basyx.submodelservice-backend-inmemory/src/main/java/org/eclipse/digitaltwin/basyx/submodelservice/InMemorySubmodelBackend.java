@@ -33,170 +33,295 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.SubmodelElementNotADataElem
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.SubmodelBackend;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projector;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Implements the SubmodelService as in-memory variant
  *
+ * SubmodelElements are resolved via a {@link SubmodelElementPathIndex} per
+ * Submodel, which is built on first access and kept consistent on creation,
+ * update and deletion of SubmodelElements.
+ *
+ * Accesses are guarded by {@link SubmodelLocks}, so that different Submodels
+ * can be read and written concurrently.
+ *
  * @author schnicke, danish, mateusmolina
  */
 @ConditionalOnExpression("'${basyx.submodelservice.backend}'.equals('InMemory') or '${basyx.backend}'.equals('InMemory')")
 @Component
 public class InMemorySubmodelBackend extends InMemoryCrudRepository<Submodel> implements SubmodelBackend {
 
+    private final Map<String, SubmodelElementPathIndex> pathIndexes = new ConcurrentHashMap<>();
+    private final SubmodelLocks locks = new SubmodelLocks();
+
     public InMemorySubmodelBackend() {
         super(Submodel::getId);
     }
 
+    @Override
+    public @NonNull <S extends Submodel> S save(@NonNull S entity) {
+        return locks.write(entity.getId(), () -> {
+            pathIndexes.remove(entity.getId());
+            return super.save(entity);
+        });
+    }
+
+    @Override
+    public void deleteById(@NonNull String id) {
+        locks.write(id, () -> {
+            pathIndexes.remove(id);
+            super.deleteById(id);
+        });
+    }
+
+    @Override
+    public void delete(@NonNull Submodel entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(@NonNull Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(@NonNull Iterable<? extends Submodel> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        pathIndexes.clear();
+        super.deleteAll();
+    }
+
     @Override
     public CursorResult<List<Submodel>> getSubmodels(String semanticId, PaginationInfo pInfo) {
-        Iterable<Submodel> iterable = findAll();
-		List<Submodel> submodels = StreamSupport.stream(iterable.spliterator(), false).toList();
+        return findAll(pInfo, submodel -> hasSemanticId(submodel, semanticId));
+    }
+
+    @Override
+    public CursorResult<List<Submodel>> query(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+        return findAll(pInfo, submodel -> locks.read(submodel.getId(), () -> filter.test(submodel)));
+    }
 
-	    List<Submodel> filteredSubmodels = submodels.stream()
-	    		.filter((submodel) -> {
-	    			return submodel.getSemanticId() != null &&
-	    				submodel.getSemanticId().getKeys().stream().filter((key) -> {
-	    					return key.getValue().equals(semanticId);
-	    				}).findAny().isPresent();
-	    		})
-	    		.collect(Collectors.toList());
+    @Override
+    public CursorResult<List<Submodel>> getSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+        CursorResult<List<Submodel>> result = findAll(pInfo, submodel -> (semanticId == null || hasSemanticId(submodel, semanticId)) && (idShort == null || idShort.equals(submodel.getIdShort())));
+
+        if (projection.isDefault())
+            return result;
 
-		TreeMap<String, Submodel> submodelMap = filteredSubmodels.stream().collect(Collectors.toMap(Submodel::getId, submodel -> submodel, (a, b) -> a, TreeMap::new));
+        List<Submodel> projected = result.getResult().stream().map(submodel -> locks.read(submodel.getId(), () -> Projector.project(submodel, projection))).toList();
+        return new CursorResult<>(result.getCursor(), projected);
+    }
 
-		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodelMap, Submodel::getId);
+    @Override
+    public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+        return locks.read(submodelId, () -> Projector.project(getSubmodel(submodelId), projection));
+    }
 
-		return paginationSupport.getPaged(pInfo);
+    private static boolean hasSemanticId(Submodel submodel, String semanticId) {
+        return submodel.getSemanticId() != null && submodel.getSemanticId().getKeys().stream().anyMatch(key -> key.getValue().equals(semanticId));
     }
 
     @Override
     public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) {
-        List<SubmodelElement> allSubmodels = getSubmodel(submodelId).getSubmodelElements();
-
-        TreeMap<String, SubmodelElement> submodelMap = allSubmodels.stream().collect(Collectors.toMap(SubmodelElement::getIdShort, aas -> aas, (a, b) -> a, TreeMap::new));
+        TreeMap<String, SubmodelElement> submodelMap = locks.read(submodelId, () -> getSubmodel(submodelId).getSubmodelElements().stream().collect(Collectors.toMap(SubmodelElement::getIdShort, aas -> aas, (a, b) -> a, TreeMap::new)));
 
         PaginationSupport<SubmodelElement> paginationSupport = new PaginationSupport<>(submodelMap, SubmodelElement::getIdShort);
         return paginationSupport.getPaged(pInfo);
     }
 
+    @Override
+    public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
+        CursorResult<List<SubmodelElement>> result = getSubmodelElements(submodelId, pInfo);
+
+        if (projection.isDefault())
+            return result;
+
+        return new CursorResult<>(result.getCursor(), locks.read(submodelId, () -> Projector.projectSubmodelElements(result.getResult(), projection)));
+    }
+
     @Override
     public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-        return getParser(submodelId).getSubmodelElementFromIdShortPath(idShortPath);
+        return locks.read(submodelId, () -> getSubmodelElement(getSubmodel(submodelId), idShortPath));
+    }
+
+    @Override
+    public SubmodelElement getSubmodelElement(String submodelId, String idShortPath, Projection projection) throws ElementDoesNotExistException {
+        return locks.read(submodelId, () -> Projector.project(getSubmodelElement(getSubmodel(submodelId), idShortPath), projection));
     }
 
     @Override
     public SubmodelElementValue getSubmodelElementValue(String submodelId, String idShort) throws ElementDoesNotExistException {
-        return SubmodelElementValueMapperFactory.create(getSubmodelElement(submodelId, idShort)).getValue();
+        return locks.read(submodelId, () -> SubmodelElementValueMapperFactory.create(getSubmodelElement(getSubmodel(submodelId), idShort)).getValue());
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public synchronized void setSubmodelElementValue(String submodelId, String idShort, SubmodelElementValue value) throws ElementDoesNotExistException {
-        SubmodelElementValueMapperFactory.create(getSubmodelElement(submodelId, idShort)).setValue(value);
+    public void setSubmodelElementValue(String submodelId, String idShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+        setSubmodelElementValueAndGet(submodelId, idShort, value);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    public synchronized void createSubmodelElement(String submodelId, SubmodelElement submodelElement) throws CollidingIdentifierException {
-        List<SubmodelElement> smElements = getSubmodel(submodelId).getSubmodelElements();
-        throwIfSubmodelElementExists(submodelId, submodelElement.getIdShort());
-        smElements.add(submodelElement);
+    public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String idShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+        return locks.write(submodelId, () -> {
+            SubmodelElement submodelElement = getSubmodelElement(getSubmodel(submodelId), idShort);
+            SubmodelElementValueMapperFactory.create(submodelElement).setValue(value);
+            return submodelElement;
+        });
     }
 
     @Override
-    public synchronized void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
-        throwIfSubmodelElementExists(submodelId, getFullIdShortPath(idShortPath, submodelElement.getIdShort()));
+    public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) throws CollidingIdentifierException {
+        locks.write(submodelId, () -> {
+            Submodel submodel = getSubmodel(submodelId);
+            List<SubmodelElement> smElements = submodel.getSubmodelElements();
+            throwIfSubmodelElementExists(submodelId, submodelElement.getIdShort());
+            smElements.add(submodelElement);
+            getPathIndex(submodel).addElement(submodelElement.getIdShort(), submodelElement);
+        });
+    }
 
-        SubmodelElement parentSme = getParser(submodelId).getSubmodelElementFromIdShortPath(idShortPath);
-        if (parentSme instanceof SubmodelElementList list) {
-            List<SubmodelElement> submodelElements = list.getValue();
-            submodelElements.add(submodelElement);
-        } else if (parentSme instanceof SubmodelElementCollection collection) {
-            List<SubmodelElement> submodelElements = collection.getValue();
-            submodelElements.add(submodelElement);
-        } else if (parentSme instanceof Entity entity) {
-            List<SubmodelElement> submodelElements = entity.getStatements();
-            submodelElements.add(submodelElement);
-        } else if (parentSme instanceof AnnotatedRelationshipElement are) {
-            try {
-                List<DataElement> annotations = are.getAnnotations();
-                annotations.add((DataElement) submodelElement);
-            } catch (ClassCastException e) {
-                throw new SubmodelElementNotADataElementException(submodelElement.getIdShort());
-            }
-        }
+    @Override
+    public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
+        createSubmodelElementAndGetPath(submodelId, idShortPath, submodelElement);
     }
 
     @Override
-    public synchronized void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) {
-        deleteSubmodelElement(submodelId, idShortPath);
+    public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
+        return locks.write(submodelId, () -> {
+            throwIfSubmodelElementExists(submodelId, getFullIdShortPath(idShortPath, submodelElement.getIdShort()));
+
+            Submodel submodel = getSubmodel(submodelId);
+            SubmodelElement parentSme = getSubmodelElement(submodel, idShortPath);
+            if (parentSme instanceof SubmodelElementList list) {
+                List<SubmodelElement> submodelElements = list.getValue();
+                submodelElements.add(submodelElement);
+            } else if (parentSme instanceof SubmodelElementCollection collection) {
+                List<SubmodelElement> submodelElements = collection.getValue();
+                submodelElements.add(submodelElement);
+            } else if (parentSme instanceof Entity entity) {
+                List<SubmodelElement> submodelElements = entity.getStatements();
+                submodelElements.add(submodelElement);
+            } else if (parentSme instanceof AnnotatedRelationshipElement are) {
+                try {
+                    List<DataElement> annotations = are.getAnnotations();
+                    annotations.add((DataElement) submodelElement);
+                } catch (ClassCastException e) {
+                    throw new SubmodelElementNotADataElementException(submodelElement.getIdShort());
+                }
+            } else {
+                throw new ElementDoesNotExistException(SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parentSme, submodelElement));
+            }
 
-        String idShortPathParentSME = getParser(submodelId).getIdShortPathOfParentElement(idShortPath);
-        if (idShortPath.equals(idShortPathParentSME)) {
-            createSubmodelElement(submodelId, submodelElement);
-            return;
-        }
+            String createdPath = SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parentSme, submodelElement);
+            SubmodelElementPathIndex pathIndex = getPathIndexContaining(submodel, idShortPath, parentSme);
+            if (pathIndex != null)
+                pathIndex.addElement(createdPath, submodelElement);
 
-        createSubmodelElement(submodelId, idShortPathParentSME, submodelElement);
+            return createdPath;
+        });
     }
 
     @Override
-    public synchronized void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+    public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) {
+        locks.write(submodelId, () -> {
+            deleteSubmodelElement(submodelId, idShortPath);
+
+            String idShortPathParentSME = new HierarchicalSubmodelElementParser(getSubmodel(submodelId)).getIdShortPathOfParentElement(idShortPath);
+            if (idShortPath.equals(idShortPathParentSME)) {
+                createSubmodelElement(submodelId, submodelElement);
+                return;
+            }
 
-        Submodel submodel = getSubmodel(submodelId);
-        if (!SubmodelElementIdShortHelper.isNestedIdShortPath(idShortPath)) {
-            deleteFlatSubmodelElement(submodel, idShortPath);
-            return;
-        }
-        deleteNestedSubmodelElement(submodel, idShortPath);
+            createSubmodelElement(submodelId, idShortPathParentSME, submodelElement);
+        });
+    }
 
+    @Override
+    public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+        locks.write(submodelId, () -> {
+            Submodel submodel = getSubmodel(submodelId);
+            if (!SubmodelElementIdShortHelper.isNestedIdShortPath(idShortPath)) {
+                deleteFlatSubmodelElement(submodel, idShortPath);
+                return;
+            }
+            deleteNestedSubmodelElement(submodel, idShortPath);
+        });
     }
 
     @Override
-    public synchronized void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
-        getSubmodel(submodelId).setSubmodelElements(submodelElementList);
+    public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
+        locks.write(submodelId, () -> {
+            Submodel submodel = getSubmodel(submodelId);
+            submodel.setSubmodelElements(submodelElementList);
+            pathIndexes.remove(submodel.getId());
+        });
     }
 
-    private static void deleteNestedSubmodelElement(Submodel submodel, String idShortPath) {
-        HierarchicalSubmodelElementParser parser = new HierarchicalSubmodelElementParser(submodel);
-        SubmodelElement sme = parser.getSubmodelElementFromIdShortPath(idShortPath);
+    private void deleteNestedSubmodelElement(Submodel submodel, String idShortPath) {
+        SubmodelElement sme = getSubmodelElement(submodel, idShortPath);
         if (SubmodelElementIdShortHelper.isDirectParentASubmodelElementList(idShortPath)) {
-            deleteNestedSubmodelElementFromList(parser, idShortPath, sme);
+            deleteNestedSubmodelElementFromList(submodel, idShortPath, sme);
         } else {
-            deleteNestedSubmodelElementFromCollectionOrEntity(parser, idShortPath, sme);
+            deleteNestedSubmodelElementFromCollectionOrEntity(submodel, idShortPath, sme);
         }
     }
 
-    private static void deleteNestedSubmodelElementFromList(HierarchicalSubmodelElementParser parser, String idShortPath, SubmodelElement sme) {
+    private void deleteNestedSubmodelElementFromList(Submodel submodel, String idShortPath, SubmodelElement sme) {
         String collectionId = SubmodelElementIdShortHelper.extractDirectParentSubmodelElementListIdShort(idShortPath);
-        SubmodelElementList list = (SubmodelElementList) parser.getSubmodelElementFromIdShortPath(collectionId);
+        SubmodelElementList list = (SubmodelElementList) getSubmodelElement(submodel, collectionId);
+
+        // The indices of the subsequent list elements change, thus the whole list is reindexed
+        SubmodelElementPathIndex pathIndex = getPathIndexContaining(submodel, collectionId, list);
+        if (pathIndex != null)
+            pathIndex.removeElement(collectionId, list);
+
         list.getValue().remove(sme);
+
+        if (pathIndex != null)
+            pathIndex.addElement(collectionId, list);
     }
 
-    private static void deleteNestedSubmodelElementFromCollectionOrEntity(HierarchicalSubmodelElementParser parser, String idShortPath, SubmodelElement sme) {
+    private void deleteNestedSubmodelElementFromCollectionOrEntity(Submodel submodel, String idShortPath, SubmodelElement sme) {
         String collectionId = SubmodelElementIdShortHelper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
-        SubmodelElement parent = parser.getSubmodelElementFromIdShortPath(collectionId);
+        SubmodelElement parent = getSubmodelElement(submodel, collectionId);
         if (parent instanceof SubmodelElementCollection collection) {
             collection.getValue().remove(sme);
         } else if (parent instanceof Entity entity) {
             entity.getStatements().remove(sme);
+        } else {
+            return;
         }
+
+        SubmodelElementPathIndex pathIndex = getPathIndexContaining(submodel, idShortPath, sme);
+        if (pathIndex != null)
+            pathIndex.removeElement(idShortPath, sme);
     }
 
-    private static void deleteFlatSubmodelElement(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
+    private void deleteFlatSubmodelElement(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
         int index = findIndexOfElementTobeDeleted(submodel, idShortPath);
         if (index >= 0) {
-            submodel.getSubmodelElements().remove(index);
+            SubmodelElement removed = submodel.getSubmodelElements().remove(index);
+            getPathIndex(submodel).removeElement(idShortPath, removed);
             return;
         }
         throw new ElementDoesNotExistException();
@@ -223,8 +348,36 @@ public class InMemorySubmodelBackend extends InMemoryCrudRepository<Submodel> im
         }
     }
 
-    private HierarchicalSubmodelElementParser getParser(String submodelId) {
-        return new HierarchicalSubmodelElementParser(getSubmodel(submodelId));
+    private SubmodelElement getSubmodelElement(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
+        SubmodelElement indexed = getPathIndex(submodel).get(idShortPath);
+        if (indexed != null)
+            return indexed;
+
+        // Not indexed, e.g., due to a non-canonical idShortPath. The parser provides the specific error otherwise
+        return new HierarchicalSubmodelElementParser(submodel).getSubmodelElementFromIdShortPath(idShortPath);
+    }
+
+    private SubmodelElementPathIndex getPathIndex(Submodel submodel) {
+        SubmodelElementPathIndex pathIndex = pathIndexes.get(submodel.getId());
+        if (pathIndex != null && pathIndex.isIndexOf(submodel))
+            return pathIndex;
+
+        return pathIndexes.compute(submodel.getId(), (id, existing) -> existing != null && existing.isIndexOf(submodel) ? existing : new SubmodelElementPathIndex(submodel));
+    }
+
+    /**
+     * Returns the path index if it contains the element under the passed
+     * idShortPath. Otherwise, e.g., if the element has been resolved via a
+     * non-canonical idShortPath, the index is dropped so that it is rebuilt on the
+     * next access.
+     */
+    private SubmodelElementPathIndex getPathIndexContaining(Submodel submodel, String idShortPath, SubmodelElement element) {
+        SubmodelElementPathIndex pathIndex = getPathIndex(submodel);
+        if (pathIndex.get(idShortPath) == element)
+            return pathIndex;
+
+        pathIndexes.remove(submodel.getId());
+        return null;
     }
 
     private Submodel getSubmodel(String submodelId) {
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Index of all SubmodelElements of a Submodel by their idShortPath, e.g.,
+ * <code>Collection.Property</code> or <code>List[1].Property</code>
+ *
+ * The index is bound to a Submodel instance and has to be kept consistent by
+ * the caller whenever the element hierarchy of that instance changes.
+ *
+ * @author agent
+ *
+ */
+class SubmodelElementPathIndex {
+	private final Submodel submodel;
+	private final Map<String, SubmodelElement> elements = new ConcurrentHashMap<>();
+
+	SubmodelElementPathIndex(Submodel submodel) {
+		this.submodel = submodel;
+
+		for (SubmodelElement element : nullSafe(submodel.getSubmodelElements())) {
+			if (element.getIdShort() != null)
+				addElement(element.getIdShort(), element);
+		}
+	}
+
+	/**
+	 * Checks whether this index has been built for the passed Submodel instance
+	 *
+	 * @param submodel
+	 * @return true if the index belongs to the passed instance
+	 */
+	boolean isIndexOf(Submodel submodel) {
+		return this.submodel == submodel;
+	}
+
+	/**
+	 * Returns the indexed SubmodelElement
+	 *
+	 * @param idShortPath
+	 * @return the SubmodelElement or null if the idShortPath is not indexed
+	 */
+	SubmodelElement get(String idShortPath) {
+		return elements.get(idShortPath);
+	}
+
+	/**
+	 * Indexes the passed element and all of its children
+	 *
+	 * @param idShortPath
+	 *            the idShortPath of the element
+	 * @param element
+	 */
+	void addElement(String idShortPath, SubmodelElement element) {
+		elements.putIfAbsent(idShortPath, element);
+
+		if (element instanceof SubmodelElementList list) {
+			List<SubmodelElement> children = nullSafe(list.getValue());
+			for (int i = 0; i < children.size(); i++)
+				addElement(idShortPath + "[" + i + "]", children.get(i));
+
+			return;
+		}
+
+		for (SubmodelElement child : getNamedChildren(element)) {
+			if (child.getIdShort() != null)
+				addElement(idShortPath + "." + child.getIdShort(), child);
+		}
+	}
+
+	/**
+	 * Removes the passed element and all of its children from the index. For
+	 * elements of a SubmodelElementList, the whole list has to be reindexed as
+	 * the indices of the remaining elements change.
+	 *
+	 * @param idShortPath
+	 *            the idShortPath of the element
+	 * @param element
+	 */
+	void removeElement(String idShortPath, SubmodelElement element) {
+		elements.remove(idShortPath, element);
+
+		if (element instanceof SubmodelElementList list) {
+			List<SubmodelElement> children = nullSafe(list.getValue());
+			for (int i = 0; i < children.size(); i++)
+				removeElement(idShortPath + "[" + i + "]", children.get(i));
+
+			return;
+		}
+
+		for (SubmodelElement child : getNamedChildren(element)) {
+			if (child.getIdShort() != null)
+				removeElement(idShortPath + "." + child.getIdShort(), child);
+		}
+	}
+
+	private static Collection<? extends SubmodelElement> getNamedChildren(SubmodelElement element) {
+		if (element instanceof SubmodelElementCollection collection)
+			return nullSafe(collection.getValue());
+
+		if (element instanceof Entity entity)
+			return nullSafe(entity.getStatements());
+
+		if (element instanceof AnnotatedRelationshipElement are)
+			return nullSafe(are.getAnnotations());
+
+		return Collections.emptyList();
+	}
+
+	private static <T> List<T> nullSafe(List<T> list) {
+		return list == null ? Collections.emptyList() : list;
+	}
+}
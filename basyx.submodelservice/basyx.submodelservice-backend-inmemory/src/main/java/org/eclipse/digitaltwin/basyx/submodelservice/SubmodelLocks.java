@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped read/write locks guarding the element hierarchy of the Submodels.
+ *
+ * Each Submodel id is mapped to one of a fixed number of stripes, so that
+ * Submodels can be read and written independently of each other without
+ * having to maintain a lock per Submodel. Accesses to Submodels sharing a
+ * stripe are serialized.
+ *
+ * @author agent
+ *
+ */
+class SubmodelLocks {
+	static final int DEFAULT_STRIPE_COUNT = 256;
+
+	private final ReadWriteLock[] stripes;
+
+	SubmodelLocks() {
+		this(DEFAULT_STRIPE_COUNT);
+	}
+
+	/**
+	 * @param stripeCount
+	 *            the number of stripes, has to be a power of two
+	 */
+	SubmodelLocks(int stripeCount) {
+		if (Integer.bitCount(stripeCount) != 1)
+			throw new IllegalArgumentException("The stripe count has to be a power of two, but was " + stripeCount);
+
+		stripes = new ReadWriteLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++)
+			stripes[i] = new ReentrantReadWriteLock();
+	}
+
+	public <T> T read(String submodelId, Supplier<T> supplier) {
+		return runWithLock(supplier, getStripe(submodelId).readLock());
+	}
+
+	public <T> T write(String submodelId, Supplier<T> supplier) {
+		return runWithLock(supplier, getStripe(submodelId).writeLock());
+	}
+
+	public void write(String submodelId, Runnable runnable) {
+		runWithLock(runnable, getStripe(submodelId).writeLock());
+	}
+
+	int getStripeIndex(String submodelId) {
+		int hash = submodelId.hashCode();
+
+		// Spreads the higher bits, as only the lower bits select the stripe
+		return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+	}
+
+	private ReadWriteLock getStripe(String submodelId) {
+		return stripes[getStripeIndex(submodelId)];
+	}
+
+	private <T> T runWithLock(Supplier<T> supplier, Lock lock) {
+		lock.lock();
+		try {
+			return supplier.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void runWithLock(Runnable runnable, Lock lock) {
+		lock.lock();
+		try {
+			runnable.run();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
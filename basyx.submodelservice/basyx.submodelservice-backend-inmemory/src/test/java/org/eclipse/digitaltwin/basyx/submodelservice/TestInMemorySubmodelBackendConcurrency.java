@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress tests the {@link InMemorySubmodelBackend} with concurrent readers and
+ * writers and verifies that the {@link SubmodelLocks} do not serialize
+ * accesses to different Submodels
+ *
+ * @author agent
+ *
+ */
+public class TestInMemorySubmodelBackendConcurrency {
+	private static final int WRITER_COUNT = 8;
+	private static final int ITERATIONS = 500;
+	private static final long TIMEOUT_SECONDS = 60;
+
+	private InMemorySubmodelBackend backend;
+	private ExecutorService executor;
+
+	@Before
+	public void init() {
+		backend = new InMemorySubmodelBackend();
+		executor = Executors.newFixedThreadPool(WRITER_COUNT + 2);
+	}
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentWritesToDifferentSubmodels() throws Exception {
+		for (int i = 0; i < WRITER_COUNT; i++)
+			backend.save(createSubmodel(getSubmodelId(i)));
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < WRITER_COUNT; i++) {
+			String submodelId = getSubmodelId(i);
+			futures.add(executor.submit(() -> writeElements(start, submodelId, "")));
+		}
+		futures.add(executor.submit(() -> readElements(start)));
+		futures.add(executor.submit(() -> readElements(start)));
+
+		start.countDown();
+		awaitAll(futures);
+
+		for (int i = 0; i < WRITER_COUNT; i++) {
+			String submodelId = getSubmodelId(i);
+			assertEquals(ITERATIONS + 1, backend.getSubmodelElements(submodelId, PaginationInfo.NO_LIMIT).getResult().size());
+			assertEquals(ITERATIONS, backend.getSubmodelElements(submodelId, PaginationInfo.NO_LIMIT).getResult().stream().filter(sme -> sme.getIdShort().startsWith("P")).count());
+			assertEquals(ITERATIONS, countNested(submodelId));
+			assertEquals(String.valueOf(ITERATIONS - 1), ((Property) backend.getSubmodelElement(submodelId, "C.Counter")).getValue());
+		}
+	}
+
+	@Test
+	public void concurrentWritesToSameSubmodel() throws Exception {
+		String submodelId = getSubmodelId(0);
+		backend.save(createSubmodel(submodelId));
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < WRITER_COUNT; i++) {
+			String prefix = "T" + i;
+			futures.add(executor.submit(() -> writeElements(start, submodelId, prefix)));
+		}
+
+		start.countDown();
+		awaitAll(futures);
+
+		assertEquals(WRITER_COUNT * ITERATIONS + 1, backend.getSubmodelElements(submodelId, PaginationInfo.NO_LIMIT).getResult().size());
+		assertEquals(WRITER_COUNT * ITERATIONS, countNested(submodelId));
+	}
+
+	@Test
+	public void writeIsNotBlockedByWriteToOtherSubmodel() throws Exception {
+		SubmodelLocks locks = new SubmodelLocks();
+		String blockedId = getSubmodelId(0);
+		String otherId = getIdOnOtherStripe(locks, blockedId);
+
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<?> blocking = executor.submit(() -> locks.write(blockedId, () -> {
+			locked.countDown();
+			await(release);
+		}));
+
+		try {
+			assertTrue(locked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+			Future<Boolean> write = executor.submit(() -> locks.write(otherId, () -> true));
+			Future<Boolean> read = executor.submit(() -> locks.read(otherId, () -> true));
+
+			assertTrue(write.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			assertTrue(read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+		}
+
+		blocking.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void readIsBlockedByWriteToSameSubmodel() throws Exception {
+		SubmodelLocks locks = new SubmodelLocks();
+		String submodelId = getSubmodelId(0);
+
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<?> blocking = executor.submit(() -> locks.write(submodelId, () -> {
+			locked.countDown();
+			await(release);
+		}));
+		assertTrue(locked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+		CountDownLatch read = new CountDownLatch(1);
+		executor.submit(() -> locks.read(submodelId, () -> {
+			read.countDown();
+			return null;
+		}));
+
+		assertFalse(read.await(200, TimeUnit.MILLISECONDS));
+		release.countDown();
+		assertTrue(read.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		blocking.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	private void writeElements(CountDownLatch start, String submodelId, String prefix) {
+		await(start);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			backend.createSubmodelElement(submodelId, createProperty("P" + prefix + i, "0"));
+			backend.createSubmodelElement(submodelId, "C", createProperty("N" + prefix + i, "0"));
+			backend.setSubmodelElementValue(submodelId, "P" + prefix + i, new PropertyValue(String.valueOf(i)));
+			backend.setSubmodelElementValue(submodelId, "C.Counter", new PropertyValue(String.valueOf(i)));
+		}
+	}
+
+	private void readElements(CountDownLatch start) {
+		await(start);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			String submodelId = getSubmodelId(i % WRITER_COUNT);
+			backend.getSubmodelElementValue(submodelId, "C.Counter");
+			backend.getSubmodelElements(submodelId, PaginationInfo.NO_LIMIT);
+		}
+	}
+
+	private long countNested(String submodelId) {
+		List<SubmodelElement> nested = ((DefaultSubmodelElementCollection) backend.getSubmodelElement(submodelId, "C")).getValue();
+		return nested.stream().filter(sme -> sme.getIdShort().startsWith("N")).count();
+	}
+
+	private static String getIdOnOtherStripe(SubmodelLocks locks, String submodelId) {
+		for (int i = 1;; i++) {
+			String candidate = getSubmodelId(i);
+			if (locks.getStripeIndex(candidate) != locks.getStripeIndex(submodelId)) {
+				assertNotEquals(submodelId, candidate);
+				return candidate;
+			}
+		}
+	}
+
+	private static void awaitAll(List<Future<?>> futures) throws Exception {
+		for (Future<?> future : futures)
+			future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String getSubmodelId(int i) {
+		return "http://basyx.eclipse.org/test/concurrency/" + i;
+	}
+
+	private static Submodel createSubmodel(String submodelId) {
+		DefaultSubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder().idShort("C").value(new ArrayList<>(List.of(createProperty("Counter", "-1")))).build();
+
+		return new DefaultSubmodel.Builder().id(submodelId).submodelElements(new ArrayList<>(List.of(collection))).build();
+	}
+
+	private static Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort).value(value).valueType(DataTypeDefXsd.STRING).build();
+	}
+}
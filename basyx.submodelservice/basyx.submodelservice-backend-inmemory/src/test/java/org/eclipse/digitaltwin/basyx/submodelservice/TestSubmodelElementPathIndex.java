@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link SubmodelElementPathIndex} of the
+ * {@link InMemorySubmodelBackend} is kept consistent with the element
+ * hierarchy
+ *
+ * @author agent
+ *
+ */
+public class TestSubmodelElementPathIndex {
+	private InMemorySubmodelBackend backend;
+	private Submodel submodel;
+
+	@Before
+	public void init() throws DeserializationException, IOException {
+		backend = new InMemorySubmodelBackend();
+		submodel = loadSubmodel();
+		backend.save(submodel);
+	}
+
+	@Test
+	public void listIndicesAreShiftedAfterDeletion() {
+		SubmodelElement second = backend.getSubmodelElement(submodel.getId(), "C2.L1[1]");
+
+		backend.deleteSubmodelElement(submodel.getId(), "C2.L1[0]");
+
+		assertSame(second, backend.getSubmodelElement(submodel.getId(), "C2.L1[0]"));
+		assertEquals("P3", backend.getSubmodelElement(submodel.getId(), "C2.L1[0][0].P3").getIdShort());
+		assertElementDoesNotExist("C2.L1[1]");
+	}
+
+	@Test
+	public void createdElementIsResolvable() {
+		backend.createSubmodelElement(submodel.getId(), "C2", createProperty("P4", "4"));
+		backend.createSubmodelElement(submodel.getId(), "C2.L1", createProperty(null, "5"));
+
+		assertEquals("4", ((Property) backend.getSubmodelElement(submodel.getId(), "C2.P4")).getValue());
+		assertEquals("5", ((Property) backend.getSubmodelElement(submodel.getId(), "C2.L1[2]")).getValue());
+	}
+
+	@Test
+	public void updatedElementReplacesSubtree() {
+		backend.updateSubmodelElement(submodel.getId(), "C2", createProperty("C2", "2"));
+
+		assertEquals("2", ((Property) backend.getSubmodelElement(submodel.getId(), "C2")).getValue());
+		assertElementDoesNotExist("C2.L1");
+		assertElementDoesNotExist("C2.L1[1][0].P3");
+	}
+
+	@Test
+	public void deletedElementAndChildrenAreNotResolvable() {
+		backend.deleteSubmodelElement(submodel.getId(), "E1");
+
+		assertElementDoesNotExist("E1");
+		assertElementDoesNotExist("E1.P1");
+	}
+
+	@Test
+	public void valueIsSetOnIndexedElement() {
+		backend.setSubmodelElementValue(submodel.getId(), "C2.L1[1][0].P3", new PropertyValue("33"));
+
+		Property property = (Property) new HierarchicalSubmodelElementParser(submodel).getSubmodelElementFromIdShortPath("C2.L1[1][0].P3");
+		assertEquals("33", property.getValue());
+	}
+
+	@Test
+	public void nonCanonicalPathIsResolved() {
+		assertSame(backend.getSubmodelElement(submodel.getId(), "C2.L1[1]"), backend.getSubmodelElement(submodel.getId(), "C2.L1[01]"));
+
+		backend.createSubmodelElement(submodel.getId(), "C2.L1[01][0]", createProperty("P5", "5"));
+
+		assertEquals("5", ((Property) backend.getSubmodelElement(submodel.getId(), "C2.L1[1][0].P5")).getValue());
+	}
+
+	@Test
+	public void patchedElementsAreIndexed() {
+		backend.patchSubmodelElements(submodel.getId(), new ArrayList<>(List.of(createProperty("P6", "6"))));
+
+		assertEquals("6", ((Property) backend.getSubmodelElement(submodel.getId(), "P6")).getValue());
+		assertElementDoesNotExist("C2");
+	}
+
+	@Test
+	public void savedSubmodelReplacesIndex() throws DeserializationException, IOException {
+		backend.getSubmodelElement(submodel.getId(), "E1.P1");
+
+		Submodel replacement = loadSubmodel();
+		replacement.getSubmodelElements().remove(0);
+		backend.save(replacement);
+
+		assertElementDoesNotExist("E1.P1");
+		assertSame(replacement.getSubmodelElements().get(0), backend.getSubmodelElement(submodel.getId(), "C2"));
+	}
+
+	private void assertElementDoesNotExist(String idShortPath) {
+		try {
+			backend.getSubmodelElement(submodel.getId(), idShortPath);
+		} catch (ElementDoesNotExistException e) {
+			return;
+		}
+
+		throw new AssertionError("Expected " + idShortPath + " to not exist");
+	}
+
+	private static Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort).value(value).valueType(DataTypeDefXsd.STRING).build();
+	}
+
+	private static Submodel loadSubmodel() throws DeserializationException, IOException {
+		try (InputStream in = TestSubmodelElementPathIndex.class.getResourceAsStream("submodel.json"); BufferedInputStream bIn = new BufferedInputStream(in)) {
+			return new JsonDeserializer().read(bIn, Submodel.class);
+		}
+	}
+}
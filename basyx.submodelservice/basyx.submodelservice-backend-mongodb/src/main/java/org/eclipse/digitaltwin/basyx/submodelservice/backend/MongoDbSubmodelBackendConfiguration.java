@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.backend;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.common.mongocore.IndexEntry;
 import org.eclipse.digitaltwin.basyx.common.mongocore.MappingEntry;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -56,4 +57,9 @@ public class MongoDbSubmodelBackendConfiguration {
     MappingEntry submodelMappingEntry(@Value("${" + COLLECTION_NAME_FIELD + ":" + DEFAULT_COLLECTION_NAME + "}") String collectionName) {
         return MappingEntry.of(collectionName, Submodel.class);
     }
+
+    @Bean
+    IndexEntry submodelSemanticIdIndexEntry() {
+        return IndexEntry.ascending(Submodel.class, "semanticId", MongoDbSubmodelOperations.SEMANTIC_ID_KEY);
+    }
 }
@@ -27,33 +27,46 @@ package org.eclipse.digitaltwin.basyx.submodelservice.backend;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.bson.Document;
 import org.eclipse.digitaltwin.aas4j.v3.model.*;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoPaginationSupport;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.SubmodelElementNotADataElementException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.SubmodelOperations;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.GenericPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.IndexPath;
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.MongoFilterBuilder.MongoFilterResult;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projector;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
 import com.mongodb.client.result.UpdateResult;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * MongoDb implementation of the {@link SubmodelOperations}
@@ -63,50 +76,87 @@ import org.springframework.transaction.annotation.Transactional;
 public class MongoDbSubmodelOperations implements SubmodelOperations {
 
     private static final String SUBMODEL_ELEMENTS_KEY = "submodelElements";
+    static final String SEMANTIC_ID_KEY = "semanticId.keys.value";
+    private static final String ID_SHORT_KEY = "idShort";
 
     private final MongoOperations mongoOperations;
     private final String collectionName;
+    private final MongoPaginationSupport<Submodel> paginationSupport;
 
     public MongoDbSubmodelOperations(MongoOperations mongoOperations) {
         this.mongoOperations = mongoOperations;
         this.collectionName = mongoOperations.getCollectionName(Submodel.class);
+        this.paginationSupport = new MongoPaginationSupport<>(mongoOperations, Submodel.class, Submodel::getId);
+    }
+
+    @Override
+    public CursorResult<List<Submodel>> findAll(PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo);
+    }
+
+    @Override
+    public CursorResult<List<Submodel>> findAllById(Collection<String> ids, PaginationInfo pInfo) {
+        return paginationSupport.getPagedById(pInfo, ids);
     }
 
     @Override
     public CursorResult<List<Submodel>> getSubmodels(String semanticId, PaginationInfo pInfo) {
-        List<AggregationOperation> ops = new ArrayList<>();
+        return getSubmodels(semanticId, null, pInfo, Projection.DEFAULT);
+    }
 
-        ops.add(Aggregation.match(Criteria.where("semanticId.keys.value").is(semanticId)));
+    @Override
+    public CursorResult<List<Submodel>> getSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection) {
+        Criteria criteria = new Criteria();
+        if (semanticId != null)
+            criteria.and(SEMANTIC_ID_KEY).is(semanticId);
+        if (idShort != null)
+            criteria.and(ID_SHORT_KEY).is(idShort);
 
-        if (hasCursor(pInfo)) {
-            ops.add(Aggregation.match(Criteria.where("_id").gt(pInfo.getCursor())));
-        }
+        if (MongoProjectionBuilder.canPushDown(projection))
+            return paginationSupport.getPaged(pInfo, criteria, List.of(MongoProjectionBuilder.projectSubmodelElements(projection)));
 
-        ops.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, "_id")));
+        CursorResult<List<Submodel>> result = paginationSupport.getPaged(pInfo, criteria);
 
-        if (hasLimit(pInfo)) {
-            ops.add(Aggregation.limit(pInfo.getLimit()));
-        }
+        if (projection.isDefault())
+            return result;
 
-        Aggregation aggregation = Aggregation.newAggregation(ops);
-        AggregationResults<Submodel> results =
-                mongoOperations.aggregate(aggregation, collectionName, Submodel.class);
+        return new CursorResult<>(result.getCursor(), result.getResult().stream().map(submodel -> Projector.project(submodel, projection)).toList());
+    }
+
+    @Override
+    public CursorResult<List<Submodel>> query(QueryFilter<? super Submodel> filter, PaginationInfo pInfo) {
+        return paginationSupport.getPaged(pInfo, filter.getMongoPreFilter(), filter);
+    }
+
+    @Override
+    public Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException {
+        if (!MongoProjectionBuilder.canPushDown(projection))
+            return Projector.project(getSubmodel(submodelId), projection);
 
-        List<Submodel> submodels = results.getMappedResults();
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(Criteria.where("_id").is(submodelId)), MongoProjectionBuilder.projectSubmodelElements(projection));
+        Submodel submodel = mongoOperations.aggregate(aggregation, collectionName, Submodel.class).getUniqueMappedResult();
 
-        String nextCursor = submodels.isEmpty()
-                ? null
-                : submodels.get(submodels.size() - 1).getId();
+        if (submodel == null)
+            throw new ElementDoesNotExistException(submodelId);
 
-        return new CursorResult<>(nextCursor, submodels);
+        return submodel;
     }
 
     @Override
     public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+        return getSubmodelElements(submodelId, pInfo, Projection.DEFAULT);
+    }
+
+    @Override
+    public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException {
         List<AggregationOperation> ops = new ArrayList<>();
 
         ops.add(Aggregation.match(Criteria.where("_id").is(submodelId)));
 
+        boolean pushDown = MongoProjectionBuilder.canPushDown(projection);
+        if (pushDown)
+            ops.add(MongoProjectionBuilder.projectSubmodelElements(projection));
+
         if (hasCursor(pInfo)) {
             Document addCursorIndex = new Document("$addFields",
                     new Document("cursorIndex", new Document("$cond", Arrays.asList(new Document("$eq", Arrays.asList(new Document("$indexOfArray", Arrays.asList("$" + SUBMODEL_ELEMENTS_KEY + ".idShort", pInfo.getCursor())), -1)), 0,
@@ -140,6 +190,9 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
         if (!elements.isEmpty())
             nextCursor = elements.get(elements.size() - 1).getIdShort();
 
+        if (!pushDown)
+            elements = Projector.projectSubmodelElements(elements, projection);
+
         return new CursorResult<>(nextCursor, elements);
     }
 
@@ -160,6 +213,12 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
         }
     }
 
+    @Override
+    public SubmodelElement getSubmodelElement(String submodelId, String idShortPath, Projection projection) throws ElementDoesNotExistException {
+        // The element has already been extracted on the server side, so only its subtree is transferred
+        return Projector.project(getSubmodelElement(submodelId, idShortPath), projection);
+    }
+
     @Override
     public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
         Query query = new Query(Criteria.where("_id").is(submodelId));
@@ -172,6 +231,11 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
 
     @Override
     public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+        createSubmodelElementAndGetPath(submodelId, idShortPath, submodelElement);
+    }
+
+    @Override
+    public String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
         SubmodelElement parentSme = getSubmodelElement(submodelId, idShortPath);
 
         if (parentSme instanceof SubmodelElementList list) {
@@ -190,50 +254,74 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
             } catch (ClassCastException e) {
                 throw new SubmodelElementNotADataElementException(submodelElement.getIdShort());
             }
+        } else {
+            throw new ElementDoesNotExistException(SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parentSme, submodelElement));
         }
 
         updateSubmodelElement(submodelId, idShortPath, parentSme);
+
+        return SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parentSme, submodelElement);
     }
 
     @Override
     public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
-        List<SubmodelElement> parentElements = getParentElements(submodelId, idShortPath);
-        MongoFilterResult filterResult = MongoFilterBuilder.parse(idShortPath, parentElements);
+        // Optimistically assumes that all parents keep their children in 'value', which only requires a single round trip
+        if (setAtPath(submodelId, MongoFilterBuilder.parse(idShortPath), "", submodelElement))
+            return;
 
-        Query query = new Query(Criteria.where("_id").is(submodelId));
-        Update update = new Update().set(filterResult.key(), submodelElement);
+        MongoFilterResult filterResult = MongoFilterBuilder.parse(idShortPath, getParentElements(submodelId, idShortPath));
 
-        filterResult.filters().forEach(update::filterArray);
+        if (!setAtPath(submodelId, filterResult, "", submodelElement))
+            throw new ElementDoesNotExistException(idShortPath);
+    }
 
-        UpdateResult result = mongoOperations.updateFirst(query, update, collectionName);
+    /**
+     * Sets the passed value at the given field of the element addressed by the
+     * filter result
+     * 
+     * @return false if the addressed element does not exist
+     */
+    private boolean setAtPath(String submodelId, MongoFilterResult filterResult, String field, Object value) {
+        Query query = new Query(Criteria.where("_id").is(submodelId).andOperator(filterResult.pathCriteria()));
+        String key = field.isEmpty() ? filterResult.key() : filterResult.key() + "." + field;
+        Update update = value == null ? new Update().unset(key) : new Update().set(key, value);
 
-        if (result.getModifiedCount() == 0) {
-            if (!existsSubmodel(submodelId))
-                throw new ElementDoesNotExistException(submodelId);
-            if (!existsSubmodelElement(submodelId, idShortPath))
-                throw new ElementDoesNotExistException(idShortPath);
-        }
+        filterResult.filters().forEach(update::filterArray);
+
+        return mongoOperations.updateFirst(query, update, collectionName).getMatchedCount() > 0;
     }
 
     @Override
-    @Transactional
-    public synchronized void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-
-        Submodel submodel = getSubmodel(submodelId);
-        if (!SubmodelElementIdShortHelper.isNestedIdShortPath(idShortPath)) {
-            deleteFlatSubmodelElement(submodel, idShortPath);
-        }else {
-            deleteNestedSubmodelElement(submodel, idShortPath);
-        }
-        Update update = new Update().set(SUBMODEL_ELEMENTS_KEY, submodel.getSubmodelElements());
-        Query query = new Query(Criteria.where("_id").is(submodelId));
-        UpdateResult result = mongoOperations.updateFirst(query, update, collectionName);
-        if (result.getModifiedCount() == 0) {
-            if (!existsSubmodel(submodelId))
-                throw new ElementDoesNotExistException(submodelId);
-            if (!existsSubmodelElement(submodelId, idShortPath))
-                throw new ElementDoesNotExistException(idShortPath);
-        }
+    public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+        // Optimistically assumes that all parents keep their children in 'value', which only requires a single round trip
+        if (pullSubmodelElement(submodelId, idShortPath, List.of()))
+            return;
+
+        if (!pullSubmodelElement(submodelId, idShortPath, getParentElements(submodelId, idShortPath)))
+            throw new ElementDoesNotExistException(idShortPath);
+    }
+
+    /**
+     * Removes the addressed element from its parent array in place with a single
+     * update. Elements addressed by their idShort are pulled directly, whereas
+     * elements of SubmodelElementLists are sliced out by their index.
+     * 
+     * @return false if the addressed element does not exist
+     */
+    private boolean pullSubmodelElement(String submodelId, String idShortPath, List<SubmodelElement> parentElements) {
+        MongoFilterResult filterResult = MongoFilterBuilder.parse(idShortPath, parentElements);
+        Query query = new Query(Criteria.where("_id").is(submodelId).andOperator(filterResult.pathCriteria()));
+
+        if (!(IdShortPathParser.parse(idShortPath).peekLast() instanceof IdShortPath idPath))
+            return mongoOperations.updateFirst(query, MongoFilterBuilder.buildListItemRemoval(idShortPath, parentElements), collectionName).getMatchedCount() > 0;
+
+        String arrayKey = filterResult.key().substring(0, filterResult.key().lastIndexOf('.'));
+        List<CriteriaDefinition> filters = filterResult.filters();
+        Update pull = new Update().pull(arrayKey, new Document(MongoFilterBuilder.KEY_ID_SHORT, idPath.idShort()));
+        // The filter of the removed element itself is not referenced by the update
+        filters.subList(0, filters.size() - 1).forEach(pull::filterArray);
+
+        return mongoOperations.updateFirst(query, pull, collectionName).getMatchedCount() > 0;
     }
 
     private Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
@@ -247,49 +335,6 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
         return submodel;
     }
 
-    private static void deleteNestedSubmodelElement(Submodel submodel, String idShortPath) {
-        HierarchicalSubmodelElementParser parser = new HierarchicalSubmodelElementParser(submodel);
-        SubmodelElement sme = parser.getSubmodelElementFromIdShortPath(idShortPath);
-        if (SubmodelElementIdShortHelper.isDirectParentASubmodelElementList(idShortPath)) {
-            deleteNestedSubmodelElementFromList(parser, idShortPath, sme);
-        } else {
-            deleteNestedSubmodelElementFromCollectionOrEntity(parser, idShortPath, sme);
-        }
-    }
-    private static void deleteNestedSubmodelElementFromList(HierarchicalSubmodelElementParser parser, String idShortPath, SubmodelElement sme) {
-        String collectionId = SubmodelElementIdShortHelper.extractDirectParentSubmodelElementListIdShort(idShortPath);
-        SubmodelElementList list = (SubmodelElementList) parser.getSubmodelElementFromIdShortPath(collectionId);
-        list.getValue().remove(sme);
-    }
-
-    private static void deleteNestedSubmodelElementFromCollectionOrEntity(HierarchicalSubmodelElementParser parser, String idShortPath, SubmodelElement sme) {
-        String collectionId = SubmodelElementIdShortHelper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
-        SubmodelElement parent = parser.getSubmodelElementFromIdShortPath(collectionId);
-        if (parent instanceof SubmodelElementCollection collection) {
-            collection.getValue().remove(sme);
-        } else if (parent instanceof Entity entity) {
-            entity.getStatements().remove(sme);
-        }
-    }
-
-    private static void deleteFlatSubmodelElement(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
-        int index = findIndexOfElementTobeDeleted(submodel, idShortPath);
-        if (index >= 0) {
-            submodel.getSubmodelElements().remove(index);
-            return;
-        }
-        throw new ElementDoesNotExistException();
-    }
-
-    private static int findIndexOfElementTobeDeleted(Submodel submodel, String idShortPath) {
-        for (SubmodelElement sme : submodel.getSubmodelElements()) {
-            if (sme.getIdShort().equals(idShortPath)) {
-                return submodel.getSubmodelElements().indexOf(sme);
-            }
-        }
-        return -1;
-    }
-
     @Override
     public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
         BulkOperations bulkOps = mongoOperations.bulkOps(BulkOperations.BulkMode.ORDERED, collectionName);
@@ -310,54 +355,108 @@ public class MongoDbSubmodelOperations implements SubmodelOperations {
 
     @Override
     public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+        if (value instanceof PropertyValue propertyValue && setPropertyValue(submodelId, smeIdShort, propertyValue))
+            return;
+
+        readAndSetSubmodelElementValue(submodelId, smeIdShort, value);
+    }
+
+    @Override
+    public SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+        if (value instanceof PropertyValue propertyValue) {
+            SubmodelElement submodelElement = setPropertyValueAndGet(submodelId, smeIdShort, propertyValue);
+            if (submodelElement != null)
+                return submodelElement;
+        }
+
+        return readAndSetSubmodelElementValue(submodelId, smeIdShort, value);
+    }
+
+    private SubmodelElement readAndSetSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
         SubmodelElement submodelElement = getSubmodelElement(submodelId, smeIdShort);
         ValueMapper<SubmodelElementValue> valueMapper = SubmodelElementValueMapperFactory.create(submodelElement);
 
         valueMapper.setValue(value);
 
         updateSubmodelElement(submodelId, smeIdShort, submodelElement);
+
+        return submodelElement;
     }
 
-    private boolean existsSubmodel(String submodelId) {
-        return mongoOperations.exists(new Query(Criteria.where("_id").is(submodelId)), collectionName);
+    /**
+     * Writes the value of a Property in place without reading the element first
+     * 
+     * @return false if the element is not a DefaultProperty, or any of its parents
+     *         is an Entity or AnnotatedRelationshipElement, or it does not exist
+     */
+    private boolean setPropertyValue(String submodelId, String idShortPath, PropertyValue propertyValue) {
+        MongoFilterResult filterResult = MongoFilterBuilder.parse(idShortPath, List.of(), Map.of(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, DefaultProperty.class.getName()));
+
+        return setAtPath(submodelId, filterResult, MongoFilterBuilder.KEY_VALUE, propertyValue.getValue());
     }
 
-    private boolean existsSubmodelElement(String submodelId, String idShortPath){
-        try {
-            getSubmodelElement(submodelId, idShortPath);
-            return true;
-        } catch(ElementDoesNotExistException e) {
-            return false;
-        }
+    /**
+     * Writes the value of a Property in place and returns the written element from
+     * the same round trip. Only the top-level ancestor of the element is
+     * transferred back, from which the element is resolved locally.
+     * 
+     * @return null if the element is not a DefaultProperty, or any of its parents
+     *         is an Entity or AnnotatedRelationshipElement, or it does not exist
+     */
+    private SubmodelElement setPropertyValueAndGet(String submodelId, String idShortPath, PropertyValue propertyValue) {
+        MongoFilterResult filterResult = MongoFilterBuilder.parse(idShortPath, List.of(), Map.of(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, DefaultProperty.class.getName()));
+        String rootIdShort = ((IdShortPath) IdShortPathParser.parse(idShortPath).getFirst()).idShort();
+
+        Query query = new Query(Criteria.where("_id").is(submodelId).andOperator(filterResult.pathCriteria()));
+        query.fields().include(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY).elemMatch(SUBMODEL_ELEMENTS_KEY, Criteria.where(ID_SHORT_KEY).is(rootIdShort));
+
+        Update update = new Update().set(filterResult.key() + "." + MongoFilterBuilder.KEY_VALUE, propertyValue.getValue());
+        filterResult.filters().forEach(update::filterArray);
+
+        Submodel submodel = mongoOperations.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Submodel.class, collectionName);
+        if (submodel == null)
+            return null;
+
+        return new HierarchicalSubmodelElementParser(submodel).getSubmodelElementFromIdShortPath(idShortPath);
+    }
+
+    private boolean existsSubmodel(String submodelId) {
+        return mongoOperations.exists(new Query(Criteria.where("_id").is(submodelId)), collectionName);
     }
 
     /**
-     * Gets the list of parent SubmodelElements along the path.
+     * Gets the list of parent SubmodelElements along the path, resolved from a
+     * single read of the submodel.
      * This is used to determine if any parent is an Entity (which uses 'statements' instead of 'value').
      */
-    private List<SubmodelElement> getParentElements(String submodelId, String idShortPath) {
+    private List<SubmodelElement> getParentElements(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+        List<GenericPath> segments = new ArrayList<>(IdShortPathParser.parse(idShortPath));
         List<SubmodelElement> parents = new ArrayList<>();
-        String[] segments = idShortPath.split("\\.");
-        
-        if (segments.length <= 1) {
+
+        if (segments.size() <= 1) {
+            if (!existsSubmodel(submodelId))
+                throw new ElementDoesNotExistException(submodelId);
             return parents;
         }
-        
+
+        HierarchicalSubmodelElementParser parser = new HierarchicalSubmodelElementParser(getSubmodel(submodelId));
         StringBuilder currentPath = new StringBuilder();
-        for (int i = 0; i < segments.length - 1; i++) {
-            if (currentPath.length() > 0) {
-                currentPath.append(".");
+        for (GenericPath segment : segments.subList(0, segments.size() - 1)) {
+            if (segment instanceof IdShortPath idPath) {
+                if (currentPath.length() > 0)
+                    currentPath.append(".");
+                currentPath.append(idPath.idShort());
+            } else if (segment instanceof IndexPath ixPath) {
+                currentPath.append("[").append(ixPath.index()).append("]");
             }
-            currentPath.append(segments[i]);
+
             try {
-                SubmodelElement element = getSubmodelElement(submodelId, currentPath.toString());
-                parents.add(element);
+                parents.add(parser.getSubmodelElementFromIdShortPath(currentPath.toString()));
             } catch (ElementDoesNotExistException e) {
-                // Element doesn't exist, stop here
-                break;
+                throw new ElementDoesNotExistException(idShortPath);
             }
         }
-        
+
         return parents;
     }
 
@@ -28,7 +28,9 @@ package org.eclipse.digitaltwin.basyx.submodelservice.backend;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 
+import org.bson.Document;
 import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
@@ -36,7 +38,9 @@ import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.G
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.IdShortPath;
 import org.eclipse.digitaltwin.basyx.submodelservice.backend.IdShortPathParser.IndexPath;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators.IfNull;
 import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.UnwindOperation;
@@ -69,16 +73,37 @@ public final class MongoFilterBuilder{
      * @return MongoFilterResult with the update key and filters
      */
     public static MongoFilterResult parse(@NonNull String idShortPath, @NonNull List<SubmodelElement> parentElements) {
+        return parse(idShortPath, parentElements, Map.of());
+    }
+
+    /**
+     * Parses the idShortPath and builds MongoDB filter result.
+     * 
+     * Parents that are not contained in parentElements are assumed to store their
+     * children in 'value', i.e., to be SubmodelElementCollections or
+     * SubmodelElementLists. The path criteria of the result only match if the
+     * element exists under the resulting key, so that a wrong assumption can be
+     * detected by the matched count of the update.
+     * 
+     * @param idShortPath the path to parse
+     * @param parentElements list of parent SubmodelElements along the path (used to determine if Entity uses 'statements')
+     * @param targetConditions additional conditions on the fields of the addressed element, e.g., its type
+     * @return MongoFilterResult with the update key, filters and path criteria
+     */
+    public static MongoFilterResult parse(@NonNull String idShortPath, @NonNull List<SubmodelElement> parentElements, @NonNull Map<String, Object> targetConditions) {
         Deque<GenericPath> paths = IdShortPathParser.parse(idShortPath);
 
         assert !paths.isEmpty();
 
         StringBuilder updateKey = new StringBuilder();
         List<CriteriaDefinition> filterArray = new ArrayList<>();
+        List<String> childKeys = new ArrayList<>();
+        List<GenericPath> segments = new ArrayList<>(paths);
         int filterCounter = 0;
         int parentIndex = 0;
 
         updateKey.append(KEY_SUBMODEL_ELEMENTS);
+        childKeys.add(KEY_SUBMODEL_ELEMENTS);
 
         GenericPath rootPath = paths.pop();
 
@@ -93,6 +118,7 @@ public final class MongoFilterBuilder{
             // Determine the correct child key based on parent element type
             String childKey = getChildKey(parentElements, parentIndex);
             updateKey.append(".").append(childKey);
+            childKeys.add(childKey);
             parentIndex++;
             
             if (segment instanceof IdShortPath idPath) {
@@ -103,7 +129,9 @@ public final class MongoFilterBuilder{
                 updateKey.append(".").append(ixPath.index());
             }
         }
-        return new MongoFilterResult(updateKey.toString(), filterArray);
+
+        Criteria pathCriteria = buildPathCriteria(segments, childKeys, 0, "", targetConditions);
+        return new MongoFilterResult(updateKey.toString(), filterArray, pathCriteria);
     }
 
     public static List<AggregationOperation> buildAggregationOperations(@NonNull String submodelId, @NonNull String idShortPath) {
@@ -143,6 +171,95 @@ public final class MongoFilterBuilder{
         return ops;
     }
 
+    /**
+     * Builds a pipeline update removing the SubmodelElementList item addressed by
+     * the idShortPath, which has to end with an index. The arrays along the path
+     * are rebuilt with the item sliced out, so that the removal is a single atomic
+     * update without intermediate null entries.
+     * 
+     * @param idShortPath the path of the list item to remove
+     * @param parentElements list of parent SubmodelElements along the path (used to determine if Entity uses 'statements')
+     * @return the update removing the list item
+     */
+    public static AggregationUpdate buildListItemRemoval(@NonNull String idShortPath, @NonNull List<SubmodelElement> parentElements) {
+        List<GenericPath> segments = new ArrayList<>(IdShortPathParser.parse(idShortPath));
+
+        assert segments.get(segments.size() - 1) instanceof IndexPath;
+
+        Document expression = buildRemovalExpression(segments, parentElements, 0, "$" + KEY_SUBMODEL_ELEMENTS);
+        AggregationExpression removal = context -> expression;
+        return AggregationUpdate.update().set(KEY_SUBMODEL_ELEMENTS).toValueOf(removal);
+    }
+
+    private static Document buildRemovalExpression(List<GenericPath> segments, List<SubmodelElement> parentElements, int segmentIndex, String array) {
+        GenericPath segment = segments.get(segmentIndex);
+
+        if (segmentIndex == segments.size() - 1) {
+            int index = ((IndexPath) segment).index();
+            Document tail = new Document("$slice", List.of(array, index + 1, new Document("$size", array)));
+
+            if (index == 0)
+                return tail;
+
+            return new Document("$concatArrays", List.of(new Document("$slice", List.of(array, index)), tail));
+        }
+
+        String element = "elem" + segmentIndex;
+        String childKey = getChildKey(parentElements, segmentIndex);
+        Document child = buildRemovalExpression(segments, parentElements, segmentIndex + 1, joinKeys("$$" + element, childKey));
+        Document updated = new Document("$mergeObjects", List.of("$$" + element, new Document(childKey, child)));
+
+        if (segment instanceof IdShortPath idPath) {
+            Document matches = new Document("$eq", List.of(joinKeys("$$" + element, KEY_ID_SHORT), new Document("$literal", idPath.idShort())));
+            Document in = new Document("$cond", List.of(matches, updated, "$$" + element));
+            return new Document("$map", new Document("input", array).append("as", element).append("in", in));
+        }
+
+        String position = "pos" + segmentIndex;
+        Document matches = new Document("$eq", List.of("$$" + position, ((IndexPath) segment).index()));
+        Document vars = new Document(element, new Document("$arrayElemAt", List.of(array, "$$" + position)));
+        Document in = new Document("$let", new Document("vars", vars).append("in", new Document("$cond", List.of(matches, updated, "$$" + element))));
+        Document positions = new Document("$range", List.of(0, new Document("$size", array)));
+        return new Document("$map", new Document("input", positions).append("as", position).append("in", in));
+    }
+
+    /**
+     * Builds criteria matching documents which contain the element addressed by
+     * the segments, descending via $elemMatch for idShorts and via the array
+     * position for list indices
+     */
+    private static Criteria buildPathCriteria(List<GenericPath> segments, List<String> childKeys, int segmentIndex, String prefix, Map<String, Object> targetConditions) {
+        String path = prefix + childKeys.get(segmentIndex);
+        boolean isTarget = segmentIndex == segments.size() - 1;
+        GenericPath segment = segments.get(segmentIndex);
+
+        if (segment instanceof IndexPath ixPath) {
+            String indexedPath = joinKeys(path, String.valueOf(ixPath.index()));
+
+            if (!isTarget)
+                return buildPathCriteria(segments, childKeys, segmentIndex + 1, indexedPath + ".", targetConditions);
+
+            if (targetConditions.isEmpty())
+                return Criteria.where(indexedPath).exists(true);
+
+            return new Criteria().andOperator(buildTargetCriteria(indexedPath + ".", targetConditions));
+        }
+
+        List<Criteria> elementCriteria = new ArrayList<>();
+        elementCriteria.add(Criteria.where(KEY_ID_SHORT).is(((IdShortPath) segment).idShort()));
+
+        if (isTarget)
+            elementCriteria.addAll(buildTargetCriteria("", targetConditions));
+        else
+            elementCriteria.add(buildPathCriteria(segments, childKeys, segmentIndex + 1, "", targetConditions));
+
+        return Criteria.where(path).elemMatch(new Criteria().andOperator(elementCriteria));
+    }
+
+    private static List<Criteria> buildTargetCriteria(String prefix, Map<String, Object> targetConditions) {
+        return targetConditions.entrySet().stream().map(e -> Criteria.where(prefix + e.getKey()).is(e.getValue())).toList();
+    }
+
     /**
      * Determines the correct child key based on the parent element type.
      * - Entity uses 'statements'
@@ -174,6 +291,6 @@ public final class MongoFilterBuilder{
         return sb.substring(0, sb.length() - 1);
     }
 
-    public record MongoFilterResult(String key, List<CriteriaDefinition> filters) {
+    public record MongoFilterResult(String key, List<CriteriaDefinition> filters, Criteria pathCriteria) {
     }
 }
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+
+/**
+ * Builds the aggregation stages that apply a {@link Projection} to the
+ * SubmodelElements of Submodel documents on the server side.
+ * 
+ * Only projections with {@link Projection#isCore()} can be pushed down, as the
+ * Blobs are then at most nested one level below the Submodel. Omitting the
+ * values of arbitrarily deeply nested Blobs would require a recursive
+ * expression, which MongoDB does not support.
+ * 
+ * @author agent
+ * 
+ */
+final class MongoProjectionBuilder {
+    private static final String TYPE_KEY = "$$element." + DefaultMongoTypeMapper.DEFAULT_TYPE_KEY;
+
+    private MongoProjectionBuilder() {
+    }
+
+    /**
+     * @return true if the projection can be applied by
+     *         {@link #projectSubmodelElements(Projection)}
+     */
+    static boolean canPushDown(Projection projection) {
+        return projection.isCore();
+    }
+
+    /**
+     * Builds a stage replacing the SubmodelElements of a Submodel document by
+     * their projection, i.e., the children of the SubmodelElements are emptied
+     * and, if requested, the values of the Blobs are removed.
+     * 
+     * @param projection
+     *            has to be {@link #canPushDown(Projection) pushable}
+     * @return the stage
+     */
+    static AggregationOperation projectSubmodelElements(Projection projection) {
+        if (!canPushDown(projection))
+            throw new IllegalArgumentException("Projection " + projection + " cannot be pushed down");
+
+        List<Document> branches = new ArrayList<>();
+        branches.add(branch(typeIn(DefaultSubmodelElementCollection.class, DefaultSubmodelElementList.class), MongoFilterBuilder.KEY_VALUE, List.of()));
+        branches.add(branch(typeIn(DefaultEntity.class), MongoFilterBuilder.KEY_STATEMENTS, List.of()));
+        branches.add(branch(typeIn(DefaultAnnotatedRelationshipElement.class), MongoFilterBuilder.KEY_ANNOTATIONS, List.of()));
+
+        if (projection.isWithoutBlobValue())
+            branches.add(branch(typeIn(DefaultBlob.class), MongoFilterBuilder.KEY_VALUE, null));
+
+        Document projectedElement = new Document("$mergeObjects", List.of("$$element", chain(branches)));
+        Document map = new Document("$map", new Document("input", "$" + MongoFilterBuilder.KEY_SUBMODEL_ELEMENTS).append("as", "element").append("in", projectedElement));
+        Document stage = new Document("$addFields", new Document(MongoFilterBuilder.KEY_SUBMODEL_ELEMENTS, map));
+
+        return context -> stage;
+    }
+
+    private static Document typeIn(Class<?>... types) {
+        List<String> typeNames = new ArrayList<>();
+        for (Class<?> type : types)
+            typeNames.add(type.getName());
+
+        return new Document("$in", List.of(TYPE_KEY, typeNames));
+    }
+
+    private static Document branch(Document condition, String key, Object replacement) {
+        return new Document("if", condition).append("then", new Document(key, replacement));
+    }
+
+    /**
+     * Nests the branches into <code>$cond</code> expressions instead of using
+     * <code>$switch</code>, which is not supported by all MongoDB compatible
+     * servers
+     */
+    private static Document chain(List<Document> branches) {
+        Document projected = new Document();
+        for (int i = branches.size() - 1; i >= 0; i--)
+            projected = new Document("$cond", new Document(branches.get(i)).append("else", projected));
+
+        return projected;
+    }
+}
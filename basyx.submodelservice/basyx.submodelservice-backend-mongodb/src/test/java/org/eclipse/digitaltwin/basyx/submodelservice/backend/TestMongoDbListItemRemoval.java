@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.backend;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Verifies the pipeline update that removes SubmodelElementList items of the
+ * {@link MongoDbSubmodelOperations} against a real MongoDB, as the in-process
+ * server of {@link TestMongoDbSubmodelOperations} cannot run it
+ * 
+ * @author agent
+ *
+ */
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class TestMongoDbListItemRemoval {
+	private static final String SUBMODEL_ID = TestMongoDbSubmodelOperations.SUBMODEL_ID;
+
+	@Autowired
+	private MongoTemplate template;
+
+	private MongoDbSubmodelOperations operations;
+
+	@Before
+	public void init() {
+		operations = new MongoDbSubmodelOperations(template);
+		template.save(TestMongoDbSubmodelOperations.createSubmodel(), template.getCollectionName(Submodel.class));
+	}
+
+	@After
+	public void clear() {
+		template.remove(new Query(Criteria.where("_id").is(SUBMODEL_ID)), Submodel.class);
+	}
+
+	@Test
+	public void listElementIsRemovedByIndex() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C.L[0]");
+
+		assertEquals("1", getPropertyValue("C.L[0].P"));
+		assertElementDoesNotExist("C.L[1]");
+	}
+
+	@Test
+	public void lastListElementIsRemoved() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C.L[1]");
+
+		assertEquals("0", getPropertyValue("C.L[0].P"));
+		assertElementDoesNotExist("C.L[1]");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void deletionOfMissingListElement() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C.L[2]");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void deletionOfListElementInMissingSubmodel() {
+		operations.deleteSubmodelElement("missing", "C.L[0]");
+	}
+
+	private void assertElementDoesNotExist(String idShortPath) {
+		try {
+			operations.getSubmodelElement(SUBMODEL_ID, idShortPath);
+		} catch (ElementDoesNotExistException e) {
+			return;
+		}
+
+		throw new AssertionError("Expected " + idShortPath + " to not exist");
+	}
+
+	private String getPropertyValue(String idShortPath) {
+		return ((Property) operations.getSubmodelElement(SUBMODEL_ID, idShortPath)).getValue();
+	}
+}
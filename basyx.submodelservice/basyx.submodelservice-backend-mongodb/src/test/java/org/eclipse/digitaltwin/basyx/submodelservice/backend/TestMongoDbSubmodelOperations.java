@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.backend;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryFilter;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Verifies that nested SubmodelElements are updated and deleted by the
+ * {@link MongoDbSubmodelOperations} with a single round trip to an in-process
+ * MongoDB server
+ * 
+ * @author agent
+ *
+ */
+public class TestMongoDbSubmodelOperations {
+	static final String SUBMODEL_ID = "http://basyx.eclipse.org/test/mongo/submodel";
+
+	private static MongoServer server;
+	private static MongoClient client;
+	private static final AtomicInteger commandCount = new AtomicInteger();
+
+	private MongoTemplate template;
+	private MongoDbSubmodelOperations operations;
+
+	@BeforeClass
+	public static void startServer() {
+		server = new MongoServer(new MemoryBackend());
+
+		CommandListener counter = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				commandCount.incrementAndGet();
+			}
+		};
+
+		MongoClientSettings settings = MongoClientSettings.builder().applyConnectionString(new ConnectionString(server.bindAndGetConnectionString())).addCommandListener(counter).build();
+		client = MongoClients.create(settings);
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		client.close();
+		server.shutdownNow();
+	}
+
+	@Before
+	public void init() {
+		template = new MongoTemplate(client, "aas-env");
+		operations = new MongoDbSubmodelOperations(template);
+		template.save(createSubmodel(), template.getCollectionName(Submodel.class));
+	}
+
+	@After
+	public void clear() {
+		template.dropCollection(Submodel.class);
+	}
+
+	@Test
+	public void nestedUpdateIsSingleRoundTrip() {
+		commandCount.set(0);
+		operations.updateSubmodelElement(SUBMODEL_ID, "C.L[1].P", createProperty("P", "updated"));
+
+		assertEquals(1, commandCount.get());
+		assertEquals("updated", getPropertyValue("C.L[1].P"));
+		assertEquals("0", getPropertyValue("C.L[0].P"));
+	}
+
+	@Test
+	public void propertyValueIsSetInSingleRoundTrip() {
+		commandCount.set(0);
+		operations.setSubmodelElementValue(SUBMODEL_ID, "C.L[0].P", new PropertyValue("42"));
+
+		assertEquals(1, commandCount.get());
+		assertEquals("42", getPropertyValue("C.L[0].P"));
+	}
+
+	@Test
+	public void propertyValueIsSetAndReturnedInSingleRoundTrip() {
+		commandCount.set(0);
+		SubmodelElement written = operations.setSubmodelElementValueAndGet(SUBMODEL_ID, "C.L[1].P", new PropertyValue("42"));
+
+		assertEquals(1, commandCount.get());
+		assertEquals("42", ((Property) written).getValue());
+		assertEquals("P", written.getIdShort());
+		assertEquals("42", getPropertyValue("C.L[1].P"));
+	}
+
+	@Test
+	public void valueBelowEntityIsSetAndReturned() {
+		SubmodelElement written = operations.setSubmodelElementValueAndGet(SUBMODEL_ID, "E.C.P", new PropertyValue("42"));
+
+		assertEquals("42", ((Property) written).getValue());
+		assertEquals("42", getPropertyValue("E.C.P"));
+	}
+
+	@Test
+	public void createdPathIsReturned() {
+		assertEquals("C.L[2]", operations.createSubmodelElementAndGetPath(SUBMODEL_ID, "C.L", new DefaultSubmodelElementCollection.Builder().build()));
+		assertEquals("C.N", operations.createSubmodelElementAndGetPath(SUBMODEL_ID, "C", createProperty("N", "0")));
+		assertEquals("0", getPropertyValue("C.N"));
+	}
+
+	@Test
+	public void unchangedValueIsNotReportedAsMissing() {
+		operations.setSubmodelElementValue(SUBMODEL_ID, "C.L[0].P", new PropertyValue("0"));
+
+		assertEquals("0", getPropertyValue("C.L[0].P"));
+	}
+
+	@Test
+	public void elementBelowEntityIsUpdated() {
+		operations.updateSubmodelElement(SUBMODEL_ID, "E.C.P", createProperty("P", "updated"));
+		operations.setSubmodelElementValue(SUBMODEL_ID, "E.C.P", new PropertyValue("42"));
+
+		assertEquals("42", getPropertyValue("E.C.P"));
+	}
+
+	@Test
+	public void nestedElementIsPulledInSingleRoundTrip() {
+		commandCount.set(0);
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C.L[1].P");
+
+		assertEquals(1, commandCount.get());
+		assertElementDoesNotExist("C.L[1].P");
+		assertEquals("0", getPropertyValue("C.L[0].P"));
+	}
+
+	@Test
+	public void listItemRemovalIsBuiltByIndex() {
+		assertEquals(List.of("1"), getListValuesAfterRemoval("C.L[0]"));
+		assertEquals(List.of("0"), getListValuesAfterRemoval("C.L[1]"));
+	}
+
+	@Test
+	public void elementBelowEntityIsDeleted() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "E.C.P");
+
+		assertElementDoesNotExist("E.C.P");
+		operations.getSubmodelElement(SUBMODEL_ID, "E.C");
+	}
+
+	@Test
+	public void topLevelElementIsDeleted() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C");
+
+		assertElementDoesNotExist("C");
+		operations.getSubmodelElement(SUBMODEL_ID, "E");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void deletionOfMissingElement() {
+		operations.deleteSubmodelElement(SUBMODEL_ID, "C.M");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void updateOfMissingElement() {
+		operations.updateSubmodelElement(SUBMODEL_ID, "C.L[5].P", createProperty("P", "updated"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void updateInMissingSubmodel() {
+		operations.updateSubmodelElement("missing", "C", createProperty("C", "updated"));
+	}
+
+	@Test
+	public void queryTestsOnlyPreFilteredSubmodels() {
+		for (int i = 0; i < 4; i++)
+			template.save(new DefaultSubmodel.Builder().id("sm" + i).idShort(i % 2 == 0 ? "even" : "odd").build(), template.getCollectionName(Submodel.class));
+
+		List<String> tested = new ArrayList<>();
+		QueryFilter<Submodel> filter = new QueryFilter<>() {
+			@Override
+			public boolean test(Submodel submodel) {
+				tested.add(submodel.getId());
+				return !submodel.getId().equals("sm0");
+			}
+
+			@Override
+			public Map<String, Object> getMongoPreFilter() {
+				return Map.of("idShort", "even");
+			}
+		};
+
+		CursorResult<List<Submodel>> page = operations.query(filter, new PaginationInfo(1, null));
+
+		assertEquals(List.of("sm2"), page.getResult().stream().map(Submodel::getId).toList());
+		assertEquals(List.of("sm0", "sm2"), tested);
+		assertEquals("sm2", page.getCursor());
+	}
+
+	private void assertElementDoesNotExist(String idShortPath) {
+		try {
+			operations.getSubmodelElement(SUBMODEL_ID, idShortPath);
+		} catch (ElementDoesNotExistException e) {
+			return;
+		}
+
+		throw new AssertionError("Expected " + idShortPath + " to not exist");
+	}
+
+	/**
+	 * The in-process server does not support pipeline updates, so the removal is
+	 * evaluated as an equivalent $addFields stage instead. The update itself is
+	 * verified against a real MongoDB by {@link TestMongoDbListItemRemoval}.
+	 */
+	private List<String> getListValuesAfterRemoval(String idShortPath) {
+		Document set = MongoFilterBuilder.buildListItemRemoval(idShortPath, List.of()).toPipeline(Aggregation.DEFAULT_CONTEXT).get(0);
+		List<Document> pipeline = List.of(new Document("$match", new Document("_id", SUBMODEL_ID)), new Document("$addFields", set.get("$set")));
+		Document result = template.getCollection(template.getCollectionName(Submodel.class)).aggregate(pipeline).first();
+
+		Submodel submodel = template.getConverter().read(Submodel.class, result);
+		SubmodelElementList list = (SubmodelElementList) new HierarchicalSubmodelElementParser(submodel).getSubmodelElementFromIdShortPath("C.L");
+		return list.getValue().stream().map(item -> ((Property) ((SubmodelElementCollection) item).getValue().get(0)).getValue()).toList();
+	}
+
+	private String getPropertyValue(String idShortPath) {
+		return ((Property) operations.getSubmodelElement(SUBMODEL_ID, idShortPath)).getValue();
+	}
+
+	static Submodel createSubmodel() {
+		List<SubmodelElement> listElements = new ArrayList<>();
+		for (int i = 0; i < 2; i++)
+			listElements.add(new DefaultSubmodelElementCollection.Builder().value(new ArrayList<>(List.of(createProperty("P", String.valueOf(i))))).build());
+
+		SubmodelElement list = new DefaultSubmodelElementList.Builder().idShort("L").value(listElements).build();
+		SubmodelElement collection = new DefaultSubmodelElementCollection.Builder().idShort("C").value(new ArrayList<>(List.of(list))).build();
+
+		SubmodelElement entityCollection = new DefaultSubmodelElementCollection.Builder().idShort("C").value(new ArrayList<>(List.of(createProperty("P", "0")))).build();
+		SubmodelElement entity = new DefaultEntity.Builder().idShort("E").statements(new ArrayList<>(List.of(entityCollection))).build();
+
+		return new DefaultSubmodel.Builder().id(SUBMODEL_ID).submodelElements(new ArrayList<>(List.of(collection, entity))).build();
+	}
+
+	static Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort).value(value).valueType(DataTypeDefXsd.STRING).build();
+	}
+}
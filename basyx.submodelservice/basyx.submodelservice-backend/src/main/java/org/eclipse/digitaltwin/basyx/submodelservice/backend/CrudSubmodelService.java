@@ -37,6 +37,7 @@ import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.operation.InvokableOperation;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,16 +76,31 @@ public class CrudSubmodelService implements SubmodelService {
         return this.backend.findById(this.submodelId).orElseThrow(ElementDoesNotExistException::new);
     }
 
+    @Override
+    public Submodel getSubmodel(Projection projection) {
+        return backend.getSubmodel(submodelId, projection);
+    }
+
     @Override
     public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
         return backend.getSubmodelElements(submodelId, pInfo);
     }
 
+    @Override
+    public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+        return backend.getSubmodelElements(submodelId, pInfo, projection);
+    }
+
     @Override
     public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
         return backend.getSubmodelElement(submodelId, idShortPath);
     }
 
+    @Override
+    public SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+        return backend.getSubmodelElement(submodelId, idShortPath, projection);
+    }
+
     @Override
     public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
         return backend.getSubmodelElementValue(submodelId, idShortPath);
@@ -95,6 +111,11 @@ public class CrudSubmodelService implements SubmodelService {
         backend.setSubmodelElementValue(submodelId, idShortPath, value);
     }
 
+    @Override
+    public SubmodelElement setSubmodelElementValueAndGet(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+        return backend.setSubmodelElementValueAndGet(submodelId, idShortPath, value);
+    }
+
     @Override
     public void createSubmodelElement(SubmodelElement submodelElement) {
         backend.createSubmodelElement(submodelId, submodelElement);
@@ -105,6 +126,11 @@ public class CrudSubmodelService implements SubmodelService {
         backend.createSubmodelElement(submodelId, idShortPath, submodelElement);
     }
 
+    @Override
+    public String createSubmodelElementAndGetPath(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+        return backend.createSubmodelElementAndGetPath(submodelId, idShortPath, submodelElement);
+    }
+
     @Override
     public void updateSubmodelElement(String idShortPath, SubmodelElement newElement) throws ElementDoesNotExistException {
         SubmodelElement existingSubmodelElement = backend.getSubmodelElement(submodelId, idShortPath);
@@ -152,9 +178,19 @@ public class CrudSubmodelService implements SubmodelService {
 
     @Override
     public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
-        deleteAssociatedFileIfAny(idShortPath);
+        getAndDeleteSubmodelElement(idShortPath);
+    }
+
+    @Override
+    public SubmodelElement getAndDeleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+        SubmodelElement submodelElement = backend.getSubmodelElement(submodelId, idShortPath);
+
+        if (submodelElement instanceof org.eclipse.digitaltwin.aas4j.v3.model.File)
+            deleteAssociatedFileIfAny(idShortPath);
 
         backend.deleteSubmodelElement(submodelId, idShortPath);
+
+        return submodelElement;
     }
 
     @Override
@@ -29,7 +29,10 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginatedRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.query.QueryableRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 
 import java.util.List;
@@ -40,7 +43,7 @@ import java.util.List;
  * 
  * @author mateusmolina
  */
-public interface SubmodelOperations {
+public interface SubmodelOperations extends PaginatedRepository<Submodel>, QueryableRepository<Submodel> {
 
 	/**
 	 * Retrieves all Submodels with pagination support.
@@ -50,6 +53,28 @@ public interface SubmodelOperations {
 	 */
 	CursorResult<List<Submodel>> getSubmodels(String semanticId, PaginationInfo pInfo);
 
+	/**
+	 * Retrieves all Submodels matching the given filters with the given projection
+	 * applied.
+	 *
+	 * @param semanticId the semanticId to filter for, or null
+	 * @param idShort    the idShort to filter for, or null
+	 * @param pInfo      the pagination information
+	 * @param projection the requested level and extent
+	 * @return a {@code CursorResult} containing a list of projected Submodels
+	 */
+	CursorResult<List<Submodel>> getSubmodels(String semanticId, String idShort, PaginationInfo pInfo, Projection projection);
+
+	/**
+	 * Retrieves a Submodel with the given projection applied.
+	 *
+	 * @param submodelId the identifier of the Submodel
+	 * @param projection the requested level and extent
+	 * @return the projected Submodel
+	 * @throws ElementDoesNotExistException if the Submodel does not exist
+	 */
+	Submodel getSubmodel(String submodelId, Projection projection) throws ElementDoesNotExistException;
+
 	/**
 	 * Retrieves all Submodel Elements for the given Submodel.
 	 *
@@ -60,6 +85,18 @@ public interface SubmodelOperations {
 	 */
 	CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves all Submodel Elements for the given Submodel with the given
+	 * projection applied. The level is relative to the Submodel.
+	 *
+	 * @param submodelId the identifier of the Submodel
+	 * @param pInfo      the pagination information
+	 * @param projection the requested level and extent
+	 * @return a {@code CursorResult} containing a list of projected Submodel Elements
+	 * @throws ElementDoesNotExistException if the Submodel with the specified {@code submodelId} does not exist
+	 */
+	CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, Projection projection) throws ElementDoesNotExistException;
+
 	/**
 	 * Retrieves a specific Submodel Element from the given Submodel.
 	 *
@@ -70,6 +107,18 @@ public interface SubmodelOperations {
 	 */
 	SubmodelElement getSubmodelElement(String submodelId, String smeIdShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves a specific Submodel Element from the given Submodel with the given
+	 * projection applied.
+	 *
+	 * @param submodelId     the identifier of the Submodel
+	 * @param smeIdShortPath the short path of the Submodel Element
+	 * @param projection     the requested level and extent
+	 * @return the projected Submodel Element
+	 * @throws ElementDoesNotExistException if the Submodel or Submodel Element does not exist
+	 */
+	SubmodelElement getSubmodelElement(String submodelId, String smeIdShortPath, Projection projection) throws ElementDoesNotExistException;
+
 	/**
 	 * Retrieves the value of a specific Submodel Element.
 	 *
@@ -90,6 +139,18 @@ public interface SubmodelOperations {
 	 */
 	void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException;
 
+	/**
+	 * Sets the value of a specific Submodel Element and returns the element as
+	 * written, so that callers do not need to read it again.
+	 *
+	 * @param submodelId the identifier of the Submodel
+	 * @param smeIdShort the short identifier of the Submodel Element
+	 * @param value      the new value to be set
+	 * @return the Submodel Element with the new value
+	 * @throws ElementDoesNotExistException if the Submodel or Submodel Element does not exist
+	 */
+	SubmodelElement setSubmodelElementValueAndGet(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException;
+
 	/**
 	 * Creates a new Submodel Element in the specified Submodel.
 	 *
@@ -108,6 +169,19 @@ public interface SubmodelOperations {
 	 */
 	void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException;
 
+	/**
+	 * Creates a new Submodel Element at the specified path within a Submodel and
+	 * returns the idShortPath of the created element. Elements added to a
+	 * SubmodelElementList are addressed by their index.
+	 *
+	 * @param submodelId  the identifier of the Submodel
+	 * @param idShortPath the short path where the Submodel Element should be created
+	 * @param smElement   the Submodel Element to be created
+	 * @return the idShortPath of the created Submodel Element
+	 * @throws ElementDoesNotExistException if the Submodel does not exist
+	 */
+	String createSubmodelElementAndGetPath(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException;
+
 	/**
 	 * Updates an existing Submodel Element.
 	 *
@@ -48,6 +48,7 @@ import org.eclipse.digitaltwin.basyx.http.Base64UrlEncoder;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.client.internal.SubmodelServiceApi;
 import org.eclipse.digitaltwin.basyx.submodelservice.client.internal.SubmodelServiceApiFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 import org.springframework.http.HttpStatus;
@@ -85,6 +86,11 @@ public class ConnectedSubmodelService implements SubmodelService {
 		return serviceApi.getSubmodel("", "");
 	}
 
+	@Override
+	public Submodel getSubmodel(Projection projection) {
+		return serviceApi.getSubmodel(projection.getLevel().getParameterValue(), projection.getExtent().getParameterValue());
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		try {
@@ -94,6 +100,15 @@ public class ConnectedSubmodelService implements SubmodelService {
 		}
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+		try {
+			return serviceApi.getSubmodelElementByPath(idShortPath, projection.getLevel().getParameterValue(), projection.getExtent().getParameterValue());
+		} catch (ApiException e) {
+			throw mapExceptionSubmodelElementAccess(idShortPath, e);
+		}
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
 		try {
@@ -150,6 +165,12 @@ public class ConnectedSubmodelService implements SubmodelService {
 		return serviceApi.getAllSubmodelElements(pInfo.getLimit(), encodedCursor, null, null);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+		String encodedCursor = pInfo.getCursor() == null ? null : Base64UrlEncoder.encode(pInfo.getCursor());
+		return serviceApi.getAllSubmodelElements(pInfo.getLimit(), encodedCursor, projection.getLevel().getParameterValue(), projection.getExtent().getParameterValue());
+	}
+
 	/**
 	 * Invoke synchronously
 	 */
@@ -25,12 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.serialization;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
-import org.eclipse.digitaltwin.basyx.core.exceptions.FailedToDeepCopyException;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 
 public final class SubmodelMetadataUtil {
 
@@ -39,35 +35,31 @@ public final class SubmodelMetadataUtil {
 
     /**
      * Returns a new submodel that only contains the metadata of the given submodel.
+     * 
+     * The metadata attributes are shared with the given submodel, while its
+     * submodel elements are not accessed at all. Thus, the cost does not depend
+     * on the number of submodel elements.
      *
      * @param submodel
      * @return A new submodel with the metadata of the given submodel.
      */
     public static Submodel extractMetadata(Submodel submodel) {
-        Submodel submodelDeepCopy = deepCopy(submodel);
-
-        submodelDeepCopy.setSubmodelElements(null);
-
-        return submodelDeepCopy;
-    }
-
-    /**
-     * Deep copy a submodel.
-     * 
-     * @param submodel
-     * @return A deep copy of the submodel.
-     * 
-     * @throws FailedToDeepCopyException
-     * 
-     */
-    private static Submodel deepCopy(Submodel submodel) {
-        try {
-            String submodelAsJSON = new JsonSerializer().write(submodel);
+        Submodel metadata = new DefaultSubmodel();
 
-            return new JsonDeserializer().read(submodelAsJSON, Submodel.class);
+        metadata.setExtensions(submodel.getExtensions());
+        metadata.setCategory(submodel.getCategory());
+        metadata.setIdShort(submodel.getIdShort());
+        metadata.setDisplayName(submodel.getDisplayName());
+        metadata.setDescription(submodel.getDescription());
+        metadata.setAdministration(submodel.getAdministration());
+        metadata.setId(submodel.getId());
+        metadata.setKind(submodel.getKind());
+        metadata.setSemanticId(submodel.getSemanticId());
+        metadata.setSupplementalSemanticIds(submodel.getSupplementalSemanticIds());
+        metadata.setQualifiers(submodel.getQualifiers());
+        metadata.setEmbeddedDataSpecifications(submodel.getEmbeddedDataSpecifications());
+        metadata.setSubmodelElements(null);
 
-        } catch (DeserializationException | SerializationException e) {
-            throw new FailedToDeepCopyException(submodel.getId(), e);
-        }
+        return metadata;
     }
 }
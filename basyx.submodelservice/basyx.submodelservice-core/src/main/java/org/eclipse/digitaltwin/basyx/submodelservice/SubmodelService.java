@@ -39,6 +39,9 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projector;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 
 /**
@@ -71,6 +74,49 @@ public interface SubmodelService {
 	 */
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the Submodel contained in the service with the given projection
+	 * applied
+	 * 
+	 * @param projection
+	 *            the requested level and extent
+	 * @return the projected Submodel
+	 */
+	public default Submodel getSubmodel(Projection projection) {
+		return Projector.project(getSubmodel(), projection);
+	}
+
+	/**
+	 * Retrieves all submodelElements contained in the Submodel with the given
+	 * projection applied
+	 * 
+	 * @param pInfo
+	 * @param projection
+	 *            the requested level and extent
+	 * @return the projected SubmodelElements
+	 */
+	public default CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+		CursorResult<List<SubmodelElement>> result = getSubmodelElements(pInfo);
+
+		return new CursorResult<>(result.getCursor(), Projector.projectSubmodelElements(result.getResult(), projection));
+	}
+
+	/**
+	 * Retrieve specific SubmodelElement of the Submodel with the given projection
+	 * applied
+	 *
+	 * @param idShortPath
+	 *            the SubmodelElement IdShort
+	 * @param projection
+	 *            the requested level and extent
+	 * @return the projected SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement does not exist
+	 */
+	public default SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+		return Projector.project(getSubmodelElement(idShortPath), projection);
+	}
+
 	/**
 	 * Retrieves the value of a specific SubmodelElement of the Submodel
 	 * 
@@ -91,6 +137,20 @@ public interface SubmodelService {
 	 */
 	public void setSubmodelElementValue(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException;
 
+	/**
+	 * Sets the value of a specific SubmodelElement of the Submodel and returns the
+	 * element with the new value
+	 * 
+	 * @param idShortPath the SubmodelElement IdShortPath
+	 * @param value       the new value
+	 * @return the SubmodelElement as written
+	 * @throws ElementDoesNotExistException if the SubmodelElement does not exist
+	 */
+	public default SubmodelElement setSubmodelElementValueAndGet(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		setSubmodelElementValue(idShortPath, value);
+		return getSubmodelElement(idShortPath);
+	}
+
 	/**
 	 * Creates a Submodel Element
 	 * 
@@ -108,6 +168,23 @@ public interface SubmodelService {
 	 *             If the submodel element defined in the path does not exist
 	 */
 	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException;
+
+	/**
+	 * Create a nested submodel element and returns the IdShortPath it has been
+	 * created at
+	 * 
+	 * @param idShortPath
+	 *            the IdShortPath of the parent SubmodelElement
+	 * @param submodelElement
+	 *            the submodel element to be created
+	 * @return the IdShortPath of the created submodel element
+	 * @throws ElementDoesNotExistException
+	 *             If the submodel element defined in the path does not exist
+	 */
+	public default String createSubmodelElementAndGetPath(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		createSubmodelElement(idShortPath, submodelElement);
+		return SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, getSubmodelElement(idShortPath), submodelElement);
+	}
 	
 	/**
 	 * Updates a submodel element
@@ -129,6 +206,22 @@ public interface SubmodelService {
 	 */
 	public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Delete a submodel element in a submodel and returns its state before the
+	 * deletion
+	 * 
+	 * @param idShortPath
+	 *            the SubmodelElement IdShortPath
+	 * @return the deleted submodel element
+	 * @throws ElementDoesNotExistException
+	 *             If the submodel element defined in the path does not exist
+	 */
+	public default SubmodelElement getAndDeleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = getSubmodelElement(idShortPath);
+		deleteSubmodelElement(idShortPath);
+		return submodelElement;
+	}
+
 	/**
 	 * Replaces the submodel elements in a submodel
 	 * 
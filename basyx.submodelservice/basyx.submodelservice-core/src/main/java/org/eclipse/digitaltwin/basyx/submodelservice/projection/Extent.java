@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.projection;
+
+/**
+ * Extent to which a requested resource is serialized as defined by the
+ * <i>extent</i> query parameter of the AAS API
+ * 
+ * @author agent
+ *
+ */
+public enum Extent {
+	/**
+	 * The values of Blobs are included
+	 */
+	WITH_BLOB_VALUE("withBlobValue"),
+
+	/**
+	 * The values of Blobs are omitted
+	 */
+	WITHOUT_BLOB_VALUE("withoutBlobValue");
+
+	private final String parameterValue;
+
+	Extent(String parameterValue) {
+		this.parameterValue = parameterValue;
+	}
+
+	public String getParameterValue() {
+		return parameterValue;
+	}
+
+	/**
+	 * Parses the value of the <i>extent</i> query parameter
+	 * 
+	 * @param parameterValue
+	 *            the parameter value, null or empty for the default
+	 * @return the corresponding Extent, {@link #WITH_BLOB_VALUE} if no value is
+	 *         passed
+	 * @throws IllegalArgumentException
+	 *             if the value is not a valid extent
+	 */
+	public static Extent fromParameterValue(String parameterValue) {
+		if (parameterValue == null || parameterValue.isEmpty())
+			return WITH_BLOB_VALUE;
+
+		for (Extent extent : values()) {
+			if (extent.parameterValue.equals(parameterValue))
+				return extent;
+		}
+
+		throw new IllegalArgumentException("Invalid extent '" + parameterValue + "', expected one of 'withBlobValue' or 'withoutBlobValue'");
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.projection;
+
+/**
+ * Structural depth of a requested resource as defined by the <i>level</i>
+ * query parameter of the AAS API
+ * 
+ * @author agent
+ *
+ */
+public enum Level {
+	/**
+	 * The resource is returned with all of its children, recursively
+	 */
+	DEEP("deep"),
+
+	/**
+	 * The resource is returned with its direct children only. Children of the
+	 * direct children are omitted.
+	 */
+	CORE("core");
+
+	private final String parameterValue;
+
+	Level(String parameterValue) {
+		this.parameterValue = parameterValue;
+	}
+
+	public String getParameterValue() {
+		return parameterValue;
+	}
+
+	/**
+	 * Parses the value of the <i>level</i> query parameter
+	 * 
+	 * @param parameterValue
+	 *            the parameter value, null or empty for the default
+	 * @return the corresponding Level, {@link #DEEP} if no value is passed
+	 * @throws IllegalArgumentException
+	 *             if the value is not a valid level
+	 */
+	public static Level fromParameterValue(String parameterValue) {
+		if (parameterValue == null || parameterValue.isEmpty())
+			return DEEP;
+
+		for (Level level : values()) {
+			if (level.parameterValue.equals(parameterValue))
+				return level;
+		}
+
+		throw new IllegalArgumentException("Invalid level '" + parameterValue + "', expected one of 'deep' or 'core'");
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.projection;
+
+import java.util.Objects;
+
+/**
+ * Combination of {@link Level} and {@link Extent} requested for a Submodel or
+ * SubmodelElement.
+ * 
+ * The level is relative to the requested resource, i.e., for a Submodel or a
+ * list of its SubmodelElements, {@link Level#CORE} omits the children of the
+ * SubmodelElements, whereas for a single SubmodelElement the children of its
+ * children are omitted.
+ * 
+ * @author agent
+ *
+ */
+public final class Projection {
+	public static final Projection DEFAULT = new Projection(Level.DEEP, Extent.WITH_BLOB_VALUE);
+
+	private final Level level;
+	private final Extent extent;
+
+	public Projection(Level level, Extent extent) {
+		this.level = Objects.requireNonNull(level);
+		this.extent = Objects.requireNonNull(extent);
+	}
+
+	/**
+	 * Creates a Projection from the <i>level</i> and <i>extent</i> query
+	 * parameters
+	 * 
+	 * @param level
+	 *            the level parameter, may be null
+	 * @param extent
+	 *            the extent parameter, may be null
+	 * @return the Projection
+	 * @throws IllegalArgumentException
+	 *             if any of the values is invalid
+	 */
+	public static Projection of(String level, String extent) {
+		Projection projection = new Projection(Level.fromParameterValue(level), Extent.fromParameterValue(extent));
+
+		return projection.equals(DEFAULT) ? DEFAULT : projection;
+	}
+
+	public Level getLevel() {
+		return level;
+	}
+
+	public Extent getExtent() {
+		return extent;
+	}
+
+	public boolean isCore() {
+		return level == Level.CORE;
+	}
+
+	public boolean isWithoutBlobValue() {
+		return extent == Extent.WITHOUT_BLOB_VALUE;
+	}
+
+	/**
+	 * @return true if the Projection returns the resource as is
+	 */
+	public boolean isDefault() {
+		return !isCore() && !isWithoutBlobValue();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof Projection other))
+			return false;
+
+		return level == other.level && extent == other.extent;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(level, extent);
+	}
+
+	@Override
+	public String toString() {
+		return "Projection [level=" + level.getParameterValue() + ", extent=" + extent.getParameterValue() + "]";
+	}
+}
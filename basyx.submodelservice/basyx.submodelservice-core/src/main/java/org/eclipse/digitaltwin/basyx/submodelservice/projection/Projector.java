@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+
+/**
+ * Applies a {@link Projection} to Submodels and SubmodelElements without
+ * copying them.
+ * 
+ * Only the elements that are changed by the projection and their ancestors are
+ * replaced by shallow copies, all other elements and attributes are shared with
+ * the passed instances. Thus, the passed instances are never modified, but the
+ * returned ones must not be modified either.
+ * 
+ * @author agent
+ *
+ */
+public final class Projector {
+
+	private Projector() {
+	}
+
+	/**
+	 * Applies the projection to the passed Submodel
+	 * 
+	 * @param submodel
+	 * @param projection
+	 * @return the projected Submodel, or the passed instance if it is not changed
+	 */
+	public static Submodel project(Submodel submodel, Projection projection) {
+		if (submodel == null || projection.isDefault())
+			return submodel;
+
+		List<SubmodelElement> elements = projectChildren(submodel.getSubmodelElements(), projection, 1);
+		if (elements == submodel.getSubmodelElements())
+			return submodel;
+
+		return copyOf(submodel, elements);
+	}
+
+	/**
+	 * Applies the projection to the passed SubmodelElement
+	 * 
+	 * @param element
+	 * @param projection
+	 * @return the projected SubmodelElement, or the passed instance if it is not
+	 *         changed
+	 */
+	public static SubmodelElement project(SubmodelElement element, Projection projection) {
+		if (element == null || projection.isDefault())
+			return element;
+
+		return projectElement(element, projection, 0);
+	}
+
+	/**
+	 * Applies the projection to the SubmodelElements of a Submodel, i.e., the
+	 * level is relative to the Submodel
+	 * 
+	 * @param elements
+	 *            the SubmodelElements of a Submodel
+	 * @param projection
+	 * @return the projected SubmodelElements, or the passed list if none of them
+	 *         is changed
+	 */
+	public static List<SubmodelElement> projectSubmodelElements(List<SubmodelElement> elements, Projection projection) {
+		if (projection.isDefault())
+			return elements;
+
+		return projectChildren(elements, projection, 1);
+	}
+
+	private static <T extends SubmodelElement> List<T> projectChildren(List<T> children, Projection projection, int depth) {
+		if (children == null)
+			return null;
+
+		List<T> projected = null;
+		for (int i = 0; i < children.size(); i++) {
+			T child = children.get(i);
+			T projectedChild = projectElement(child, projection, depth);
+
+			if (projected == null && projectedChild != child)
+				projected = new ArrayList<>(children.subList(0, i));
+
+			if (projected != null)
+				projected.add(projectedChild);
+		}
+
+		return projected == null ? children : projected;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends SubmodelElement> T projectElement(T element, Projection projection, int depth) {
+		boolean omitChildren = projection.isCore() && depth > 0;
+
+		if (element instanceof Blob blob) {
+			if (!projection.isWithoutBlobValue() || blob.getValue() == null)
+				return element;
+
+			return (T) copyOf(blob);
+		}
+
+		if (element instanceof SubmodelElementCollection collection) {
+			List<SubmodelElement> value = omitChildren ? omit(collection.getValue()) : projectChildren(collection.getValue(), projection, depth + 1);
+			return value == collection.getValue() ? element : (T) copyOf(collection, value);
+		}
+
+		if (element instanceof SubmodelElementList list) {
+			List<SubmodelElement> value = omitChildren ? omit(list.getValue()) : projectChildren(list.getValue(), projection, depth + 1);
+			return value == list.getValue() ? element : (T) copyOf(list, value);
+		}
+
+		if (element instanceof Entity entity) {
+			List<SubmodelElement> statements = omitChildren ? omit(entity.getStatements()) : projectChildren(entity.getStatements(), projection, depth + 1);
+			return statements == entity.getStatements() ? element : (T) copyOf(entity, statements);
+		}
+
+		if (element instanceof AnnotatedRelationshipElement are) {
+			List<DataElement> annotations = omitChildren ? omit(are.getAnnotations()) : projectChildren(are.getAnnotations(), projection, depth + 1);
+			return annotations == are.getAnnotations() ? element : (T) copyOf(are, annotations);
+		}
+
+		return element;
+	}
+
+	private static <T> List<T> omit(List<T> children) {
+		if (children == null || children.isEmpty())
+			return children;
+
+		return new ArrayList<>();
+	}
+
+	private static Submodel copyOf(Submodel submodel, List<SubmodelElement> elements) {
+		Submodel copy = new DefaultSubmodel();
+		copy.setExtensions(submodel.getExtensions());
+		copy.setCategory(submodel.getCategory());
+		copy.setIdShort(submodel.getIdShort());
+		copy.setDisplayName(submodel.getDisplayName());
+		copy.setDescription(submodel.getDescription());
+		copy.setAdministration(submodel.getAdministration());
+		copy.setId(submodel.getId());
+		copy.setKind(submodel.getKind());
+		copy.setSemanticId(submodel.getSemanticId());
+		copy.setSupplementalSemanticIds(submodel.getSupplementalSemanticIds());
+		copy.setQualifiers(submodel.getQualifiers());
+		copy.setEmbeddedDataSpecifications(submodel.getEmbeddedDataSpecifications());
+		copy.setSubmodelElements(elements);
+		return copy;
+	}
+
+	private static Blob copyOf(Blob blob) {
+		Blob copy = copyAttributes(blob, new DefaultBlob());
+		copy.setContentType(blob.getContentType());
+		return copy;
+	}
+
+	private static SubmodelElementCollection copyOf(SubmodelElementCollection collection, List<SubmodelElement> value) {
+		SubmodelElementCollection copy = copyAttributes(collection, new DefaultSubmodelElementCollection());
+		copy.setValue(value);
+		return copy;
+	}
+
+	private static SubmodelElementList copyOf(SubmodelElementList list, List<SubmodelElement> value) {
+		SubmodelElementList copy = copyAttributes(list, new DefaultSubmodelElementList());
+		copy.setOrderRelevant(list.getOrderRelevant());
+		copy.setSemanticIdListElement(list.getSemanticIdListElement());
+		copy.setTypeValueListElement(list.getTypeValueListElement());
+		copy.setValueTypeListElement(list.getValueTypeListElement());
+		copy.setValue(value);
+		return copy;
+	}
+
+	private static Entity copyOf(Entity entity, List<SubmodelElement> statements) {
+		Entity copy = copyAttributes(entity, new DefaultEntity());
+		copy.setEntityType(entity.getEntityType());
+		copy.setGlobalAssetId(entity.getGlobalAssetId());
+		copy.setSpecificAssetIds(entity.getSpecificAssetIds());
+		copy.setStatements(statements);
+		return copy;
+	}
+
+	private static AnnotatedRelationshipElement copyOf(AnnotatedRelationshipElement are, List<DataElement> annotations) {
+		AnnotatedRelationshipElement copy = copyAttributes(are, new DefaultAnnotatedRelationshipElement());
+		copy.setFirst(are.getFirst());
+		copy.setSecond(are.getSecond());
+		copy.setAnnotations(annotations);
+		return copy;
+	}
+
+	private static <T extends SubmodelElement> T copyAttributes(SubmodelElement source, T target) {
+		target.setExtensions(source.getExtensions());
+		target.setCategory(source.getCategory());
+		target.setIdShort(source.getIdShort());
+		target.setDisplayName(source.getDisplayName());
+		target.setDescription(source.getDescription());
+		target.setSemanticId(source.getSemanticId());
+		target.setSupplementalSemanticIds(source.getSupplementalSemanticIds());
+		target.setQualifiers(source.getQualifiers());
+		target.setEmbeddedDataSpecifications(source.getEmbeddedDataSpecifications());
+		return target;
+	}
+}
@@ -60,6 +60,9 @@ public class BlobValueMapper implements ValueMapper<FileBlobValue> {
 	}
 	
 	private String getDecodedString(byte[] value) {
+		if (value == null)
+			return null;
+
 		return new String(value, StandardCharsets.UTF_8);
 	}
 }
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SubmodelMetadataUtil}
+ * 
+ * @author agent
+ *
+ */
+public class TestSubmodelMetadataUtil {
+
+	@Test
+	public void metadataDoesNotContainSubmodelElements() {
+		Submodel submodel = DummySubmodelFactory.createOperationalDataSubmodel();
+
+		Submodel metadata = SubmodelMetadataUtil.extractMetadata(submodel);
+
+		assertNotSame(submodel, metadata);
+		assertNull(metadata.getSubmodelElements());
+	}
+
+	@Test
+	public void metadataEqualsSubmodelWithoutSubmodelElements() {
+		Submodel submodel = DummySubmodelFactory.createOperationalDataSubmodel();
+		int elementCount = submodel.getSubmodelElements().size();
+
+		Submodel metadata = SubmodelMetadataUtil.extractMetadata(submodel);
+
+		assertEquals(elementCount, submodel.getSubmodelElements().size());
+		submodel.setSubmodelElements(null);
+		assertEquals(submodel, metadata);
+	}
+}
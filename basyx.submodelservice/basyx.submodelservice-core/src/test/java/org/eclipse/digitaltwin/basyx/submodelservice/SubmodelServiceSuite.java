@@ -25,8 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -46,6 +48,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.*;
 import org.eclipse.digitaltwin.basyx.core.exceptions.*;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.MultiLanguagePropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
@@ -191,6 +194,18 @@ public abstract class SubmodelServiceSuite {
 		assertEquals(expectedValue.getValue(), ((PropertyValue) service.getSubmodelElementValue(idShortPath)).getValue());
 	}
 
+	@Test
+	public void setHierachicalSubmodelElementValueAndGet() {
+		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+		String idShortPath = generateIdShortPath();
+		SubmodelService service = getSubmodelService(operationalData);
+
+		SubmodelElement written = service.setSubmodelElementValueAndGet(idShortPath, new PropertyValue("205"));
+
+		assertEquals("205", ((Property) written).getValue());
+		assertEquals(service.getSubmodelElement(idShortPath), written);
+	}
+
 	@Test(expected = ElementDoesNotExistException.class)
 	public void setNonExistentHierachicalSubmodelElementValue() {
 		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
@@ -329,6 +344,56 @@ public abstract class SubmodelServiceSuite {
 		assertEquals("test456", propertyInSmeListCreated.getIdShort());
 	}
 
+	@Test
+	public void createNestedSubmodelElementAndGetPath() {
+		Submodel operationDataSubmodel = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+		SubmodelService submodelService = getSubmodelService(operationDataSubmodel);
+
+		String collectionPath = DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_COLLECTION_ID_SHORT;
+		String listPath = collectionPath + "." + DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_LIST_ID_SHORT;
+
+		Property propertyInSmeCol = new DefaultProperty.Builder().idShort("test123").value("305").valueType(DataTypeDefXsd.INTEGER).build();
+		Property propertyInSmeList = new DefaultProperty.Builder().idShort("test456").value("305").valueType(DataTypeDefXsd.INTEGER).build();
+
+		assertEquals(collectionPath + ".test123", submodelService.createSubmodelElementAndGetPath(collectionPath, propertyInSmeCol));
+		assertEquals(listPath + "[1]", submodelService.createSubmodelElementAndGetPath(listPath, propertyInSmeList));
+		assertEquals("test456", submodelService.getSubmodelElement(listPath + "[1]").getIdShort());
+	}
+
+	@Test
+	public void createSubmodelElementInNonContainerElement() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(technicalData);
+		String propertyPath = SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT;
+		SubmodelElement expected = submodelService.getSubmodelElement(propertyPath);
+
+		Property child = new DefaultProperty.Builder().idShort("test123").value("305").valueType(DataTypeDefXsd.INTEGER).build();
+
+		try {
+			submodelService.createSubmodelElementAndGetPath(propertyPath, child);
+			fail();
+		} catch (ElementDoesNotExistException e) {
+		}
+
+		assertEquals(expected, submodelService.getSubmodelElement(propertyPath));
+	}
+
+	@Test
+	public void getAndDeleteSubmodelElement() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(technicalData);
+		SubmodelElement expected = submodelService.getSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		SubmodelElement deleted = submodelService.getAndDeleteSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		assertEquals(expected, deleted);
+		try {
+			submodelService.getSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+			fail();
+		} catch (ElementDoesNotExistException e) {
+		}
+	}
+
 	@Test
 	public void updateNonFileSME() {
 		Submodel technicalSubmodel = DummySubmodelFactory.createTechnicalDataSubmodel();
@@ -725,6 +790,92 @@ public abstract class SubmodelServiceSuite {
 		assertEquals(content, actual);
 	}
 
+	@Test
+	public void getSubmodelWithCoreLevel() {
+		Submodel submodel = createProjectionSubmodel();
+		SubmodelService smService = getSubmodelService(submodel);
+
+		Submodel projected = smService.getSubmodel(Projection.of("core", "withBlobValue"));
+
+		assertTrue(getCollection(projected.getSubmodelElements(), PROJECTION_COLLECTION_ID_SHORT).getValue().isEmpty());
+		assertArrayEquals(PROJECTION_BLOB_VALUE, getBlob(projected.getSubmodelElements(), PROJECTION_BLOB_ID_SHORT).getValue());
+		assertEquals(submodel, smService.getSubmodel());
+	}
+
+	@Test
+	public void getSubmodelWithoutBlobValue() {
+		Submodel submodel = createProjectionSubmodel();
+		SubmodelService smService = getSubmodelService(submodel);
+
+		Submodel projected = smService.getSubmodel(Projection.of("deep", "withoutBlobValue"));
+
+		assertNull(getBlob(projected.getSubmodelElements(), PROJECTION_BLOB_ID_SHORT).getValue());
+		SubmodelElementCollection collection = getCollection(projected.getSubmodelElements(), PROJECTION_COLLECTION_ID_SHORT);
+		assertNull(getBlob(collection.getValue(), PROJECTION_BLOB_ID_SHORT).getValue());
+		assertEquals(1, getCollection(collection.getValue(), PROJECTION_INNER_COLLECTION_ID_SHORT).getValue().size());
+		assertEquals(submodel, smService.getSubmodel());
+	}
+
+	@Test
+	public void getSubmodelElementsWithCoreLevelAndWithoutBlobValue() {
+		Submodel submodel = createProjectionSubmodel();
+		SubmodelService smService = getSubmodelService(submodel);
+
+		List<SubmodelElement> projected = smService.getSubmodelElements(PaginationInfo.NO_LIMIT, Projection.of("core", "withoutBlobValue")).getResult();
+
+		assertEquals(2, projected.size());
+		assertTrue(getCollection(projected, PROJECTION_COLLECTION_ID_SHORT).getValue().isEmpty());
+		assertNull(getBlob(projected, PROJECTION_BLOB_ID_SHORT).getValue());
+	}
+
+	@Test
+	public void getSubmodelElementWithCoreLevel() {
+		Submodel submodel = createProjectionSubmodel();
+		SubmodelService smService = getSubmodelService(submodel);
+
+		SubmodelElementCollection projected = (SubmodelElementCollection) smService.getSubmodelElement(PROJECTION_COLLECTION_ID_SHORT, Projection.of("core", "withoutBlobValue"));
+
+		assertEquals(2, projected.getValue().size());
+		assertNull(getBlob(projected.getValue(), PROJECTION_BLOB_ID_SHORT).getValue());
+		assertTrue(getCollection(projected.getValue(), PROJECTION_INNER_COLLECTION_ID_SHORT).getValue().isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getSubmodelWithInvalidLevel() {
+		getSubmodelService(createProjectionSubmodel()).getSubmodel(Projection.of("shallow", null));
+	}
+
+	private static final String PROJECTION_COLLECTION_ID_SHORT = "ProjectionCollection";
+	private static final String PROJECTION_INNER_COLLECTION_ID_SHORT = "ProjectionInnerCollection";
+	private static final String PROJECTION_BLOB_ID_SHORT = "ProjectionBlob";
+	private static final byte[] PROJECTION_BLOB_VALUE = "projected".getBytes();
+
+	private Submodel createProjectionSubmodel() {
+		SubmodelElementCollection inner = createDummySubmodelElementCollection(PROJECTION_INNER_COLLECTION_ID_SHORT);
+		inner.setValue(new ArrayList<>(List.of(createDummyProperty("testProperty"))));
+
+		SubmodelElementCollection collection = createDummySubmodelElementCollection(PROJECTION_COLLECTION_ID_SHORT);
+		collection.setValue(new ArrayList<>(List.of(createProjectionBlob(), inner)));
+
+		return new DefaultSubmodel.Builder().id("projectionSubmodel").idShort("projectionSubmodel").submodelElements(new ArrayList<>(List.of(collection, createProjectionBlob()))).build();
+	}
+
+	private Blob createProjectionBlob() {
+		return new DefaultBlob.Builder().idShort(PROJECTION_BLOB_ID_SHORT).contentType("text/plain").value(PROJECTION_BLOB_VALUE).build();
+	}
+
+	private static SubmodelElementCollection getCollection(List<? extends SubmodelElement> elements, String idShort) {
+		return (SubmodelElementCollection) getByIdShort(elements, idShort);
+	}
+
+	private static Blob getBlob(List<? extends SubmodelElement> elements, String idShort) {
+		return (Blob) getByIdShort(elements, idShort);
+	}
+
+	private static SubmodelElement getByIdShort(List<? extends SubmodelElement> elements, String idShort) {
+		return elements.stream().filter(element -> idShort.equals(element.getIdShort())).findFirst().orElseThrow();
+	}
+
 	private List<SubmodelElement> createHierarchicalSubmodelElement() {
 		List<SubmodelElement> submodelElementsCollection = new ArrayList<>();
 
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.projection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link Projector}
+ * 
+ * @author agent
+ *
+ */
+public class TestProjector {
+	private static final byte[] BLOB_VALUE = "blob".getBytes();
+
+	private Submodel submodel;
+	private SubmodelElementCollection withBlob;
+	private SubmodelElementCollection withoutBlob;
+
+	@Before
+	public void init() {
+		withBlob = createCollection("WithBlob", createBlob("Blob"), createProperty("P1"));
+		withoutBlob = createCollection("WithoutBlob", createCollection("Inner", createProperty("P2")));
+
+		submodel = new DefaultSubmodel.Builder().id("projectorTest").submodelElements(new ArrayList<>(List.of(withBlob, withoutBlob))).build();
+	}
+
+	@Test
+	public void defaultProjectionReturnsSameInstance() {
+		assertSame(submodel, Projector.project(submodel, Projection.DEFAULT));
+		assertSame(submodel, Projector.project(submodel, Projection.of("deep", "withBlobValue")));
+	}
+
+	@Test
+	public void unchangedSubtreesAreShared() {
+		Submodel projected = Projector.project(submodel, Projection.of(null, "withoutBlobValue"));
+
+		assertNotSame(submodel, projected);
+		assertNotSame(withBlob, projected.getSubmodelElements().get(0));
+		assertSame(withoutBlob, projected.getSubmodelElements().get(1));
+
+		SubmodelElementCollection projectedWithBlob = (SubmodelElementCollection) projected.getSubmodelElements().get(0);
+		assertNull(((Blob) projectedWithBlob.getValue().get(0)).getValue());
+		assertSame(withBlob.getValue().get(1), projectedWithBlob.getValue().get(1));
+	}
+
+	@Test
+	public void sourceIsNotModified() {
+		Projector.project(submodel, Projection.of("core", "withoutBlobValue"));
+
+		assertArrayEquals(BLOB_VALUE, ((Blob) withBlob.getValue().get(0)).getValue());
+		assertEquals(1, ((SubmodelElementCollection) withoutBlob.getValue().get(0)).getValue().size());
+	}
+
+	@Test
+	public void coreLevelOmitsChildrenOfSubmodelElements() {
+		Submodel projected = Projector.project(submodel, Projection.of("core", null));
+
+		for (SubmodelElement element : projected.getSubmodelElements())
+			assertTrue(((SubmodelElementCollection) element).getValue().isEmpty());
+	}
+
+	@Test
+	public void coreLevelKeepsDirectChildrenOfElement() {
+		SubmodelElementCollection projected = (SubmodelElementCollection) Projector.project(withoutBlob, Projection.of("core", null));
+
+		assertEquals(1, projected.getValue().size());
+		assertTrue(((SubmodelElementCollection) projected.getValue().get(0)).getValue().isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidExtentIsRejected() {
+		Projection.of(null, "withSomeBlobValue");
+	}
+
+	private static SubmodelElementCollection createCollection(String idShort, SubmodelElement... children) {
+		return new DefaultSubmodelElementCollection.Builder().idShort(idShort).value(new ArrayList<>(List.of(children))).build();
+	}
+
+	private static Blob createBlob(String idShort) {
+		return new DefaultBlob.Builder().idShort(idShort).contentType("text/plain").value(BLOB_VALUE).build();
+	}
+
+	private static SubmodelElement createProperty(String idShort) {
+		return new DefaultProperty.Builder().idShort(idShort).value("1").valueType(DataTypeDefXsd.INTEGER).build();
+	}
+}
@@ -38,8 +38,10 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -49,11 +51,22 @@ public class KafkaSubmodelService implements SubmodelService {
 	private final SubmodelService decorated;
 	private final SubmodelEventHandler eventHandler;
 	private final String submodelId;
+	private final TransactionOperations transactions;
 
 	public KafkaSubmodelService(SubmodelService decorated, SubmodelEventHandler handler, String submodelId) {
+		this(decorated, handler, submodelId, TransactionOperations.withoutTransaction());
+	}
+
+	/**
+	 * @param transactions
+	 *            runs each write together with the handling of its event, so
+	 *            that an event stored in an outbox is committed with the write
+	 */
+	public KafkaSubmodelService(SubmodelService decorated, SubmodelEventHandler handler, String submodelId, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.eventHandler = handler;
 		this.submodelId = submodelId;
+		this.transactions = transactions;
 	}
 
 	@Override
@@ -61,16 +74,31 @@ public class KafkaSubmodelService implements SubmodelService {
 		return decorated.getSubmodel();
 	}
 
+	@Override
+	public Submodel getSubmodel(Projection projection) {
+		return decorated.getSubmodel(projection);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
 		return decorated.getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+		return decorated.getSubmodelElements(pInfo, projection);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElement(idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(idShortPath, projection);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElementValue(idShortPath);
@@ -79,42 +107,69 @@ public class KafkaSubmodelService implements SubmodelService {
 	@Override
 	public void setSubmodelElementValue(String idShortPath, SubmodelElementValue value)
 			throws ElementDoesNotExistException {
-		decorated.setSubmodelElementValue(idShortPath, value);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(idShortPath);
-		eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+		setSubmodelElementValueAndGet(idShortPath, value);
+	}
+
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String idShortPath, SubmodelElementValue value)
+			throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			SubmodelElement submodelElement = decorated.setSubmodelElementValueAndGet(idShortPath, value);
+			eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+			return submodelElement;
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(SubmodelElement submodelElement) {
-		decorated.createSubmodelElement(submodelElement);
-		eventHandler.onSubmodelElementCreated(submodelElement, submodelId, submodelElement.getIdShort());
+		transactions.executeWithoutResult(status -> {
+			decorated.createSubmodelElement(submodelElement);
+			eventHandler.onSubmodelElementCreated(submodelElement, submodelId, submodelElement.getIdShort());
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		decorated.createSubmodelElement(idShortPath, submodelElement);
-		eventHandler.onSubmodelElementCreated(submodelElement, submodelId, idShortPath + "." + submodelElement.getIdShort());
+		transactions.executeWithoutResult(status -> {
+			decorated.createSubmodelElement(idShortPath, submodelElement);
+			eventHandler.onSubmodelElementCreated(submodelElement, submodelId, idShortPath + "." + submodelElement.getIdShort());
+		});
 	}
 
 	@Override
 	public void updateSubmodelElement(String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		decorated.updateSubmodelElement(idShortPath, submodelElement);
-		eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+		transactions.executeWithoutResult(status -> {
+			decorated.updateSubmodelElement(idShortPath, submodelElement);
+			eventHandler.onSubmodelElementUpdated(submodelElement, submodelId, idShortPath);
+		});
 	}
 
 	@Override
 	public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
-		decorated.deleteSubmodelElement(idShortPath);
-		eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+		transactions.executeWithoutResult(status -> {
+			decorated.deleteSubmodelElement(idShortPath);
+			eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+		});
+	}
+
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		return transactions.execute(status -> {
+			SubmodelElement submodelElement = decorated.getAndDeleteSubmodelElement(idShortPath);
+			eventHandler.onSubmodelElementDeleted(submodelId, idShortPath);
+			return submodelElement;
+		});
 	}
 
 	@Override
 	public void patchSubmodelElements(List<SubmodelElement> submodelElementList) {
-		decorated.patchSubmodelElements(submodelElementList);
-		Submodel submodel = decorated.getSubmodel();
-		eventHandler.onSubmodelUpdated(submodel);
+		transactions.executeWithoutResult(status -> {
+			decorated.patchSubmodelElements(submodelElementList);
+			Submodel submodel = decorated.getSubmodel();
+			eventHandler.onSubmodelUpdated(submodel);
+		});
 	}
 
 	@Override
@@ -25,21 +25,39 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka;
 
+import java.time.Duration;
+
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutboxRelay;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
+import org.eclipse.digitaltwin.basyx.kafka.BackpressurePolicy;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaOutboxSink;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.BlobRemovingSubmodelShrinker;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.DistributingSubmodelEventHandler;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.IdOnlyEventDistributer;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.KafkaSubmodelEventDistributer;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.OutboxSubmodelEventDistributer;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventDistributer;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.WithoutBlobEventDistributer;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.DataPreservationLevel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -48,6 +66,10 @@ import org.springframework.kafka.core.KafkaTemplate;
 @Configuration
 public class KafkaSubmodelServiceConfiguration {
 
+	public static final String SUBMODEL_EVENT_PUBLISHER = "submodelEventPublisher";
+	public static final String SUBMODEL_EVENT_OUTBOX = "submodelEventOutbox";
+	public static final String SUBMODEL_EVENT_TRANSACTIONS = "submodelEventTransactions";
+
 	@ConditionalOnMissingBean
 	@Bean
 	public JsonSerializer aas4jSerializer() {
@@ -61,12 +83,50 @@ public class KafkaSubmodelServiceConfiguration {
 		return DataPreservationLevel.valueOf(level);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(name = SUBMODEL_EVENT_PUBLISHER)
+	@ConditionalOnProperty(name = KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode", havingValue = "async")
+	public AsyncKafkaPublisher<String> submodelEventPublisher(KafkaTemplate<String, String> template,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.queuecapacity:10000}") int queueCapacity,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.lingerms:0}") long lingerMs,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return createSubmodelEventPublisher(template, topicName, queueCapacity, batchSize, lingerMs, backpressurePolicy, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = SUBMODEL_EVENT_OUTBOX)
+	@ConditionalOnProperty(name = KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutbox submodelEventOutbox(MongoOperations mongoOperations,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.outbox.collection:submodel-events-outbox}") String collectionName) {
+		return new MongoOutbox(mongoOperations, collectionName);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = SUBMODEL_EVENT_TRANSACTIONS)
+	@ConditionalOnProperty(name = KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public TransactionOperations submodelEventTransactions(MongoTemplate mongoTemplate) {
+		return createSubmodelEventTransactions(mongoTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode", havingValue = "outbox")
+	public MongoOutboxRelay submodelEventOutboxRelay(@Qualifier(SUBMODEL_EVENT_OUTBOX) MongoOutbox outbox, KafkaTemplate<String, String> template,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.batchsize:500}") int batchSize,
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.outbox.intervalms:500}") long intervalMs) {
+		return createSubmodelEventOutboxRelay(outbox, template, batchSize, intervalMs);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public SubmodelEventDistributer eventDistributer(DataPreservationLevel level, JsonSerializer serializer,
 			KafkaTemplate<String, String> template,
-			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName) {
-		SubmodelEventDistributer distributer = new KafkaSubmodelEventDistributer(serializer, template, topicName);
+			@Value("${" + KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name:submodel-events}") String topicName,
+			@Qualifier(SUBMODEL_EVENT_PUBLISHER) ObjectProvider<AsyncKafkaPublisher<String>> publisher,
+			@Qualifier(SUBMODEL_EVENT_OUTBOX) ObjectProvider<MongoOutbox> outbox) {
+		SubmodelEventDistributer distributer = createKafkaDistributer(serializer, template, topicName, publisher.getIfAvailable(), outbox.getIfAvailable());
 		if (DataPreservationLevel.REMOVE_BLOB_VALUE == level) {
 			BlobRemovingSubmodelShrinker shrinker = new BlobRemovingSubmodelShrinker();
 			return new WithoutBlobEventDistributer(distributer, shrinker);
@@ -81,4 +141,34 @@ public class KafkaSubmodelServiceConfiguration {
 	public SubmodelEventHandler submodelEventHandler(SubmodelEventDistributer distributer) {
 		return new DistributingSubmodelEventHandler(distributer);
 	}
+
+	/**
+	 * Runs the writes of the decorated backend and the appends to the outbox in
+	 * a MongoDB transaction. Requires a replica set or sharded cluster.
+	 */
+	public static TransactionOperations createSubmodelEventTransactions(MongoTemplate mongoTemplate) {
+		return new TransactionTemplate(new MongoTransactionManager(mongoTemplate.getMongoDatabaseFactory()));
+	}
+
+	public static MongoOutboxRelay createSubmodelEventOutboxRelay(MongoOutbox outbox, KafkaTemplate<String, String> template, int batchSize, long intervalMs) {
+		outbox.initializeIndex();
+		MongoOutboxRelay relay = new MongoOutboxRelay(outbox.getCollectionName(), outbox, new KafkaOutboxSink(template::send), batchSize, Duration.ofMillis(intervalMs));
+		relay.start();
+		return relay;
+	}
+
+	public static AsyncKafkaPublisher<String> createSubmodelEventPublisher(KafkaTemplate<String, String> template, String topicName, int queueCapacity, int batchSize, long lingerMs, BackpressurePolicy backpressurePolicy,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		AsyncKafkaPublisher<String> publisher = AsyncKafkaPublisher.<String>builder(topicName, (key, payload) -> template.send(topicName, key, payload)).queueCapacity(queueCapacity).batchSize(batchSize)
+				.linger(Duration.ofMillis(lingerMs)).backpressurePolicy(backpressurePolicy).build();
+		meterRegistry.ifAvailable(publisher::bindTo);
+		return publisher;
+	}
+
+	private static SubmodelEventDistributer createKafkaDistributer(JsonSerializer serializer, KafkaTemplate<String, String> template, String topicName, AsyncKafkaPublisher<String> publisher, MongoOutbox outbox) {
+		if (outbox != null)
+			return new OutboxSubmodelEventDistributer(serializer, outbox, topicName);
+
+		return new KafkaSubmodelEventDistributer(serializer, template, topicName, publisher);
+	}
 }
@@ -29,6 +29,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -37,15 +38,21 @@ public class KafkaSubmodelServiceFactory implements SubmodelServiceFactory {
 
 	private final SubmodelServiceFactory decorated;
 	private final SubmodelEventHandler handler;
+	private final TransactionOperations transactions;
 	
 	public KafkaSubmodelServiceFactory(SubmodelServiceFactory decorated, SubmodelEventHandler evtHandler) {
+		this(decorated, evtHandler, TransactionOperations.withoutTransaction());
+	}
+
+	public KafkaSubmodelServiceFactory(SubmodelServiceFactory decorated, SubmodelEventHandler evtHandler, TransactionOperations transactions) {
 		this.decorated = decorated;
 		this.handler = evtHandler;
+		this.transactions = transactions;
 	}
 
 	@Override
 	public SubmodelService create(Submodel submodel) {
-		return new KafkaSubmodelService(decorated.create(submodel), handler, submodel.getId());
+		return new KafkaSubmodelService(decorated.create(submodel), handler, submodel.getId(), transactions);
 	}
 
 	@Override
@@ -28,9 +28,12 @@ package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.SubmodelServiceFeature;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * @author geso02 (Sonnenberg DFKI GmbH)
@@ -44,15 +47,17 @@ public class KafkaSubmodelServiceFeature implements SubmodelServiceFeature  {
 	public final static String FEATURE_ENABLED_EXPRESSION = "#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.kafka.enabled:false}}"; 
 
 	private SubmodelEventHandler handler;	
+	private TransactionOperations transactions;
 	
 	@Autowired
-	public KafkaSubmodelServiceFeature(SubmodelEventHandler handler) {
+	public KafkaSubmodelServiceFeature(SubmodelEventHandler handler, @Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_TRANSACTIONS) ObjectProvider<TransactionOperations> transactions) {
 		this.handler = handler;
+		this.transactions = transactions.getIfAvailable(TransactionOperations::withoutTransaction);
 	}
 
 	@Override
 	public SubmodelServiceFactory decorate(SubmodelServiceFactory component) {
-		return new KafkaSubmodelServiceFactory(component, handler);
+		return new KafkaSubmodelServiceFactory(component, handler, transactions);
 	}
 
 	@Override
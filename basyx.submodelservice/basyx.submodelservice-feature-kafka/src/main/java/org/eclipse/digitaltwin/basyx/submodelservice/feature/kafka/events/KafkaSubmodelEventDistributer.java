@@ -31,6 +31,7 @@ import java.util.concurrent.TimeoutException;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,12 +46,23 @@ public class KafkaSubmodelEventDistributer implements SubmodelEventDistributer {
 
 	private final JsonSerializer serializer;
 	private final KafkaTemplate<String, String> template;
+	private final AsyncKafkaPublisher<String> publisher;
 	private String topicName;
 
 	public KafkaSubmodelEventDistributer(JsonSerializer serializer, KafkaTemplate<String, String> template, String topicName) {
+		this(serializer, template, topicName, null);
+	}
+
+	/**
+	 * @param publisher
+	 *            if not null, the events are published asynchronously via the
+	 *            publisher instead of waiting for the broker's acknowledgement
+	 */
+	public KafkaSubmodelEventDistributer(JsonSerializer serializer, KafkaTemplate<String, String> template, String topicName, AsyncKafkaPublisher<String> publisher) {
 		this.serializer = serializer;
 		this.template = template;
 		this.topicName = topicName;
+		this.publisher = publisher;
 	}
 
 	@Override
@@ -58,6 +70,12 @@ public class KafkaSubmodelEventDistributer implements SubmodelEventDistributer {
 		try {
 			String payload = serializer.write(evt);
 			LOGGER.debug("Send kafka message to " + topicName + ".");
+
+			if (publisher != null) {
+				publisher.publish(evt.getId(), payload);
+				return;
+			}
+
 			template.send(topicName, evt.getId(), payload).get(3, TimeUnit.SECONDS);
 		} catch (InterruptedException | ExecutionException | TimeoutException | SerializationException e) {
 			throw new RuntimeException(e);
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEvent;
+
+/**
+ * Appends the events to a {@link MongoOutbox} instead of sending them to
+ * Kafka directly. The events are sent by a
+ * {@link org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutboxRelay}
+ * in the background.
+ * 
+ * @author agent
+ */
+public class OutboxSubmodelEventDistributer implements SubmodelEventDistributer {
+
+	private final JsonSerializer serializer;
+	private final MongoOutbox outbox;
+	private final String topicName;
+
+	public OutboxSubmodelEventDistributer(JsonSerializer serializer, MongoOutbox outbox, String topicName) {
+		this.serializer = serializer;
+		this.outbox = outbox;
+		this.topicName = topicName;
+	}
+
+	@Override
+	public void distribute(SubmodelEvent evt) {
+		try {
+			outbox.append(topicName, evt.getId(), serializer.write(evt));
+		} catch (SerializationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.kafka.AsyncKafkaPublisher;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaAdapter;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaAdapters;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.CrudSubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.SubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEvent;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEventType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Tests the event distribution with the asynchronous publishing mode
+ *
+ * @author agent
+ */
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ComponentScan(basePackages = { "org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka" })
+@ActiveProfiles("test-submodel")
+@ContextConfiguration(classes = SubmodelServiceTestComponent.class)
+@RunWith(SpringRunner.class)
+@TestPropertySource(properties = { "spring.kafka.bootstrap-servers=localhost:9092", KafkaSubmodelServiceFeature.FEATURENAME + ".preservationlevel=IDS_ONLY", KafkaSubmodelServiceFeature.FEATURENAME + ".enabled=true",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name=submodel-events", KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode=async",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.batchsize=10" })
+public class KafkaSubmodelServiceAsyncPublishingSmokeTest {
+
+	private static final int EVENT_COUNT = 50;
+
+	private static KafkaAdapter<SubmodelEvent> adapter = KafkaAdapters.getAdapter("submodel-events", SubmodelEvent.class);
+
+	@Autowired
+	private KafkaSubmodelServiceFeature feature;
+
+	@Autowired
+	@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_PUBLISHER)
+	private AsyncKafkaPublisher<String> publisher;
+
+	@Autowired
+	private Submodel submodel;
+
+	private SubmodelService service;
+
+	@Before
+	public void init() {
+		adapter.skipMessages();
+		FileRepository repository = new InMemoryFileRepository();
+		SubmodelBackend backend = new InMemorySubmodelBackend();
+		SubmodelServiceFactory smFactory = new CrudSubmodelServiceFactory(backend, repository);
+		service = feature.decorate(smFactory).create(submodel);
+	}
+
+	@After
+	public void assertNoAdditionalMessageAndStopPolling() throws InterruptedException {
+		adapter.assertNoAdditionalMessages();
+	}
+
+	@Test
+	public void eventsArriveInOrder() {
+		for (int i = 0; i < EVENT_COUNT; i++)
+			service.createSubmodelElement(TestSubmodels.submodelElement("prop" + i, String.valueOf(i)));
+
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			SubmodelEvent evt = adapter.next();
+			Assert.assertEquals(SubmodelEventType.SME_CREATED, evt.getType());
+			Assert.assertEquals(submodel.getId(), evt.getId());
+			Assert.assertEquals("prop" + i, evt.getSmElementPath());
+		}
+
+		Assert.assertEquals(0, publisher.getFailedCount());
+	}
+}
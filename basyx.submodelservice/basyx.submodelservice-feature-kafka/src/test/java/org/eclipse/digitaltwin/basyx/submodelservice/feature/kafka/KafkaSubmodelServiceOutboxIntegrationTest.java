@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaAdapter;
+import org.eclipse.digitaltwin.basyx.kafka.KafkaAdapters;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.CrudSubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEvent;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEventType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Tests the outbox publishing mode against the MongoDB replica set and the
+ * Kafka broker of the docker compose setup in <code>ci</code>. Verifies that an
+ * event is committed and rolled back together with the write it belongs to and
+ * that the relay publishes the committed events to Kafka and removes them from
+ * the outbox.
+ *
+ * @author agent
+ */
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ActiveProfiles("test-submodel")
+@ContextConfiguration(classes = SubmodelServiceTestComponent.class)
+@Import(KafkaSubmodelServiceOutboxIntegrationTest.ReplicaSetMongoConfiguration.class)
+@RunWith(SpringRunner.class)
+@TestPropertySource(properties = { "spring.kafka.bootstrap-servers=localhost:9092", KafkaSubmodelServiceFeature.FEATURENAME + ".preservationlevel=IDS_ONLY", KafkaSubmodelServiceFeature.FEATURENAME + ".enabled=true",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name=" + KafkaSubmodelServiceOutboxIntegrationTest.TOPIC, KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode=outbox",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.outbox.intervalms=100" })
+public class KafkaSubmodelServiceOutboxIntegrationTest {
+
+	static final String TOPIC = "submodel-outbox-events";
+
+	private static final String REPLICA_SET_CONNECTION_STRING = "mongodb://localhost:27018/?directConnection=true";
+	private static final String DATA_COLLECTION = "outbox-test-data";
+	private static final String DATA_ID = "written";
+
+	private static KafkaAdapter<SubmodelEvent> adapter = KafkaAdapters.getAdapter(TOPIC, SubmodelEvent.class);
+
+	@Autowired
+	private SubmodelEventHandler handler;
+
+	@Autowired
+	@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_OUTBOX)
+	private MongoOutbox outbox;
+
+	@Autowired
+	@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_TRANSACTIONS)
+	private TransactionOperations transactions;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private Submodel submodel;
+
+	@Before
+	public void init() {
+		mongoTemplate.dropCollection(DATA_COLLECTION);
+		mongoTemplate.createCollection(DATA_COLLECTION);
+		adapter.skipMessages();
+	}
+
+	@After
+	public void assertNoAdditionalMessages() {
+		adapter.assertNoAdditionalMessages();
+	}
+
+	@Test
+	public void eventsAreRelayedInOrderAndRemovedFromOutbox() throws InterruptedException {
+		SubmodelService service = new KafkaSubmodelServiceFactory(new CrudSubmodelServiceFactory(new InMemorySubmodelBackend(), new InMemoryFileRepository()), handler, transactions).create(submodel);
+
+		for (int i = 0; i < 3; i++)
+			service.createSubmodelElement(TestSubmodels.submodelElement("prop" + i, String.valueOf(i)));
+		service.deleteSubmodelElement("prop0");
+
+		for (int i = 0; i < 3; i++)
+			assertEvent(adapter.next(), SubmodelEventType.SME_CREATED, "prop" + i);
+		assertEvent(adapter.next(), SubmodelEventType.SME_DELETED, "prop0");
+
+		awaitEmptyOutbox();
+	}
+
+	@Test
+	public void eventIsCommittedWithTheWrite() throws InterruptedException {
+		SubmodelService service = new KafkaSubmodelService(createWritingService(), handler, submodel.getId(), transactions);
+
+		service.createSubmodelElement(TestSubmodels.submodelElement("prop", "0"));
+
+		Assert.assertEquals(1, mongoTemplate.getCollection(DATA_COLLECTION).countDocuments());
+		assertEvent(adapter.next(), SubmodelEventType.SME_CREATED, "prop");
+		awaitEmptyOutbox();
+	}
+
+	@Test
+	public void eventIsRolledBackIfAWriteFailsAfterTheAppend() {
+		SubmodelService service = new KafkaSubmodelService(createWritingService(), new FailingAfterAppendEventHandler(handler, mongoTemplate), submodel.getId(), transactions);
+
+		Assert.assertThrows(DuplicateKeyException.class, () -> service.createSubmodelElement(TestSubmodels.submodelElement("prop", "0")));
+
+		Assert.assertEquals(0, outbox.size());
+		Assert.assertEquals(0, mongoTemplate.getCollection(DATA_COLLECTION).countDocuments());
+	}
+
+	/**
+	 * Creates a service whose writes go to the MongoDB the outbox is stored in
+	 */
+	private SubmodelService createWritingService() {
+		SubmodelService service = mock(SubmodelService.class);
+		doAnswer(invocation -> mongoTemplate.insert(new Document("_id", DATA_ID), DATA_COLLECTION)).when(service).createSubmodelElement(any(SubmodelElement.class));
+		return service;
+	}
+
+	private void awaitEmptyOutbox() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (outbox.size() > 0 && System.currentTimeMillis() < deadline)
+			Thread.sleep(50);
+
+		Assert.assertEquals(0, outbox.size());
+	}
+
+	private void assertEvent(SubmodelEvent evt, SubmodelEventType expectedType, String expectedPath) {
+		Assert.assertEquals(expectedType, evt.getType());
+		Assert.assertEquals(submodel.getId(), evt.getId());
+		Assert.assertEquals(expectedPath, evt.getSmElementPath());
+	}
+
+	/**
+	 * Appends the event to the outbox and then fails with a second write of the
+	 * same document within the transaction
+	 */
+	private static class FailingAfterAppendEventHandler implements SubmodelEventHandler {
+		private final SubmodelEventHandler decorated;
+		private final MongoTemplate mongoTemplate;
+
+		private FailingAfterAppendEventHandler(SubmodelEventHandler decorated, MongoTemplate mongoTemplate) {
+			this.decorated = decorated;
+			this.mongoTemplate = mongoTemplate;
+		}
+
+		@Override
+		public void onSubmodelCreated(Submodel submodel) {
+			decorated.onSubmodelCreated(submodel);
+		}
+
+		@Override
+		public void onSubmodelUpdated(Submodel submodel) {
+			decorated.onSubmodelUpdated(submodel);
+		}
+
+		@Override
+		public void onSubmodelElementDeleted(String submodelId, String idShortPath) {
+			decorated.onSubmodelElementDeleted(submodelId, idShortPath);
+		}
+
+		@Override
+		public void onSubmodelDeleted(String id) {
+			decorated.onSubmodelDeleted(id);
+		}
+
+		@Override
+		public void onSubmodelElementCreated(SubmodelElement smElement, String submodelId, String idShortPath) {
+			decorated.onSubmodelElementCreated(smElement, submodelId, idShortPath);
+			mongoTemplate.insert(new Document("_id", DATA_ID), DATA_COLLECTION);
+		}
+
+		@Override
+		public void onSubmodelElementUpdated(SubmodelElement smElement, String submodelIdentifier, String idShortPath) {
+			decorated.onSubmodelElementUpdated(smElement, submodelIdentifier, idShortPath);
+		}
+	}
+
+	@TestConfiguration
+	static class ReplicaSetMongoConfiguration {
+
+		@Bean(destroyMethod = "close")
+		public MongoClient outboxMongoClient() {
+			return MongoClients.create(REPLICA_SET_CONNECTION_STRING);
+		}
+
+		@Bean
+		public MongoTemplate outboxMongoTemplate(MongoClient outboxMongoClient) {
+			return new MongoTemplate(new SimpleMongoClientDatabaseFactory(outboxMongoClient, "outbox-integration-test"));
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2026 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.MongoOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.outbox.OutboxEntry;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelBackend;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.backend.CrudSubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.SubmodelEventHandler;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEvent;
+import org.eclipse.digitaltwin.basyx.submodelservice.feature.kafka.events.model.SubmodelEventType;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Tests that the events are appended to the outbox with the outbox publishing
+ * mode. The relay interval is chosen long enough, so that the events stay in
+ * the outbox during the test. The in-process server does not support
+ * transactions, so this test only checks that each event is appended within
+ * the callback of its write. The transactional behavior and the relay are
+ * verified by {@link KafkaSubmodelServiceOutboxIntegrationTest}.
+ *
+ * @author agent
+ */
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ActiveProfiles("test-submodel")
+@ContextConfiguration(classes = SubmodelServiceTestComponent.class)
+@Import(KafkaSubmodelServiceOutboxTest.InProcessMongoConfiguration.class)
+@RunWith(SpringRunner.class)
+@TestPropertySource(properties = { "spring.kafka.bootstrap-servers=localhost:9092", "spring.kafka.producer.properties.max.block.ms=1000", KafkaSubmodelServiceFeature.FEATURENAME + ".preservationlevel=IDS_ONLY",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".enabled=true", KafkaSubmodelServiceFeature.FEATURENAME + ".topic.name=submodel-events", KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.mode=outbox",
+		KafkaSubmodelServiceFeature.FEATURENAME + ".publishing.outbox.intervalms=3600000" })
+public class KafkaSubmodelServiceOutboxTest {
+
+	private static final MongoServer server = new MongoServer(new MemoryBackend());
+
+	@Autowired
+	private SubmodelEventHandler handler;
+
+	@Autowired
+	@Qualifier(KafkaSubmodelServiceConfiguration.SUBMODEL_EVENT_OUTBOX)
+	private MongoOutbox outbox;
+
+	@Autowired
+	private Submodel submodel;
+
+	private SubmodelService service;
+	private RecordingTransactions transactions;
+
+	@Before
+	public void init() {
+		outbox.remove(outbox.fetch(Integer.MAX_VALUE));
+		transactions = new RecordingTransactions(outbox);
+		service = new KafkaSubmodelServiceFactory(new CrudSubmodelServiceFactory(new InMemorySubmodelBackend(), new InMemoryFileRepository()), handler, transactions).create(submodel);
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		server.shutdownNow();
+	}
+
+	@Test
+	public void eventsAreAppendedToOutboxInOrder() throws DeserializationException {
+		for (int i = 0; i < 3; i++)
+			service.createSubmodelElement(TestSubmodels.submodelElement("prop" + i, String.valueOf(i)));
+		service.deleteSubmodelElement("prop0");
+
+		List<OutboxEntry> entries = outbox.fetch(10);
+		Assert.assertEquals(4, entries.size());
+
+		for (int i = 0; i < 3; i++)
+			assertEntry(entries.get(i), SubmodelEventType.SME_CREATED, "prop" + i);
+		assertEntry(entries.get(3), SubmodelEventType.SME_DELETED, "prop0");
+	}
+
+	@Test
+	public void eventIsAppendedWithinTheCallbackOfTheWrite() {
+		service.createSubmodelElement(TestSubmodels.submodelElement("prop", "0"));
+		service.deleteSubmodelElement("prop");
+
+		Assert.assertEquals(List.of(1L, 2L), transactions.outboxSizesAfterCallback);
+	}
+
+	private void assertEntry(OutboxEntry entry, SubmodelEventType expectedType, String expectedPath) throws DeserializationException {
+		SubmodelEvent evt = new JsonDeserializer().read(entry.getPayload(), SubmodelEvent.class);
+
+		Assert.assertEquals("submodel-events", entry.getDestination());
+		Assert.assertEquals(submodel.getId(), entry.getKey());
+		Assert.assertEquals(expectedType, evt.getType());
+		Assert.assertEquals(submodel.getId(), evt.getId());
+		Assert.assertEquals(expectedPath, evt.getSmElementPath());
+	}
+
+	private static class RecordingTransactions implements TransactionOperations {
+		private final MongoOutbox outbox;
+		private final List<Long> outboxSizesAfterCallback = new ArrayList<>();
+
+		private RecordingTransactions(MongoOutbox outbox) {
+			this.outbox = outbox;
+		}
+
+		@Override
+		public <T> T execute(TransactionCallback<T> action) {
+			T result = action.doInTransaction(new SimpleTransactionStatus());
+			outboxSizesAfterCallback.add(outbox.size());
+			return result;
+		}
+	}
+
+	@TestConfiguration
+	static class InProcessMongoConfiguration {
+
+		@Bean(destroyMethod = "close")
+		public MongoClient outboxMongoClient() {
+			return MongoClients.create(server.bindAndGetConnectionString());
+		}
+
+		@Bean
+		public MongoTemplate outboxMongoTemplate(MongoClient outboxMongoClient) {
+			return new MongoTemplate(new SimpleMongoClientDatabaseFactory(outboxMongoClient, "outbox-test"));
+		}
+	}
+}
@@ -40,11 +40,9 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
-import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Service decorator for the MQTT eventing on the submodel level.
@@ -53,16 +51,19 @@ import org.slf4j.LoggerFactory;
  */
 public class MqttSubmodelService implements SubmodelService {
 
-	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelService.class);
 	private MqttSubmodelServiceTopicFactory topicFactory;
 	private SubmodelService decorated;
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 	private String submodelId;
 
 	public MqttSubmodelService(SubmodelService decorated, IMqttClient mqttClient, MqttSubmodelServiceTopicFactory topicFactory, String submodelId) {
+		this(decorated, MqttEventPublisher.of(mqttClient), topicFactory, submodelId);
+	}
+
+	public MqttSubmodelService(SubmodelService decorated, MqttEventPublisher mqttEventPublisher, MqttSubmodelServiceTopicFactory topicFactory, String submodelId) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.submodelId = submodelId;
 	}
 
@@ -75,16 +76,31 @@ public class MqttSubmodelService implements SubmodelService {
 		return decorated.getSubmodel();
 	}
 
+	@Override
+	public Submodel getSubmodel(Projection projection) {
+		return decorated.getSubmodel(projection);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
 		return decorated.getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+		return decorated.getSubmodelElements(pInfo, projection);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElement(idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(idShortPath, projection);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElementValue(idShortPath);
@@ -92,41 +108,50 @@ public class MqttSubmodelService implements SubmodelService {
 
 	@Override
 	public void setSubmodelElementValue(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
-		decorated.setSubmodelElementValue(idShortPath, value);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(idShortPath);
+		setSubmodelElementValueAndGet(idShortPath, value);
+	}
+
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		SubmodelElement submodelElement = decorated.setSubmodelElementValueAndGet(idShortPath, value);
 		submodelElementValueUpdated(submodelElement, idShortPath);
+		return submodelElement;
 	}
 
 	@Override
 	public void createSubmodelElement(SubmodelElement submodelElement) {
 		decorated.createSubmodelElement(submodelElement);
-		SubmodelElement smElement = decorated.getSubmodelElement(submodelElement.getIdShort());
-		submodelElementCreated(submodelElement, smElement.getIdShort());
+		submodelElementCreated(submodelElement, submodelElement.getIdShort());
 	}
 
 	@Override
 	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
-		decorated.createSubmodelElement(idShortPath, submodelElement);
-		SubmodelElement parent = decorated.getSubmodelElement(idShortPath);
-		String createdElementPath = SubmodelElementIdShortHelper.buildChildIdShortPath(idShortPath, parent, submodelElement);
-		SubmodelElement createdElement = decorated.getSubmodelElement(createdElementPath);
-		submodelElementCreated(createdElement, createdElementPath);
+		createSubmodelElementAndGetPath(idShortPath, submodelElement);
 	}
 
 	@Override
-	public void updateSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+	public String createSubmodelElementAndGetPath(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		String createdElementPath = decorated.createSubmodelElementAndGetPath(idShortPath, submodelElement);
+		submodelElementCreated(submodelElement, createdElementPath);
+		return createdElementPath;
+	}
 
+	@Override
+	public void updateSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
 		decorated.updateSubmodelElement(idShortPath, submodelElement);
-		SubmodelElement smElement = decorated.getSubmodelElement(idShortPath);
-		submodelElementUpdated(smElement, idShortPath);
+		submodelElementUpdated(submodelElement, idShortPath);
 	}
 
 	@Override
 	public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		getAndDeleteSubmodelElement(idShortPath);
+	}
 
-		SubmodelElement smElement = decorated.getSubmodelElement(idShortPath);
-		decorated.deleteSubmodelElement(idShortPath);
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement smElement = decorated.getAndDeleteSubmodelElement(idShortPath);
 		submodelElementDeleted(smElement, idShortPath);
+		return smElement;
 	}
 
 	@Override
@@ -194,6 +219,6 @@ public class MqttSubmodelService implements SubmodelService {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttEventPublisher.publish(mqttClient, topic, payload, logger);
+		mqttEventPublisher.publish(topic, payload);
 	}
 }
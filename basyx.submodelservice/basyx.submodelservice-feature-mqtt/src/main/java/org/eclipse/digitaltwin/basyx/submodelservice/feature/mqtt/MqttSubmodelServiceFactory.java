@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.feature.mqtt;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
@@ -38,22 +39,26 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 public class MqttSubmodelServiceFactory implements SubmodelServiceFactory {
 
 	private SubmodelServiceFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher mqttEventPublisher;
 	private MqttSubmodelServiceTopicFactory topicFactory;
 
 	public MqttSubmodelServiceFactory(SubmodelServiceFactory decorated, IMqttClient client, MqttSubmodelServiceTopicFactory topicFactory) {
+		this(decorated, MqttEventPublisher.of(client), topicFactory);
+	}
+
+	public MqttSubmodelServiceFactory(SubmodelServiceFactory decorated, MqttEventPublisher mqttEventPublisher, MqttSubmodelServiceTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.mqttEventPublisher = mqttEventPublisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public SubmodelService create(Submodel submodel) {
-		return new MqttSubmodelService(decorated.create(submodel), client, topicFactory, submodel.getId());
+		return new MqttSubmodelService(decorated.create(submodel), mqttEventPublisher, topicFactory, submodel.getId());
 	}
 
 	@Override
 	public SubmodelService create(String submodelId) {
-		return new MqttSubmodelService(decorated.create(submodelId), client, topicFactory, submodelId);
+		return new MqttSubmodelService(decorated.create(submodelId), mqttEventPublisher, topicFactory, submodelId);
 	}
 }
@@ -25,10 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.MqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.feature.SubmodelServiceFeature;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -48,16 +48,16 @@ public class MqttSubmodelServiceFeature implements SubmodelServiceFeature {
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 	private boolean enabled;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher mqttEventPublisher;
 
 	@Autowired
-	public MqttSubmodelServiceFeature(IMqttClient mqttClient) {
-		this.mqttClient = mqttClient;
+	public MqttSubmodelServiceFeature(MqttEventPublisher mqttEventPublisher) {
+		this.mqttEventPublisher = mqttEventPublisher;
 	}
 
 	@Override
 	public SubmodelServiceFactory decorate(SubmodelServiceFactory component) {
-		return new MqttSubmodelServiceFactory(component, mqttClient, new MqttSubmodelServiceTopicFactory(new Base64URLEncoder()));
+		return new MqttSubmodelServiceFactory(component, mqttEventPublisher, new MqttSubmodelServiceTopicFactory(new Base64URLEncoder()));
 	}
 
 	@Override
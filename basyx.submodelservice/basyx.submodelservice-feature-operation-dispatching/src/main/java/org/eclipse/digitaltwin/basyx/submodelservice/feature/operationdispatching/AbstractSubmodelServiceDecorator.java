@@ -38,6 +38,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 /**
  * @author Gerhard Sonnenberg DFKI GmbH
@@ -55,16 +56,31 @@ public class AbstractSubmodelServiceDecorator implements SubmodelService {
 		return decorated.getSubmodel();
 	}
 
+	@Override
+	public Submodel getSubmodel(Projection projection) {
+		return decorated.getSubmodel(projection);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
 		return decorated.getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo, Projection projection) {
+		return decorated.getSubmodelElements(pInfo, projection);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElement(idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String idShortPath, Projection projection) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(idShortPath, projection);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElementValue(idShortPath);
@@ -76,6 +92,12 @@ public class AbstractSubmodelServiceDecorator implements SubmodelService {
 		decorated.setSubmodelElementValue(idShortPath, value);
 	}
 
+	@Override
+	public SubmodelElement setSubmodelElementValueAndGet(String idShortPath, SubmodelElementValue value)
+			throws ElementDoesNotExistException {
+		return decorated.setSubmodelElementValueAndGet(idShortPath, value);
+	}
+
 	@Override
 	public void createSubmodelElement(SubmodelElement submodelElement) {
 		decorated.createSubmodelElement(submodelElement);
@@ -87,6 +109,12 @@ public class AbstractSubmodelServiceDecorator implements SubmodelService {
 		decorated.createSubmodelElement(idShortPath, submodelElement);
 	}
 
+	@Override
+	public String createSubmodelElementAndGetPath(String idShortPath, SubmodelElement submodelElement)
+			throws ElementDoesNotExistException {
+		return decorated.createSubmodelElementAndGetPath(idShortPath, submodelElement);
+	}
+
 	@Override
 	public void updateSubmodelElement(String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
@@ -98,6 +126,11 @@ public class AbstractSubmodelServiceDecorator implements SubmodelService {
 		decorated.deleteSubmodelElement(idShortPath);
 	}
 
+	@Override
+	public SubmodelElement getAndDeleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getAndDeleteSubmodelElement(idShortPath);
+	}
+
 	@Override
 	public void patchSubmodelElements(List<SubmodelElement> submodelElementList) {
 		decorated.patchSubmodelElements(submodelElementList);
@@ -49,8 +49,10 @@ import org.eclipse.digitaltwin.basyx.operation.Invokable;
 import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
 import org.eclipse.digitaltwin.basyx.serialization.SubmodelMetadataUtil;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.projection.Projection;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
@@ -96,7 +98,7 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 		if (limit == null) {
 			limit = 100;
 		}
@@ -107,7 +109,7 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 		}
 
 		PaginationInfo pInfo = new PaginationInfo(limit, decodedCursor);
-		CursorResult<List<SubmodelElement>> submodelElements = service.getSubmodelElements(pInfo);
+		CursorResult<List<SubmodelElement>> submodelElements = service.getSubmodelElements(pInfo, Projection.of(level, extent));
 
 		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
 
@@ -124,9 +126,9 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		Submodel submodel = service.getSubmodel();
+		Submodel submodel = service.getSubmodel(Projection.of(level, extent));
 
 		return new ResponseEntity<Submodel>(submodel, HttpStatus.OK);
 	}
@@ -140,9 +142,9 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		SubmodelElement submodelElement = service.getSubmodelElement(idShortPath);
+		SubmodelElement submodelElement = service.getSubmodelElement(idShortPath, Projection.of(level, extent));
 
 		return new ResponseEntity<SubmodelElement>(submodelElement, HttpStatus.OK);
 	}
@@ -156,9 +158,11 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		SubmodelElementValue submodelElementValue = service.getSubmodelElementValue(idShortPath);
+		Projection projection = Projection.of(level, extent);
+		SubmodelElementValue submodelElementValue = projection.isDefault() ? service.getSubmodelElementValue(idShortPath)
+				: SubmodelElementValueMapperFactory.create(service.getSubmodelElement(idShortPath, projection)).getValue();
 
 		return new ResponseEntity<SubmodelElementValue>(submodelElementValue, HttpStatus.OK);
 	}
@@ -177,9 +181,9 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		SubmodelValueOnly result = new SubmodelValueOnly(service.getSubmodelElements(PaginationInfo.NO_LIMIT).getResult());
+		SubmodelValueOnly result = new SubmodelValueOnly(service.getSubmodelElements(PaginationInfo.NO_LIMIT, Projection.of(level, extent)).getResult());
 
 		return new ResponseEntity<SubmodelValueOnly>(result, HttpStatus.OK);
 	}